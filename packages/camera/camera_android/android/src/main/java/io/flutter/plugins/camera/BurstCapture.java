@@ -0,0 +1,114 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Tracks the pictures of a burst taken by {@link Camera#takePictureBurst}.
+ *
+ * <p>Pictures are received on the camera background thread and saved on the image saver thread, so
+ * the state is guarded by this object.
+ */
+class BurstCapture {
+  private final int pictureCount;
+  @NonNull private final Messages.VoidResult result;
+
+  private int receivedPictures;
+  private int finishedPictures;
+  @Nullable private String errorCode;
+  @Nullable private String errorMessage;
+  private boolean completed;
+
+  /**
+   * Creates the state of a burst of {@code pictureCount} pictures.
+   *
+   * @param pictureCount - The number of pictures to take.
+   * @param result - The result to complete once all of the pictures have been saved.
+   */
+  BurstCapture(int pictureCount, @NonNull Messages.VoidResult result) {
+    this.pictureCount = pictureCount;
+    this.result = result;
+  }
+
+  /** Returns the number of pictures to take. */
+  int getPictureCount() {
+    return pictureCount;
+  }
+
+  /** Returns the result to complete once all of the pictures have been saved. */
+  @NonNull
+  Messages.VoidResult getResult() {
+    return result;
+  }
+
+  /**
+   * Records that the camera has produced the next picture, or failed to produce it.
+   *
+   * @return the index of the picture in the burst.
+   */
+  synchronized int onPictureReceived() {
+    return receivedPictures++;
+  }
+
+  /** Returns whether the camera has produced, or failed to produce, every picture. */
+  synchronized boolean hasReceivedAllPictures() {
+    return receivedPictures >= pictureCount;
+  }
+
+  /**
+   * Records that a picture has been saved, or could not be saved if {@code errorCode} is not null.
+   *
+   * @return whether this was the last picture, in which case the burst has completed and {@link
+   *     #getResult()} should be completed.
+   */
+  synchronized boolean onPictureFinished(
+      @Nullable String errorCode, @Nullable String errorMessage) {
+    if (errorCode != null) {
+      recordError(errorCode, errorMessage);
+    }
+    finishedPictures++;
+    return finishedPictures >= pictureCount && complete();
+  }
+
+  /**
+   * Completes the burst with an error, without waiting for the remaining pictures.
+   *
+   * @return whether the burst had not completed yet, in which case {@link #getResult()} should be
+   *     completed.
+   */
+  synchronized boolean fail(@NonNull String errorCode, @Nullable String errorMessage) {
+    recordError(errorCode, errorMessage);
+    return complete();
+  }
+
+  /** Returns the code of the first error of the burst, or null if there was none. */
+  @Nullable
+  synchronized String getErrorCode() {
+    return errorCode;
+  }
+
+  /** Returns the message of the first error of the burst. */
+  @Nullable
+  synchronized String getErrorMessage() {
+    return errorMessage;
+  }
+
+  private void recordError(@NonNull String errorCode, @Nullable String errorMessage) {
+    if (this.errorCode == null) {
+      this.errorCode = errorCode;
+      this.errorMessage = errorMessage;
+    }
+  }
+
+  private boolean complete() {
+    if (completed) {
+      return false;
+    }
+    completed = true;
+    return true;
+  }
+}
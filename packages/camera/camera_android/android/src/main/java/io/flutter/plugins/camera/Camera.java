@@ -15,6 +15,7 @@ import android.hardware.camera2.CameraCaptureSession;
 import android.hardware.camera2.CameraDevice;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
+import android.hardware.camera2.CaptureFailure;
 import android.hardware.camera2.CaptureRequest;
 import android.hardware.camera2.TotalCaptureResult;
 import android.hardware.camera2.params.OutputConfiguration;
@@ -57,7 +58,9 @@ import io.flutter.plugins.camera.features.resolution.ResolutionFeature;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
 import io.flutter.plugins.camera.media.ImageStreamReader;
+import io.flutter.plugins.camera.media.ImageStreamStats;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
@@ -80,6 +83,21 @@ class Camera
         ImageReader.OnImageAvailableListener {
   private static final String TAG = "Camera";
 
+  /** The maximum number of pictures waiting to be saved while another one is being saved. */
+  @VisibleForTesting static final int MAX_QUEUED_PICTURES = 3;
+
+  /**
+   * The maximum number of pictures acquired from {@link #pictureImageReader} at once, which are
+   * the picture being saved and the ones waiting to be saved.
+   */
+  private static final int MAX_ACQUIRED_PICTURES = MAX_QUEUED_PICTURES + 1;
+
+  /**
+   * The maximum number of pictures in a burst, which are all requested at once and so must all fit
+   * in {@link #pictureImageReader}.
+   */
+  @VisibleForTesting static final int MAX_BURST_PICTURES = MAX_ACQUIRED_PICTURES;
+
   /**
    * Holds all of the camera features/settings and will be used to update the request builder when
    * one changes.
@@ -93,6 +111,10 @@ class Camera
    * switching cameras while recording causes the wrong orientation.
    */
   @VisibleForTesting VideoRenderer videoRenderer;
+  /** The size of the video being recorded, which {@link #videoRenderer} renders to. */
+  @Nullable private Size recordingSize;
+  /** The statistics of the last {@link #videoRenderer} of the current recording, once closed. */
+  @Nullable private VideoRendererStats lastVideoRendererStats;
 
   /**
    * Whether or not the camera aligns with the initial way the camera was facing if the camera was
@@ -115,10 +137,30 @@ class Camera
   /** An additional thread for running tasks that shouldn't block the UI. */
   private HandlerThread backgroundHandlerThread;
 
+  /** Saves pictures to files without blocking {@link #backgroundHandler}. */
+  @VisibleForTesting ImageSaverExecutor imageSaverExecutor;
+
   CameraDeviceWrapper cameraDevice;
+  /**
+   * The callback of {@link #cameraDevice}, or of the camera device that is being opened. Set on the
+   * main thread and read by the callbacks on {@link #backgroundHandler}.
+   */
+  @Nullable private volatile CameraDevice.StateCallback cameraStateCallback;
+  /** The camera set up by {@link #prepareDescription} to be switched to, if any. */
+  @VisibleForTesting @Nullable PreparedCamera preparedCamera;
+
+  /**
+   * Guards {@link #preparedCamera} and its device, and the handoff of its device to {@link
+   * #cameraStateCallback}, since the device is opened on {@link #backgroundHandler}.
+   */
+  private final Object preparedCameraLock = new Object();
+
   CameraCaptureSession captureSession;
   @VisibleForTesting ImageReader pictureImageReader;
   ImageStreamReader imageStreamReader;
+  /** Selects the frames of the image stream that are sent to dart. */
+  private ImageStreamDeliveryPolicy imageStreamDeliveryPolicy =
+      ImageStreamDeliveryPolicy.latestOnly();
   /** {@link CaptureRequest.Builder} for the camera preview */
   CaptureRequest.Builder previewRequestBuilder;
 
@@ -137,6 +179,15 @@ class Camera
 
   Messages.Result<String> flutterResult;
 
+  /**
+   * When the camera started to open, in {@link System#nanoTime()} nanoseconds, or 0 once its first
+   * frame has been captured.
+   */
+  private volatile long openStartNanos;
+
+  /** The burst of pictures being taken, or null if a single picture is being taken. */
+  @Nullable private BurstCapture burstCapture;
+
   /** A CameraDeviceWrapper implementation that forwards calls to a CameraDevice. */
   private class DefaultCameraDeviceWrapper implements CameraDeviceWrapper {
     private final CameraDevice cameraDevice;
@@ -259,7 +310,11 @@ class Camera
 
   @Override
   public void onConverged() {
-    takePictureAfterPrecapture();
+    if (burstCapture != null) {
+      takePictureBurstAfterPrecapture();
+    } else {
+      takePictureAfterPrecapture();
+    }
   }
 
   @Override
@@ -267,6 +322,21 @@ class Camera
     runPrecaptureSequence();
   }
 
+  @Override
+  public void onCaptureCompleted() {
+    final long startNanos = openStartNanos;
+    if (startNanos != 0) {
+      openStartNanos = 0;
+      Log.i(
+          TAG,
+          "Captured the first frame of camera "
+              + cameraProperties.getCameraName()
+              + " "
+              + (System.nanoTime() - startNanos) / 1000 / 1000.0
+              + " ms after it started to open.");
+    }
+  }
+
   /**
    * Updates the builder settings with all of the available features.
    *
@@ -288,6 +358,9 @@ class Camera
       mediaRecorder.release();
     }
     closeRenderer();
+    lastVideoRendererStats = null;
+    // The capture size is the video size of the recording profile.
+    recordingSize = cameraFeatures.getResolution().getCaptureSize();
 
     final PlatformChannel.DeviceOrientation lockedOrientation =
         cameraFeatures.getSensorOrientation().getLockedCaptureOrientation();
@@ -326,8 +399,8 @@ class Camera
             .build();
   }
 
-  @SuppressLint("MissingPermission")
   public void open(Integer imageFormatGroup) throws CameraAccessException {
+    openStartNanos = System.nanoTime();
     this.imageFormatGroup = imageFormatGroup;
     final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
 
@@ -342,101 +415,178 @@ class Camera
       return;
     }
 
+    setImageReaders(
+        createPictureImageReader(resolutionFeature), createImageStreamReader(resolutionFeature));
+    openCameraDevice();
+  }
+
+  /** Opens the camera device of {@link #cameraProperties}. */
+  @SuppressLint("MissingPermission")
+  private void openCameraDevice() throws CameraAccessException {
+    cameraStateCallback = new CameraStateCallback();
+    CameraManager cameraManager = CameraUtils.getCameraManager(activity);
+    cameraManager.openCamera(
+        cameraProperties.getCameraName(), cameraStateCallback, backgroundHandler);
+  }
+
+  private ImageReader createPictureImageReader(ResolutionFeature resolutionFeature) {
     // Always capture using JPEG format.
-    pictureImageReader =
-        ImageReader.newInstance(
-            resolutionFeature.getCaptureSize().getWidth(),
-            resolutionFeature.getCaptureSize().getHeight(),
-            ImageFormat.JPEG,
-            1);
-
-    imageStreamReader =
-        new ImageStreamReader(
+    return ImageReader.newInstance(
+        resolutionFeature.getCaptureSize().getWidth(),
+        resolutionFeature.getCaptureSize().getHeight(),
+        ImageFormat.JPEG,
+        MAX_ACQUIRED_PICTURES);
+  }
+
+  private ImageStreamReader createImageStreamReader(ResolutionFeature resolutionFeature) {
+    return new ImageStreamReader(
+        resolutionFeature.getPreviewSize().getWidth(),
+        resolutionFeature.getPreviewSize().getHeight(),
+        this.imageFormatGroup,
+        1);
+  }
+
+  /** Replaces the image readers, closing the previous ones. */
+  private void setImageReaders(
+      ImageReader pictureImageReader, ImageStreamReader imageStreamReader) {
+    if (this.pictureImageReader != null) {
+      boolean restartImageSaver = imageSaverExecutor != null;
+      shutdownImageSaver(this.pictureImageReader);
+      if (restartImageSaver) {
+        imageSaverExecutor = new ImageSaverExecutor(MAX_QUEUED_PICTURES);
+      }
+    }
+    if (this.imageStreamReader != null) {
+      this.imageStreamReader.close();
+    }
+    this.pictureImageReader = pictureImageReader;
+    this.imageStreamReader = imageStreamReader;
+  }
+
+  /** Starts the preview once {@link #cameraDevice} has been opened. */
+  private void onCameraOpened() {
+    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+    try {
+      startPreview();
+      if (!recordingVideo) { // only send initialization if we werent already recording and switching cameras
+        dartMessenger.sendCameraInitializedEvent(
             resolutionFeature.getPreviewSize().getWidth(),
             resolutionFeature.getPreviewSize().getHeight(),
-            this.imageFormatGroup,
-            1);
+            cameraFeatures.getExposureLock().getValue(),
+            cameraFeatures.getAutoFocus().getValue(),
+            cameraFeatures.getExposurePoint().checkIsSupported(),
+            cameraFeatures.getFocusPoint().checkIsSupported());
+      }
+    } catch (Exception e) {
+      String message =
+          (e.getMessage() == null)
+              ? (e.getClass().getName() + " occurred while opening camera.")
+              : e.getMessage();
+      if (BuildConfig.DEBUG) {
+        Log.i(TAG, "open | onOpened error: " + message);
+      }
+      dartMessenger.sendCameraErrorEvent(message);
+      close();
+    }
+  }
 
-    // Open the camera.
-    CameraManager cameraManager = CameraUtils.getCameraManager(activity);
-    cameraManager.openCamera(
-        cameraProperties.getCameraName(),
-        new CameraDevice.StateCallback() {
-          @Override
-          public void onOpened(@NonNull CameraDevice device) {
-            cameraDevice = new DefaultCameraDeviceWrapper(device);
-            try {
-              startPreview();
-              if (!recordingVideo) { // only send initialization if we werent already recording and switching cameras
-                dartMessenger.sendCameraInitializedEvent(
-                    resolutionFeature.getPreviewSize().getWidth(),
-                    resolutionFeature.getPreviewSize().getHeight(),
-                    cameraFeatures.getExposureLock().getValue(),
-                    cameraFeatures.getAutoFocus().getValue(),
-                    cameraFeatures.getExposurePoint().checkIsSupported(),
-                    cameraFeatures.getFocusPoint().checkIsSupported());
-              }
-            } catch (Exception e) {
-              String message =
-                  (e.getMessage() == null)
-                      ? (e.getClass().getName() + " occurred while opening camera.")
-                      : e.getMessage();
-              if (BuildConfig.DEBUG) {
-                Log.i(TAG, "open | onOpened error: " + message);
-              }
-              dartMessenger.sendCameraErrorEvent(message);
-              close();
-            }
-          }
+  /**
+   * Handles the state of a camera device, which is either the device of this camera, a device that
+   * is being opened by {@link #prepareDescription}, or a device that is no longer used.
+   */
+  private class CameraStateCallback extends CameraDevice.StateCallback {
+    @Override
+    public void onOpened(@NonNull CameraDevice device) {
+      synchronized (preparedCameraLock) {
+        if (isPreparedCamera()) {
+          Log.i(TAG, "open | onOpened prepared camera");
+          preparedCamera.cameraDevice = new DefaultCameraDeviceWrapper(device);
+          return;
+        }
+        if (this != cameraStateCallback) {
+          // The camera was replaced while it was being opened.
+          device.close();
+          return;
+        }
+      }
 
-          @Override
-          public void onClosed(@NonNull CameraDevice camera) {
-            Log.i(TAG, "open | onClosed");
-
-            // Prevents calls to methods that would otherwise result in IllegalStateException
-            // exceptions.
-            cameraDevice = null;
-            closeCaptureSession();
-            dartMessenger.sendCameraClosingEvent();
-          }
+      cameraDevice = new DefaultCameraDeviceWrapper(device);
+      onCameraOpened();
+    }
 
-          @Override
-          public void onDisconnected(@NonNull CameraDevice cameraDevice) {
-            Log.i(TAG, "open | onDisconnected");
+    @Override
+    public void onClosed(@NonNull CameraDevice camera) {
+      Log.i(TAG, "open | onClosed");
+      if (this != cameraStateCallback) {
+        // A camera that is not in use was closed.
+        return;
+      }
 
-            close();
-            dartMessenger.sendCameraErrorEvent("The camera was disconnected.");
-          }
+      // Prevents calls to methods that would otherwise result in IllegalStateException
+      // exceptions.
+      cameraDevice = null;
+      closeCaptureSession();
+      dartMessenger.sendCameraClosingEvent();
+    }
 
-          @Override
-          public void onError(@NonNull CameraDevice cameraDevice, int errorCode) {
-            Log.i(TAG, "open | onError");
-
-            close();
-            String errorDescription;
-            switch (errorCode) {
-              case ERROR_CAMERA_IN_USE:
-                errorDescription = "The camera device is in use already.";
-                break;
-              case ERROR_MAX_CAMERAS_IN_USE:
-                errorDescription = "Max cameras in use";
-                break;
-              case ERROR_CAMERA_DISABLED:
-                errorDescription = "The camera device could not be opened due to a device policy.";
-                break;
-              case ERROR_CAMERA_DEVICE:
-                errorDescription = "The camera device has encountered a fatal error";
-                break;
-              case ERROR_CAMERA_SERVICE:
-                errorDescription = "The camera service has encountered a fatal error.";
-                break;
-              default:
-                errorDescription = "Unknown camera error";
-            }
-            dartMessenger.sendCameraErrorEvent(errorDescription);
-          }
-        },
-        backgroundHandler);
+    @Override
+    public void onDisconnected(@NonNull CameraDevice cameraDevice) {
+      Log.i(TAG, "open | onDisconnected");
+      if (this != cameraStateCallback) {
+        closeUnusedCameraDevice(cameraDevice);
+        return;
+      }
+
+      close();
+      dartMessenger.sendCameraErrorEvent("The camera was disconnected.");
+    }
+
+    @Override
+    public void onError(@NonNull CameraDevice cameraDevice, int errorCode) {
+      Log.i(TAG, "open | onError");
+      if (this != cameraStateCallback) {
+        closeUnusedCameraDevice(cameraDevice);
+        return;
+      }
+
+      close();
+      String errorDescription;
+      switch (errorCode) {
+        case ERROR_CAMERA_IN_USE:
+          errorDescription = "The camera device is in use already.";
+          break;
+        case ERROR_MAX_CAMERAS_IN_USE:
+          errorDescription = "Max cameras in use";
+          break;
+        case ERROR_CAMERA_DISABLED:
+          errorDescription = "The camera device could not be opened due to a device policy.";
+          break;
+        case ERROR_CAMERA_DEVICE:
+          errorDescription = "The camera device has encountered a fatal error";
+          break;
+        case ERROR_CAMERA_SERVICE:
+          errorDescription = "The camera service has encountered a fatal error.";
+          break;
+        default:
+          errorDescription = "Unknown camera error";
+      }
+      dartMessenger.sendCameraErrorEvent(errorDescription);
+    }
+
+    private boolean isPreparedCamera() {
+      return preparedCamera != null && preparedCamera.stateCallback == this;
+    }
+
+    private void closeUnusedCameraDevice(@NonNull CameraDevice device) {
+      synchronized (preparedCameraLock) {
+        if (isPreparedCamera()) {
+          // The prepared camera is opened from scratch when switching to it instead.
+          Log.i(TAG, "open | prepared camera could not be kept open");
+          preparedCamera.closeCameraDevice();
+        }
+      }
+      device.close();
+    }
   }
 
   @VisibleForTesting
@@ -613,6 +763,7 @@ class Camera
     }
 
     flutterResult = result;
+    burstCapture = null;
 
     // Create temporary file.
     final File outputDir = applicationContext.getCacheDir();
@@ -624,6 +775,48 @@ class Camera
       return;
     }
 
+    runPictureCaptureSequence();
+  }
+
+  /**
+   * Takes {@code pictureCount} pictures in a burst.
+   *
+   * <p>Focus and exposure are locked once for the whole burst, and then all of the still capture
+   * requests are issued at once. The path of each picture is sent to Dart as soon as it has been
+   * saved, and {@code result} is completed once all of the pictures have been saved.
+   *
+   * @param pictureCount the number of pictures to take, at most {@link #MAX_BURST_PICTURES}.
+   * @param result the result to complete once all of the pictures have been saved.
+   */
+  public void takePictureBurst(int pictureCount, @NonNull final Messages.VoidResult result) {
+    if (cameraCaptureCallback.getCameraState() != CameraState.STATE_PREVIEW) {
+      result.error(
+          new Messages.FlutterError(
+              "captureAlreadyActive", "Picture is currently already being captured", null));
+      return;
+    }
+    if (pictureCount < 1) {
+      result.error(
+          new Messages.FlutterError(
+              "invalidArgument", "The burst must contain at least one picture", null));
+      return;
+    }
+    if (pictureCount > MAX_BURST_PICTURES) {
+      result.error(
+          new Messages.FlutterError(
+              "invalidArgument",
+              "The burst must contain at most " + MAX_BURST_PICTURES + " pictures",
+              null));
+      return;
+    }
+
+    burstCapture = new BurstCapture(pictureCount, result);
+    captureTimeouts.reset();
+    runPictureCaptureSequence();
+  }
+
+  /** Starts the focus and precapture sequence, after which the picture is taken. */
+  private void runPictureCaptureSequence() {
     // Listen for picture being taken.
     pictureImageReader.setOnImageAvailableListener(this, backgroundHandler);
 
@@ -652,8 +845,7 @@ class Camera
 
       // Repeating request to refresh preview session.
       refreshPreviewCaptureSession(
-          null,
-          (code, message) -> dartMessenger.error(flutterResult, "cameraAccess", message, null));
+          null, (code, message) -> failPictureCapture("cameraAccess", message));
 
       // Start precapture.
       cameraCaptureCallback.setCameraState(CameraState.STATE_WAITING_PRECAPTURE_START);
@@ -682,14 +874,94 @@ class Camera
     if (cameraDevice == null) {
       return;
     }
-    // This is the CaptureRequest.Builder that is used to take a picture.
-    CaptureRequest.Builder stillBuilder;
+    // This is the request that is used to take a picture.
+    CaptureRequest stillRequest;
     try {
-      stillBuilder = cameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_STILL_CAPTURE);
+      stillRequest = createStillCaptureRequest();
     } catch (CameraAccessException e) {
       dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
       return;
     }
+
+    CameraCaptureSession.CaptureCallback captureCallback =
+        new CameraCaptureSession.CaptureCallback() {
+          @Override
+          public void onCaptureCompleted(
+              @NonNull CameraCaptureSession session,
+              @NonNull CaptureRequest request,
+              @NonNull TotalCaptureResult result) {
+            unlockAutoFocus();
+          }
+        };
+
+    try {
+      Log.i(TAG, "sending capture request");
+      captureSession.capture(stillRequest, captureCallback, backgroundHandler);
+    } catch (CameraAccessException e) {
+      dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
+    }
+  }
+
+  /**
+   * Captures the pictures of {@link #burstCapture}. This method should be called when a response is
+   * received {@link #cameraCaptureCallback} from both lockFocus().
+   */
+  private void takePictureBurstAfterPrecapture() {
+    Log.i(TAG, "captureStillPictureBurst");
+    cameraCaptureCallback.setCameraState(CameraState.STATE_CAPTURING);
+
+    final BurstCapture burst = burstCapture;
+    if (cameraDevice == null || burst == null) {
+      return;
+    }
+
+    final List<CaptureRequest> stillRequests = new ArrayList<>();
+    try {
+      // The requests are identical, so the same request is captured repeatedly.
+      final CaptureRequest stillRequest = createStillCaptureRequest();
+      for (int i = 0; i < burst.getPictureCount(); i++) {
+        stillRequests.add(stillRequest);
+      }
+    } catch (CameraAccessException e) {
+      cancelPictureBurst(burst, "cameraAccess", e.getMessage());
+      return;
+    }
+
+    CameraCaptureSession.CaptureCallback captureCallback =
+        new CameraCaptureSession.CaptureCallback() {
+          @Override
+          public void onCaptureFailed(
+              @NonNull CameraCaptureSession session,
+              @NonNull CaptureRequest request,
+              @NonNull CaptureFailure failure) {
+            // No image will be produced for this request.
+            burst.onPictureReceived();
+            if (burst.hasReceivedAllPictures()) {
+              onPictureBurstReceived(burst);
+            }
+            finishBurstPicture(
+                burst, "captureFailed", "Capture failed with reason " + failure.getReason());
+          }
+
+          @Override
+          public void onCaptureSequenceCompleted(
+              @NonNull CameraCaptureSession session, int sequenceId, long frameNumber) {
+            unlockAutoFocus();
+          }
+        };
+
+    try {
+      Log.i(TAG, "sending burst capture request");
+      captureSession.captureBurst(stillRequests, captureCallback, backgroundHandler);
+    } catch (CameraAccessException e) {
+      cancelPictureBurst(burst, "cameraAccess", e.getMessage());
+    }
+  }
+
+  /** Creates the request that takes a picture with the current settings. */
+  private CaptureRequest createStillCaptureRequest() throws CameraAccessException {
+    CaptureRequest.Builder stillBuilder =
+        cameraDevice.createCaptureRequest(CameraDevice.TEMPLATE_STILL_CAPTURE);
     stillBuilder.addTarget(pictureImageReader.getSurface());
 
     // Zoom.
@@ -709,22 +981,55 @@ class Camera
             ? getDeviceOrientationManager().getPhotoOrientation()
             : getDeviceOrientationManager().getPhotoOrientation(lockedOrientation));
 
-    CameraCaptureSession.CaptureCallback captureCallback =
-        new CameraCaptureSession.CaptureCallback() {
-          @Override
-          public void onCaptureCompleted(
-              @NonNull CameraCaptureSession session,
-              @NonNull CaptureRequest request,
-              @NonNull TotalCaptureResult result) {
-            unlockAutoFocus();
-          }
-        };
+    return stillBuilder.build();
+  }
 
-    try {
-      Log.i(TAG, "sending capture request");
-      captureSession.capture(stillBuilder.build(), captureCallback, backgroundHandler);
-    } catch (CameraAccessException e) {
-      dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
+  /**
+   * Reports an error to the pending {@link #takePicture} or {@link #takePictureBurst} call.
+   *
+   * @param errorCode the error code.
+   * @param errorMessage the human readable error message.
+   */
+  private void failPictureCapture(@NonNull String errorCode, @Nullable String errorMessage) {
+    final BurstCapture burst = burstCapture;
+    if (burst == null) {
+      dartMessenger.error(flutterResult, errorCode, errorMessage, null);
+    } else if (burst.fail(errorCode, errorMessage)) {
+      dartMessenger.error(burst.getResult(), errorCode, errorMessage, null);
+    }
+  }
+
+  /** Fails {@code burst} before any of its pictures have been captured. */
+  private void cancelPictureBurst(
+      @NonNull BurstCapture burst, @NonNull String errorCode, @Nullable String errorMessage) {
+    onPictureBurstReceived(burst);
+    if (burst.fail(errorCode, errorMessage)) {
+      dartMessenger.error(burst.getResult(), errorCode, errorMessage, null);
+    }
+  }
+
+  /** Returns to the preview once the camera has produced every picture of {@code burst}. */
+  private void onPictureBurstReceived(@NonNull BurstCapture burst) {
+    if (burstCapture == burst) {
+      burstCapture = null;
+    }
+    cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
+  }
+
+  /**
+   * Records that a picture of {@code burst} has been saved, or could not be saved if {@code
+   * errorCode} is not null, and completes the burst after its last picture.
+   */
+  private void finishBurstPicture(
+      @NonNull BurstCapture burst, @Nullable String errorCode, @Nullable String errorMessage) {
+    if (!burst.onPictureFinished(errorCode, errorMessage)) {
+      return;
+    }
+    final String burstErrorCode = burst.getErrorCode();
+    if (burstErrorCode == null) {
+      dartMessenger.finish(burst.getResult());
+    } else {
+      dartMessenger.error(burst.getResult(), burstErrorCode, burst.getErrorMessage(), null);
     }
   }
 
@@ -746,6 +1051,7 @@ class Camera
       // Ignore exception in case the thread has already started.
     }
     backgroundHandler = HandlerFactory.create(backgroundHandlerThread.getLooper());
+    imageSaverExecutor = new ImageSaverExecutor(MAX_QUEUED_PICTURES);
   }
 
   /** Stops the background thread and its {@link Handler}. */
@@ -755,6 +1061,28 @@ class Camera
     }
     backgroundHandlerThread = null;
     backgroundHandler = null;
+    shutdownImageSaver(null);
+  }
+
+  /**
+   * Stops {@link #imageSaverExecutor} once the pictures that are already queued are saved, and then
+   * closes {@code pictureImageReader}.
+   *
+   * <p>The queued pictures are read from {@code pictureImageReader}, so it is closed on the saver
+   * thread once they are saved, rather than waiting for them on the calling thread.
+   */
+  private void shutdownImageSaver(@Nullable ImageReader pictureImageReader) {
+    if (imageSaverExecutor != null) {
+      imageSaverExecutor.shutdown(
+          () -> {
+            if (pictureImageReader != null) {
+              pictureImageReader.close();
+            }
+          });
+      imageSaverExecutor = null;
+    } else if (pictureImageReader != null) {
+      pictureImageReader.close();
+    }
   }
 
   /** Start capturing a picture, doing autofocus first. */
@@ -814,16 +1142,14 @@ class Camera
       return;
     }
 
-    refreshPreviewCaptureSession(
-        null,
-        (errorCode, errorMessage) ->
-            dartMessenger.error(flutterResult, errorCode, errorMessage, null));
+    refreshPreviewCaptureSession(null, this::failPictureCapture);
   }
 
   public void startVideoRecording(@Nullable EventChannel imageStreamChannel) {
     prepareRecording();
 
     if (imageStreamChannel != null) {
+      // Streams started with the recording keep the delivery policy last configured.
       setStreamHandler(imageStreamChannel);
     }
     initialCameraFacing = cameraProperties.getLensFacing();
@@ -839,11 +1165,22 @@ class Camera
 
   private void closeRenderer() {
     if (videoRenderer != null) {
+      lastVideoRendererStats = videoRenderer.getStats();
       videoRenderer.close();
       videoRenderer = null;
     }
   }
 
+  /**
+   * Returns the statistics of the video renderer used to switch cameras while recording, or of the
+   * last one if the recording has stopped, or null if the camera was not switched while recording.
+   */
+  @Nullable
+  public VideoRendererStats getVideoRendererStats() {
+    final VideoRenderer renderer = videoRenderer;
+    return renderer == null ? lastVideoRendererStats : renderer.getStats();
+  }
+
   public String stopVideoRecording() {
     if (!recordingVideo) {
       return "";
@@ -1196,6 +1533,13 @@ class Camera
 
   public void startPreviewWithImageStream(EventChannel imageStreamChannel)
       throws CameraAccessException {
+    startPreviewWithImageStream(imageStreamChannel, ImageStreamDeliveryPolicy.latestOnly());
+  }
+
+  public void startPreviewWithImageStream(
+      EventChannel imageStreamChannel, @NonNull ImageStreamDeliveryPolicy deliveryPolicy)
+      throws CameraAccessException {
+    imageStreamDeliveryPolicy = deliveryPolicy;
     setStreamHandler(imageStreamChannel);
 
     startCapture(false, true);
@@ -1210,30 +1554,80 @@ class Camera
   public void onImageAvailable(ImageReader reader) {
     Log.i(TAG, "onImageAvailable");
 
-    // Use acquireNextImage since image reader is only for one image.
+    // Use acquireNextImage since every picture must be saved.
     Image image = reader.acquireNextImage();
     if (image == null) {
       return;
     }
 
-    backgroundHandler.post(
+    final BurstCapture burst = burstCapture;
+    if (burst != null) {
+      saveBurstPicture(burst, image);
+      return;
+    }
+
+    final Messages.Result<String> result = flutterResult;
+    final ImageSaver imageSaver =
         new ImageSaver(
             image,
             captureFile,
             new ImageSaver.Callback() {
               @Override
-              public void onComplete(@NonNull String absolutePath) {
-                dartMessenger.finish(flutterResult, absolutePath);
+              public void onComplete(@NonNull String absolutePath, long latencyMicros) {
+                Log.i(TAG, "Saved picture in " + latencyMicros + "us");
+                dartMessenger.finish(result, absolutePath);
               }
 
               @Override
               public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
-                dartMessenger.error(flutterResult, errorCode, errorMessage, null);
+                dartMessenger.error(result, errorCode, errorMessage, null);
               }
-            }));
+            });
+    if (imageSaverExecutor == null || !imageSaverExecutor.save(imageSaver)) {
+      image.close();
+      dartMessenger.error(result, "captureQueueFull", "Too many pictures are being saved", null);
+    }
     cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
   }
 
+  private void saveBurstPicture(@NonNull BurstCapture burst, @NonNull Image image) {
+    final int index = burst.onPictureReceived();
+    if (burst.hasReceivedAllPictures()) {
+      onPictureBurstReceived(burst);
+    }
+
+    final File file;
+    try {
+      file = File.createTempFile("CAP", ".jpg", applicationContext.getCacheDir());
+    } catch (IOException | SecurityException e) {
+      image.close();
+      finishBurstPicture(burst, "cannotCreateFile", e.getMessage());
+      return;
+    }
+
+    final ImageSaver imageSaver =
+        new ImageSaver(
+            image,
+            file,
+            new ImageSaver.Callback() {
+              @Override
+              public void onComplete(@NonNull String absolutePath, long latencyMicros) {
+                Log.i(TAG, "Saved burst picture " + index + " in " + latencyMicros + "us");
+                dartMessenger.sendBurstPictureSavedEvent(index, absolutePath);
+                finishBurstPicture(burst, null, null);
+              }
+
+              @Override
+              public void onError(@NonNull String errorCode, @NonNull String errorMessage) {
+                finishBurstPicture(burst, errorCode, errorMessage);
+              }
+            });
+    if (imageSaverExecutor == null || !imageSaverExecutor.save(imageSaver)) {
+      image.close();
+      finishBurstPicture(burst, "captureQueueFull", "Too many pictures are being saved");
+    }
+  }
+
   @VisibleForTesting
   void prepareRecording() {
     final File outputDir = applicationContext.getCacheDir();
@@ -1278,7 +1672,21 @@ class Camera
       return;
     }
 
-    imageStreamReader.subscribeListener(this.captureProps, imageStreamSink, backgroundHandler);
+    imageStreamReader.subscribeListener(
+        this.captureProps, imageStreamSink, imageStreamDeliveryPolicy, backgroundHandler);
+  }
+
+  /** Called when dart has handled a frame of the image stream, to release the next frame. */
+  public void onImageStreamFrameHandled() {
+    if (imageStreamReader != null) {
+      imageStreamReader.onFrameHandled();
+    }
+  }
+
+  /** Returns the statistics of the current image stream, or null if there is no stream. */
+  @Nullable
+  public ImageStreamStats getImageStreamStats() {
+    return imageStreamReader == null ? null : imageStreamReader.getStats();
   }
 
   void closeCaptureSession() {
@@ -1294,11 +1702,9 @@ class Camera
     Log.i(TAG, "close");
 
     stopAndReleaseCamera();
-
-    if (pictureImageReader != null) {
-      pictureImageReader.close();
-      pictureImageReader = null;
-    }
+    closePreparedCamera();
+    shutdownImageSaver(pictureImageReader);
+    pictureImageReader = null;
     if (imageStreamReader != null) {
       imageStreamReader.close();
       imageStreamReader = null;
@@ -1326,9 +1732,19 @@ class Camera
     }
   }
 
-  private void prepareVideoRenderer() {
-    if (videoRenderer != null) return;
-    final ResolutionFeature resolutionFeature = cameraFeatures.getResolution();
+  /**
+   * Prepares {@link #videoRenderer} to scale and crop the frames of the camera of {@link
+   * #cameraFeatures} to {@link #recordingSize}, since the camera may capture at a different size
+   * than the one the recording was started with.
+   */
+  private void prepareVideoRenderer() throws InterruptedException {
+    final Size inputSize = cameraFeatures.getResolution().getCaptureSize();
+    if (videoRenderer != null) {
+      if (inputSize != null) {
+        videoRenderer.setInputSize(inputSize.getWidth(), inputSize.getHeight());
+      }
+      return;
+    }
 
     // handle videoRenderer errors
     Thread.UncaughtExceptionHandler videoRendererUncaughtExceptionHandler =
@@ -1340,11 +1756,14 @@ class Camera
           }
         };
 
+    final Size outputSize = recordingSize == null ? inputSize : recordingSize;
     videoRenderer =
         new VideoRenderer(
             mediaRecorder.getSurface(),
-            resolutionFeature.getCaptureSize().getWidth(),
-            resolutionFeature.getCaptureSize().getHeight(),
+            outputSize.getWidth(),
+            outputSize.getHeight(),
+            inputSize.getWidth(),
+            inputSize.getHeight(),
             videoRendererUncaughtExceptionHandler);
   }
 
@@ -1363,22 +1782,148 @@ class Camera
           null);
     }
 
+    openStartNanos = System.nanoTime();
+    final PreparedCamera prepared = takePreparedCamera(properties.getCameraName());
     stopAndReleaseCamera();
-    prepareVideoRenderer();
-    cameraProperties = properties;
-    cameraFeatures =
+    if (prepared != null) {
+      cameraProperties = prepared.cameraProperties;
+      cameraFeatures = prepared.cameraFeatures;
+    } else {
+      cameraProperties = properties;
+      cameraFeatures =
+          CameraFeatures.init(
+              cameraFeatureFactory,
+              cameraProperties,
+              activity,
+              dartMessenger,
+              videoCaptureSettings.resolutionPreset);
+    }
+    cameraFeatures.setAutoFocus(
+        cameraFeatureFactory.createAutoFocusFeature(cameraProperties, true));
+    try {
+      prepareVideoRenderer();
+      if (prepared != null) {
+        switchToPreparedCamera(prepared);
+      } else {
+        open(imageFormatGroup);
+      }
+    } catch (CameraAccessException | InterruptedException e) {
+      throw new Messages.FlutterError("setDescriptionWhileRecordingFailed", e.getMessage(), null);
+    }
+  }
+
+  /**
+   * Sets up the camera described by {@code properties} in the background, so that {@link
+   * #setDescriptionWhileRecording} can switch to it quickly.
+   *
+   * <p>The features and image readers of the camera are always created ahead of time. Its camera
+   * device is only opened ahead of time when the device reports that both cameras can be open at
+   * the same time, since opening another camera may otherwise disconnect this one. If the prepared
+   * device is disconnected or fails, it is opened from scratch when switching to it instead.
+   *
+   * <p>Any previously prepared camera is closed.
+   */
+  @SuppressLint("MissingPermission")
+  public void prepareDescription(@NonNull CameraProperties properties)
+      throws CameraAccessException {
+    closePreparedCamera();
+
+    final String cameraName = properties.getCameraName();
+    if (cameraName.equals(cameraProperties.getCameraName())) {
+      return;
+    }
+    final CameraFeatures features =
         CameraFeatures.init(
             cameraFeatureFactory,
-            cameraProperties,
+            properties,
             activity,
             dartMessenger,
             videoCaptureSettings.resolutionPreset);
-    cameraFeatures.setAutoFocus(
-        cameraFeatureFactory.createAutoFocusFeature(cameraProperties, true));
-    try {
-      open(imageFormatGroup);
-    } catch (CameraAccessException e) {
-      throw new Messages.FlutterError("setDescriptionWhileRecordingFailed", e.getMessage(), null);
+    final ResolutionFeature resolutionFeature = features.getResolution();
+    if (!resolutionFeature.checkIsSupported()) {
+      throw new Messages.FlutterError(
+          "prepareDescriptionFailed",
+          "Camera with name \"" + cameraName + "\" is not supported by this plugin.",
+          null);
+    }
+    final PreparedCamera prepared =
+        new PreparedCamera(
+            properties,
+            features,
+            createPictureImageReader(resolutionFeature),
+            createImageStreamReader(resolutionFeature));
+
+    final CameraManager cameraManager = CameraUtils.getCameraManager(activity);
+    final boolean opensDevice =
+        CameraUtils.supportsConcurrentCameras(
+            cameraManager, cameraProperties.getCameraName(), cameraName);
+    if (opensDevice) {
+      prepared.stateCallback = new CameraStateCallback();
+    } else {
+      Log.i(TAG, "prepareDescription | cameras cannot be open at the same time");
+    }
+    synchronized (preparedCameraLock) {
+      preparedCamera = prepared;
+    }
+    if (opensDevice) {
+      cameraManager.openCamera(cameraName, prepared.stateCallback, backgroundHandler);
+    }
+  }
+
+  /**
+   * Returns the prepared camera if it has the given name, and closes it otherwise.
+   *
+   * <p>The returned camera stays {@link #preparedCamera} until {@link #switchToPreparedCamera}
+   * hands it off, so that its device can finish opening in the meantime.
+   */
+  @Nullable
+  private PreparedCamera takePreparedCamera(@NonNull String cameraName) {
+    synchronized (preparedCameraLock) {
+      final PreparedCamera prepared = preparedCamera;
+      if (prepared != null && !prepared.cameraProperties.getCameraName().equals(cameraName)) {
+        closePreparedCamera();
+        return null;
+      }
+      return prepared;
+    }
+  }
+
+  private void switchToPreparedCamera(@NonNull PreparedCamera prepared)
+      throws CameraAccessException {
+    setImageReaders(prepared.pictureImageReader, prepared.imageStreamReader);
+
+    final CameraDevice.StateCallback preparedStateCallback;
+    final CameraDeviceWrapper preparedDevice;
+    synchronized (preparedCameraLock) {
+      // A device that finishes opening after this block is started by its callback, and one that
+      // finished before it is started below, so it is never closed as unused in between.
+      preparedCamera = null;
+      preparedStateCallback = prepared.stateCallback;
+      preparedDevice = prepared.cameraDevice;
+      if (preparedStateCallback != null) {
+        cameraStateCallback = preparedStateCallback;
+      }
+    }
+    if (preparedStateCallback == null) {
+      openCameraDevice();
+      return;
+    }
+    if (preparedDevice == null) {
+      // The preview starts once the camera device is opened.
+      Log.i(TAG, "switchToPreparedCamera | waiting for the camera to open");
+      return;
+    }
+    Log.i(TAG, "switchToPreparedCamera | camera is already open");
+    cameraDevice = preparedDevice;
+    onCameraOpened();
+  }
+
+  private void closePreparedCamera() {
+    synchronized (preparedCameraLock) {
+      if (preparedCamera != null) {
+        preparedCamera.close();
+        preparedCamera = null;
+      }
     }
   }
 
@@ -8,6 +8,7 @@ import android.app.Activity;
 import android.hardware.camera2.CameraAccessException;
 import android.os.Handler;
 import android.os.Looper;
+import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
@@ -19,11 +20,14 @@ import io.flutter.plugins.camera.features.Point;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.ImageStreamStats;
 import io.flutter.view.TextureRegistry;
 import java.util.Collections;
 import java.util.List;
 
 final class CameraApiImpl implements Messages.CameraApi {
+  private static final String TAG = "CameraApiImpl";
+
   private final Activity activity;
   private final BinaryMessenger messenger;
   private final CameraPermissions cameraPermissions;
@@ -63,8 +67,7 @@ final class CameraApiImpl implements Messages.CameraApi {
             new Handler(Looper.getMainLooper()),
             new Messages.CameraGlobalEventApi(messenger),
             new Messages.CameraEventApi(messenger, String.valueOf(cameraId)));
-    CameraProperties cameraProperties =
-        new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity));
+    CameraProperties cameraProperties = createCameraProperties(cameraName);
     Integer fps = (settings.getFps() == null) ? null : settings.getFps().intValue();
     Integer videoBitrate =
         (settings.getVideoBitrate() == null) ? null : settings.getVideoBitrate().intValue();
@@ -86,6 +89,32 @@ final class CameraApiImpl implements Messages.CameraApi {
     return flutterSurfaceTexture.id();
   }
 
+  /**
+   * Creates the {@link CameraProperties} of the camera with the given name from the characteristics
+   * cached by {@link CameraCharacteristicsCache}, and logs how long reading them took.
+   *
+   * <p>This only covers the characteristics. The time until the camera shows its first frame is
+   * logged by {@link Camera} once the camera has opened.
+   */
+  private CameraProperties createCameraProperties(String cameraName) throws CameraAccessException {
+    final CameraCharacteristicsCache cache = CameraCharacteristicsCache.getInstance();
+    final boolean isCached = cache.hasCameraCharacteristics(cameraName);
+    final long startTime = System.nanoTime();
+    final CameraProperties cameraProperties =
+        new CameraPropertiesImpl(
+            cameraName,
+            cache.getCameraCharacteristics(CameraUtils.getCameraManager(activity), cameraName));
+    Log.i(
+        TAG,
+        "Read the characteristics of camera "
+            + cameraName
+            + (isCached ? " from the cache" : "")
+            + " in "
+            + (System.nanoTime() - startTime) / 1000 / 1000.0
+            + " ms.");
+    return cameraProperties;
+  }
+
   // We move catching CameraAccessException out of onMethodCall because it causes a crash
   // on plugin registration for sdks incompatible with Camera2 (< 21). We want this plugin to
   // to be able to compile with <21 sdks for apps that want the camera and support earlier version.
@@ -175,6 +204,11 @@ final class CameraApiImpl implements Messages.CameraApi {
     camera.takePicture(result);
   }
 
+  @Override
+  public void takePictureBurst(@NonNull Long pictureCount, @NonNull Messages.VoidResult result) {
+    camera.takePictureBurst(pictureCount.intValue(), result);
+  }
+
   @Override
   public void startVideoRecording(@NonNull Boolean enableStream) {
     camera.startVideoRecording(enableStream ? imageStreamChannel : null);
@@ -271,9 +305,10 @@ final class CameraApiImpl implements Messages.CameraApi {
   }
 
   @Override
-  public void startImageStream() {
+  public void startImageStream(@NonNull Messages.PlatformImageStreamOptions options) {
     try {
-      camera.startPreviewWithImageStream(imageStreamChannel);
+      camera.startPreviewWithImageStream(
+          imageStreamChannel, CameraUtils.imageStreamDeliveryPolicyFromPigeon(options));
     } catch (CameraAccessException e) {
       throw new Messages.FlutterError("CameraAccessException", e.getMessage(), null);
     }
@@ -288,6 +323,33 @@ final class CameraApiImpl implements Messages.CameraApi {
     }
   }
 
+  @Override
+  public void acknowledgeImageStreamFrame() {
+    camera.onImageStreamFrameHandled();
+  }
+
+  @NonNull
+  @Override
+  public Messages.PlatformImageStreamStats getImageStreamStats() {
+    ImageStreamStats stats = camera.getImageStreamStats();
+    if (stats == null) {
+      throw new Messages.FlutterError(
+          "noImageStream", "The camera has no image stream to get statistics of", null);
+    }
+    return CameraUtils.imageStreamStatsToPigeon(stats);
+  }
+
+  @NonNull
+  @Override
+  public Messages.PlatformVideoRendererStats getVideoRendererStats() {
+    VideoRendererStats stats = camera.getVideoRendererStats();
+    if (stats == null) {
+      throw new Messages.FlutterError(
+          "noVideoRenderer", "The camera was not switched while recording a video", null);
+    }
+    return CameraUtils.videoRendererStatsToPigeon(stats);
+  }
+
   @NonNull
   @Override
   public Double getMaxZoomLevel() {
@@ -336,8 +398,16 @@ final class CameraApiImpl implements Messages.CameraApi {
   @Override
   public void setDescriptionWhileRecording(@NonNull String cameraName) {
     try {
-      camera.setDescriptionWhileRecording(
-          new CameraPropertiesImpl(cameraName, CameraUtils.getCameraManager(activity)));
+      camera.setDescriptionWhileRecording(createCameraProperties(cameraName));
+    } catch (CameraAccessException e) {
+      throw new Messages.FlutterError("CameraAccessException", e.getMessage(), null);
+    }
+  }
+
+  @Override
+  public void prepareDescription(@NonNull String cameraName) {
+    try {
+      camera.prepareDescription(createCameraProperties(cameraName));
     } catch (CameraAccessException e) {
       throw new Messages.FlutterError("CameraAccessException", e.getMessage(), null);
     }
@@ -175,6 +175,7 @@ class CameraCaptureCallback extends CaptureCallback {
       @NonNull CaptureRequest request,
       @NonNull TotalCaptureResult result) {
     process(result);
+    cameraStateListener.onCaptureCompleted();
   }
 
   /** An interface that describes the different state changes implementers can be informed about. */
@@ -187,5 +188,8 @@ class CameraCaptureCallback extends CaptureCallback {
      * Called when the {@link android.hardware.camera2.CaptureRequest} enters the pre-capture state.
      */
     void onPrecapture();
+
+    /** Called when a {@link android.hardware.camera2.CaptureRequest} has been completed. */
+    void onCaptureCompleted();
   }
 }
@@ -0,0 +1,134 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugins.camera.features.resolution.ResolutionFeature;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A process-wide cache of the camera IDs and {@link CameraCharacteristics} of the device.
+ *
+ * <p>Each query to the {@link CameraManager} is a binder call, which adds up to tens of
+ * milliseconds when opening or switching cameras on low-end devices. The results only change when
+ * an external camera is connected or disconnected, which is detected with a {@link
+ * CameraManager.AvailabilityCallback}. The recording profiles cached by {@link ResolutionFeature}
+ * are cleared at the same time.
+ */
+final class CameraCharacteristicsCache {
+  private static final CameraCharacteristicsCache instance = new CameraCharacteristicsCache();
+
+  @Nullable private String[] cameraIdList;
+  private final Map<String, CameraCharacteristics> characteristics = new HashMap<>();
+  private boolean isAvailabilityCallbackRegistered;
+
+  @VisibleForTesting
+  final CameraManager.AvailabilityCallback availabilityCallback =
+      new CameraManager.AvailabilityCallback() {
+        @Override
+        public void onCameraAvailable(@NonNull String cameraId) {
+          onCameraAvailabilityChanged(cameraId, true);
+        }
+
+        @Override
+        public void onCameraUnavailable(@NonNull String cameraId) {
+          onCameraAvailabilityChanged(cameraId, false);
+        }
+      };
+
+  @VisibleForTesting
+  CameraCharacteristicsCache() {}
+
+  /** Returns the cache shared by all of the cameras of the process. */
+  @NonNull
+  static CameraCharacteristicsCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the IDs of the cameras of the device, querying {@code cameraManager} only if they are
+   * not cached.
+   */
+  @NonNull
+  synchronized String[] getCameraIdList(@NonNull CameraManager cameraManager)
+      throws CameraAccessException {
+    registerAvailabilityCallback(cameraManager);
+    if (cameraIdList == null) {
+      cameraIdList = cameraManager.getCameraIdList();
+    }
+    return cameraIdList.clone();
+  }
+
+  /**
+   * Returns the characteristics of the camera with the given name, querying {@code cameraManager}
+   * only if they are not cached.
+   */
+  @NonNull
+  synchronized CameraCharacteristics getCameraCharacteristics(
+      @NonNull CameraManager cameraManager, @NonNull String cameraName)
+      throws CameraAccessException {
+    registerAvailabilityCallback(cameraManager);
+    CameraCharacteristics cameraCharacteristics = characteristics.get(cameraName);
+    if (cameraCharacteristics == null) {
+      cameraCharacteristics = cameraManager.getCameraCharacteristics(cameraName);
+      characteristics.put(cameraName, cameraCharacteristics);
+    }
+    return cameraCharacteristics;
+  }
+
+  /** Returns whether the characteristics of the camera with the given name are cached. */
+  synchronized boolean hasCameraCharacteristics(@NonNull String cameraName) {
+    return characteristics.containsKey(cameraName);
+  }
+
+  /** Removes all of the cached values. */
+  synchronized void clear() {
+    cameraIdList = null;
+    characteristics.clear();
+    ResolutionFeature.clearProfileCache();
+  }
+
+  private void registerAvailabilityCallback(@NonNull CameraManager cameraManager) {
+    if (isAvailabilityCallbackRegistered) {
+      return;
+    }
+    // The callback is registered with the process-wide camera service, so registering it once is
+    // enough for every CameraManager.
+    cameraManager.registerAvailabilityCallback(
+        availabilityCallback, new Handler(Looper.getMainLooper()));
+    isAvailabilityCallbackRegistered = true;
+  }
+
+  private synchronized void onCameraAvailabilityChanged(
+      @NonNull String cameraId, boolean isAvailable) {
+    if (isAvailable) {
+      // A camera that is not cached has been connected.
+      if (cameraIdList != null && !Arrays.asList(cameraIdList).contains(cameraId)) {
+        clear();
+      }
+      return;
+    }
+
+    // Cameras become unavailable while they are in use, so only external cameras, which may have
+    // been disconnected, are removed.
+    final CameraCharacteristics cameraCharacteristics = characteristics.get(cameraId);
+    if (cameraCharacteristics != null) {
+      final Integer lensFacing = cameraCharacteristics.get(CameraCharacteristics.LENS_FACING);
+      if (lensFacing != null && lensFacing == CameraMetadata.LENS_FACING_EXTERNAL) {
+        clear();
+      }
+    }
+  }
+}
@@ -30,6 +30,12 @@ public class CameraPropertiesImpl implements CameraProperties {
     this.cameraCharacteristics = cameraManager.getCameraCharacteristics(cameraName);
   }
 
+  public CameraPropertiesImpl(
+      @NonNull String cameraName, @NonNull CameraCharacteristics cameraCharacteristics) {
+    this.cameraName = cameraName;
+    this.cameraCharacteristics = cameraCharacteristics;
+  }
+
   @NonNull
   @Override
   public String getCameraName() {
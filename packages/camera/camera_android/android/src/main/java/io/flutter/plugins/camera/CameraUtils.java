@@ -12,13 +12,17 @@ import android.hardware.camera2.CameraCharacteristics;
 import android.hardware.camera2.CameraManager;
 import android.hardware.camera2.CameraMetadata;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
+import io.flutter.plugins.camera.media.ImageStreamStats;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /** Provides various utilities for camera. */
 public final class CameraUtils {
@@ -66,8 +70,24 @@ public final class CameraUtils {
   @NonNull
   public static List<Messages.PlatformCameraDescription> getAvailableCameras(
       @NonNull Activity activity) throws CameraAccessException {
+    return getAvailableCameras(activity, CameraCharacteristicsCache.getInstance());
+  }
+
+  /**
+   * Gets all the available cameras for the device, using the IDs and characteristics of the
+   * cameras stored in {@code cache}.
+   *
+   * @param activity The current Android activity.
+   * @param cache The cache of the camera IDs and characteristics.
+   * @return A map of all the available cameras, with their name as their key.
+   * @throws CameraAccessException when the camera could not be accessed.
+   */
+  @NonNull
+  static List<Messages.PlatformCameraDescription> getAvailableCameras(
+      @NonNull Activity activity, @NonNull CameraCharacteristicsCache cache)
+      throws CameraAccessException {
     CameraManager cameraManager = (CameraManager) activity.getSystemService(Context.CAMERA_SERVICE);
-    String[] cameraNames = cameraManager.getCameraIdList();
+    String[] cameraNames = cache.getCameraIdList(cameraManager);
     List<Messages.PlatformCameraDescription> cameras = new ArrayList<>();
     for (String cameraName : cameraNames) {
       int cameraId;
@@ -80,7 +100,8 @@ public final class CameraUtils {
         continue;
       }
 
-      CameraCharacteristics characteristics = cameraManager.getCameraCharacteristics(cameraName);
+      CameraCharacteristics characteristics =
+          cache.getCameraCharacteristics(cameraManager, cameraName);
       int sensorOrientation = characteristics.get(CameraCharacteristics.SENSOR_ORIENTATION);
 
       int lensFacing = characteristics.get(CameraCharacteristics.LENS_FACING);
@@ -96,6 +117,33 @@ public final class CameraUtils {
     return cameras;
   }
 
+  /**
+   * Checks whether the cameras with the given names can be open at the same time.
+   *
+   * <p>This is only known from Android R, so earlier versions are assumed to not support it.
+   *
+   * @param cameraManager The camera manager of the device.
+   * @param cameraName The name of one of the cameras.
+   * @param otherCameraName The name of the other camera.
+   * @return Whether both cameras can be open at the same time.
+   * @throws CameraAccessException when the camera service could not be accessed.
+   */
+  static boolean supportsConcurrentCameras(
+      @NonNull CameraManager cameraManager,
+      @NonNull String cameraName,
+      @NonNull String otherCameraName)
+      throws CameraAccessException {
+    if (!SdkCapabilityChecker.supportsConcurrentCameraIds()) {
+      return false;
+    }
+    for (Set<String> cameraNames : cameraManager.getConcurrentCameraIds()) {
+      if (cameraNames.contains(cameraName) && cameraNames.contains(otherCameraName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Converts a DeviceOrientation from the systemchannels package to a PlatformDeviceOrientation
    * from Pigeon.
@@ -277,4 +325,71 @@ public final class CameraUtils {
     }
     throw new IllegalStateException("Unreachable code");
   }
+
+  /**
+   * Converts PlatformImageStreamOptions from Pigeon to an ImageStreamDeliveryPolicy.
+   *
+   * @param options A PlatformImageStreamOptions.
+   * @return The corresponding ImageStreamDeliveryPolicy.
+   */
+  @NonNull
+  public static ImageStreamDeliveryPolicy imageStreamDeliveryPolicyFromPigeon(
+      @NonNull Messages.PlatformImageStreamOptions options) {
+    switch (options.getDeliveryPolicy()) {
+      case LATEST_ONLY:
+        return ImageStreamDeliveryPolicy.latestOnly();
+      case MAX_FRAME_RATE:
+        return ImageStreamDeliveryPolicy.maxFrameRate(
+            requirePolicyOption(options.getMaxFrameRate(), "maxFrameRate"));
+      case EVERY_NTH_FRAME:
+        return ImageStreamDeliveryPolicy.everyNthFrame(
+            requirePolicyOption(options.getFrameInterval(), "frameInterval"));
+    }
+    throw new IllegalStateException("Unreachable code");
+  }
+
+  private static int requirePolicyOption(@Nullable Long value, @NonNull String name) {
+    if (value == null) {
+      throw new IllegalArgumentException(name + " is required by the image stream delivery policy");
+    }
+    return value.intValue();
+  }
+
+  /**
+   * Converts ImageStreamStats to PlatformImageStreamStats for Pigeon.
+   *
+   * @param stats The ImageStreamStats.
+   * @return The corresponding PlatformImageStreamStats.
+   */
+  @NonNull
+  public static Messages.PlatformImageStreamStats imageStreamStatsToPigeon(
+      @NonNull ImageStreamStats stats) {
+    return new Messages.PlatformImageStreamStats.Builder()
+        .setDeliveredFrames(stats.getDeliveredFrames())
+        .setDroppedFrames(stats.getDroppedFrames())
+        .setSkippedFrames(stats.getSkippedFrames())
+        .setQueueDepth((long) stats.getQueueDepth())
+        .setMaxQueueDepth((long) stats.getMaxQueueDepth())
+        .setAverageLatencyMicros(stats.getAverageLatencyMicros())
+        .setMaxLatencyMicros(stats.getMaxLatencyMicros())
+        .build();
+  }
+
+  /**
+   * Converts VideoRendererStats to PlatformVideoRendererStats for Pigeon.
+   *
+   * @param stats The VideoRendererStats.
+   * @return The corresponding PlatformVideoRendererStats.
+   */
+  @NonNull
+  public static Messages.PlatformVideoRendererStats videoRendererStatsToPigeon(
+      @NonNull VideoRendererStats stats) {
+    return new Messages.PlatformVideoRendererStats.Builder()
+        .setRenderedFrames(stats.getRenderedFrames())
+        .setDroppedFrames(stats.getDroppedFrames())
+        .setAverageRenderTimeMicros(stats.getAverageRenderTimeMicros())
+        .setMaxRenderTimeMicros(stats.getMaxRenderTimeMicros())
+        .setAverageFrameIntervalMicros(stats.getAverageFrameIntervalMicros())
+        .build();
+  }
 }
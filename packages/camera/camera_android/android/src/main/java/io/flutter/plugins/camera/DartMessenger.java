@@ -105,6 +105,16 @@ public class DartMessenger {
     handler.post(() -> eventApi.error(description, new NoOpVoidResult()));
   }
 
+  /**
+   * Sends a message to the Flutter client informing that a picture of a burst has been saved.
+   *
+   * @param index the index of the picture in the burst.
+   * @param path the absolute path of the saved picture.
+   */
+  void sendBurstPictureSavedEvent(int index, @NonNull String path) {
+    handler.post(() -> eventApi.burstPictureSaved((long) index, path, new NoOpVoidResult()));
+  }
+
   /**
    * Send a success payload to a {@link MethodChannel.Result} on the main thread.
    *
@@ -129,4 +139,25 @@ public class DartMessenger {
     handler.post(
         () -> result.error(new Messages.FlutterError(errorCode, errorMessage, errorDetails)));
   }
+
+  /** Send a success to a {@link Messages.VoidResult} on the main thread. */
+  public void finish(@NonNull Messages.VoidResult result) {
+    handler.post(result::success);
+  }
+
+  /**
+   * Send an error payload to a {@link Messages.VoidResult} on the main thread.
+   *
+   * @param errorCode error code.
+   * @param errorMessage error message.
+   * @param errorDetails error details.
+   */
+  public void error(
+      @NonNull Messages.VoidResult result,
+      @NonNull String errorCode,
+      @Nullable String errorMessage,
+      @Nullable Object errorDetails) {
+    handler.post(
+        () -> result.error(new Messages.FlutterError(errorCode, errorMessage, errorDetails)));
+  }
 }
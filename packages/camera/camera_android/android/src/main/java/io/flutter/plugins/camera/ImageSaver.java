@@ -12,8 +12,14 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
-/** Saves a JPEG {@link Image} into the specified {@link File}. */
+/**
+ * Saves a JPEG {@link Image} into the specified {@link File}.
+ *
+ * <p>The JPEG plane is written straight from its buffer to the file, without copying it into an
+ * intermediate array.
+ */
 public class ImageSaver implements Runnable {
 
   /** The JPEG image */
@@ -25,6 +31,9 @@ public class ImageSaver implements Runnable {
   /** Used to report the status of the save action. */
   private final Callback callback;
 
+  /** The time at which the image was received, in {@link System#nanoTime()} nanoseconds. */
+  private final long receivedAtNanos;
+
   /**
    * Creates an instance of the ImageSaver runnable
    *
@@ -36,22 +45,27 @@ public class ImageSaver implements Runnable {
     this.image = image;
     this.file = file;
     this.callback = callback;
+    this.receivedAtNanos = System.nanoTime();
   }
 
   @Override
   public void run() {
-    ByteBuffer buffer = image.getPlanes()[0].getBuffer();
-    byte[] bytes = new byte[buffer.remaining()];
-    buffer.get(bytes);
     FileOutputStream output = null;
     try {
+      ByteBuffer buffer = image.getPlanes()[0].getBuffer();
       output = FileOutputStreamFactory.create(file);
-      output.write(bytes);
+      FileChannel channel = output.getChannel();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
 
-      callback.onComplete(file.getAbsolutePath());
+      callback.onComplete(file.getAbsolutePath(), (System.nanoTime() - receivedAtNanos) / 1000);
 
     } catch (IOException e) {
       callback.onError("IOError", "Failed saving image");
+    } catch (IllegalStateException e) {
+      // The image can no longer be read once its ImageReader has been closed.
+      callback.onError("IOError", "The image was released before it could be saved");
     } finally {
       image.close();
       if (null != output) {
@@ -73,8 +87,10 @@ public class ImageSaver implements Runnable {
      * Called when the image file has been saved successfully.
      *
      * @param absolutePath - The absolute path of the file that was saved.
+     * @param latencyMicros - The time from receiving the image to saving it, including the time
+     *     spent waiting for earlier images to be saved.
      */
-    void onComplete(@NonNull String absolutePath);
+    void onComplete(@NonNull String absolutePath, long latencyMicros);
 
     /**
      * Called when an error is encountered while saving the image file.
@@ -0,0 +1,86 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link ImageSaver}s one at a time on a dedicated thread, so that writing pictures to files
+ * does not block the thread handling the capture callbacks.
+ *
+ * <p>At most {@code maxQueuedImages} images wait while another one is being saved. Further images
+ * are rejected, since each of them holds a buffer of the picture {@link android.media.ImageReader}.
+ */
+class ImageSaverExecutor {
+  private final ThreadPoolExecutor executor;
+  // Run once the executor has terminated, on the saver thread, or on the thread shutting it down if
+  // no image is being saved.
+  @Nullable private volatile Runnable onTerminated;
+
+  /**
+   * Creates an executor that queues at most {@code maxQueuedImages} images.
+   *
+   * @param maxQueuedImages - The maximum number of images waiting to be saved.
+   */
+  ImageSaverExecutor(int maxQueuedImages) {
+    executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxQueuedImages),
+            runnable -> new Thread(runnable, "CameraImageSaver")) {
+          @Override
+          protected void terminated() {
+            Runnable callback = onTerminated;
+            if (callback != null) {
+              callback.run();
+            }
+          }
+        };
+  }
+
+  /**
+   * Queues {@code imageSaver} to be run after the images queued before it.
+   *
+   * @return false if too many images are waiting to be saved or the executor has been shut down, in
+   *     which case {@code imageSaver} is not run.
+   */
+  boolean save(@NonNull ImageSaver imageSaver) {
+    try {
+      executor.execute(imageSaver);
+      return true;
+    } catch (RejectedExecutionException e) {
+      return false;
+    }
+  }
+
+  /** Returns the number of images waiting to be saved. */
+  @VisibleForTesting
+  int getQueuedImageCount() {
+    return executor.getQueue().size();
+  }
+
+  /** Saves the queued images, and then stops the thread. No more images can be saved. */
+  void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Like {@link #shutdown()}, but also runs {@code onTerminated} once the queued images are saved,
+   * without waiting for them.
+   */
+  void shutdown(@NonNull Runnable onTerminated) {
+    this.onTerminated = onTerminated;
+    executor.shutdown();
+  }
+}
@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -167,6 +168,25 @@ public class Messages {
     }
   }
 
+  /** How the frames of an image stream are selected to be sent to Dart. */
+  public enum PlatformImageStreamDeliveryPolicy {
+    /**
+     * Sends a frame only once the previous one has been handled, replacing frames that arrive
+     * meanwhile with newer ones.
+     */
+    LATEST_ONLY(0),
+    /** Sends at most a given number of frames per second. */
+    MAX_FRAME_RATE(1),
+    /** Sends one of every given number of frames. */
+    EVERY_NTH_FRAME(2);
+
+    final int index;
+
+    PlatformImageStreamDeliveryPolicy(final int index) {
+      this.index = index;
+    }
+  }
+
   /**
    * Pigeon equivalent of [CameraDescription].
    *
@@ -824,6 +844,560 @@ public class Messages {
     }
   }
 
+  /**
+   * Options for the delivery of the frames of an image stream.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformImageStreamOptions {
+    private @NonNull PlatformImageStreamDeliveryPolicy deliveryPolicy;
+
+    public @NonNull PlatformImageStreamDeliveryPolicy getDeliveryPolicy() {
+      return deliveryPolicy;
+    }
+
+    public void setDeliveryPolicy(@NonNull PlatformImageStreamDeliveryPolicy setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"deliveryPolicy\" is null.");
+      }
+      this.deliveryPolicy = setterArg;
+    }
+
+    /**
+     * The maximum number of frames per second for
+     * [PlatformImageStreamDeliveryPolicy.maxFrameRate].
+     */
+    private @Nullable Long maxFrameRate;
+
+    public @Nullable Long getMaxFrameRate() {
+      return maxFrameRate;
+    }
+
+    public void setMaxFrameRate(@Nullable Long setterArg) {
+      this.maxFrameRate = setterArg;
+    }
+
+    /**
+     * The number of frames per sent frame for [PlatformImageStreamDeliveryPolicy.everyNthFrame].
+     */
+    private @Nullable Long frameInterval;
+
+    public @Nullable Long getFrameInterval() {
+      return frameInterval;
+    }
+
+    public void setFrameInterval(@Nullable Long setterArg) {
+      this.frameInterval = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformImageStreamOptions() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformImageStreamOptions that = (PlatformImageStreamOptions) o;
+      return deliveryPolicy.equals(that.deliveryPolicy)
+          && Objects.equals(maxFrameRate, that.maxFrameRate)
+          && Objects.equals(frameInterval, that.frameInterval);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(deliveryPolicy, maxFrameRate, frameInterval);
+    }
+
+    public static final class Builder {
+
+      private @Nullable PlatformImageStreamDeliveryPolicy deliveryPolicy;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDeliveryPolicy(
+          @NonNull PlatformImageStreamDeliveryPolicy setterArg) {
+        this.deliveryPolicy = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxFrameRate;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxFrameRate(@Nullable Long setterArg) {
+        this.maxFrameRate = setterArg;
+        return this;
+      }
+
+      private @Nullable Long frameInterval;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFrameInterval(@Nullable Long setterArg) {
+        this.frameInterval = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformImageStreamOptions build() {
+        PlatformImageStreamOptions pigeonReturn = new PlatformImageStreamOptions();
+        pigeonReturn.setDeliveryPolicy(deliveryPolicy);
+        pigeonReturn.setMaxFrameRate(maxFrameRate);
+        pigeonReturn.setFrameInterval(frameInterval);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(deliveryPolicy);
+      toListResult.add(maxFrameRate);
+      toListResult.add(frameInterval);
+      return toListResult;
+    }
+
+    static @NonNull PlatformImageStreamOptions fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformImageStreamOptions pigeonResult = new PlatformImageStreamOptions();
+      Object deliveryPolicy = pigeonVar_list.get(0);
+      pigeonResult.setDeliveryPolicy((PlatformImageStreamDeliveryPolicy) deliveryPolicy);
+      Object maxFrameRate = pigeonVar_list.get(1);
+      pigeonResult.setMaxFrameRate((Long) maxFrameRate);
+      Object frameInterval = pigeonVar_list.get(2);
+      pigeonResult.setFrameInterval((Long) frameInterval);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Statistics of the current image stream.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformImageStreamStats {
+    /** The number of frames sent to Dart. */
+    private @NonNull Long deliveredFrames;
+
+    public @NonNull Long getDeliveredFrames() {
+      return deliveredFrames;
+    }
+
+    public void setDeliveredFrames(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"deliveredFrames\" is null.");
+      }
+      this.deliveredFrames = setterArg;
+    }
+
+    /**
+     * The number of frames dropped, or replaced by newer frames, because too many frames had not
+     * been acknowledged yet.
+     */
+    private @NonNull Long droppedFrames;
+
+    public @NonNull Long getDroppedFrames() {
+      return droppedFrames;
+    }
+
+    public void setDroppedFrames(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"droppedFrames\" is null.");
+      }
+      this.droppedFrames = setterArg;
+    }
+
+    /** The number of frames skipped by the delivery policy. */
+    private @NonNull Long skippedFrames;
+
+    public @NonNull Long getSkippedFrames() {
+      return skippedFrames;
+    }
+
+    public void setSkippedFrames(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"skippedFrames\" is null.");
+      }
+      this.skippedFrames = setterArg;
+    }
+
+    /** The number of frames waiting to be sent or to be acknowledged. */
+    private @NonNull Long queueDepth;
+
+    public @NonNull Long getQueueDepth() {
+      return queueDepth;
+    }
+
+    public void setQueueDepth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"queueDepth\" is null.");
+      }
+      this.queueDepth = setterArg;
+    }
+
+    /** The largest number of frames that were waiting to be sent or to be acknowledged at once. */
+    private @NonNull Long maxQueueDepth;
+
+    public @NonNull Long getMaxQueueDepth() {
+      return maxQueueDepth;
+    }
+
+    public void setMaxQueueDepth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxQueueDepth\" is null.");
+      }
+      this.maxQueueDepth = setterArg;
+    }
+
+    /** The average time from receiving a frame from the camera to Dart acknowledging it. */
+    private @NonNull Long averageLatencyMicros;
+
+    public @NonNull Long getAverageLatencyMicros() {
+      return averageLatencyMicros;
+    }
+
+    public void setAverageLatencyMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"averageLatencyMicros\" is null.");
+      }
+      this.averageLatencyMicros = setterArg;
+    }
+
+    /** The longest time from receiving a frame from the camera to Dart acknowledging it. */
+    private @NonNull Long maxLatencyMicros;
+
+    public @NonNull Long getMaxLatencyMicros() {
+      return maxLatencyMicros;
+    }
+
+    public void setMaxLatencyMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxLatencyMicros\" is null.");
+      }
+      this.maxLatencyMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformImageStreamStats() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformImageStreamStats that = (PlatformImageStreamStats) o;
+      return deliveredFrames.equals(that.deliveredFrames)
+          && droppedFrames.equals(that.droppedFrames)
+          && skippedFrames.equals(that.skippedFrames)
+          && queueDepth.equals(that.queueDepth)
+          && maxQueueDepth.equals(that.maxQueueDepth)
+          && averageLatencyMicros.equals(that.averageLatencyMicros)
+          && maxLatencyMicros.equals(that.maxLatencyMicros);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          deliveredFrames,
+          droppedFrames,
+          skippedFrames,
+          queueDepth,
+          maxQueueDepth,
+          averageLatencyMicros,
+          maxLatencyMicros);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long deliveredFrames;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDeliveredFrames(@NonNull Long setterArg) {
+        this.deliveredFrames = setterArg;
+        return this;
+      }
+
+      private @Nullable Long droppedFrames;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDroppedFrames(@NonNull Long setterArg) {
+        this.droppedFrames = setterArg;
+        return this;
+      }
+
+      private @Nullable Long skippedFrames;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSkippedFrames(@NonNull Long setterArg) {
+        this.skippedFrames = setterArg;
+        return this;
+      }
+
+      private @Nullable Long queueDepth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQueueDepth(@NonNull Long setterArg) {
+        this.queueDepth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxQueueDepth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxQueueDepth(@NonNull Long setterArg) {
+        this.maxQueueDepth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long averageLatencyMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAverageLatencyMicros(@NonNull Long setterArg) {
+        this.averageLatencyMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxLatencyMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxLatencyMicros(@NonNull Long setterArg) {
+        this.maxLatencyMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformImageStreamStats build() {
+        PlatformImageStreamStats pigeonReturn = new PlatformImageStreamStats();
+        pigeonReturn.setDeliveredFrames(deliveredFrames);
+        pigeonReturn.setDroppedFrames(droppedFrames);
+        pigeonReturn.setSkippedFrames(skippedFrames);
+        pigeonReturn.setQueueDepth(queueDepth);
+        pigeonReturn.setMaxQueueDepth(maxQueueDepth);
+        pigeonReturn.setAverageLatencyMicros(averageLatencyMicros);
+        pigeonReturn.setMaxLatencyMicros(maxLatencyMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(deliveredFrames);
+      toListResult.add(droppedFrames);
+      toListResult.add(skippedFrames);
+      toListResult.add(queueDepth);
+      toListResult.add(maxQueueDepth);
+      toListResult.add(averageLatencyMicros);
+      toListResult.add(maxLatencyMicros);
+      return toListResult;
+    }
+
+    static @NonNull PlatformImageStreamStats fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformImageStreamStats pigeonResult = new PlatformImageStreamStats();
+      Object deliveredFrames = pigeonVar_list.get(0);
+      pigeonResult.setDeliveredFrames((Long) deliveredFrames);
+      Object droppedFrames = pigeonVar_list.get(1);
+      pigeonResult.setDroppedFrames((Long) droppedFrames);
+      Object skippedFrames = pigeonVar_list.get(2);
+      pigeonResult.setSkippedFrames((Long) skippedFrames);
+      Object queueDepth = pigeonVar_list.get(3);
+      pigeonResult.setQueueDepth((Long) queueDepth);
+      Object maxQueueDepth = pigeonVar_list.get(4);
+      pigeonResult.setMaxQueueDepth((Long) maxQueueDepth);
+      Object averageLatencyMicros = pigeonVar_list.get(5);
+      pigeonResult.setAverageLatencyMicros((Long) averageLatencyMicros);
+      Object maxLatencyMicros = pigeonVar_list.get(6);
+      pigeonResult.setMaxLatencyMicros((Long) maxLatencyMicros);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * Statistics of the renderer used to switch cameras while recording a video.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformVideoRendererStats {
+    /** The number of frames rendered to the recording. */
+    private @NonNull Long renderedFrames;
+
+    public @NonNull Long getRenderedFrames() {
+      return renderedFrames;
+    }
+
+    public void setRenderedFrames(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"renderedFrames\" is null.");
+      }
+      this.renderedFrames = setterArg;
+    }
+
+    /** The number of frames replaced by a newer frame before they could be rendered. */
+    private @NonNull Long droppedFrames;
+
+    public @NonNull Long getDroppedFrames() {
+      return droppedFrames;
+    }
+
+    public void setDroppedFrames(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"droppedFrames\" is null.");
+      }
+      this.droppedFrames = setterArg;
+    }
+
+    /** The average time spent rendering a frame. */
+    private @NonNull Long averageRenderTimeMicros;
+
+    public @NonNull Long getAverageRenderTimeMicros() {
+      return averageRenderTimeMicros;
+    }
+
+    public void setAverageRenderTimeMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"averageRenderTimeMicros\" is null.");
+      }
+      this.averageRenderTimeMicros = setterArg;
+    }
+
+    /** The longest time spent rendering a frame. */
+    private @NonNull Long maxRenderTimeMicros;
+
+    public @NonNull Long getMaxRenderTimeMicros() {
+      return maxRenderTimeMicros;
+    }
+
+    public void setMaxRenderTimeMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxRenderTimeMicros\" is null.");
+      }
+      this.maxRenderTimeMicros = setterArg;
+    }
+
+    /** The average time between two rendered frames. */
+    private @NonNull Long averageFrameIntervalMicros;
+
+    public @NonNull Long getAverageFrameIntervalMicros() {
+      return averageFrameIntervalMicros;
+    }
+
+    public void setAverageFrameIntervalMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"averageFrameIntervalMicros\" is null.");
+      }
+      this.averageFrameIntervalMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformVideoRendererStats() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformVideoRendererStats that = (PlatformVideoRendererStats) o;
+      return renderedFrames.equals(that.renderedFrames)
+          && droppedFrames.equals(that.droppedFrames)
+          && averageRenderTimeMicros.equals(that.averageRenderTimeMicros)
+          && maxRenderTimeMicros.equals(that.maxRenderTimeMicros)
+          && averageFrameIntervalMicros.equals(that.averageFrameIntervalMicros);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          renderedFrames,
+          droppedFrames,
+          averageRenderTimeMicros,
+          maxRenderTimeMicros,
+          averageFrameIntervalMicros);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long renderedFrames;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setRenderedFrames(@NonNull Long setterArg) {
+        this.renderedFrames = setterArg;
+        return this;
+      }
+
+      private @Nullable Long droppedFrames;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDroppedFrames(@NonNull Long setterArg) {
+        this.droppedFrames = setterArg;
+        return this;
+      }
+
+      private @Nullable Long averageRenderTimeMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAverageRenderTimeMicros(@NonNull Long setterArg) {
+        this.averageRenderTimeMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxRenderTimeMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxRenderTimeMicros(@NonNull Long setterArg) {
+        this.maxRenderTimeMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long averageFrameIntervalMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAverageFrameIntervalMicros(@NonNull Long setterArg) {
+        this.averageFrameIntervalMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformVideoRendererStats build() {
+        PlatformVideoRendererStats pigeonReturn = new PlatformVideoRendererStats();
+        pigeonReturn.setRenderedFrames(renderedFrames);
+        pigeonReturn.setDroppedFrames(droppedFrames);
+        pigeonReturn.setAverageRenderTimeMicros(averageRenderTimeMicros);
+        pigeonReturn.setMaxRenderTimeMicros(maxRenderTimeMicros);
+        pigeonReturn.setAverageFrameIntervalMicros(averageFrameIntervalMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(renderedFrames);
+      toListResult.add(droppedFrames);
+      toListResult.add(averageRenderTimeMicros);
+      toListResult.add(maxRenderTimeMicros);
+      toListResult.add(averageFrameIntervalMicros);
+      return toListResult;
+    }
+
+    static @NonNull PlatformVideoRendererStats fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformVideoRendererStats pigeonResult = new PlatformVideoRendererStats();
+      Object renderedFrames = pigeonVar_list.get(0);
+      pigeonResult.setRenderedFrames((Long) renderedFrames);
+      Object droppedFrames = pigeonVar_list.get(1);
+      pigeonResult.setDroppedFrames((Long) droppedFrames);
+      Object averageRenderTimeMicros = pigeonVar_list.get(2);
+      pigeonResult.setAverageRenderTimeMicros((Long) averageRenderTimeMicros);
+      Object maxRenderTimeMicros = pigeonVar_list.get(3);
+      pigeonResult.setMaxRenderTimeMicros((Long) maxRenderTimeMicros);
+      Object averageFrameIntervalMicros = pigeonVar_list.get(4);
+      pigeonResult.setAverageFrameIntervalMicros((Long) averageFrameIntervalMicros);
+      return pigeonResult;
+    }
+  }
+
   private static class PigeonCodec extends StandardMessageCodec {
     public static final PigeonCodec INSTANCE = new PigeonCodec();
 
@@ -876,15 +1450,28 @@ public class Messages {
             return value == null ? null : PlatformFlashMode.values()[((Long) value).intValue()];
           }
         case (byte) 136:
-          return PlatformCameraDescription.fromList((ArrayList<Object>) readValue(buffer));
+          {
+            Object value = readValue(buffer);
+            return value == null
+                ? null
+                : PlatformImageStreamDeliveryPolicy.values()[((Long) value).intValue()];
+          }
         case (byte) 137:
-          return PlatformCameraState.fromList((ArrayList<Object>) readValue(buffer));
+          return PlatformCameraDescription.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 138:
-          return PlatformSize.fromList((ArrayList<Object>) readValue(buffer));
+          return PlatformCameraState.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 139:
-          return PlatformPoint.fromList((ArrayList<Object>) readValue(buffer));
+          return PlatformSize.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 140:
+          return PlatformPoint.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
           return PlatformMediaSettings.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return PlatformImageStreamOptions.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return PlatformImageStreamStats.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return PlatformVideoRendererStats.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -913,21 +1500,34 @@ public class Messages {
       } else if (value instanceof PlatformFlashMode) {
         stream.write(135);
         writeValue(stream, value == null ? null : ((PlatformFlashMode) value).index);
-      } else if (value instanceof PlatformCameraDescription) {
+      } else if (value instanceof PlatformImageStreamDeliveryPolicy) {
         stream.write(136);
+        writeValue(
+            stream, value == null ? null : ((PlatformImageStreamDeliveryPolicy) value).index);
+      } else if (value instanceof PlatformCameraDescription) {
+        stream.write(137);
         writeValue(stream, ((PlatformCameraDescription) value).toList());
       } else if (value instanceof PlatformCameraState) {
-        stream.write(137);
+        stream.write(138);
         writeValue(stream, ((PlatformCameraState) value).toList());
       } else if (value instanceof PlatformSize) {
-        stream.write(138);
+        stream.write(139);
         writeValue(stream, ((PlatformSize) value).toList());
       } else if (value instanceof PlatformPoint) {
-        stream.write(139);
+        stream.write(140);
         writeValue(stream, ((PlatformPoint) value).toList());
       } else if (value instanceof PlatformMediaSettings) {
-        stream.write(140);
+        stream.write(141);
         writeValue(stream, ((PlatformMediaSettings) value).toList());
+      } else if (value instanceof PlatformImageStreamOptions) {
+        stream.write(142);
+        writeValue(stream, ((PlatformImageStreamOptions) value).toList());
+      } else if (value instanceof PlatformImageStreamStats) {
+        stream.write(143);
+        writeValue(stream, ((PlatformImageStreamStats) value).toList());
+      } else if (value instanceof PlatformVideoRendererStats) {
+        stream.write(144);
+        writeValue(stream, ((PlatformVideoRendererStats) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -982,6 +1582,16 @@ public class Messages {
     void unlockCaptureOrientation();
     /** Takes a picture on the camera with the given ID and returns a path to the resulting file. */
     void takePicture(@NonNull Result<String> result);
+    /**
+     * Takes [pictureCount] pictures in a burst on the camera with the given ID.
+     *
+     * <p>[pictureCount] must be between 1 and 4, as all of the pictures are requested at once and
+     * must fit in the picture image reader.
+     *
+     * <p>The path of each picture is sent to [CameraEventApi.burstPictureSaved] once it has been
+     * saved. Completes once all of the pictures have been saved.
+     */
+    void takePictureBurst(@NonNull Long pictureCount, @NonNull VoidResult result);
     /** Starts recording a video on the camera with the given ID. */
     void startVideoRecording(@NonNull Boolean enableStream);
     /**
@@ -995,9 +1605,20 @@ public class Messages {
     /** Resumes previously paused video recording on the camera with the given ID. */
     void resumeVideoRecording();
     /** Begins streaming frames from the camera. */
-    void startImageStream();
+    void startImageStream(@NonNull PlatformImageStreamOptions options);
     /** Stops streaming frames from the camera. */
     void stopImageStream();
+    /** Acknowledges that Dart has handled a frame of the image stream. */
+    void acknowledgeImageStreamFrame();
+    /** Returns statistics of the current image stream. */
+    @NonNull
+    PlatformImageStreamStats getImageStreamStats();
+    /**
+     * Returns statistics of the renderer used to switch cameras while recording a video, which are
+     * kept once the recording has stopped.
+     */
+    @NonNull
+    PlatformVideoRendererStats getVideoRendererStats();
     /** Sets the flash mode of the camera with the given ID. */
     void setFlashMode(@NonNull PlatformFlashMode flashMode, @NonNull VoidResult result);
     /** Sets the exposure mode of the camera with the given ID. */
@@ -1048,6 +1669,11 @@ public class Messages {
      * <p>This should be called only while video recording is active.
      */
     void setDescriptionWhileRecording(@NonNull String description);
+    /**
+     * Prepares the camera with the given description, so that a later call to
+     * [setDescriptionWhileRecording] with it switches cameras faster.
+     */
+    void prepareDescription(@NonNull String description);
 
     /** The codec used by CameraApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -1241,6 +1867,38 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.takePictureBurst"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long pictureCountArg = (Long) args.get(0);
+                VoidResult resultCallback =
+                    new VoidResult() {
+                      public void success() {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.takePictureBurst(pictureCountArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -1346,8 +2004,10 @@ public class Messages {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                PlatformImageStreamOptions optionsArg = (PlatformImageStreamOptions) args.get(0);
                 try {
-                  api.startImageStream();
+                  api.startImageStream(optionsArg);
                   wrapped.add(0, null);
                 } catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1381,6 +2041,75 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.acknowledgeImageStreamFrame"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.acknowledgeImageStreamFrame();
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.getImageStreamStats"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  PlatformImageStreamStats output = api.getImageStreamStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.getVideoRendererStats"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  PlatformVideoRendererStats output = api.getVideoRendererStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -1778,6 +2507,31 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.camera_android.CameraApi.prepareDescription"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String descriptionArg = (String) args.get(0);
+                try {
+                  api.prepareDescription(descriptionArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /**
@@ -1922,5 +2676,30 @@ public class Messages {
             }
           });
     }
+    /** Called when the picture at [index] of a burst has been saved to [path]. */
+    public void burstPictureSaved(
+        @NonNull Long indexArg, @NonNull String pathArg, @NonNull VoidResult result) {
+      final String channelName =
+          "dev.flutter.pigeon.camera_android.CameraEventApi.burstPictureSaved"
+              + messageChannelSuffix;
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<>(Arrays.asList(indexArg, pathArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(
+                    new FlutterError(
+                        (String) listReply.get(0), (String) listReply.get(1), listReply.get(2)));
+              } else {
+                result.success();
+              }
+            } else {
+              result.error(createConnectionError(channelName));
+            }
+          });
+    }
   }
 }
@@ -0,0 +1,62 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.CameraDevice;
+import android.media.ImageReader;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.camera.features.CameraFeatures;
+import io.flutter.plugins.camera.media.ImageStreamReader;
+
+/**
+ * A camera that is set up ahead of time by {@link Camera#prepareDescription}, so that {@link
+ * Camera#setDescriptionWhileRecording} can switch to it without building everything from scratch.
+ */
+final class PreparedCamera {
+  @NonNull final CameraProperties cameraProperties;
+  @NonNull final CameraFeatures cameraFeatures;
+  @NonNull final ImageReader pictureImageReader;
+  @NonNull final ImageStreamReader imageStreamReader;
+
+  /**
+   * The callback of the camera device that is being opened, or null if the device is not opened
+   * ahead of time.
+   */
+  @Nullable CameraDevice.StateCallback stateCallback;
+
+  /** The camera device, or null if it is not open yet. */
+  @Nullable CameraDeviceWrapper cameraDevice;
+
+  PreparedCamera(
+      @NonNull CameraProperties cameraProperties,
+      @NonNull CameraFeatures cameraFeatures,
+      @NonNull ImageReader pictureImageReader,
+      @NonNull ImageStreamReader imageStreamReader) {
+    this.cameraProperties = cameraProperties;
+    this.cameraFeatures = cameraFeatures;
+    this.pictureImageReader = pictureImageReader;
+    this.imageStreamReader = imageStreamReader;
+  }
+
+  /**
+   * Closes the camera device, if it is open, and stops waiting for it to be opened, so that it has
+   * to be opened from scratch when switching to this camera.
+   */
+  void closeCameraDevice() {
+    stateCallback = null;
+    if (cameraDevice != null) {
+      cameraDevice.close();
+      cameraDevice = null;
+    }
+  }
+
+  /** Closes the camera device and the image readers. */
+  void close() {
+    closeCameraDevice();
+    pictureImageReader.close();
+    imageStreamReader.close();
+  }
+}
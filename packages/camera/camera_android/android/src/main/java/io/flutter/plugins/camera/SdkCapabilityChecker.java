@@ -34,6 +34,12 @@ public class SdkCapabilityChecker {
     return SDK_VERSION >= Build.VERSION_CODES.S;
   }
 
+  @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.R)
+  public static boolean supportsConcurrentCameraIds() {
+    // See https://developer.android.com/reference/android/hardware/camera2/CameraManager#getConcurrentCameraIds()
+    return SDK_VERSION >= Build.VERSION_CODES.R;
+  }
+
   @ChecksSdkIntAtLeast(api = Build.VERSION_CODES.M)
   public static boolean supportsMarshmallowNoiseReductionModes() {
     // See https://developer.android.com/reference/android/hardware/camera2/CameraCharacteristics#NOISE_REDUCTION_AVAILABLE_NOISE_REDUCTION_MODES
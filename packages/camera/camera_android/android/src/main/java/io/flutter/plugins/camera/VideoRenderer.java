@@ -4,8 +4,6 @@
 
 package io.flutter.plugins.camera;
 
-import static android.os.SystemClock.uptimeMillis;
-
 import android.graphics.SurfaceTexture;
 import android.opengl.EGL14;
 import android.opengl.EGLConfig;
@@ -22,8 +20,11 @@ import android.os.HandlerThread;
 import android.util.Log;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Renders video onto texture after performing a matrix rotation on each frame.
@@ -38,6 +39,11 @@ import java.nio.ByteOrder;
  * <p>This leaves the solution to be routing the recording through a surface texture and performing
  * a matrix transformation on it manually to get the correct orientation. This only happens when
  * setDescription is called mid video recording.
+ *
+ * <p>Frames are rendered on a dedicated thread as soon as the input surface texture reports them
+ * available, without waiting on any lock. If several frames arrive while a frame is being
+ * rendered, only the newest is rendered. The input is scaled to the recording size, and cropped
+ * around its center when its rotated aspect ratio differs from the recording's.
  */
 public class VideoRenderer {
 
@@ -90,30 +96,61 @@ public class VideoRenderer {
   EGLDisplay display;
   EGLContext context;
   EGLSurface surface;
-  private Thread thread;
   private final Surface outputSurface;
   SurfaceTexture inputSurfaceTexture;
-  private Surface inputSurface;
+  private volatile Surface inputSurface;
+  private final CountDownLatch inputSurfaceReady = new CountDownLatch(1);
 
-  private HandlerThread surfaceTextureFrameAvailableHandler;
-  final Object surfaceTextureAvailableFrameLock = new Object();
-  Boolean surfaceTextureFrameAvailable = false;
+  /** The thread that owns the OpenGL context and renders every frame. */
+  private final HandlerThread renderThread;
 
-  final int recordingWidth;
-  final int recordingHeight;
-  private int rotation = 0;
+  private final Handler renderHandler;
 
-  private final Object lock = new Object();
+  /** Whether a frame is available and waiting to be rendered. Only used on the render thread. */
+  private boolean isRenderScheduled;
 
-  private final Thread.UncaughtExceptionHandler uncaughtExceptionHandler;
+  /** Whether the renderer was closed. Only used on the render thread. */
+  private boolean isReleased;
+
+  final int recordingWidth;
+  final int recordingHeight;
+  private volatile int inputWidth;
+  private volatile int inputHeight;
+  private volatile int rotation = 0;
+
+  private final float[] textureMatrix = new float[16];
+  private final float[] moveMatrix = new float[16];
+  private final float[] cropScale = new float[2];
+
+  private final AtomicLong availableFrames = new AtomicLong();
+  private final AtomicLong renderedFrames = new AtomicLong();
+  private final AtomicLong totalRenderTimeNanos = new AtomicLong();
+  private final AtomicLong maxRenderTimeNanos = new AtomicLong();
+  private final AtomicLong firstFrameTimeNanos = new AtomicLong();
+  private final AtomicLong lastFrameTimeNanos = new AtomicLong();
+
+  /** Renders the newest available frame. */
+  private final Runnable renderFrame =
+      new Runnable() {
+        @Override
+        public void run() {
+          isRenderScheduled = false;
+          if (!isReleased) {
+            renderFrame();
+          }
+        }
+      };
 
-  /** Gets surface for input. Blocks until surface is ready. */
+  /**
+   * Gets surface for input. Blocks until surface is ready.
+   *
+   * @throws IllegalStateException if OpenGL could not be configured.
+   */
   @NonNull
   public Surface getInputSurface() throws InterruptedException {
-    synchronized (lock) {
-      while (inputSurface == null) {
-        lock.wait();
-      }
+    inputSurfaceReady.await();
+    if (inputSurface == null) {
+      throw new IllegalStateException("The video renderer could not be configured.");
     }
     return inputSurface;
   }
@@ -123,33 +160,107 @@ public class VideoRenderer {
       int recordingWidth,
       int recordingHeight,
       @NonNull Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+    this(
+        outputSurface,
+        recordingWidth,
+        recordingHeight,
+        recordingWidth,
+        recordingHeight,
+        uncaughtExceptionHandler);
+  }
+
+  /**
+   * Creates a renderer whose input surface has the size {@code inputWidth} x {@code inputHeight},
+   * which is scaled and cropped to {@code recordingWidth} x {@code recordingHeight} in the output.
+   */
+  public VideoRenderer(
+      @NonNull Surface outputSurface,
+      int recordingWidth,
+      int recordingHeight,
+      int inputWidth,
+      int inputHeight,
+      @NonNull Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
     this.outputSurface = outputSurface;
     this.recordingHeight = recordingHeight;
     this.recordingWidth = recordingWidth;
-    this.uncaughtExceptionHandler = uncaughtExceptionHandler;
+    this.inputWidth = inputWidth;
+    this.inputHeight = inputHeight;
+    renderThread = new HandlerThread("VideoRenderer");
+    renderThread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+    renderThread.start();
+    renderHandler = new Handler(renderThread.getLooper());
     startOpenGL();
     Log.d(TAG, "VideoRenderer setup complete");
   }
 
+  /**
+   * Changes the size of the input surface, for a camera that captures at a different size than
+   * the previous one. The input is still scaled and cropped to the recording size.
+   *
+   * <p>Must be called before the camera starts sending frames to {@link #getInputSurface()}. Blocks
+   * until the input surface is ready.
+   *
+   * @throws IllegalStateException if OpenGL could not be configured.
+   */
+  public void setInputSize(int inputWidth, int inputHeight) throws InterruptedException {
+    getInputSurface();
+    this.inputWidth = inputWidth;
+    this.inputHeight = inputHeight;
+    inputSurfaceTexture.setDefaultBufferSize(inputWidth, inputHeight);
+  }
+
   /** Stop rendering and cleanup resources. */
   public void close() {
-    thread.interrupt();
-    surfaceTextureFrameAvailableHandler.quitSafely();
+    renderHandler.post(this::release);
+    renderThread.quitSafely();
+  }
+
+  /** Returns the statistics of the frames rendered so far. */
+  @NonNull
+  public VideoRendererStats getStats() {
+    final long rendered = renderedFrames.get();
+    final long available = availableFrames.get();
+    return new VideoRendererStats(
+        rendered,
+        Math.max(0, available - rendered),
+        rendered == 0 ? 0 : totalRenderTimeNanos.get() / rendered / 1000,
+        maxRenderTimeNanos.get() / 1000,
+        rendered < 2
+            ? 0
+            : (lastFrameTimeNanos.get() - firstFrameTimeNanos.get()) / (rendered - 1) / 1000);
+  }
+
+  private void release() {
+    isReleased = true;
+    Log.d(TAG, "Closing with " + getStats());
+    if (inputSurfaceTexture != null) {
+      inputSurfaceTexture.setOnFrameAvailableListener(null);
+    }
     cleanupOpenGL();
-    inputSurfaceTexture.release();
+    if (inputSurface != null) {
+      inputSurface.release();
+    }
+    if (inputSurfaceTexture != null) {
+      inputSurfaceTexture.release();
+    }
   }
 
   private void cleanupOpenGL() {
+    if (display == null) {
+      return;
+    }
     GLES20.glDeleteBuffers(2, bufferHandles, 0);
     GLES20.glDeleteTextures(1, textureHandles, 0);
-    EGL14.eglDestroyContext(display, context);
-    EGL14.eglDestroySurface(display, surface);
     GLES20.glDeleteProgram(program);
+    EGL14.eglMakeCurrent(display, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT);
+    EGL14.eglDestroySurface(display, surface);
+    EGL14.eglDestroyContext(display, context);
+    EGL14.eglReleaseThread();
   }
 
   /** Configures openGL. Must be called in same thread as draw is called. */
   void configureOpenGL() {
-    synchronized (lock) {
+    try {
       display = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY);
       if (display == EGL14.EGL_NO_DISPLAY)
         throw new RuntimeException(
@@ -256,66 +367,73 @@ public class VideoRenderer {
       // Init texture that will receive decoded frames
       GLES20.glGenTextures(1, textureHandles, 0);
       GLES20.glBindTexture(GLES11Ext.GL_TEXTURE_EXTERNAL_OES, textureHandles[0]);
+      // Scale the input to the recording size with linear filtering.
+      GLES20.glTexParameteri(
+          GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_MIN_FILTER, GLES20.GL_LINEAR);
+      GLES20.glTexParameteri(
+          GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_MAG_FILTER, GLES20.GL_LINEAR);
+      GLES20.glTexParameteri(
+          GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_WRAP_S, GLES20.GL_CLAMP_TO_EDGE);
+      GLES20.glTexParameteri(
+          GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_WRAP_T, GLES20.GL_CLAMP_TO_EDGE);
 
       inputSurfaceTexture = new SurfaceTexture(getTexId());
-      inputSurfaceTexture.setDefaultBufferSize(recordingWidth, recordingHeight);
-      surfaceTextureFrameAvailableHandler = new HandlerThread("FrameHandlerThread");
-      surfaceTextureFrameAvailableHandler.start();
-      inputSurface = new Surface(inputSurfaceTexture);
-
+      inputSurfaceTexture.setDefaultBufferSize(inputWidth, inputHeight);
       inputSurfaceTexture.setOnFrameAvailableListener(
           new SurfaceTexture.OnFrameAvailableListener() {
             @Override
             public void onFrameAvailable(SurfaceTexture surfaceTexture) {
-              synchronized (surfaceTextureAvailableFrameLock) {
-                if (surfaceTextureFrameAvailable)
-                  Log.w(TAG, "Frame available before processing other frames. dropping frames");
-                surfaceTextureFrameAvailable = true;
-                surfaceTextureAvailableFrameLock.notifyAll();
-              }
+              onInputFrameAvailable();
             }
           },
-          new Handler(surfaceTextureFrameAvailableHandler.getLooper()));
-      lock.notifyAll();
+          renderHandler);
+      inputSurface = new Surface(inputSurfaceTexture);
+    } finally {
+      inputSurfaceReady.countDown();
     }
   }
 
   /** Starts and configures Video Renderer. */
   private void startOpenGL() {
     Log.d(TAG, "Starting OpenGL Thread");
-    thread =
-        new Thread() {
-          @Override
-          public void run() {
-
-            configureOpenGL();
-
-            try {
-              // Continuously pull frames from input surface texture and use videoRenderer to modify
-              // to correct rotation.
-              while (!Thread.interrupted()) {
-
-                synchronized (surfaceTextureAvailableFrameLock) {
-                  while (!surfaceTextureFrameAvailable) {
-                    surfaceTextureAvailableFrameLock.wait(500);
-                  }
-                  surfaceTextureFrameAvailable = false;
-                }
-
-                inputSurfaceTexture.updateTexImage();
-
-                float[] surfaceTextureMatrix = new float[16];
-                inputSurfaceTexture.getTransformMatrix(surfaceTextureMatrix);
-
-                draw(recordingWidth, recordingHeight, surfaceTextureMatrix);
-              }
-            } catch (InterruptedException e) {
-              Log.d(TAG, "thread interrupted while waiting for frames");
-            }
-          }
-        };
-    thread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
-    thread.start();
+    renderHandler.post(this::configureOpenGL);
+  }
+
+  /**
+   * Schedules the newest frame of the input surface texture to be rendered. Called on the render
+   * thread.
+   */
+  @VisibleForTesting
+  void onInputFrameAvailable() {
+    availableFrames.incrementAndGet();
+    // Frames that are already waiting are rendered together with this one, since the surface
+    // texture always provides the newest frame.
+    if (!isRenderScheduled) {
+      isRenderScheduled = true;
+      renderHandler.post(renderFrame);
+    }
+  }
+
+  private void renderFrame() {
+    final long startTime = System.nanoTime();
+    inputSurfaceTexture.updateTexImage();
+    inputSurfaceTexture.getTransformMatrix(textureMatrix);
+    draw(recordingWidth, recordingHeight, textureMatrix);
+    recordFrame(startTime, System.nanoTime());
+  }
+
+  @VisibleForTesting
+  void recordFrame(long startTimeNanos, long endTimeNanos) {
+    final long renderTime = endTimeNanos - startTimeNanos;
+    if (renderedFrames.getAndIncrement() == 0) {
+      firstFrameTimeNanos.set(startTimeNanos);
+    }
+    lastFrameTimeNanos.set(startTimeNanos);
+    totalRenderTimeNanos.addAndGet(renderTime);
+    // Only the render thread updates the maximum.
+    if (renderTime > maxRenderTimeNanos.get()) {
+      maxRenderTimeNanos.set(renderTime);
+    }
   }
 
   public int getTexId() {
@@ -325,11 +443,50 @@ public class VideoRenderer {
   @NonNull
   public float[] moveMatrix() {
     float[] m = new float[16];
-    Matrix.setIdentityM(m, 0);
-    Matrix.rotateM(m, 0, rotation, 0, 0, 1);
+    computeMoveMatrix(m);
     return m;
   }
 
+  /** Rotates the input, then scales it so that it covers the whole output. */
+  private void computeMoveMatrix(float[] m) {
+    final int currentRotation = rotation;
+    computeCropScale(
+        inputWidth, inputHeight, recordingWidth, recordingHeight, currentRotation, cropScale);
+    Matrix.setIdentityM(m, 0);
+    Matrix.scaleM(m, 0, cropScale[0], cropScale[1], 1);
+    Matrix.rotateM(m, 0, currentRotation, 0, 0, 1);
+  }
+
+  /**
+   * Computes the horizontal and vertical scales to apply to the rotated input, so that it covers
+   * the output without being distorted. The parts of the input outside of the output are cropped.
+   *
+   * @param scale receives the horizontal scale at index 0 and the vertical scale at index 1.
+   */
+  @VisibleForTesting
+  static void computeCropScale(
+      int inputWidth,
+      int inputHeight,
+      int outputWidth,
+      int outputHeight,
+      int rotation,
+      @NonNull float[] scale) {
+    scale[0] = 1f;
+    scale[1] = 1f;
+    if (inputWidth <= 0 || inputHeight <= 0 || outputWidth <= 0 || outputHeight <= 0) {
+      return;
+    }
+    final boolean isSideways = Math.abs(rotation) % 180 == 90;
+    final float inputAspectRatio =
+        isSideways ? (float) inputHeight / inputWidth : (float) inputWidth / inputHeight;
+    final float outputAspectRatio = (float) outputWidth / outputHeight;
+    if (inputAspectRatio > outputAspectRatio) {
+      scale[0] = inputAspectRatio / outputAspectRatio;
+    } else {
+      scale[1] = outputAspectRatio / inputAspectRatio;
+    }
+  }
+
   public void setRotation(int rotation) {
     this.rotation = rotation;
   }
@@ -358,7 +515,8 @@ public class VideoRenderer {
 
     // Pass transformations to shader
     GLES20.glUniformMatrix4fv(texMatrixHandle, 1, false, texMatrix, 0);
-    GLES20.glUniformMatrix4fv(mvpHandle, 1, false, moveMatrix(), 0);
+    computeMoveMatrix(moveMatrix);
+    GLES20.glUniformMatrix4fv(mvpHandle, 1, false, moveMatrix, 0);
 
     // Prepare buffers with vertices and indices & draw
     GLES20.glBindBuffer(GLES20.GL_ARRAY_BUFFER, bufferHandles[0]);
@@ -372,7 +530,7 @@ public class VideoRenderer {
 
     GLES20.glDrawElements(GLES20.GL_TRIANGLES, 6, GLES20.GL_UNSIGNED_INT, 0);
 
-    EGLExt.eglPresentationTimeANDROID(display, surface, uptimeMillis() * 1000000);
+    EGLExt.eglPresentationTimeANDROID(display, surface, System.nanoTime());
     if (!EGL14.eglSwapBuffers(display, surface)) {
       Log.w(TAG, "eglSwapBuffers() " + GLUtils.getEGLErrorString(EGL14.eglGetError()));
     }
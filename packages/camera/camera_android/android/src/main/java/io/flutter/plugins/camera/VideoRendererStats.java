@@ -0,0 +1,72 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import androidx.annotation.NonNull;
+
+/** A snapshot of the statistics of a {@link VideoRenderer}. */
+public final class VideoRendererStats {
+  private final long renderedFrames;
+  private final long droppedFrames;
+  private final long averageRenderTimeMicros;
+  private final long maxRenderTimeMicros;
+  private final long averageFrameIntervalMicros;
+
+  VideoRendererStats(
+      long renderedFrames,
+      long droppedFrames,
+      long averageRenderTimeMicros,
+      long maxRenderTimeMicros,
+      long averageFrameIntervalMicros) {
+    this.renderedFrames = renderedFrames;
+    this.droppedFrames = droppedFrames;
+    this.averageRenderTimeMicros = averageRenderTimeMicros;
+    this.maxRenderTimeMicros = maxRenderTimeMicros;
+    this.averageFrameIntervalMicros = averageFrameIntervalMicros;
+  }
+
+  /** Returns the number of frames rendered to the output surface. */
+  public long getRenderedFrames() {
+    return renderedFrames;
+  }
+
+  /**
+   * Returns the number of frames that were replaced by a newer frame before they could be rendered.
+   */
+  public long getDroppedFrames() {
+    return droppedFrames;
+  }
+
+  /** Returns the average time spent rendering a frame. */
+  public long getAverageRenderTimeMicros() {
+    return averageRenderTimeMicros;
+  }
+
+  /** Returns the longest time spent rendering a frame. */
+  public long getMaxRenderTimeMicros() {
+    return maxRenderTimeMicros;
+  }
+
+  /** Returns the average time between two rendered frames. */
+  public long getAverageFrameIntervalMicros() {
+    return averageFrameIntervalMicros;
+  }
+
+  @NonNull
+  @Override
+  public String toString() {
+    return "VideoRendererStats{renderedFrames="
+        + renderedFrames
+        + ", droppedFrames="
+        + droppedFrames
+        + ", averageRenderTimeMicros="
+        + averageRenderTimeMicros
+        + ", maxRenderTimeMicros="
+        + maxRenderTimeMicros
+        + ", averageFrameIntervalMicros="
+        + averageFrameIntervalMicros
+        + "}";
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.features.resolution;
+
+import android.annotation.TargetApi;
+import android.media.CamcorderProfile;
+import android.media.EncoderProfiles;
+import android.os.Build;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the best recording profile found by {@link ResolutionFeature} for each camera and {@link
+ * ResolutionPreset}.
+ *
+ * <p>Finding a profile queries the media service once for each quality that is tried, and the
+ * results only change when cameras are connected or disconnected, so they are shared by the whole
+ * process until {@link #clear()} is called.
+ */
+final class RecordingProfileCache {
+  private static final Map<String, EncoderProfiles> profiles = new HashMap<>();
+  private static final Map<String, CamcorderProfile> legacyProfiles = new HashMap<>();
+
+  private RecordingProfileCache() {}
+
+  /**
+   * Returns {@link ResolutionFeature#getBestAvailableCamcorderProfileForResolutionPreset}, which is
+   * only queried once for each camera and preset.
+   */
+  @TargetApi(Build.VERSION_CODES.S)
+  @NonNull
+  static EncoderProfiles get(int cameraId, @NonNull ResolutionPreset preset) {
+    final String key = cameraId + ":" + preset;
+    synchronized (profiles) {
+      EncoderProfiles profile = profiles.get(key);
+      if (profile == null) {
+        profile =
+            ResolutionFeature.getBestAvailableCamcorderProfileForResolutionPreset(cameraId, preset);
+        profiles.put(key, profile);
+      }
+      return profile;
+    }
+  }
+
+  /**
+   * Returns {@link ResolutionFeature#getBestAvailableCamcorderProfileForResolutionPresetLegacy},
+   * which is only queried once for each camera and preset.
+   */
+  @NonNull
+  static CamcorderProfile getLegacy(int cameraId, @NonNull ResolutionPreset preset) {
+    final String key = cameraId + ":" + preset;
+    synchronized (legacyProfiles) {
+      CamcorderProfile profile = legacyProfiles.get(key);
+      if (profile == null) {
+        profile =
+            ResolutionFeature.getBestAvailableCamcorderProfileForResolutionPresetLegacy(
+                cameraId, preset);
+        legacyProfiles.put(key, profile);
+      }
+      return profile;
+    }
+  }
+
+  /** Removes all of the cached profiles. */
+  static void clear() {
+    synchronized (profiles) {
+      profiles.clear();
+    }
+    synchronized (legacyProfiles) {
+      legacyProfiles.clear();
+    }
+  }
+}
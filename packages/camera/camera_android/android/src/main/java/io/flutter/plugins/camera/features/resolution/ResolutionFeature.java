@@ -128,8 +128,7 @@ public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
       preset = ResolutionPreset.high;
     }
     if (SdkCapabilityChecker.supportsEncoderProfiles()) {
-      EncoderProfiles profile =
-          getBestAvailableCamcorderProfileForResolutionPreset(cameraId, preset);
+      EncoderProfiles profile = RecordingProfileCache.get(cameraId, preset);
       List<EncoderProfiles.VideoProfile> videoProfiles = profile.getVideoProfiles();
       EncoderProfiles.VideoProfile defaultVideoProfile = videoProfiles.get(0);
 
@@ -140,11 +139,15 @@ public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
 
     // TODO(camsim99): Suppression is currently safe because legacy code is used as a fallback for SDK < S.
     // This should be removed when reverting that fallback behavior: https://github.com/flutter/flutter/issues/119668.
-    CamcorderProfile profile =
-        getBestAvailableCamcorderProfileForResolutionPresetLegacy(cameraId, preset);
+    CamcorderProfile profile = RecordingProfileCache.getLegacy(cameraId, preset);
     return new Size(profile.videoFrameWidth, profile.videoFrameHeight);
   }
 
+  /** Removes the recording profiles cached for all of the cameras. */
+  public static void clearProfileCache() {
+    RecordingProfileCache.clear();
+  }
+
   /**
    * Gets the best possible {@link android.media.CamcorderProfile} for the supplied {@link
    * ResolutionPreset}. Supports SDK < 31.
@@ -271,8 +274,7 @@ public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
 
     if (SdkCapabilityChecker.supportsEncoderProfiles()) {
       recordingProfileLegacy = null;
-      recordingProfile =
-          getBestAvailableCamcorderProfileForResolutionPreset(cameraId, resolutionPreset);
+      recordingProfile = RecordingProfileCache.get(cameraId, resolutionPreset);
       List<EncoderProfiles.VideoProfile> videoProfiles = recordingProfile.getVideoProfiles();
 
       EncoderProfiles.VideoProfile defaultVideoProfile = videoProfiles.get(0);
@@ -286,7 +288,7 @@ public class ResolutionFeature extends CameraFeature<ResolutionPreset> {
     if (!captureSizeCalculated) {
       recordingProfile = null;
       CamcorderProfile camcorderProfile =
-          getBestAvailableCamcorderProfileForResolutionPresetLegacy(cameraId, resolutionPreset);
+          RecordingProfileCache.getLegacy(cameraId, resolutionPreset);
       recordingProfileLegacy = camcorderProfile;
       captureSize =
           new Size(recordingProfileLegacy.videoFrameWidth, recordingProfileLegacy.videoFrameHeight);
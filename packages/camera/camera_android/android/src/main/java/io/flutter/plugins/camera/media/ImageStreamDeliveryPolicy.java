@@ -0,0 +1,113 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Selects which frames of an image stream are sent to dart.
+ *
+ * <p>Frames are selected before any of their data is copied. Selected frames still wait while too
+ * many earlier frames have not been handled by dart, and are dropped if even more arrive, so that
+ * the latency of the stream stays bounded when dart is slower than the camera.
+ */
+public final class ImageStreamDeliveryPolicy {
+  private enum Mode {
+    LATEST_ONLY,
+    MAX_FRAME_RATE,
+    EVERY_NTH_FRAME
+  }
+
+  /** How many frames selected by a throttling policy can be pending at once. */
+  private static final int MAX_QUEUED_FRAMES = 3;
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private static final ImageStreamDeliveryPolicy LATEST_ONLY =
+      new ImageStreamDeliveryPolicy(Mode.LATEST_ONLY, 0, 1);
+
+  private final Mode mode;
+  private final long minFrameIntervalNanos;
+  private final int frameInterval;
+
+  private ImageStreamDeliveryPolicy(Mode mode, long minFrameIntervalNanos, int frameInterval) {
+    this.mode = mode;
+    this.minFrameIntervalNanos = minFrameIntervalNanos;
+    this.frameInterval = frameInterval;
+  }
+
+  /**
+   * Sends every frame, unless the previous frame has not been handled by dart yet. Frames arriving
+   * meanwhile replace each other, so the newest one is sent next.
+   */
+  @NonNull
+  public static ImageStreamDeliveryPolicy latestOnly() {
+    return LATEST_ONLY;
+  }
+
+  /**
+   * Sends at most {@code framesPerSecond} frames per second.
+   *
+   * @param framesPerSecond the maximum frame rate, which must be positive.
+   */
+  @NonNull
+  public static ImageStreamDeliveryPolicy maxFrameRate(int framesPerSecond) {
+    if (framesPerSecond <= 0) {
+      throw new IllegalArgumentException("framesPerSecond must be positive: " + framesPerSecond);
+    }
+    return new ImageStreamDeliveryPolicy(
+        Mode.MAX_FRAME_RATE, NANOS_PER_SECOND / framesPerSecond, 1);
+  }
+
+  /**
+   * Sends the first of every {@code frameInterval} frames.
+   *
+   * @param frameInterval the number of frames per sent frame, which must be positive.
+   */
+  @NonNull
+  public static ImageStreamDeliveryPolicy everyNthFrame(int frameInterval) {
+    if (frameInterval <= 0) {
+      throw new IllegalArgumentException("frameInterval must be positive: " + frameInterval);
+    }
+    return new ImageStreamDeliveryPolicy(Mode.EVERY_NTH_FRAME, 0, frameInterval);
+  }
+
+  /** Returns how many sent frames can be waiting for dart to handle them. */
+  int getMaxPendingFrames() {
+    return mode == Mode.LATEST_ONLY ? 1 : MAX_QUEUED_FRAMES;
+  }
+
+  /**
+   * Returns whether a new frame replaces a frame that is already waiting to be sent. Otherwise the
+   * new frame is dropped, which keeps the frames of throttled streams evenly spaced.
+   */
+  boolean replacesWaitingFrame() {
+    return mode == Mode.LATEST_ONLY;
+  }
+
+  /**
+   * Returns whether to send a frame.
+   *
+   * @param frameNumber the number of the frame in the stream, starting at 0.
+   * @param timestampNanos the timestamp of the frame.
+   * @param lastSelectedTimestampNanos the timestamp of the last frame this returned true for, or
+   *     a negative value if there was none.
+   */
+  boolean shouldDeliver(long frameNumber, long timestampNanos, long lastSelectedTimestampNanos) {
+    switch (mode) {
+      case MAX_FRAME_RATE:
+        // Allow for a tenth of the interval of jitter in the sensor timestamps, so that a camera
+        // running at a multiple of the maximum frame rate is not throttled further.
+        return lastSelectedTimestampNanos < 0
+            || timestampNanos - lastSelectedTimestampNanos
+                >= minFrameIntervalNanos - minFrameIntervalNanos / 10;
+      case EVERY_NTH_FRAME:
+        return frameNumber % frameInterval == 0;
+      case LATEST_ONLY:
+      default:
+        return true;
+    }
+  }
+}
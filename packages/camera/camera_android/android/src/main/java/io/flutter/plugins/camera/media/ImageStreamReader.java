@@ -9,19 +9,35 @@ import android.media.Image;
 import android.media.ImageReader;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 // Wraps an ImageReader to allow for testing of the image handler.
+//
+// Frames are sent to dart from a small pool of reusable frames, whose plane buffers are allocated
+// for the first frame and reused for the following ones. Which frames are sent is decided by an
+// ImageStreamDeliveryPolicy.
+//
+// A sent frame stays pending until dart acknowledges it with onFrameHandled(), since posting to
+// the event channel is asynchronous and would otherwise let frames pile up in the engine for a
+// listener slower than the camera. A frame filled while too many frames are unacknowledged waits
+// to be sent; a frame arriving while one is already waiting replaces it for latest-only streams,
+// and is dropped otherwise.
 public class ImageStreamReader {
+  // How many filled frames can wait for earlier frames to be handled by dart.
+  private static final int MAX_WAITING_FRAMES = 1;
 
   /**
    * The image format we are going to send back to dart. Usually it's the same as streamImageFormat
@@ -32,6 +48,33 @@ public class ImageStreamReader {
 
   private final ImageReader imageReader;
   private final ImageStreamReaderUtils imageStreamReaderUtils;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  // Frames that are free to be filled, frames that are filled but not sent yet, and when the sent
+  // frames dart has not acknowledged yet were received, oldest first, as dart handles them in
+  // order. Guarded by freeFrames.
+  private final ArrayDeque<StreamFrame> freeFrames = new ArrayDeque<>();
+  private final ArrayDeque<StreamFrame> readyFrames = new ArrayDeque<>();
+  private final ArrayDeque<Long> unacknowledgedReceivedAtNanos = new ArrayDeque<>();
+  private int maxPendingFrameCount;
+  // The sink frames were last sent to, which acknowledged frames release the next frame to. Only
+  // accessed on the main thread.
+  @Nullable private EventChannel.EventSink imageStreamSink;
+
+  // Set when subscribing, before frames are received.
+  @NonNull
+  private volatile ImageStreamDeliveryPolicy deliveryPolicy =
+      ImageStreamDeliveryPolicy.latestOnly();
+  // Only accessed on the handler thread frames are received on, once subscribed.
+  private long frameNumber;
+  private long lastSelectedTimestampNanos = -1;
+
+  private final AtomicLong deliveredFrameCount = new AtomicLong();
+  private final AtomicLong droppedFrameCount = new AtomicLong();
+  private final AtomicLong skippedFrameCount = new AtomicLong();
+  private final AtomicLong acknowledgedFrameCount = new AtomicLong();
+  private final AtomicLong totalLatencyNanos = new AtomicLong();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
 
   /**
    * Creates a new instance of the {@link ImageStreamReader}.
@@ -58,10 +101,10 @@ public class ImageStreamReader {
    * @param maxImages is how many images can be acquired at one time, usually 1.
    */
   public ImageStreamReader(int width, int height, int imageFormat, int maxImages) {
-    this.dartImageFormat = imageFormat;
-    this.imageReader =
-        ImageReader.newInstance(width, height, computeStreamImageFormat(imageFormat), maxImages);
-    this.imageStreamReaderUtils = new ImageStreamReaderUtils();
+    this(
+        ImageReader.newInstance(width, height, computeStreamImageFormat(imageFormat), maxImages),
+        imageFormat,
+        new ImageStreamReaderUtils());
   }
 
   /**
@@ -84,6 +127,10 @@ public class ImageStreamReader {
   /**
    * Processes a new frame (image) from the image reader and send the frame to Dart.
    *
+   * <p>The frame is skipped if the delivery policy does not select it. If too many previous frames
+   * are unacknowledged it waits to be sent, and if a frame is already waiting it replaces that
+   * frame for a latest-only stream, or is dropped.
+   *
    * @param image is the image which needs processed as an {@link Image}
    * @param captureProps is the capture props from the camera class as {@link
    *     CameraCaptureProperties}
@@ -95,16 +142,32 @@ public class ImageStreamReader {
       @NonNull Image image,
       @NonNull CameraCaptureProperties captureProps,
       @NonNull EventChannel.EventSink imageStreamSink) {
-    try {
-      Map<String, Object> imageBuffer = new HashMap<>();
+    long receivedAtNanos = SystemClock.elapsedRealtimeNanos();
+    long timestampNanos = image.getTimestamp();
+    if (!deliveryPolicy.shouldDeliver(frameNumber++, timestampNanos, lastSelectedTimestampNanos)) {
+      skippedFrameCount.incrementAndGet();
+      image.close();
+      return;
+    }
+    lastSelectedTimestampNanos = timestampNanos;
+
+    StreamFrame frame = acquireFrame();
+    if (frame == null) {
+      droppedFrameCount.incrementAndGet();
+      image.close();
+      return;
+    }
+    frame.receivedAtNanos = receivedAtNanos;
 
+    try {
       // Get plane data ready
       if (dartImageFormat == ImageFormat.NV21) {
-        imageBuffer.put("planes", parsePlanesForNv21(image));
+        fillPlanesForNv21(image, frame);
       } else {
-        imageBuffer.put("planes", parsePlanesForYuvOrJpeg(image));
+        fillPlanesForYuvOrJpeg(image, frame);
       }
 
+      Map<String, Object> imageBuffer = frame.imageBuffer;
       imageBuffer.put("width", image.getWidth());
       imageBuffer.put("height", image.getHeight());
       imageBuffer.put("format", dartImageFormat);
@@ -114,14 +177,16 @@ public class ImageStreamReader {
       imageBuffer.put(
           "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
 
-      final Handler handler = new Handler(Looper.getMainLooper());
-      handler.post(() -> imageStreamSink.success(imageBuffer));
+      synchronized (freeFrames) {
+        readyFrames.addLast(frame);
+      }
+      mainHandler.post(() -> sendReadyFrames(imageStreamSink));
       image.close();
 
     } catch (IllegalStateException e) {
+      releaseFrame(frame);
       // Handle "buffer is inaccessible" errors that can happen on some devices from ImageStreamReaderUtils.yuv420ThreePlanesToNV21()
-      final Handler handler = new Handler(Looper.getMainLooper());
-      handler.post(
+      mainHandler.post(
           () ->
               imageStreamSink.error(
                   "IllegalStateException",
@@ -131,6 +196,108 @@ public class ImageStreamReader {
     }
   }
 
+  /**
+   * Returns a frame to fill, or null if a frame is already waiting to be sent.
+   *
+   * <p>For a latest-only stream, the frame that is waiting is dropped and returned instead, so that
+   * it is replaced by the newer frame.
+   */
+  @Nullable
+  private StreamFrame acquireFrame() {
+    synchronized (freeFrames) {
+      if (readyFrames.size() >= MAX_WAITING_FRAMES) {
+        if (!deliveryPolicy.replacesWaitingFrame()) {
+          return null;
+        }
+        droppedFrameCount.incrementAndGet();
+        return readyFrames.pollLast();
+      }
+      int pendingFrameCount = readyFrames.size() + unacknowledgedReceivedAtNanos.size();
+      maxPendingFrameCount = Math.max(maxPendingFrameCount, pendingFrameCount + 1);
+      StreamFrame frame = freeFrames.pollFirst();
+      return frame != null ? frame : new StreamFrame();
+    }
+  }
+
+  /** Sends waiting frames to dart while fewer frames than allowed are unacknowledged. */
+  private void sendReadyFrames(@NonNull EventChannel.EventSink imageStreamSink) {
+    this.imageStreamSink = imageStreamSink;
+    while (true) {
+      StreamFrame frame;
+      synchronized (freeFrames) {
+        if (readyFrames.isEmpty()
+            || unacknowledgedReceivedAtNanos.size() >= deliveryPolicy.getMaxPendingFrames()) {
+          return;
+        }
+        frame = readyFrames.pollFirst();
+        unacknowledgedReceivedAtNanos.addLast(frame.receivedAtNanos);
+      }
+      try {
+        // The frame is encoded while sending it, so its buffers can be reused right after.
+        imageStreamSink.success(frame.imageBuffer);
+        deliveredFrameCount.incrementAndGet();
+      } finally {
+        synchronized (freeFrames) {
+          freeFrames.addLast(frame);
+        }
+      }
+    }
+  }
+
+  /**
+   * Called on the main thread when dart has handled a frame, to send the next waiting frame.
+   *
+   * <p>The latency of the frame is measured up to this call. Acknowledgements beyond the number of
+   * frames sent since the stream was last subscribed to are ignored.
+   */
+  public void onFrameHandled() {
+    Long receivedAtNanos;
+    synchronized (freeFrames) {
+      receivedAtNanos = unacknowledgedReceivedAtNanos.pollFirst();
+    }
+    if (receivedAtNanos != null) {
+      recordLatency(SystemClock.elapsedRealtimeNanos() - receivedAtNanos);
+    }
+    if (imageStreamSink != null) {
+      sendReadyFrames(imageStreamSink);
+    }
+  }
+
+  private void recordLatency(long latencyNanos) {
+    acknowledgedFrameCount.incrementAndGet();
+    totalLatencyNanos.addAndGet(latencyNanos);
+    long maxNanos;
+    do {
+      maxNanos = maxLatencyNanos.get();
+    } while (latencyNanos > maxNanos && !maxLatencyNanos.compareAndSet(maxNanos, latencyNanos));
+  }
+
+  private void releaseFrame(@NonNull StreamFrame frame) {
+    synchronized (freeFrames) {
+      freeFrames.addLast(frame);
+    }
+  }
+
+  /** Returns the statistics of the image stream since it was last subscribed to. */
+  @NonNull
+  public ImageStreamStats getStats() {
+    int queueDepth;
+    int maxQueueDepth;
+    synchronized (freeFrames) {
+      queueDepth = readyFrames.size() + unacknowledgedReceivedAtNanos.size();
+      maxQueueDepth = maxPendingFrameCount;
+    }
+    long acknowledgedFrames = acknowledgedFrameCount.get();
+    return new ImageStreamStats(
+        deliveredFrameCount.get(),
+        droppedFrameCount.get(),
+        skippedFrameCount.get(),
+        queueDepth,
+        maxQueueDepth,
+        acknowledgedFrames == 0 ? 0 : totalLatencyNanos.get() / acknowledgedFrames / 1000,
+        maxLatencyNanos.get() / 1000);
+  }
+
   /**
    * Given an input image, will return a list of maps suitable to send back to dart where each map
    * describes the image plane.
@@ -142,23 +309,27 @@ public class ImageStreamReader {
    */
   @NonNull
   public List<Map<String, Object>> parsePlanesForYuvOrJpeg(@NonNull Image image) {
-    List<Map<String, Object>> planes = new ArrayList<>();
+    StreamFrame frame = new StreamFrame();
+    fillPlanesForYuvOrJpeg(image, frame);
+    return frame.planes;
+  }
 
+  private void fillPlanesForYuvOrJpeg(@NonNull Image image, @NonNull StreamFrame frame) {
     // For YUV420 and JPEG, just send the data as-is for each plane.
-    for (Image.Plane plane : image.getPlanes()) {
+    Image.Plane[] planes = image.getPlanes();
+    frame.setPlaneCount(planes.length);
+    for (int i = 0; i < planes.length; i++) {
+      Image.Plane plane = planes[i];
       ByteBuffer buffer = plane.getBuffer();
 
-      byte[] bytes = new byte[buffer.remaining()];
+      Map<String, Object> planeBuffer = frame.planes.get(i);
+      byte[] bytes = frame.getPlaneBytes(i, buffer.remaining());
       buffer.get(bytes, 0, bytes.length);
 
-      Map<String, Object> planeBuffer = new HashMap<>();
       planeBuffer.put("bytesPerRow", plane.getRowStride());
       planeBuffer.put("bytesPerPixel", plane.getPixelStride());
       planeBuffer.put("bytes", bytes);
-
-      planes.add(planeBuffer);
     }
-    return planes;
   }
 
   /**
@@ -169,19 +340,26 @@ public class ImageStreamReader {
    */
   @NonNull
   public List<Map<String, Object>> parsePlanesForNv21(@NonNull Image image) {
-    List<Map<String, Object>> planes = new ArrayList<>();
+    StreamFrame frame = new StreamFrame();
+    fillPlanesForNv21(image, frame);
+    return frame.planes;
+  }
 
+  private void fillPlanesForNv21(@NonNull Image image, @NonNull StreamFrame frame) {
     // We will convert the YUV data to NV21 which is a single-plane image
+    int imageSize = image.getWidth() * image.getHeight();
     ByteBuffer bytes =
         imageStreamReaderUtils.yuv420ThreePlanesToNV21(
-            image.getPlanes(), image.getWidth(), image.getHeight());
+            image.getPlanes(),
+            image.getWidth(),
+            image.getHeight(),
+            frame.getPlaneBytes(0, imageSize + 2 * (imageSize / 4)));
 
-    Map<String, Object> planeBuffer = new HashMap<>();
+    frame.setPlaneCount(1);
+    Map<String, Object> planeBuffer = frame.planes.get(0);
     planeBuffer.put("bytesPerRow", image.getWidth());
     planeBuffer.put("bytesPerPixel", 1);
     planeBuffer.put("bytes", bytes.array());
-    planes.add(planeBuffer);
-    return planes;
   }
 
   /** Returns the image reader surface. */
@@ -191,7 +369,8 @@ public class ImageStreamReader {
   }
 
   /**
-   * Subscribes the image stream reader to handle incoming images using onImageAvailable().
+   * Subscribes the image stream reader to handle incoming images using onImageAvailable(), sending
+   * the latest frame whenever the previous one has been handled.
    *
    * @param captureProps is the capture props from the camera class as {@link
    *     CameraCaptureProperties}
@@ -202,6 +381,41 @@ public class ImageStreamReader {
       @NonNull CameraCaptureProperties captureProps,
       @NonNull EventChannel.EventSink imageStreamSink,
       @NonNull Handler handler) {
+    subscribeListener(
+        captureProps, imageStreamSink, ImageStreamDeliveryPolicy.latestOnly(), handler);
+  }
+
+  /**
+   * Subscribes the image stream reader to handle incoming images using onImageAvailable(), and
+   * resets the statistics of the stream.
+   *
+   * @param captureProps is the capture props from the camera class as {@link
+   *     CameraCaptureProperties}
+   * @param imageStreamSink is the image stream sink from dart as {@link EventChannel.EventSink}
+   * @param deliveryPolicy selects the frames to send to dart
+   * @param handler is generally the background handler of the camera as {@link Handler}
+   */
+  public void subscribeListener(
+      @NonNull CameraCaptureProperties captureProps,
+      @NonNull EventChannel.EventSink imageStreamSink,
+      @NonNull ImageStreamDeliveryPolicy deliveryPolicy,
+      @NonNull Handler handler) {
+    this.deliveryPolicy = deliveryPolicy;
+    frameNumber = 0;
+    lastSelectedTimestampNanos = -1;
+    deliveredFrameCount.set(0);
+    droppedFrameCount.set(0);
+    skippedFrameCount.set(0);
+    acknowledgedFrameCount.set(0);
+    totalLatencyNanos.set(0);
+    maxLatencyNanos.set(0);
+    synchronized (freeFrames) {
+      // Frames of the previous subscription are never sent or acknowledged.
+      freeFrames.addAll(readyFrames);
+      readyFrames.clear();
+      unacknowledgedReceivedAtNanos.clear();
+      maxPendingFrameCount = 0;
+    }
     imageReader.setOnImageAvailableListener(
         reader -> {
           Image image = reader.acquireNextImage();
@@ -225,4 +439,39 @@ public class ImageStreamReader {
   public void close() {
     imageReader.close();
   }
+
+  /** A frame sent to dart, whose maps and plane buffers are reused for later frames. */
+  private static final class StreamFrame {
+    final Map<String, Object> imageBuffer = new HashMap<>();
+    final List<Map<String, Object>> planes = new ArrayList<>();
+    private final List<byte[]> planeBytes = new ArrayList<>();
+    long receivedAtNanos;
+
+    StreamFrame() {
+      imageBuffer.put("planes", planes);
+    }
+
+    void setPlaneCount(int count) {
+      while (planes.size() < count) {
+        planes.add(new HashMap<>());
+      }
+      while (planes.size() > count) {
+        planes.remove(planes.size() - 1);
+      }
+    }
+
+    /** Returns a buffer of {@code length} bytes for the plane at {@code index}. */
+    @NonNull
+    byte[] getPlaneBytes(int index, int length) {
+      while (planeBytes.size() <= index) {
+        planeBytes.add(null);
+      }
+      byte[] bytes = planeBytes.get(index);
+      if (bytes == null || bytes.length != length) {
+        bytes = new byte[length];
+        planeBytes.set(index, bytes);
+      }
+      return bytes;
+    }
+  }
 }
@@ -9,9 +9,13 @@ package io.flutter.plugins.camera.media;
 
 import android.media.Image;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import java.nio.ByteBuffer;
 
 public class ImageStreamReaderUtils {
+  // Scratch buffer for the rows of strided planes, reused across frames.
+  @Nullable private byte[] rowBuffer;
+
   /**
    * Converts YUV_420_888 to NV21 bytebuffer.
    *
@@ -34,8 +38,24 @@ public class ImageStreamReaderUtils {
   @NonNull
   public ByteBuffer yuv420ThreePlanesToNV21(
       @NonNull Image.Plane[] yuv420888planes, int width, int height) {
+    return yuv420ThreePlanesToNV21(yuv420888planes, width, height, null);
+  }
+
+  /**
+   * Converts YUV_420_888 to NV21 bytebuffer, like {@link #yuv420ThreePlanesToNV21(Image.Plane[],
+   * int, int)}, reusing {@code out} if it has the size of the NV21 image.
+   *
+   * @param out the array to write the NV21 image to, or null to allocate a new one.
+   * @return a buffer wrapping the array the NV21 image was written to.
+   */
+  @NonNull
+  public ByteBuffer yuv420ThreePlanesToNV21(
+      @NonNull Image.Plane[] yuv420888planes, int width, int height, @Nullable byte[] out) {
     int imageSize = width * height;
-    byte[] out = new byte[imageSize + 2 * (imageSize / 4)];
+    int nv21Size = imageSize + 2 * (imageSize / 4);
+    if (out == null || out.length != nv21Size) {
+      out = new byte[nv21Size];
+    }
 
     if (areUVPlanesNV21(yuv420888planes, width, height)) {
       // Copy the Y values.
@@ -48,7 +68,7 @@ public class ImageStreamReaderUtils {
       // Copy the first U value and the remaining VU values from the U buffer.
       uBuffer.get(out, imageSize + 1, 2 * imageSize / 4 - 1);
     } else {
-      // Fallback to copying the UV values one by one, which is slower but also works.
+      // Fallback to copying the planes row by row, spreading the UV values over the output.
       // Unpack Y.
       unpackPlane(yuv420888planes[0], width, height, out, 0, 1);
       // Unpack U.
@@ -121,34 +141,67 @@ public class ImageStreamReaderUtils {
    * <p>The input plane data will be copied in 'out', starting at 'offset' and every pixel will be
    * spaced by 'pixelStride'. Note that there is no row padding on the output.
    *
+   * <p>Rows are read from the plane in bulk. When neither the plane nor the output are strided,
+   * they are copied straight into 'out'.
+   *
    * <p>https://github.com/googlesamples/mlkit/blob/master/android/vision-quickstart/app/src/main/java/com/google/mlkit/vision/demo/BitmapUtils.java
    */
-  private static void unpackPlane(
+  private void unpackPlane(
       @NonNull Image.Plane plane, int width, int height, byte[] out, int offset, int pixelStride)
       throws IllegalStateException {
     ByteBuffer buffer = plane.getBuffer();
     buffer.rewind();
+    int rowStride = plane.getRowStride();
+    int inputPixelStride = plane.getPixelStride();
 
     // Compute the size of the current plane.
     // We assume that it has the aspect ratio as the original image.
-    int numRow = (buffer.limit() + plane.getRowStride() - 1) / plane.getRowStride();
+    int numRow = (buffer.limit() + rowStride - 1) / rowStride;
     if (numRow == 0) {
       return;
     }
     int scaleFactor = height / numRow;
     int numCol = width / scaleFactor;
+    if (numCol == 0) {
+      return;
+    }
 
     // Extract the data in the output buffer.
     int outputPos = offset;
     int rowStart = 0;
-    for (int row = 0; row < numRow; row++) {
-      int inputPos = rowStart;
+    if (inputPixelStride == 1 && pixelStride == 1) {
+      for (int row = 0; row < numRow; row++) {
+        buffer.position(rowStart);
+        buffer.get(out, outputPos, numCol);
+        outputPos += numCol;
+        rowStart += rowStride;
+      }
+      buffer.rewind();
+      return;
+    }
+
+    // The bytes of a row from its first to its last pixel.
+    int rowLength = (numCol - 1) * inputPixelStride + 1;
+    byte[] row = getRowBuffer(rowLength);
+    for (int r = 0; r < numRow; r++) {
+      buffer.position(rowStart);
+      buffer.get(row, 0, rowLength);
+      int inputPos = 0;
       for (int col = 0; col < numCol; col++) {
-        out[outputPos] = buffer.get(inputPos);
+        out[outputPos] = row[inputPos];
         outputPos += pixelStride;
-        inputPos += plane.getPixelStride();
+        inputPos += inputPixelStride;
       }
-      rowStart += plane.getRowStride();
+      rowStart += rowStride;
+    }
+    buffer.rewind();
+  }
+
+  @NonNull
+  private byte[] getRowBuffer(int length) {
+    if (rowBuffer == null || rowBuffer.length < length) {
+      rowBuffer = new byte[length];
     }
+    return rowBuffer;
   }
 }
@@ -0,0 +1,77 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.media;
+
+/** A snapshot of the statistics of an image stream. */
+public final class ImageStreamStats {
+  private final long deliveredFrames;
+  private final long droppedFrames;
+  private final long skippedFrames;
+  private final int queueDepth;
+  private final int maxQueueDepth;
+  private final long averageLatencyMicros;
+  private final long maxLatencyMicros;
+
+  ImageStreamStats(
+      long deliveredFrames,
+      long droppedFrames,
+      long skippedFrames,
+      int queueDepth,
+      int maxQueueDepth,
+      long averageLatencyMicros,
+      long maxLatencyMicros) {
+    this.deliveredFrames = deliveredFrames;
+    this.droppedFrames = droppedFrames;
+    this.skippedFrames = skippedFrames;
+    this.queueDepth = queueDepth;
+    this.maxQueueDepth = maxQueueDepth;
+    this.averageLatencyMicros = averageLatencyMicros;
+    this.maxLatencyMicros = maxLatencyMicros;
+  }
+
+  /** Returns the number of frames sent to dart. */
+  public long getDeliveredFrames() {
+    return deliveredFrames;
+  }
+
+  /**
+   * Returns the number of frames dropped, or replaced by a newer frame, because too many frames had
+   * not been acknowledged by dart yet.
+   */
+  public long getDroppedFrames() {
+    return droppedFrames;
+  }
+
+  /** Returns the number of frames skipped by the {@link ImageStreamDeliveryPolicy}. */
+  public long getSkippedFrames() {
+    return skippedFrames;
+  }
+
+  /** Returns the number of frames waiting to be sent or to be acknowledged by dart. */
+  public int getQueueDepth() {
+    return queueDepth;
+  }
+
+  /**
+   * Returns the largest number of frames that were waiting to be sent or to be acknowledged at
+   * once.
+   */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  /**
+   * Returns the average time from receiving a frame from the camera to dart acknowledging it, over
+   * the acknowledged frames.
+   */
+  public long getAverageLatencyMicros() {
+    return averageLatencyMicros;
+  }
+
+  /** Returns the longest time from receiving a frame from the camera to dart acknowledging it. */
+  public long getMaxLatencyMicros() {
+    return maxLatencyMicros;
+  }
+}
@@ -0,0 +1,57 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+public class BurstCaptureTest {
+  @Test
+  public void onPictureReceived_returnsIndexOfEachPicture() {
+    final BurstCapture burst = new BurstCapture(2, mock(Messages.VoidResult.class));
+
+    assertEquals(0, burst.onPictureReceived());
+    assertFalse(burst.hasReceivedAllPictures());
+    assertEquals(1, burst.onPictureReceived());
+    assertTrue(burst.hasReceivedAllPictures());
+  }
+
+  @Test
+  public void onPictureFinished_completesAfterLastPicture() {
+    final BurstCapture burst = new BurstCapture(2, mock(Messages.VoidResult.class));
+
+    assertFalse(burst.onPictureFinished(null, null));
+    assertTrue(burst.onPictureFinished(null, null));
+    assertNull(burst.getErrorCode());
+  }
+
+  @Test
+  public void onPictureFinished_keepsFirstError() {
+    final BurstCapture burst = new BurstCapture(3, mock(Messages.VoidResult.class));
+
+    burst.onPictureFinished(null, null);
+    burst.onPictureFinished("IOError", "Failed saving image");
+    assertTrue(burst.onPictureFinished("captureQueueFull", "Too many pictures are being saved"));
+
+    assertEquals("IOError", burst.getErrorCode());
+    assertEquals("Failed saving image", burst.getErrorMessage());
+  }
+
+  @Test
+  public void fail_completesOnlyOnce() {
+    final BurstCapture burst = new BurstCapture(2, mock(Messages.VoidResult.class));
+
+    assertTrue(burst.fail("cameraAccess", "message"));
+    assertFalse(burst.fail("cameraAccess", "message"));
+    assertFalse(burst.onPictureFinished(null, null));
+    assertFalse(burst.onPictureFinished(null, null));
+    assertEquals("cameraAccess", burst.getErrorCode());
+  }
+}
@@ -28,12 +28,12 @@ import org.robolectric.RobolectricTestRunner;
 public class CameraCaptureCallbackTest {
 
   private CameraCaptureCallback cameraCaptureCallback;
+  private CameraCaptureCallback.CameraCaptureStateListener mockCaptureStateListener;
   private CameraCaptureProperties mockCaptureProps;
 
   @Before
   public void setUp() {
-    CameraCaptureCallback.CameraCaptureStateListener mockCaptureStateListener =
-        mock(CameraCaptureCallback.CameraCaptureStateListener.class);
+    mockCaptureStateListener = mock(CameraCaptureCallback.CameraCaptureStateListener.class);
     CaptureTimeoutsWrapper mockCaptureTimeouts = mock(CaptureTimeoutsWrapper.class);
     mockCaptureProps = mock(CameraCaptureProperties.class);
     cameraCaptureCallback =
@@ -70,6 +70,20 @@ public class CameraCaptureCallbackTest {
     verify(mockCaptureProps, times(1)).setLastSensorSensitivity(3);
   }
 
+  @Test
+  public void onCaptureCompleted_notifiesListener() {
+    CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
+    CaptureRequest mockRequest = mock(CaptureRequest.class);
+
+    cameraCaptureCallback.onCaptureProgressed(
+        mockSession, mockRequest, mock(CaptureResult.class));
+    verify(mockCaptureStateListener, never()).onCaptureCompleted();
+    cameraCaptureCallback.onCaptureCompleted(
+        mockSession, mockRequest, mock(TotalCaptureResult.class));
+
+    verify(mockCaptureStateListener, times(1)).onCaptureCompleted();
+  }
+
   @Test
   public void onCaptureCompleted_checksBothAutoFocusAndAutoExposure() {
     CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
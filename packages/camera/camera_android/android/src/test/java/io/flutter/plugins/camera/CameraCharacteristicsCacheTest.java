@@ -0,0 +1,120 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CameraAccessException;
+import android.hardware.camera2.CameraCharacteristics;
+import android.hardware.camera2.CameraManager;
+import android.hardware.camera2.CameraMetadata;
+import android.os.Handler;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CameraCharacteristicsCacheTest {
+  private CameraCharacteristicsCache cache;
+  private CameraManager mockCameraManager;
+  private CameraCharacteristics mockBackCharacteristics;
+  private CameraCharacteristics mockExternalCharacteristics;
+
+  @Before
+  public void setUp() throws CameraAccessException {
+    cache = new CameraCharacteristicsCache();
+    mockCameraManager = mock(CameraManager.class);
+    mockBackCharacteristics = mock(CameraCharacteristics.class);
+    mockExternalCharacteristics = mock(CameraCharacteristics.class);
+
+    when(mockCameraManager.getCameraIdList()).thenReturn(new String[] {"0", "1"});
+    when(mockCameraManager.getCameraCharacteristics("0")).thenReturn(mockBackCharacteristics);
+    when(mockCameraManager.getCameraCharacteristics("1")).thenReturn(mockExternalCharacteristics);
+    when(mockBackCharacteristics.get(CameraCharacteristics.LENS_FACING))
+        .thenReturn(CameraMetadata.LENS_FACING_BACK);
+    when(mockExternalCharacteristics.get(CameraCharacteristics.LENS_FACING))
+        .thenReturn(CameraMetadata.LENS_FACING_EXTERNAL);
+  }
+
+  @Test
+  public void getCameraIdList_shouldQueryCameraManagerOnce() throws CameraAccessException {
+    assertArrayEquals(new String[] {"0", "1"}, cache.getCameraIdList(mockCameraManager));
+    assertArrayEquals(new String[] {"0", "1"}, cache.getCameraIdList(mockCameraManager));
+
+    verify(mockCameraManager, times(1)).getCameraIdList();
+  }
+
+  @Test
+  public void getCameraCharacteristics_shouldQueryCameraManagerOncePerCamera()
+      throws CameraAccessException {
+    assertFalse(cache.hasCameraCharacteristics("0"));
+
+    assertSame(mockBackCharacteristics, cache.getCameraCharacteristics(mockCameraManager, "0"));
+    assertSame(mockBackCharacteristics, cache.getCameraCharacteristics(mockCameraManager, "0"));
+    assertSame(
+        mockExternalCharacteristics, cache.getCameraCharacteristics(mockCameraManager, "1"));
+
+    assertTrue(cache.hasCameraCharacteristics("0"));
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("0");
+    verify(mockCameraManager, times(1)).getCameraCharacteristics("1");
+  }
+
+  @Test
+  public void availabilityCallback_shouldOnlyBeRegisteredOnce() throws CameraAccessException {
+    cache.getCameraIdList(mockCameraManager);
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+    cache.getCameraCharacteristics(mockCameraManager, "1");
+
+    verify(mockCameraManager, times(1))
+        .registerAvailabilityCallback(eq(cache.availabilityCallback), any(Handler.class));
+  }
+
+  @Test
+  public void onCameraAvailable_shouldClearCacheWhenCameraIsNew() throws CameraAccessException {
+    cache.getCameraIdList(mockCameraManager);
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+
+    cache.availabilityCallback.onCameraAvailable("0");
+    assertTrue(cache.hasCameraCharacteristics("0"));
+
+    cache.availabilityCallback.onCameraAvailable("2");
+    assertFalse(cache.hasCameraCharacteristics("0"));
+    cache.getCameraIdList(mockCameraManager);
+    verify(mockCameraManager, times(2)).getCameraIdList();
+  }
+
+  @Test
+  public void onCameraUnavailable_shouldClearCacheWhenExternalCameraIsRemoved()
+      throws CameraAccessException {
+    cache.getCameraIdList(mockCameraManager);
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+    cache.getCameraCharacteristics(mockCameraManager, "1");
+
+    cache.availabilityCallback.onCameraUnavailable("1");
+
+    assertFalse(cache.hasCameraCharacteristics("0"));
+    assertFalse(cache.hasCameraCharacteristics("1"));
+  }
+
+  @Test
+  public void onCameraUnavailable_shouldKeepCacheWhenBuiltInCameraIsInUse()
+      throws CameraAccessException {
+    cache.getCameraIdList(mockCameraManager);
+    cache.getCameraCharacteristics(mockCameraManager, "0");
+
+    cache.availabilityCallback.onCameraUnavailable("0");
+
+    assertTrue(cache.hasCameraCharacteristics("0"));
+    cache.getCameraIdList(mockCameraManager);
+    verify(mockCameraManager, times(1)).getCameraIdList();
+  }
+}
@@ -7,6 +7,7 @@ package io.flutter.plugins.camera;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -18,6 +19,7 @@ import android.graphics.SurfaceTexture;
 import android.hardware.camera2.*;
 import android.hardware.camera2.params.SessionConfiguration;
 import android.media.CamcorderProfile;
+import android.media.Image;
 import android.media.ImageReader;
 import android.media.MediaRecorder;
 import android.os.Build;
@@ -50,19 +52,24 @@ import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
 import io.flutter.plugins.camera.media.ImageStreamReader;
 import io.flutter.view.TextureRegistry;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
@@ -684,6 +691,184 @@ public class CameraTest {
     camera.setDescriptionWhileRecording(newCameraProperties);
   }
 
+  @Test
+  public void setDescriptionWhileRecording_setsVideoRendererInputToNewCaptureSize()
+      throws InterruptedException {
+    final Size mockCaptureSize = mock(Size.class);
+    when(mockCaptureSize.getWidth()).thenReturn(1280);
+    when(mockCaptureSize.getHeight()).thenReturn(720);
+    when(mockCameraFeatureFactory.mockResolutionFeature.getCaptureSize())
+        .thenReturn(mockCaptureSize);
+    startRecordingForCameraSwitch();
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.O;
+
+    camera.setDescriptionWhileRecording(mock(CameraProperties.class));
+
+    verify(camera.videoRenderer).setInputSize(1280, 720);
+  }
+
+  @Test
+  public void getVideoRendererStats_keepsStatsOfClosedVideoRenderer() {
+    final VideoRendererStats stats = new VideoRendererStats(120, 3, 1500, 4000, 16667);
+    startRecordingForCameraSwitch();
+    when(camera.videoRenderer.getStats()).thenReturn(stats);
+    final VideoRenderer videoRenderer = camera.videoRenderer;
+
+    assertEquals(stats, camera.getVideoRendererStats());
+    camera.stopVideoRecording();
+
+    verify(videoRenderer).close();
+    assertEquals(stats, camera.getVideoRendererStats());
+  }
+
+  @Test
+  public void prepareDescription_shouldNotOpenCameraWhenCamerasCannotBeOpenTogether()
+      throws CameraAccessException {
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.Q;
+    final CameraProperties newCameraProperties = mockSupportedCameraProperties("2");
+    final CameraManager mockCameraManager = mock(CameraManager.class);
+
+    try (MockedStatic<CameraUtils> mockCameraUtils =
+            mockStatic(CameraUtils.class, Mockito.CALLS_REAL_METHODS);
+        MockedStatic<ImageReader> mockImageReader = mockStatic(ImageReader.class)) {
+      mockCameraUtils.when(() -> CameraUtils.getCameraManager(any())).thenReturn(mockCameraManager);
+      mockImageReader
+          .when(() -> ImageReader.newInstance(anyInt(), anyInt(), anyInt(), anyInt()))
+          .thenReturn(mock(ImageReader.class));
+
+      camera.prepareDescription(newCameraProperties);
+    }
+
+    assertNotNull(camera.preparedCamera);
+    assertNull(camera.preparedCamera.stateCallback);
+    verify(mockCameraManager, never()).openCamera(anyString(), any(), any());
+  }
+
+  @Test
+  public void prepareDescription_shouldErrorWhenCameraIsNotSupported() {
+    final CameraProperties newCameraProperties = mock(CameraProperties.class);
+    when(newCameraProperties.getCameraName()).thenReturn("2");
+    when(mockCameraFeatureFactory.mockResolutionFeature.checkIsSupported()).thenReturn(false);
+
+    assertThrows(
+        Messages.FlutterError.class, () -> camera.prepareDescription(newCameraProperties));
+    assertNull(camera.preparedCamera);
+  }
+
+  @Test
+  public void setDescriptionWhileRecording_shouldUseOpenPreparedCamera()
+      throws CameraAccessException {
+    final CameraDevice mockPreparedDevice = mock(CameraDevice.class);
+    final ImageReader mockPreparedImageReader = mock(ImageReader.class);
+    when(mockPreparedDevice.createCaptureRequest(anyInt()))
+        .thenReturn(mock(CaptureRequest.Builder.class));
+    when(camera.flutterTexture.surfaceTexture()).thenReturn(mock(SurfaceTexture.class));
+
+    try (MockedStatic<CameraUtils> mockCameraUtils =
+            mockStatic(CameraUtils.class, Mockito.CALLS_REAL_METHODS);
+        MockedStatic<ImageReader> mockImageReader = mockStatic(ImageReader.class)) {
+      final CameraManager mockCameraManager =
+          prepareConcurrentCamera(mockCameraUtils, mockImageReader, mockPreparedImageReader);
+      final ArgumentCaptor<CameraDevice.StateCallback> stateCallbackCaptor =
+          ArgumentCaptor.forClass(CameraDevice.StateCallback.class);
+      verify(mockCameraManager).openCamera(eq("2"), stateCallbackCaptor.capture(), any());
+      stateCallbackCaptor.getValue().onOpened(mockPreparedDevice);
+
+      startRecordingForCameraSwitch();
+      camera.setDescriptionWhileRecording(camera.preparedCamera.cameraProperties);
+
+      verify(mockCameraManager, times(1)).openCamera(anyString(), any(), any());
+    }
+
+    assertNull(camera.preparedCamera);
+    assertEquals(mockPreparedImageReader, camera.pictureImageReader);
+    verify(mockPreparedDevice).createCaptureRequest(CameraDevice.TEMPLATE_RECORD);
+    verify(mockDartMessenger, never()).sendCameraErrorEvent(any());
+  }
+
+  @Test
+  public void setDescriptionWhileRecording_shouldUsePreparedCameraThatOpensDuringSwitch()
+      throws CameraAccessException {
+    final CameraDevice mockPreparedDevice = mock(CameraDevice.class);
+    when(mockPreparedDevice.createCaptureRequest(anyInt()))
+        .thenReturn(mock(CaptureRequest.Builder.class));
+    when(camera.flutterTexture.surfaceTexture()).thenReturn(mock(SurfaceTexture.class));
+
+    try (MockedStatic<CameraUtils> mockCameraUtils =
+            mockStatic(CameraUtils.class, Mockito.CALLS_REAL_METHODS);
+        MockedStatic<ImageReader> mockImageReader = mockStatic(ImageReader.class)) {
+      final CameraManager mockCameraManager =
+          prepareConcurrentCamera(mockCameraUtils, mockImageReader, mock(ImageReader.class));
+      final ArgumentCaptor<CameraDevice.StateCallback> stateCallbackCaptor =
+          ArgumentCaptor.forClass(CameraDevice.StateCallback.class);
+      verify(mockCameraManager).openCamera(eq("2"), stateCallbackCaptor.capture(), any());
+      // The prepared device finishes opening while the current camera is being released.
+      final CameraDeviceWrapper mockCurrentDevice = mock(CameraDeviceWrapper.class);
+      doAnswer(
+              invocation -> {
+                stateCallbackCaptor.getValue().onOpened(mockPreparedDevice);
+                return null;
+              })
+          .when(mockCurrentDevice)
+          .close();
+      camera.cameraDevice = mockCurrentDevice;
+
+      startRecordingForCameraSwitch();
+      camera.setDescriptionWhileRecording(camera.preparedCamera.cameraProperties);
+
+      verify(mockCameraManager, times(1)).openCamera(anyString(), any(), any());
+    }
+
+    verify(mockPreparedDevice, never()).close();
+    verify(mockPreparedDevice).createCaptureRequest(CameraDevice.TEMPLATE_RECORD);
+    verify(mockDartMessenger, never()).sendCameraErrorEvent(any());
+  }
+
+  @Test
+  public void setDescriptionWhileRecording_shouldOpenPreparedCameraAfterItWasDisconnected()
+      throws CameraAccessException {
+    final CameraDevice mockPreparedDevice = mock(CameraDevice.class);
+
+    try (MockedStatic<CameraUtils> mockCameraUtils =
+            mockStatic(CameraUtils.class, Mockito.CALLS_REAL_METHODS);
+        MockedStatic<ImageReader> mockImageReader = mockStatic(ImageReader.class)) {
+      final CameraManager mockCameraManager =
+          prepareConcurrentCamera(mockCameraUtils, mockImageReader, mock(ImageReader.class));
+      final ArgumentCaptor<CameraDevice.StateCallback> stateCallbackCaptor =
+          ArgumentCaptor.forClass(CameraDevice.StateCallback.class);
+      verify(mockCameraManager).openCamera(eq("2"), stateCallbackCaptor.capture(), any());
+      stateCallbackCaptor.getValue().onOpened(mockPreparedDevice);
+      stateCallbackCaptor.getValue().onDisconnected(mockPreparedDevice);
+
+      assertNull(camera.preparedCamera.stateCallback);
+      verify(mockPreparedDevice, atLeastOnce()).close();
+
+      startRecordingForCameraSwitch();
+      camera.setDescriptionWhileRecording(camera.preparedCamera.cameraProperties);
+
+      verify(mockCameraManager, times(2)).openCamera(eq("2"), any(), any());
+    }
+
+    // The camera that is still in use was not affected.
+    verify(mockDartMessenger, never()).sendCameraErrorEvent(any());
+  }
+
+  @Test
+  public void close_shouldClosePreparedCamera() throws CameraAccessException {
+    final ImageReader mockPreparedImageReader = mock(ImageReader.class);
+
+    try (MockedStatic<CameraUtils> mockCameraUtils =
+            mockStatic(CameraUtils.class, Mockito.CALLS_REAL_METHODS);
+        MockedStatic<ImageReader> mockImageReader = mockStatic(ImageReader.class)) {
+      prepareConcurrentCamera(mockCameraUtils, mockImageReader, mockPreparedImageReader);
+    }
+    camera.close();
+
+    assertNull(camera.preparedCamera);
+    // Both the picture and the image stream readers use the mocked reader.
+    verify(mockPreparedImageReader, times(2)).close();
+  }
+
   @Test
   public void startPreview_shouldPullStreamFromVideoRenderer()
       throws InterruptedException, CameraAccessException {
@@ -904,6 +1089,43 @@ public class CameraTest {
         .getSurface(); // stream pulled from image streaming imageReader's surface.
   }
 
+  @Test
+  public void startVideoRecording_shouldKeepConfiguredImageStreamDeliveryPolicy()
+      throws CameraAccessException {
+    Camera cameraSpy = spy(camera);
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    cameraSpy.mediaRecorder = mock(MediaRecorder.class);
+    cameraSpy.recordingVideo = false;
+    cameraSpy.pictureImageReader = mock(ImageReader.class);
+    cameraSpy.cameraDevice = new FakeCameraDeviceWrapper(mockRequestBuilders);
+    cameraSpy.imageStreamReader = mockImageStreamReader;
+    when(cameraSpy.flutterTexture.surfaceTexture()).thenReturn(mock(SurfaceTexture.class));
+    when(mockCameraFeatureFactory.mockResolutionFeature.getPreviewSize())
+        .thenReturn(mock(Size.class));
+    doNothing().when(cameraSpy).prepareRecording();
+    ImageStreamDeliveryPolicy policy = ImageStreamDeliveryPolicy.maxFrameRate(10);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    cameraSpy.startPreviewWithImageStream(mock(EventChannel.class), policy);
+    cameraSpy.startVideoRecording(mock(EventChannel.class));
+    cameraSpy.setImageStreamImageAvailableListener(mockEventSink);
+
+    verify(mockImageStreamReader).subscribeListener(any(), eq(mockEventSink), eq(policy), any());
+  }
+
+  @Test
+  public void onImageStreamFrameHandled_shouldReleaseNextFrame() {
+    ImageStreamReader mockImageStreamReader = mock(ImageStreamReader.class);
+    camera.imageStreamReader = mockImageStreamReader;
+
+    camera.onImageStreamFrameHandled();
+
+    verify(mockImageStreamReader).onFrameHandled();
+  }
+
   @Test
   public void setFocusMode_shouldLockAutoFocusForLockedMode() throws CameraAccessException {
     camera.setFocusMode(FocusMode.locked);
@@ -1062,6 +1284,81 @@ public class CameraTest {
     verify(mockHandlerThread, never()).join();
   }
 
+  @Test
+  public void stopBackgroundThread_shutsDownImageSaverExecutor() {
+    camera.startBackgroundThread();
+    final ImageSaverExecutor mockImageSaverExecutor = mock(ImageSaverExecutor.class);
+    camera.imageSaverExecutor = mockImageSaverExecutor;
+
+    camera.stopBackgroundThread();
+
+    verify(mockImageSaverExecutor).shutdown(any(Runnable.class));
+    assertNull(camera.imageSaverExecutor);
+  }
+
+  @Test
+  public void close_closesPictureImageReaderOnceQueuedPicturesAreSaved() {
+    camera.startBackgroundThread();
+    final ImageSaverExecutor mockImageSaverExecutor = mock(ImageSaverExecutor.class);
+    final ImageReader mockPictureImageReader = mock(ImageReader.class);
+    camera.imageSaverExecutor = mockImageSaverExecutor;
+    camera.pictureImageReader = mockPictureImageReader;
+    final ArgumentCaptor<Runnable> onTerminatedCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+    camera.close();
+
+    verify(mockImageSaverExecutor).shutdown(onTerminatedCaptor.capture());
+    verify(mockPictureImageReader, never()).close();
+    assertNull(camera.pictureImageReader);
+
+    onTerminatedCaptor.getValue().run();
+
+    verify(mockPictureImageReader).close();
+  }
+
+  @Test
+  public void close_closesPictureImageReaderWithoutImageSaver() {
+    final ImageReader mockPictureImageReader = mock(ImageReader.class);
+    camera.imageSaverExecutor = null;
+    camera.pictureImageReader = mockPictureImageReader;
+
+    camera.close();
+
+    verify(mockPictureImageReader).close();
+  }
+
+  @Test
+  public void onImageAvailable_savesImageOnImageSaverExecutor() {
+    final ImageReader mockImageReader = mock(ImageReader.class);
+    final Image mockImage = mock(Image.class);
+    final ImageSaverExecutor mockImageSaverExecutor = mock(ImageSaverExecutor.class);
+    when(mockImageReader.acquireNextImage()).thenReturn(mockImage);
+    when(mockImageSaverExecutor.save(any())).thenReturn(true);
+    camera.imageSaverExecutor = mockImageSaverExecutor;
+
+    camera.onImageAvailable(mockImageReader);
+
+    verify(mockImageSaverExecutor).save(any(ImageSaver.class));
+    verify(mockImage, never()).close();
+    verify(mockHandler, never()).post(any(ImageSaver.class));
+  }
+
+  @Test
+  public void onImageAvailable_closesImageAndReportsErrorWhenQueueIsFull() {
+    final ImageReader mockImageReader = mock(ImageReader.class);
+    final Image mockImage = mock(Image.class);
+    final ImageSaverExecutor mockImageSaverExecutor = mock(ImageSaverExecutor.class);
+    when(mockImageReader.acquireNextImage()).thenReturn(mockImage);
+    when(mockImageSaverExecutor.save(any())).thenReturn(false);
+    camera.imageSaverExecutor = mockImageSaverExecutor;
+
+    camera.onImageAvailable(mockImageReader);
+
+    verify(mockImage).close();
+    verify(mockDartMessenger)
+        .error(Mockito.<Messages.Result<String>>any(), eq("captureQueueFull"), any(), any());
+  }
+
   @Test
   public void onConverge_shouldTakePictureWithoutAbortingSession() throws CameraAccessException {
     ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
@@ -1085,6 +1382,109 @@ public class CameraTest {
     verify(mockCaptureSession, never()).abortCaptures();
   }
 
+  @Test
+  public void takePictureBurst_failsWhenCaptureIsAlreadyActive() {
+    camera.pictureImageReader = mock(ImageReader.class);
+    final Messages.VoidResult mockResult = mock(Messages.VoidResult.class);
+
+    camera.takePictureBurst(3, mock(Messages.VoidResult.class));
+    camera.takePictureBurst(3, mockResult);
+
+    verify(mockResult)
+        .error(
+            argThat(
+                new FlutterErrorMatcher(
+                    "captureAlreadyActive", "Picture is currently already being captured", null)));
+  }
+
+  @Test
+  public void takePictureBurst_failsForEmptyBurst() {
+    camera.pictureImageReader = mock(ImageReader.class);
+    final Messages.VoidResult mockResult = mock(Messages.VoidResult.class);
+
+    camera.takePictureBurst(0, mockResult);
+
+    verify(mockResult)
+        .error(
+            argThat(
+                new FlutterErrorMatcher(
+                    "invalidArgument", "The burst must contain at least one picture", null)));
+  }
+
+  @Test
+  public void takePictureBurst_failsForBurstLargerThanPictureImageReader() {
+    camera.pictureImageReader = mock(ImageReader.class);
+    final Messages.VoidResult mockResult = mock(Messages.VoidResult.class);
+
+    camera.takePictureBurst(Camera.MAX_BURST_PICTURES + 1, mockResult);
+
+    verify(mockResult)
+        .error(
+            argThat(
+                new FlutterErrorMatcher(
+                    "invalidArgument", "The burst must contain at most 4 pictures", null)));
+    verify(camera.pictureImageReader, never()).setOnImageAvailableListener(any(), any());
+    // The camera stays in the preview, so that a smaller burst can be taken.
+    final Messages.VoidResult mockNextResult = mock(Messages.VoidResult.class);
+    camera.takePictureBurst(Camera.MAX_BURST_PICTURES, mockNextResult);
+    verify(mockNextResult, never()).error(any());
+  }
+
+  @Test
+  public void onConverge_afterTakePictureBurst_capturesBurstOfStillPictures()
+      throws CameraAccessException {
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    camera.cameraDevice = new FakeCameraDeviceWrapper(mockRequestBuilders);
+    camera.pictureImageReader = mock(ImageReader.class);
+    SensorOrientationFeature mockSensorOrientationFeature =
+        mockCameraFeatureFactory.createSensorOrientationFeature(mockCameraProperties, null, null);
+    when(mockSensorOrientationFeature.getDeviceOrientationManager())
+        .thenReturn(mock(DeviceOrientationManager.class));
+
+    camera.takePictureBurst(3, mock(Messages.VoidResult.class));
+    camera.onConverged();
+
+    // Focus and exposure are locked once, so a single still request is built for the burst.
+    assertEquals(0, mockRequestBuilders.size());
+    verify(mockCaptureSession)
+        .captureBurst(argThat(requests -> requests.size() == 3), any(), any());
+    verify(mockCaptureSession, never()).abortCaptures();
+  }
+
+  @Test
+  public void takePictureBurst_failsOnceAfterEveryCaptureFailed() throws CameraAccessException {
+    ArrayList<CaptureRequest.Builder> mockRequestBuilders = new ArrayList<>();
+    mockRequestBuilders.add(mock(CaptureRequest.Builder.class));
+    camera.cameraDevice = new FakeCameraDeviceWrapper(mockRequestBuilders);
+    camera.pictureImageReader = mock(ImageReader.class);
+    SensorOrientationFeature mockSensorOrientationFeature =
+        mockCameraFeatureFactory.createSensorOrientationFeature(mockCameraProperties, null, null);
+    when(mockSensorOrientationFeature.getDeviceOrientationManager())
+        .thenReturn(mock(DeviceOrientationManager.class));
+    final Messages.VoidResult mockResult = mock(Messages.VoidResult.class);
+    final ArgumentCaptor<CameraCaptureSession.CaptureCallback> callbackCaptor =
+        ArgumentCaptor.forClass(CameraCaptureSession.CaptureCallback.class);
+
+    camera.takePictureBurst(2, mockResult);
+    camera.onConverged();
+    verify(mockCaptureSession).captureBurst(any(), callbackCaptor.capture(), any());
+    final CaptureFailure mockFailure = mock(CaptureFailure.class);
+    callbackCaptor
+        .getValue()
+        .onCaptureFailed(mockCaptureSession, mock(CaptureRequest.class), mockFailure);
+    verify(mockDartMessenger, never()).error(eq(mockResult), any(String.class), any(), any());
+    callbackCaptor
+        .getValue()
+        .onCaptureFailed(mockCaptureSession, mock(CaptureRequest.class), mockFailure);
+
+    verify(mockDartMessenger).error(eq(mockResult), eq("captureFailed"), any(), any());
+    // The camera returns to the preview, so that another picture can be taken.
+    final Messages.VoidResult mockNextResult = mock(Messages.VoidResult.class);
+    camera.takePictureBurst(1, mockNextResult);
+    verify(mockNextResult, never()).error(any());
+  }
+
   @Test
   public void createCaptureSession_doesNotCloseCaptureSession() throws CameraAccessException {
     Surface mockSurface = mock(Surface.class);
@@ -1327,6 +1727,42 @@ public class CameraTest {
     }
   }
 
+  private CameraProperties mockSupportedCameraProperties(String cameraName) {
+    final CameraProperties cameraProperties = mock(CameraProperties.class);
+    when(cameraProperties.getCameraName()).thenReturn(cameraName);
+    final ResolutionFeature resolutionFeature = mockCameraFeatureFactory.mockResolutionFeature;
+    when(resolutionFeature.checkIsSupported()).thenReturn(true);
+    when(resolutionFeature.getCaptureSize()).thenReturn(mock(Size.class));
+    when(resolutionFeature.getPreviewSize()).thenReturn(mock(Size.class));
+    return cameraProperties;
+  }
+
+  /** Prepares camera "2" on a device that can open it together with camera "1". */
+  private CameraManager prepareConcurrentCamera(
+      MockedStatic<CameraUtils> mockCameraUtils,
+      MockedStatic<ImageReader> mockImageReader,
+      ImageReader preparedImageReader)
+      throws CameraAccessException {
+    SdkCapabilityChecker.SDK_VERSION = Build.VERSION_CODES.R;
+    final CameraManager mockCameraManager = mock(CameraManager.class);
+    final Set<Set<String>> concurrentCameraIds = new HashSet<>();
+    concurrentCameraIds.add(new HashSet<>(Arrays.asList("1", "2")));
+    when(mockCameraManager.getConcurrentCameraIds()).thenReturn(concurrentCameraIds);
+    mockCameraUtils.when(() -> CameraUtils.getCameraManager(any())).thenReturn(mockCameraManager);
+    mockImageReader
+        .when(() -> ImageReader.newInstance(anyInt(), anyInt(), anyInt(), anyInt()))
+        .thenReturn(preparedImageReader);
+
+    camera.prepareDescription(mockSupportedCameraProperties("2"));
+    return mockCameraManager;
+  }
+
+  private void startRecordingForCameraSwitch() {
+    camera.mediaRecorder = mock(MediaRecorder.class);
+    camera.recordingVideo = true;
+    camera.videoRenderer = mock(VideoRenderer.class);
+  }
+
   private static class TestCameraFeatureFactory implements CameraFeatureFactory {
     private final AutoFocusFeature mockAutoFocusFeature;
     private final ExposureLockFeature mockExposureLockFeature;
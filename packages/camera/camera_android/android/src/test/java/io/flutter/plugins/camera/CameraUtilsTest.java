@@ -5,6 +5,7 @@
 package io.flutter.plugins.camera;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
@@ -22,10 +23,16 @@ import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.media.ImageStreamDeliveryPolicy;
 import java.util.List;
+import org.junit.After;
 import org.junit.Test;
 
 public class CameraUtilsTest {
+  @After
+  public void tearDown() {
+    CameraCharacteristicsCache.getInstance().clear();
+  }
 
   @Test
   public void getAvailableCameras_retrievesValidCameras()
@@ -171,4 +178,29 @@ public class CameraUtilsTest {
     assertEquals(
         CameraUtils.flashModeFromPigeon(Messages.PlatformFlashMode.TORCH), FlashMode.torch);
   }
+
+  @Test
+  public void imageStreamDeliveryPolicyFromPigeonTest() {
+    assertEquals(
+        CameraUtils.imageStreamDeliveryPolicyFromPigeon(
+            new Messages.PlatformImageStreamOptions.Builder()
+                .setDeliveryPolicy(Messages.PlatformImageStreamDeliveryPolicy.LATEST_ONLY)
+                .build()),
+        ImageStreamDeliveryPolicy.latestOnly());
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            CameraUtils.imageStreamDeliveryPolicyFromPigeon(
+                new Messages.PlatformImageStreamOptions.Builder()
+                    .setDeliveryPolicy(Messages.PlatformImageStreamDeliveryPolicy.MAX_FRAME_RATE)
+                    .build()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            CameraUtils.imageStreamDeliveryPolicyFromPigeon(
+                new Messages.PlatformImageStreamOptions.Builder()
+                    .setDeliveryPolicy(Messages.PlatformImageStreamDeliveryPolicy.EVERY_NTH_FRAME)
+                    .setFrameInterval(0L)
+                    .build()));
+  }
 }
@@ -6,8 +6,11 @@ package io.flutter.plugins.camera;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import android.os.Handler;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
@@ -116,4 +119,29 @@ public class DartMessengerTest {
     assertEquals(1, eventsList.size());
     assertEquals(Messages.PlatformDeviceOrientation.PORTRAIT_UP, eventsList.get(0));
   }
+
+  @Test
+  public void sendBurstPictureSavedEvent() {
+    dartMessenger.sendBurstPictureSavedEvent(2, "absolute/path");
+
+    verify(mockEventApi).burstPictureSaved(eq(2L), eq("absolute/path"), any());
+  }
+
+  @Test
+  public void finish_completesVoidResult() {
+    final Messages.VoidResult mockResult = mock(Messages.VoidResult.class);
+
+    dartMessenger.finish(mockResult);
+
+    verify(mockResult).success();
+  }
+
+  @Test
+  public void error_failsVoidResult() {
+    final Messages.VoidResult mockResult = mock(Messages.VoidResult.class);
+
+    dartMessenger.error(mockResult, "captureFailed", "message", null);
+
+    verify(mockResult).error(argThat(new FlutterErrorMatcher("captureFailed", "message", null)));
+  }
 }
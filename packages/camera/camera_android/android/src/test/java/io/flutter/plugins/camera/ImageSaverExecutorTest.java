@@ -0,0 +1,128 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class ImageSaverExecutorTest {
+  private ImageSaverExecutor executor;
+  private CountDownLatch blockingSaverStarted;
+  private CountDownLatch releaseBlockingSaver;
+  private ImageSaver blockingSaver;
+
+  @Before
+  public void setUp() {
+    executor = new ImageSaverExecutor(2);
+    blockingSaverStarted = new CountDownLatch(1);
+    releaseBlockingSaver = new CountDownLatch(1);
+    blockingSaver = mock(ImageSaver.class);
+    doAnswer(
+            invocation -> {
+              blockingSaverStarted.countDown();
+              releaseBlockingSaver.await();
+              return null;
+            })
+        .when(blockingSaver)
+        .run();
+  }
+
+  @After
+  public void tearDown() {
+    releaseBlockingSaver.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  public void save_runsImageSaver() {
+    final ImageSaver imageSaver = mock(ImageSaver.class);
+
+    assertTrue(executor.save(imageSaver));
+
+    verify(imageSaver, timeout(1000)).run();
+  }
+
+  @Test
+  public void save_queuesImagesWhileAnImageIsBeingSaved() throws InterruptedException {
+    final ImageSaver first = mock(ImageSaver.class);
+    final ImageSaver second = mock(ImageSaver.class);
+
+    assertTrue(executor.save(blockingSaver));
+    assertTrue(blockingSaverStarted.await(1, TimeUnit.SECONDS));
+    assertTrue(executor.save(first));
+    assertTrue(executor.save(second));
+
+    assertEquals(2, executor.getQueuedImageCount());
+    verify(first, never()).run();
+
+    releaseBlockingSaver.countDown();
+
+    verify(first, timeout(1000)).run();
+    verify(second, timeout(1000)).run();
+  }
+
+  @Test
+  public void save_rejectsImagesBeyondQueueDepth() throws InterruptedException {
+    final ImageSaver rejected = mock(ImageSaver.class);
+
+    assertTrue(executor.save(blockingSaver));
+    assertTrue(blockingSaverStarted.await(1, TimeUnit.SECONDS));
+    assertTrue(executor.save(mock(ImageSaver.class)));
+    assertTrue(executor.save(mock(ImageSaver.class)));
+
+    assertFalse(executor.save(rejected));
+
+    releaseBlockingSaver.countDown();
+    executor.shutdown();
+    verify(rejected, never()).run();
+  }
+
+  @Test
+  public void save_returnsFalseAfterShutdown() {
+    executor.shutdown();
+
+    assertFalse(executor.save(mock(ImageSaver.class)));
+  }
+
+  @Test
+  public void shutdown_runsCallbackOnceQueuedImagesAreSaved() throws InterruptedException {
+    final ImageSaver queued = mock(ImageSaver.class);
+    final Runnable onTerminated = mock(Runnable.class);
+    assertTrue(executor.save(blockingSaver));
+    assertTrue(blockingSaverStarted.await(1, TimeUnit.SECONDS));
+    assertTrue(executor.save(queued));
+
+    executor.shutdown(onTerminated);
+
+    verify(onTerminated, never()).run();
+    releaseBlockingSaver.countDown();
+    final InOrder inOrder = inOrder(queued, onTerminated);
+    inOrder.verify(queued, timeout(1000)).run();
+    inOrder.verify(onTerminated, timeout(1000)).run();
+  }
+
+  @Test
+  public void shutdown_runsCallbackWhenNoImageIsQueued() {
+    final Runnable onTerminated = mock(Runnable.class);
+
+    executor.shutdown(onTerminated);
+
+    verify(onTerminated, timeout(1000)).run();
+  }
+}
@@ -4,7 +4,11 @@
 
 package io.flutter.plugins.camera;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -14,16 +18,16 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import android.media.Image;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockedStatic;
-import org.mockito.invocation.InvocationOnMock;
-import org.mockito.stubbing.Answer;
 
 public class ImageSaverTests {
 
@@ -32,34 +36,23 @@ public class ImageSaverTests {
   ImageSaver.Callback mockCallback;
   ImageSaver imageSaver;
   Image.Plane mockPlane;
-  ByteBuffer mockBuffer;
+  ByteBuffer buffer;
   MockedStatic<ImageSaver.FileOutputStreamFactory> mockFileOutputStreamFactory;
   FileOutputStream mockFileOutputStream;
+  FileChannel mockFileChannel;
+  ByteArrayOutputStream writtenBytes;
 
   @Before
-  public void setup() {
+  public void setup() throws IOException {
     // Set up mocked file dependency
     mockFile = mock(File.class);
     when(mockFile.getAbsolutePath()).thenReturn("absolute/path");
     mockPlane = mock(Image.Plane.class);
-    mockBuffer = mock(ByteBuffer.class);
-    when(mockBuffer.remaining()).thenReturn(3);
-    when(mockBuffer.get(any()))
-        .thenAnswer(
-            new Answer<Object>() {
-              @Override
-              public Object answer(InvocationOnMock invocation) throws Throwable {
-                byte[] bytes = invocation.getArgument(0);
-                bytes[0] = 0x42;
-                bytes[1] = 0x00;
-                bytes[2] = 0x13;
-                return mockBuffer;
-              }
-            });
+    buffer = ByteBuffer.wrap(new byte[] {0x42, 0x00, 0x13});
 
     // Set up mocked image dependency
     mockImage = mock(Image.class);
-    when(mockPlane.getBuffer()).thenReturn(mockBuffer);
+    when(mockPlane.getBuffer()).thenReturn(buffer);
     when(mockImage.getPlanes()).thenReturn(new Image.Plane[] {mockPlane});
 
     // Set up mocked FileOutputStream
@@ -69,6 +62,21 @@ public class ImageSaverTests {
         .when(() -> ImageSaver.FileOutputStreamFactory.create(any()))
         .thenReturn(mockFileOutputStream);
 
+    // Set up mocked FileChannel that writes at most two bytes at a time
+    mockFileChannel = mock(FileChannel.class);
+    writtenBytes = new ByteArrayOutputStream();
+    when(mockFileOutputStream.getChannel()).thenReturn(mockFileChannel);
+    when(mockFileChannel.write(any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer source = invocation.getArgument(0);
+              int count = Math.min(2, source.remaining());
+              for (int i = 0; i < count; i++) {
+                writtenBytes.write(source.get());
+              }
+              return count;
+            });
+
     // Set up testable ImageSaver instance
     mockCallback = mock(ImageSaver.Callback.class);
     imageSaver = new ImageSaver(mockImage, mockFile, mockCallback);
@@ -83,17 +91,26 @@ public class ImageSaverTests {
   public void runWritesBytesToFileAndFinishesWithPath() throws IOException {
     imageSaver.run();
 
-    verify(mockFileOutputStream, times(1)).write(new byte[] {0x42, 0x00, 0x13});
-    verify(mockCallback, times(1)).onComplete("absolute/path");
+    assertArrayEquals(new byte[] {0x42, 0x00, 0x13}, writtenBytes.toByteArray());
+    assertEquals(0, buffer.remaining());
+    verify(mockFileOutputStream, never()).write(any(byte[].class));
+    verify(mockCallback, times(1)).onComplete(eq("absolute/path"), anyLong());
     verify(mockCallback, never()).onError(any(), any());
   }
 
   @Test
   public void runCallsErrorOnWriteIoexception() throws IOException {
-    doThrow(new IOException()).when(mockFileOutputStream).write(any());
+    doThrow(new IOException()).when(mockFileChannel).write(any(ByteBuffer.class));
     imageSaver.run();
     verify(mockCallback, times(1)).onError("IOError", "Failed saving image");
-    verify(mockCallback, never()).onComplete(any());
+    verify(mockCallback, never()).onComplete(any(), anyLong());
+  }
+
+  @Test
+  public void runClosesImage() {
+    imageSaver.run();
+
+    verify(mockImage, times(1)).close();
   }
 
   @Test
@@ -102,4 +119,16 @@ public class ImageSaverTests {
     imageSaver.run();
     verify(mockCallback, times(1)).onError("cameraAccess", "message");
   }
+
+  @Test
+  public void runCallsErrorWhenImageReaderWasClosed() {
+    when(mockImage.getPlanes()).thenThrow(new IllegalStateException("Image is already closed"));
+
+    imageSaver.run();
+
+    verify(mockCallback, times(1))
+        .onError("IOError", "The image was released before it could be saved");
+    verify(mockCallback, never()).onComplete(any(), anyLong());
+    verify(mockImage, times(1)).close();
+  }
 }
@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import android.view.Surface;
+import org.junit.Test;
+
+public class VideoRendererTest {
+  private static final float DELTA = 0.0001f;
+
+  @Test
+  public void computeCropScale_shouldNotScaleWhenAspectRatiosMatch() {
+    final float[] scale = new float[2];
+
+    VideoRenderer.computeCropScale(1920, 1080, 1280, 720, 0, scale);
+    assertArrayEquals(new float[] {1f, 1f}, scale, DELTA);
+
+    VideoRenderer.computeCropScale(1920, 1080, 1920, 1080, 180, scale);
+    assertArrayEquals(new float[] {1f, 1f}, scale, DELTA);
+  }
+
+  @Test
+  public void computeCropScale_shouldCropWiderInput() {
+    final float[] scale = new float[2];
+
+    VideoRenderer.computeCropScale(1920, 1080, 1440, 1080, 0, scale);
+
+    assertArrayEquals(new float[] {(16f / 9f) / (4f / 3f), 1f}, scale, DELTA);
+  }
+
+  @Test
+  public void computeCropScale_shouldCropTallerInput() {
+    final float[] scale = new float[2];
+
+    VideoRenderer.computeCropScale(1440, 1080, 1920, 1080, 0, scale);
+
+    assertArrayEquals(new float[] {1f, (16f / 9f) / (4f / 3f)}, scale, DELTA);
+  }
+
+  @Test
+  public void computeCropScale_shouldUseRotatedInputSize() {
+    final float[] scale = new float[2];
+
+    VideoRenderer.computeCropScale(1920, 1080, 1920, 1080, 90, scale);
+
+    assertArrayEquals(new float[] {1f, (16f / 9f) / (9f / 16f)}, scale, DELTA);
+  }
+
+  @Test
+  public void getStats_shouldReportRenderTimes() {
+    final VideoRenderer renderer =
+        new VideoRenderer(mock(Surface.class), 1920, 1080, (thread, error) -> {});
+
+    renderer.onInputFrameAvailable();
+    renderer.onInputFrameAvailable();
+    renderer.onInputFrameAvailable();
+    renderer.recordFrame(0, 2_000_000);
+    renderer.recordFrame(16_000_000, 17_000_000);
+    final VideoRendererStats stats = renderer.getStats();
+
+    assertEquals(2, stats.getRenderedFrames());
+    assertEquals(1, stats.getDroppedFrames());
+    assertEquals(1500, stats.getAverageRenderTimeMicros());
+    assertEquals(2000, stats.getMaxRenderTimeMicros());
+    assertEquals(16000, stats.getAverageFrameIntervalMicros());
+  }
+}
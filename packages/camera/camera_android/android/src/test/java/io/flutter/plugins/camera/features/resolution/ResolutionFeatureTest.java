@@ -12,6 +12,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import android.media.CamcorderProfile;
@@ -39,6 +40,7 @@ public class ResolutionFeatureTest {
   @Before
   @SuppressWarnings("deprecation")
   public void beforeLegacy() {
+    ResolutionFeature.clearProfileCache();
     mockedStaticProfile = mockStatic(CamcorderProfile.class);
     mockProfileLowLegacy = mock(CamcorderProfile.class);
     CamcorderProfile mockProfileLegacy = mock(CamcorderProfile.class);
@@ -336,6 +338,29 @@ public class ResolutionFeatureTest {
     mockedStaticProfile.verify(() -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_QVGA));
   }
 
+  @Config(minSdk = 31)
+  @Test
+  public void computeBestPreviewSize_shouldQueryProfilesOnceForEachPreset() {
+    before();
+    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.low);
+    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.low);
+
+    mockedStaticProfile.verify(
+        () -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_QVGA), times(1));
+  }
+
+  @Config(minSdk = 31)
+  @Test
+  public void clearProfileCache_shouldQueryProfilesAgain() {
+    before();
+    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.low);
+    ResolutionFeature.clearProfileCache();
+    ResolutionFeature.computeBestPreviewSize(1, ResolutionPreset.low);
+
+    mockedStaticProfile.verify(
+        () -> CamcorderProfile.getAll("1", CamcorderProfile.QUALITY_QVGA), times(2));
+  }
+
   @Config(minSdk = 31)
   @Test
   public void computeBestPreviewSize_shouldUseLegacyBehaviorWhenEncoderProfilesNull() {
@@ -5,21 +5,31 @@
 package io.flutter.plugins.camera.media;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 import android.graphics.ImageFormat;
 import android.media.Image;
 import android.media.ImageReader;
+import android.os.Handler;
+import android.os.Looper;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.robolectric.RobolectricTestRunner;
 
 @RunWith(RobolectricTestRunner.class)
@@ -58,7 +68,7 @@ public class ImageStreamReaderTest {
         new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
 
     ByteBuffer mockBytes = ByteBuffer.allocate(0);
-    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt()))
+    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt(), any()))
         .thenReturn(mockBytes);
 
     // The image format as streamed from the camera
@@ -102,7 +112,8 @@ public class ImageStreamReaderTest {
 
     // Make sure we processed the frame with parsePlanesForNv21
     verify(mockImageStreamReaderUtils)
-        .yuv420ThreePlanesToNV21(planes, mockImage.getWidth(), mockImage.getHeight());
+        .yuv420ThreePlanesToNV21(
+            eq(planes), eq(mockImage.getWidth()), eq(mockImage.getHeight()), any());
   }
 
   /** If we are requesting YUV420, then we should send the 3-plane image as it is. */
@@ -117,7 +128,7 @@ public class ImageStreamReaderTest {
         new ImageStreamReader(mockImageReader, dartImageFormat, mockImageStreamReaderUtils);
 
     ByteBuffer mockBytes = ByteBuffer.allocate(0);
-    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt()))
+    when(mockImageStreamReaderUtils.yuv420ThreePlanesToNV21(any(), anyInt(), anyInt(), any()))
         .thenReturn(mockBytes);
 
     // The image format as streamed from the camera
@@ -160,6 +171,240 @@ public class ImageStreamReaderTest {
     imageStreamReader.onImageAvailable(mockImage, mockCaptureProps, mockEventSink);
 
     // Make sure we processed the frame with parsePlanesForYuvOrJpeg
-    verify(mockImageStreamReaderUtils, never()).yuv420ThreePlanesToNV21(any(), anyInt(), anyInt());
+    verify(mockImageStreamReaderUtils, never())
+        .yuv420ThreePlanesToNV21(any(), anyInt(), anyInt(), any());
+  }
+
+  /** A frame arriving while the previous one has not been sent replaces it. */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onImageAvailable_replacesWaitingFrameWithNewerFrame() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    Image firstImage = mockYuvImage();
+    Image secondImage = mockYuvImage();
+    when(secondImage.getWidth()).thenReturn(8);
+    ArgumentCaptor<Map<String, Object>> frameCaptor = ArgumentCaptor.forClass(Map.class);
+
+    imageStreamReader.onImageAvailable(firstImage, mockCaptureProps, mockEventSink);
+    imageStreamReader.onImageAvailable(secondImage, mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(mockEventSink, times(1)).success(frameCaptor.capture());
+    assertEquals(8, frameCaptor.getValue().get("width"));
+    verify(firstImage).close();
+    verify(secondImage).close();
+    ImageStreamStats stats = imageStreamReader.getStats();
+    assertEquals(1, stats.getDeliveredFrames());
+    assertEquals(1, stats.getDroppedFrames());
+  }
+
+  /** The next frame is only sent once dart has handled the previous one. */
+  @Test
+  public void onImageAvailable_waitsForDartToHandlePreviousFrame() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idle();
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idle();
+    verify(mockEventSink, times(1)).success(any());
+    assertEquals(2, imageStreamReader.getStats().getQueueDepth());
+
+    imageStreamReader.onFrameHandled();
+
+    verify(mockEventSink, times(2)).success(any());
+    assertEquals(1, imageStreamReader.getStats().getQueueDepth());
+  }
+
+  /** Once a frame has been sent to dart, its maps and plane buffers are reused. */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void onImageAvailable_reusesFrameBuffersOnceSent() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    ArgumentCaptor<Map<String, Object>> frameCaptor = ArgumentCaptor.forClass(Map.class);
+
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idle();
+    verify(mockEventSink).success(frameCaptor.capture());
+    byte[] firstBytes = getPlaneBytes(frameCaptor.getValue(), 0);
+    imageStreamReader.onFrameHandled();
+
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idle();
+    verify(mockEventSink, times(2)).success(frameCaptor.capture());
+
+    assertSame(frameCaptor.getAllValues().get(0), frameCaptor.getAllValues().get(2));
+    assertSame(firstBytes, getPlaneBytes(frameCaptor.getValue(), 0));
+    ImageStreamStats stats = imageStreamReader.getStats();
+    assertEquals(2, stats.getDeliveredFrames());
+    assertEquals(0, stats.getDroppedFrames());
+  }
+
+  /** Frames not selected by the delivery policy are skipped without being processed. */
+  @Test
+  public void onImageAvailable_skipsFramesNotSelectedByEveryNthFramePolicy() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    imageStreamReader.subscribeListener(
+        mockCaptureProps,
+        mockEventSink,
+        ImageStreamDeliveryPolicy.everyNthFrame(3),
+        mock(Handler.class));
+
+    for (int i = 0; i < 7; i++) {
+      imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+      shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    verify(mockEventSink, times(3)).success(any());
+    ImageStreamStats stats = imageStreamReader.getStats();
+    assertEquals(3, stats.getDeliveredFrames());
+    assertEquals(4, stats.getSkippedFrames());
+    assertEquals(0, stats.getDroppedFrames());
+  }
+
+  /** Frames arriving sooner than the maximum frame rate allows are skipped. */
+  @Test
+  public void onImageAvailable_skipsFramesAboveMaxFrameRate() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    imageStreamReader.subscribeListener(
+        mockCaptureProps,
+        mockEventSink,
+        ImageStreamDeliveryPolicy.maxFrameRate(30),
+        mock(Handler.class));
+
+    long[] timestampsMillis = {0, 10, 33, 40, 66, 70};
+    for (long timestampMillis : timestampsMillis) {
+      Image image = mockYuvImage();
+      when(image.getTimestamp()).thenReturn(timestampMillis * 1_000_000);
+      imageStreamReader.onImageAvailable(image, mockCaptureProps, mockEventSink);
+      shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    verify(mockEventSink, times(3)).success(any());
+    ImageStreamStats stats = imageStreamReader.getStats();
+    assertEquals(3, stats.getDeliveredFrames());
+    assertEquals(3, stats.getSkippedFrames());
+  }
+
+  /**
+   * Throttled streams send a few frames before waiting for dart, keep the next frame waiting, drop
+   * newer ones, and report the queue depth.
+   */
+  @Test
+  public void onImageAvailable_reportsQueueDepthAndLatency() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    imageStreamReader.subscribeListener(
+        mockCaptureProps,
+        mockEventSink,
+        ImageStreamDeliveryPolicy.everyNthFrame(1),
+        mock(Handler.class));
+
+    for (int i = 0; i < 3; i++) {
+      imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+      shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(5));
+    }
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    ImageStreamStats queuedStats = imageStreamReader.getStats();
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(5));
+    imageStreamReader.onFrameHandled();
+
+    assertEquals(3, queuedStats.getDeliveredFrames());
+    assertEquals(4, queuedStats.getQueueDepth());
+    assertEquals(1, queuedStats.getDroppedFrames());
+    ImageStreamStats stats = imageStreamReader.getStats();
+    verify(mockEventSink, times(4)).success(any());
+    assertEquals(4, stats.getDeliveredFrames());
+    assertEquals(3, stats.getQueueDepth());
+    assertEquals(4, stats.getMaxQueueDepth());
+    // Only the first frame, received 20ms before, is acknowledged.
+    assertEquals(20000, stats.getAverageLatencyMicros());
+    assertEquals(20000, stats.getMaxLatencyMicros());
+  }
+
+  /** Latency is measured from receiving a frame to dart acknowledging it, in order. */
+  @Test
+  public void onFrameHandled_measuresLatencyUntilAcknowledged() {
+    ImageStreamReader imageStreamReader =
+        new ImageStreamReader(
+            mock(ImageReader.class), ImageFormat.YUV_420_888, mock(ImageStreamReaderUtils.class));
+    CameraCaptureProperties mockCaptureProps = mock(CameraCaptureProperties.class);
+    EventChannel.EventSink mockEventSink = mock(EventChannel.EventSink.class);
+    imageStreamReader.subscribeListener(
+        mockCaptureProps,
+        mockEventSink,
+        ImageStreamDeliveryPolicy.everyNthFrame(1),
+        mock(Handler.class));
+
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(10));
+    imageStreamReader.onImageAvailable(mockYuvImage(), mockCaptureProps, mockEventSink);
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(10));
+    assertEquals(0, imageStreamReader.getStats().getMaxLatencyMicros());
+
+    imageStreamReader.onFrameHandled();
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(20));
+    imageStreamReader.onFrameHandled();
+    imageStreamReader.onFrameHandled();
+
+    ImageStreamStats stats = imageStreamReader.getStats();
+    assertEquals(2, stats.getDeliveredFrames());
+    assertEquals(0, stats.getQueueDepth());
+    assertEquals(25000, stats.getAverageLatencyMicros());
+    assertEquals(30000, stats.getMaxLatencyMicros());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static byte[] getPlaneBytes(Map<String, Object> frame, int plane) {
+    List<Map<String, Object>> planes = (List<Map<String, Object>>) frame.get("planes");
+    return (byte[]) planes.get(plane).get("bytes");
+  }
+
+  private static Image mockYuvImage() {
+    Image mockImage = mock(Image.class);
+    when(mockImage.getWidth()).thenReturn(4);
+    when(mockImage.getHeight()).thenReturn(2);
+    when(mockImage.getFormat()).thenReturn(ImageFormat.YUV_420_888);
+
+    Image.Plane planeY = mock(Image.Plane.class);
+    Image.Plane planeU = mock(Image.Plane.class);
+    Image.Plane planeV = mock(Image.Plane.class);
+    when(planeY.getBuffer()).thenReturn(ByteBuffer.allocate(8));
+    when(planeY.getRowStride()).thenReturn(4);
+    when(planeY.getPixelStride()).thenReturn(1);
+    when(planeU.getBuffer()).thenReturn(ByteBuffer.allocate(3));
+    when(planeV.getBuffer()).thenReturn(ByteBuffer.allocate(3));
+    when(planeU.getRowStride()).thenReturn(4);
+    when(planeV.getRowStride()).thenReturn(4);
+    when(planeU.getPixelStride()).thenReturn(2);
+    when(planeV.getPixelStride()).thenReturn(2);
+
+    Image.Plane[] planes = {planeY, planeU, planeV};
+    when(mockImage.getPlanes()).thenReturn(planes);
+    return mockImage;
   }
 }
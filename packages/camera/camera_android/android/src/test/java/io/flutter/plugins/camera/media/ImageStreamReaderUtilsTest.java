@@ -4,12 +4,16 @@
 
 package io.flutter.plugins.camera.media;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import android.graphics.ImageFormat;
 import android.media.Image;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -96,4 +100,141 @@ public class ImageStreamReaderUtilsTest {
         ((long) imageWidth * imageHeight) + (2 * ((long) (imageWidth / 2) * (imageHeight / 2))),
         result.limit());
   }
+
+  private static final int WIDTH = 8;
+  private static final int HEIGHT = 4;
+
+  private static byte y(int row, int col) {
+    return (byte) (row * 16 + col);
+  }
+
+  private static byte u(int row, int col) {
+    return (byte) (100 + row * 16 + col);
+  }
+
+  private static byte v(int row, int col) {
+    return (byte) (200 + row * 16 + col);
+  }
+
+  /** Returns the NV21 image of the pixels given by {@link #y}, {@link #u} and {@link #v}. */
+  private static byte[] expectedNv21() {
+    byte[] nv21 = new byte[WIDTH * HEIGHT * 3 / 2];
+    int pos = 0;
+    for (int row = 0; row < HEIGHT; row++) {
+      for (int col = 0; col < WIDTH; col++) {
+        nv21[pos++] = y(row, col);
+      }
+    }
+    for (int row = 0; row < HEIGHT / 2; row++) {
+      for (int col = 0; col < WIDTH / 2; col++) {
+        nv21[pos++] = v(row, col);
+        nv21[pos++] = u(row, col);
+      }
+    }
+    return nv21;
+  }
+
+  private static Image.Plane mockPlane(ByteBuffer buffer, int rowStride, int pixelStride) {
+    Image.Plane plane = mock(Image.Plane.class);
+    when(plane.getBuffer()).thenReturn(buffer);
+    when(plane.getRowStride()).thenReturn(rowStride);
+    when(plane.getPixelStride()).thenReturn(pixelStride);
+    return plane;
+  }
+
+  /** Lays out the pixels of a plane with row padding, the last row being unpadded. */
+  private static ByteBuffer planeBuffer(
+      int rows, int cols, int rowStride, int pixelStride, int channel) {
+    byte[] bytes = new byte[rowStride * (rows - 1) + (cols - 1) * pixelStride + 1];
+    Arrays.fill(bytes, (byte) -1);
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        byte value = channel == 0 ? y(row, col) : channel == 1 ? u(row, col) : v(row, col);
+        bytes[row * rowStride + col * pixelStride] = value;
+      }
+    }
+    return ByteBuffer.wrap(bytes);
+  }
+
+  private static Image.Plane[] paddedPlanes(int uvPixelStride) {
+    int rowStride = WIDTH + 16;
+    int uvRowStride = uvPixelStride == 1 ? WIDTH / 2 + 16 : rowStride;
+    return new Image.Plane[] {
+      mockPlane(planeBuffer(HEIGHT, WIDTH, rowStride, 1, 0), rowStride, 1),
+      mockPlane(
+          planeBuffer(HEIGHT / 2, WIDTH / 2, uvRowStride, uvPixelStride, 1),
+          uvRowStride,
+          uvPixelStride),
+      mockPlane(
+          planeBuffer(HEIGHT / 2, WIDTH / 2, uvRowStride, uvPixelStride, 2),
+          uvRowStride,
+          uvPixelStride)
+    };
+  }
+
+  /** Planes whose U and V buffers overlap in the NV21 layout, as on most devices. */
+  private static Image.Plane[] nv21Planes() {
+    byte[] vu = new byte[WIDTH * HEIGHT / 2];
+    for (int row = 0; row < HEIGHT / 2; row++) {
+      for (int col = 0; col < WIDTH / 2; col++) {
+        vu[row * WIDTH + col * 2] = v(row, col);
+        vu[row * WIDTH + col * 2 + 1] = u(row, col);
+      }
+    }
+    return new Image.Plane[] {
+      mockPlane(planeBuffer(HEIGHT, WIDTH, WIDTH, 1, 0), WIDTH, 1),
+      mockPlane(ByteBuffer.wrap(vu, 1, vu.length - 1).slice(), WIDTH, 2),
+      mockPlane(ByteBuffer.wrap(vu, 0, vu.length - 1).slice(), WIDTH, 2)
+    };
+  }
+
+  @Test
+  public void yuv420ThreePlanesToNV21_copiesNv21Planes() {
+    ByteBuffer result = imageStreamReaderUtils.yuv420ThreePlanesToNV21(nv21Planes(), WIDTH, HEIGHT);
+
+    assertArrayEquals(expectedNv21(), result.array());
+  }
+
+  @Test
+  public void yuv420ThreePlanesToNV21_interleavesPaddedSemiPlanarPlanes() {
+    Image.Plane[] planes = paddedPlanes(2);
+
+    assertArrayEquals(
+        expectedNv21(),
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(planes, WIDTH, HEIGHT).array());
+    // Converting again reads the planes from the start.
+    assertArrayEquals(
+        expectedNv21(),
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(planes, WIDTH, HEIGHT).array());
+  }
+
+  @Test
+  public void yuv420ThreePlanesToNV21_interleavesPaddedPlanarPlanes() {
+    ByteBuffer result =
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(paddedPlanes(1), WIDTH, HEIGHT);
+
+    assertArrayEquals(expectedNv21(), result.array());
+  }
+
+  @Test
+  public void yuv420ThreePlanesToNV21_writesToOutputOfImageSize() {
+    byte[] out = new byte[WIDTH * HEIGHT * 3 / 2];
+
+    ByteBuffer result =
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(paddedPlanes(2), WIDTH, HEIGHT, out);
+
+    assertSame(out, result.array());
+    assertArrayEquals(expectedNv21(), out);
+  }
+
+  @Test
+  public void yuv420ThreePlanesToNV21_allocatesOutputIfSizeDiffers() {
+    byte[] out = new byte[WIDTH * HEIGHT];
+
+    ByteBuffer result =
+        imageStreamReaderUtils.yuv420ThreePlanesToNV21(nv21Planes(), WIDTH, HEIGHT, out);
+
+    assertNotSame(out, result.array());
+    assertArrayEquals(expectedNv21(), result.array());
+  }
 }
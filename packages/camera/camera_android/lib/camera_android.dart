@@ -3,3 +3,6 @@
 // found in the LICENSE file.
 
 export 'src/android_camera.dart';
+export 'src/burst_capture.dart';
+export 'src/image_stream.dart';
+export 'src/video_renderer_stats.dart';
@@ -10,9 +10,12 @@ import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'burst_capture.dart';
+import 'image_stream.dart';
 import 'messages.g.dart';
 import 'type_conversion.dart';
 import 'utils.dart';
+import 'video_renderer_stats.dart';
 
 /// The Android implementation of [CameraPlatform] that uses method channels.
 class AndroidCamera extends CameraPlatform {
@@ -193,6 +196,40 @@ class AndroidCamera extends CameraPlatform {
     return XFile(path);
   }
 
+  /// Takes [pictureCount] pictures in a burst on the camera with the given ID.
+  ///
+  /// Focus and exposure are locked once for the whole burst, and all of the
+  /// pictures are captured back to back. Each picture is added to the returned
+  /// stream as soon as it has been saved. The stream is closed once all of the
+  /// pictures have been saved, after an error if any of them failed.
+  ///
+  /// [pictureCount] must be between 1 and 4, since all of the pictures are
+  /// held by the camera until they are saved. Larger bursts fail with an
+  /// `invalidArgument` error.
+  Stream<XFile> takePictureBurst(int cameraId, int pictureCount) {
+    late final StreamController<XFile> controller;
+    StreamSubscription<AndroidBurstPictureSavedEvent>? subscription;
+    controller = StreamController<XFile>(
+      onListen: () async {
+        subscription = _cameraEvents(cameraId)
+            .whereType<AndroidBurstPictureSavedEvent>()
+            .listen((AndroidBurstPictureSavedEvent event) {
+          controller.add(XFile(event.path));
+        });
+        try {
+          await _hostApi.takePictureBurst(pictureCount);
+        } catch (error, stackTrace) {
+          controller.addError(error, stackTrace);
+        } finally {
+          await subscription?.cancel();
+          await controller.close();
+        }
+      },
+      onCancel: () => subscription?.cancel(),
+    );
+    return controller.stream;
+  }
+
   // This optimization is unnecessary on Android.
   @override
   Future<void> prepareForVideoRecording() async {}
@@ -231,13 +268,39 @@ class AndroidCamera extends CameraPlatform {
   @override
   bool supportsImageStreaming() => true;
 
+  /// Returns a stream of frames from the camera.
+  ///
+  /// Pass [AndroidCameraImageStreamOptions] as [options] to select which
+  /// frames are sent. By default, the latest frame is sent whenever the
+  /// previous one has been handled.
   @override
   Stream<CameraImageData> onStreamedFrameAvailable(int cameraId,
       {CameraImageStreamOptions? options}) {
-    _installStreamController(onListen: _onFrameStreamListen);
+    _installStreamController(
+        onListen: () =>
+            _startPlatformStream(imageStreamOptionsToPlatform(options)));
     return _frameStreamController!.stream;
   }
 
+  /// Returns the statistics of the image stream of the camera since it was
+  /// started.
+  Future<AndroidCameraImageStreamStats> getImageStreamStats(
+      int cameraId) async {
+    return imageStreamStatsFromPlatform(await _hostApi.getImageStreamStats());
+  }
+
+  /// Returns the statistics of the renderer used to record the video of the
+  /// camera after it was switched while recording.
+  ///
+  /// The statistics are kept once the recording has stopped, until another
+  /// recording is started. Throws a [PlatformException] with code
+  /// `noVideoRenderer` if the camera was not switched while recording.
+  Future<AndroidCameraVideoRendererStats> getVideoRendererStats(
+      int cameraId) async {
+    return videoRendererStatsFromPlatform(
+        await _hostApi.getVideoRendererStats());
+  }
+
   StreamController<CameraImageData> _installStreamController(
       {void Function()? onListen}) {
     _frameStreamController = StreamController<CameraImageData>(
@@ -249,12 +312,8 @@ class AndroidCamera extends CameraPlatform {
     return _frameStreamController!;
   }
 
-  void _onFrameStreamListen() {
-    _startPlatformStream();
-  }
-
-  Future<void> _startPlatformStream() async {
-    await _hostApi.startImageStream();
+  Future<void> _startPlatformStream(PlatformImageStreamOptions options) async {
+    await _hostApi.startImageStream(options);
     _startStreamListener();
   }
 
@@ -265,6 +324,10 @@ class AndroidCamera extends CameraPlatform {
         cameraEventChannel.receiveBroadcastStream().listen((dynamic imageData) {
       _frameStreamController!
           .add(cameraImageFromPlatformData(imageData as Map<dynamic, dynamic>));
+      // The frame reaches the listeners in a microtask scheduled by add, so
+      // this runs once they have handled it. The next frame is only sent then.
+      scheduleMicrotask(
+          () => unawaited(_hostApi.acknowledgeImageStreamFrame()));
     });
   }
 
@@ -363,6 +426,16 @@ class AndroidCamera extends CameraPlatform {
     await _hostApi.setDescriptionWhileRecording(description.name);
   }
 
+  /// Sets up the camera with the given [description] in the background, so
+  /// that a later call to [setDescriptionWhileRecording] with it switches
+  /// cameras faster.
+  ///
+  /// The camera is opened ahead of time only when the device can keep both
+  /// cameras open at once. Otherwise only its configuration is prepared.
+  Future<void> prepareDescription(CameraDescription description) async {
+    await _hostApi.prepareDescription(description.name);
+  }
+
   @override
   Widget buildPreview(int cameraId) {
     return Texture(textureId: cameraId);
@@ -426,4 +499,10 @@ class HostCameraMessageHandler implements CameraEventApi {
   void closed() {
     cameraEventStreamController.add(CameraClosingEvent(cameraId));
   }
+
+  @override
+  void burstPictureSaved(int index, String path) {
+    cameraEventStreamController
+        .add(AndroidBurstPictureSavedEvent(cameraId, index, path));
+  }
 }
@@ -0,0 +1,34 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+
+/// An event fired when a picture of a burst taken by
+/// `AndroidCamera.takePictureBurst` has been saved.
+class AndroidBurstPictureSavedEvent extends CameraEvent {
+  /// Build an AndroidBurstPictureSaved event triggered from the camera
+  /// represented by `cameraId`.
+  ///
+  /// The `index` is the position of the picture in the burst, and `path` is
+  /// the path of the file it was saved to.
+  const AndroidBurstPictureSavedEvent(super.cameraId, this.index, this.path);
+
+  /// The position of the picture in the burst.
+  final int index;
+
+  /// The path of the file the picture was saved to.
+  final String path;
+
+  @override
+  bool operator ==(Object other) =>
+      identical(this, other) ||
+      super == other &&
+          other is AndroidBurstPictureSavedEvent &&
+          runtimeType == other.runtimeType &&
+          index == other.index &&
+          path == other.path;
+
+  @override
+  int get hashCode => Object.hash(super.hashCode, index, path);
+}
@@ -0,0 +1,100 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:camera_platform_interface/camera_platform_interface.dart';
+import 'package:flutter/foundation.dart';
+
+/// How the frames of an image stream are selected to be sent to Dart.
+enum AndroidCameraImageStreamDeliveryPolicy {
+  /// Sends a frame only once the previous one has been handled, replacing
+  /// frames that arrive meanwhile with newer ones.
+  latestOnly,
+
+  /// Sends at most a given number of frames per second.
+  maxFrameRate,
+
+  /// Sends one of every given number of frames.
+  everyNthFrame,
+}
+
+/// Android-specific options for `onStreamedFrameAvailable`.
+///
+/// Frames are selected by the [deliveryPolicy] before any of their data is
+/// copied. A frame is handled once the listeners of the stream have returned
+/// from processing it. Frames arriving while earlier frames have not been
+/// handled wait or are dropped, so the latency of the stream stays bounded
+/// when processing the frames is slower than the camera.
+@immutable
+class AndroidCameraImageStreamOptions extends CameraImageStreamOptions {
+  /// Sends the latest frame whenever the previous one has been handled.
+  ///
+  /// This is the default.
+  AndroidCameraImageStreamOptions.latestOnly()
+      : deliveryPolicy = AndroidCameraImageStreamDeliveryPolicy.latestOnly,
+        maxFrameRate = null,
+        frameInterval = null;
+
+  /// Sends at most [maxFrameRate] frames per second.
+  AndroidCameraImageStreamOptions.maxFrameRate(int this.maxFrameRate)
+      : assert(maxFrameRate > 0),
+        deliveryPolicy = AndroidCameraImageStreamDeliveryPolicy.maxFrameRate,
+        frameInterval = null;
+
+  /// Sends one of every [frameInterval] frames.
+  AndroidCameraImageStreamOptions.everyNthFrame(int this.frameInterval)
+      : assert(frameInterval > 0),
+        deliveryPolicy = AndroidCameraImageStreamDeliveryPolicy.everyNthFrame,
+        maxFrameRate = null;
+
+  /// How the frames to send are selected.
+  final AndroidCameraImageStreamDeliveryPolicy deliveryPolicy;
+
+  /// The maximum number of frames per second, for
+  /// [AndroidCameraImageStreamDeliveryPolicy.maxFrameRate].
+  final int? maxFrameRate;
+
+  /// The number of frames per sent frame, for
+  /// [AndroidCameraImageStreamDeliveryPolicy.everyNthFrame].
+  final int? frameInterval;
+}
+
+/// Statistics of the image stream of a camera since it was started.
+@immutable
+class AndroidCameraImageStreamStats {
+  /// Creates statistics with the given values.
+  const AndroidCameraImageStreamStats({
+    required this.deliveredFrames,
+    required this.droppedFrames,
+    required this.skippedFrames,
+    required this.queueDepth,
+    required this.maxQueueDepth,
+    required this.averageLatency,
+    required this.maxLatency,
+  });
+
+  /// The number of frames sent to Dart.
+  final int deliveredFrames;
+
+  /// The number of frames dropped, or replaced by newer frames, because too
+  /// many frames had not been handled yet.
+  final int droppedFrames;
+
+  /// The number of frames skipped by the delivery policy.
+  final int skippedFrames;
+
+  /// The number of frames waiting to be sent or to be handled.
+  final int queueDepth;
+
+  /// The largest number of frames that were waiting to be sent or to be
+  /// handled at once.
+  final int maxQueueDepth;
+
+  /// The average time from receiving a frame from the camera to Dart
+  /// acknowledging it.
+  final Duration averageLatency;
+
+  /// The longest time from receiving a frame from the camera to Dart
+  /// acknowledging it.
+  final Duration maxLatency;
+}
@@ -82,6 +82,19 @@ enum PlatformFlashMode {
   torch,
 }
 
+/// How the frames of an image stream are selected to be sent to Dart.
+enum PlatformImageStreamDeliveryPolicy {
+  /// Sends a frame only once the previous one has been handled, replacing
+  /// frames that arrive meanwhile with newer ones.
+  latestOnly,
+
+  /// Sends at most a given number of frames per second.
+  maxFrameRate,
+
+  /// Sends one of every given number of frames.
+  everyNthFrame,
+}
+
 /// Pigeon equivalent of [CameraDescription].
 class PlatformCameraDescription {
   PlatformCameraDescription({
@@ -252,6 +265,153 @@ class PlatformMediaSettings {
   }
 }
 
+/// Options for the delivery of the frames of an image stream.
+class PlatformImageStreamOptions {
+  PlatformImageStreamOptions({
+    required this.deliveryPolicy,
+    this.maxFrameRate,
+    this.frameInterval,
+  });
+
+  PlatformImageStreamDeliveryPolicy deliveryPolicy;
+
+  /// The maximum number of frames per second for
+  /// [PlatformImageStreamDeliveryPolicy.maxFrameRate].
+  int? maxFrameRate;
+
+  /// The number of frames per sent frame for
+  /// [PlatformImageStreamDeliveryPolicy.everyNthFrame].
+  int? frameInterval;
+
+  Object encode() {
+    return <Object?>[
+      deliveryPolicy,
+      maxFrameRate,
+      frameInterval,
+    ];
+  }
+
+  static PlatformImageStreamOptions decode(Object result) {
+    result as List<Object?>;
+    return PlatformImageStreamOptions(
+      deliveryPolicy: result[0]! as PlatformImageStreamDeliveryPolicy,
+      maxFrameRate: result[1] as int?,
+      frameInterval: result[2] as int?,
+    );
+  }
+}
+
+/// Statistics of the current image stream.
+class PlatformImageStreamStats {
+  PlatformImageStreamStats({
+    required this.deliveredFrames,
+    required this.droppedFrames,
+    required this.skippedFrames,
+    required this.queueDepth,
+    required this.maxQueueDepth,
+    required this.averageLatencyMicros,
+    required this.maxLatencyMicros,
+  });
+
+  /// The number of frames sent to Dart.
+  int deliveredFrames;
+
+  /// The number of frames dropped, or replaced by newer frames, because too
+  /// many frames had not been acknowledged yet.
+  int droppedFrames;
+
+  /// The number of frames skipped by the delivery policy.
+  int skippedFrames;
+
+  /// The number of frames waiting to be sent or to be acknowledged.
+  int queueDepth;
+
+  /// The largest number of frames that were waiting to be sent or to be
+  /// acknowledged at once.
+  int maxQueueDepth;
+
+  /// The average time from receiving a frame from the camera to Dart
+  /// acknowledging it.
+  int averageLatencyMicros;
+
+  /// The longest time from receiving a frame from the camera to Dart
+  /// acknowledging it.
+  int maxLatencyMicros;
+
+  Object encode() {
+    return <Object?>[
+      deliveredFrames,
+      droppedFrames,
+      skippedFrames,
+      queueDepth,
+      maxQueueDepth,
+      averageLatencyMicros,
+      maxLatencyMicros,
+    ];
+  }
+
+  static PlatformImageStreamStats decode(Object result) {
+    result as List<Object?>;
+    return PlatformImageStreamStats(
+      deliveredFrames: result[0]! as int,
+      droppedFrames: result[1]! as int,
+      skippedFrames: result[2]! as int,
+      queueDepth: result[3]! as int,
+      maxQueueDepth: result[4]! as int,
+      averageLatencyMicros: result[5]! as int,
+      maxLatencyMicros: result[6]! as int,
+    );
+  }
+}
+
+/// Statistics of the renderer used to switch cameras while recording a video.
+class PlatformVideoRendererStats {
+  PlatformVideoRendererStats({
+    required this.renderedFrames,
+    required this.droppedFrames,
+    required this.averageRenderTimeMicros,
+    required this.maxRenderTimeMicros,
+    required this.averageFrameIntervalMicros,
+  });
+
+  /// The number of frames rendered to the recording.
+  int renderedFrames;
+
+  /// The number of frames replaced by a newer frame before they could be
+  /// rendered.
+  int droppedFrames;
+
+  /// The average time spent rendering a frame.
+  int averageRenderTimeMicros;
+
+  /// The longest time spent rendering a frame.
+  int maxRenderTimeMicros;
+
+  /// The average time between two rendered frames.
+  int averageFrameIntervalMicros;
+
+  Object encode() {
+    return <Object?>[
+      renderedFrames,
+      droppedFrames,
+      averageRenderTimeMicros,
+      maxRenderTimeMicros,
+      averageFrameIntervalMicros,
+    ];
+  }
+
+  static PlatformVideoRendererStats decode(Object result) {
+    result as List<Object?>;
+    return PlatformVideoRendererStats(
+      renderedFrames: result[0]! as int,
+      droppedFrames: result[1]! as int,
+      averageRenderTimeMicros: result[2]! as int,
+      maxRenderTimeMicros: result[3]! as int,
+      averageFrameIntervalMicros: result[4]! as int,
+    );
+  }
+}
+
 class _PigeonCodec extends StandardMessageCodec {
   const _PigeonCodec();
   @override
@@ -280,20 +440,32 @@ class _PigeonCodec extends StandardMessageCodec {
     } else if (value is PlatformFlashMode) {
       buffer.putUint8(135);
       writeValue(buffer, value.index);
-    } else if (value is PlatformCameraDescription) {
+    } else if (value is PlatformImageStreamDeliveryPolicy) {
       buffer.putUint8(136);
+      writeValue(buffer, value.index);
+    } else if (value is PlatformCameraDescription) {
+      buffer.putUint8(137);
       writeValue(buffer, value.encode());
     } else if (value is PlatformCameraState) {
-      buffer.putUint8(137);
+      buffer.putUint8(138);
       writeValue(buffer, value.encode());
     } else if (value is PlatformSize) {
-      buffer.putUint8(138);
+      buffer.putUint8(139);
       writeValue(buffer, value.encode());
     } else if (value is PlatformPoint) {
-      buffer.putUint8(139);
+      buffer.putUint8(140);
       writeValue(buffer, value.encode());
     } else if (value is PlatformMediaSettings) {
-      buffer.putUint8(140);
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformImageStreamOptions) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformImageStreamStats) {
+      buffer.putUint8(143);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformVideoRendererStats) {
+      buffer.putUint8(144);
       writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
@@ -325,15 +497,26 @@ class _PigeonCodec extends StandardMessageCodec {
         final int? value = readValue(buffer) as int?;
         return value == null ? null : PlatformFlashMode.values[value];
       case 136:
-        return PlatformCameraDescription.decode(readValue(buffer)!);
+        final int? value = readValue(buffer) as int?;
+        return value == null
+            ? null
+            : PlatformImageStreamDeliveryPolicy.values[value];
       case 137:
-        return PlatformCameraState.decode(readValue(buffer)!);
+        return PlatformCameraDescription.decode(readValue(buffer)!);
       case 138:
-        return PlatformSize.decode(readValue(buffer)!);
+        return PlatformCameraState.decode(readValue(buffer)!);
       case 139:
-        return PlatformPoint.decode(readValue(buffer)!);
+        return PlatformSize.decode(readValue(buffer)!);
       case 140:
+        return PlatformPoint.decode(readValue(buffer)!);
+      case 141:
         return PlatformMediaSettings.decode(readValue(buffer)!);
+      case 142:
+        return PlatformImageStreamOptions.decode(readValue(buffer)!);
+      case 143:
+        return PlatformImageStreamStats.decode(readValue(buffer)!);
+      case 144:
+        return PlatformVideoRendererStats.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -550,6 +733,38 @@ class CameraApi {
     }
   }
 
+  /// Takes [pictureCount] pictures in a burst on the camera with the given ID.
+  ///
+  /// [pictureCount] must be between 1 and 4, as all of the pictures are
+  /// requested at once and must fit in the picture image reader.
+  ///
+  /// The path of each picture is sent to [CameraEventApi.burstPictureSaved]
+  /// once it has been saved. Completes once all of the pictures have been
+  /// saved.
+  Future<void> takePictureBurst(int pictureCount) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.takePictureBurst$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[pictureCount]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   /// Starts recording a video on the camera with the given ID.
   Future<void> startVideoRecording(bool enableStream) async {
     final String pigeonVar_channelName =
@@ -657,7 +872,7 @@ class CameraApi {
   }
 
   /// Begins streaming frames from the camera.
-  Future<void> startImageStream() async {
+  Future<void> startImageStream(PlatformImageStreamOptions options) async {
     final String pigeonVar_channelName =
         'dev.flutter.pigeon.camera_android.CameraApi.startImageStream$pigeonVar_messageChannelSuffix';
     final BasicMessageChannel<Object?> pigeonVar_channel =
@@ -667,7 +882,7 @@ class CameraApi {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_channel.send(null) as List<Object?>?;
+        await pigeonVar_channel.send(<Object?>[options]) as List<Object?>?;
     if (pigeonVar_replyList == null) {
       throw _createConnectionError(pigeonVar_channelName);
     } else if (pigeonVar_replyList.length > 1) {
@@ -706,6 +921,92 @@ class CameraApi {
     }
   }
 
+  /// Acknowledges that Dart has handled a frame of the image stream.
+  Future<void> acknowledgeImageStreamFrame() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.acknowledgeImageStreamFrame$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns statistics of the current image stream.
+  Future<PlatformImageStreamStats> getImageStreamStats() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.getImageStreamStats$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformImageStreamStats?)!;
+    }
+  }
+
+  /// Returns statistics of the renderer used to switch cameras while
+  /// recording a video, which are kept once the recording has stopped.
+  Future<PlatformVideoRendererStats> getVideoRendererStats() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.getVideoRendererStats$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformVideoRendererStats?)!;
+    }
+  }
+
   /// Sets the flash mode of the camera with the given ID.
   Future<void> setFlashMode(PlatformFlashMode flashMode) async {
     final String pigeonVar_channelName =
@@ -1117,6 +1418,32 @@ class CameraApi {
       return;
     }
   }
+
+  /// Prepares the camera with the given description, so that a later call to
+  /// [setDescriptionWhileRecording] with it switches cameras faster.
+  Future<void> prepareDescription(String description) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.camera_android.CameraApi.prepareDescription$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[description]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 /// Handles calls from native side to Dart that are not camera-specific.
@@ -1179,6 +1506,9 @@ abstract class CameraEventApi {
   /// Called when the camera closes.
   void closed();
 
+  /// Called when the picture at [index] of a burst has been saved to [path].
+  void burstPictureSaved(int index, String path);
+
   static void setUp(
     CameraEventApi? api, {
     BinaryMessenger? binaryMessenger,
@@ -1268,5 +1598,37 @@ abstract class CameraEventApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.camera_android.CameraEventApi.burstPictureSaved$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.camera_android.CameraEventApi.burstPictureSaved was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_index = (args[0] as int?);
+          assert(arg_index != null,
+              'Argument for dev.flutter.pigeon.camera_android.CameraEventApi.burstPictureSaved was null, expected non-null int.');
+          final String? arg_path = (args[1] as String?);
+          assert(arg_path != null,
+              'Argument for dev.flutter.pigeon.camera_android.CameraEventApi.burstPictureSaved was null, expected non-null String.');
+          try {
+            api.burstPictureSaved(arg_index!, arg_path!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
   }
 }
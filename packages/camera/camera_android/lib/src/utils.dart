@@ -7,7 +7,9 @@ import 'dart:math';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
 
+import 'image_stream.dart';
 import 'messages.g.dart';
+import 'video_renderer_stats.dart';
 
 /// Converts a [PlatformCameraLensDirection] to [CameraLensDirection].
 CameraLensDirection cameraLensDirectionFromPlatform(
@@ -159,3 +161,51 @@ PlatformFlashMode flashModeToPlatform(FlashMode mode) {
 /// Null becomes null.
 PlatformPoint? pointToPlatform(Point<double>? point) =>
     (point != null) ? PlatformPoint(x: point.x, y: point.y) : null;
+
+/// Converts [CameraImageStreamOptions] to [PlatformImageStreamOptions].
+///
+/// Options that are not [AndroidCameraImageStreamOptions] default to
+/// [PlatformImageStreamDeliveryPolicy.latestOnly].
+PlatformImageStreamOptions imageStreamOptionsToPlatform(
+    CameraImageStreamOptions? options) {
+  if (options is! AndroidCameraImageStreamOptions) {
+    return PlatformImageStreamOptions(
+        deliveryPolicy: PlatformImageStreamDeliveryPolicy.latestOnly);
+  }
+  return PlatformImageStreamOptions(
+      deliveryPolicy: switch (options.deliveryPolicy) {
+        AndroidCameraImageStreamDeliveryPolicy.latestOnly =>
+          PlatformImageStreamDeliveryPolicy.latestOnly,
+        AndroidCameraImageStreamDeliveryPolicy.maxFrameRate =>
+          PlatformImageStreamDeliveryPolicy.maxFrameRate,
+        AndroidCameraImageStreamDeliveryPolicy.everyNthFrame =>
+          PlatformImageStreamDeliveryPolicy.everyNthFrame,
+      },
+      maxFrameRate: options.maxFrameRate,
+      frameInterval: options.frameInterval);
+}
+
+/// Converts a [PlatformImageStreamStats] to [AndroidCameraImageStreamStats].
+AndroidCameraImageStreamStats imageStreamStatsFromPlatform(
+        PlatformImageStreamStats stats) =>
+    AndroidCameraImageStreamStats(
+        deliveredFrames: stats.deliveredFrames,
+        droppedFrames: stats.droppedFrames,
+        skippedFrames: stats.skippedFrames,
+        queueDepth: stats.queueDepth,
+        maxQueueDepth: stats.maxQueueDepth,
+        averageLatency: Duration(microseconds: stats.averageLatencyMicros),
+        maxLatency: Duration(microseconds: stats.maxLatencyMicros));
+
+/// Converts a [PlatformVideoRendererStats] to
+/// [AndroidCameraVideoRendererStats].
+AndroidCameraVideoRendererStats videoRendererStatsFromPlatform(
+        PlatformVideoRendererStats stats) =>
+    AndroidCameraVideoRendererStats(
+        renderedFrames: stats.renderedFrames,
+        droppedFrames: stats.droppedFrames,
+        averageRenderTime:
+            Duration(microseconds: stats.averageRenderTimeMicros),
+        maxRenderTime: Duration(microseconds: stats.maxRenderTimeMicros),
+        averageFrameInterval:
+            Duration(microseconds: stats.averageFrameIntervalMicros));
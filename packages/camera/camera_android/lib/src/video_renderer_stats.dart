@@ -0,0 +1,36 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// Statistics of the renderer that scales, crops and rotates the frames of a
+/// video recording after the camera was switched while recording.
+@immutable
+class AndroidCameraVideoRendererStats {
+  /// Creates statistics with the given values.
+  const AndroidCameraVideoRendererStats({
+    required this.renderedFrames,
+    required this.droppedFrames,
+    required this.averageRenderTime,
+    required this.maxRenderTime,
+    required this.averageFrameInterval,
+  });
+
+  /// The number of frames rendered to the recording.
+  final int renderedFrames;
+
+  /// The number of frames replaced by a newer frame before they could be
+  /// rendered.
+  final int droppedFrames;
+
+  /// The average time spent rendering a frame.
+  final Duration averageRenderTime;
+
+  /// The longest time spent rendering a frame.
+  final Duration maxRenderTime;
+
+  /// The average time between two rendered frames, which is about 16.7 ms
+  /// when the recording sustains 60 frames per second.
+  final Duration averageFrameInterval;
+}
@@ -122,6 +122,98 @@ enum PlatformFlashMode {
   torch,
 }
 
+/// How the frames of an image stream are selected to be sent to Dart.
+enum PlatformImageStreamDeliveryPolicy {
+  /// Sends a frame only once the previous one has been handled, replacing
+  /// frames that arrive meanwhile with newer ones.
+  latestOnly,
+
+  /// Sends at most a given number of frames per second.
+  maxFrameRate,
+
+  /// Sends one of every given number of frames.
+  everyNthFrame,
+}
+
+/// Options for the delivery of the frames of an image stream.
+class PlatformImageStreamOptions {
+  PlatformImageStreamOptions(
+      {required this.deliveryPolicy, this.maxFrameRate, this.frameInterval});
+
+  final PlatformImageStreamDeliveryPolicy deliveryPolicy;
+
+  /// The maximum number of frames per second for
+  /// [PlatformImageStreamDeliveryPolicy.maxFrameRate].
+  final int? maxFrameRate;
+
+  /// The number of frames per sent frame for
+  /// [PlatformImageStreamDeliveryPolicy.everyNthFrame].
+  final int? frameInterval;
+}
+
+/// Statistics of the current image stream.
+class PlatformImageStreamStats {
+  PlatformImageStreamStats(
+      {required this.deliveredFrames,
+      required this.droppedFrames,
+      required this.skippedFrames,
+      required this.queueDepth,
+      required this.maxQueueDepth,
+      required this.averageLatencyMicros,
+      required this.maxLatencyMicros});
+
+  /// The number of frames sent to Dart.
+  final int deliveredFrames;
+
+  /// The number of frames dropped, or replaced by newer frames, because too
+  /// many frames had not been acknowledged yet.
+  final int droppedFrames;
+
+  /// The number of frames skipped by the delivery policy.
+  final int skippedFrames;
+
+  /// The number of frames waiting to be sent or to be acknowledged.
+  final int queueDepth;
+
+  /// The largest number of frames that were waiting to be sent or to be
+  /// acknowledged at once.
+  final int maxQueueDepth;
+
+  /// The average time from receiving a frame from the camera to Dart
+  /// acknowledging it.
+  final int averageLatencyMicros;
+
+  /// The longest time from receiving a frame from the camera to Dart
+  /// acknowledging it.
+  final int maxLatencyMicros;
+}
+
+/// Statistics of the renderer used to switch cameras while recording a video.
+class PlatformVideoRendererStats {
+  PlatformVideoRendererStats(
+      {required this.renderedFrames,
+      required this.droppedFrames,
+      required this.averageRenderTimeMicros,
+      required this.maxRenderTimeMicros,
+      required this.averageFrameIntervalMicros});
+
+  /// The number of frames rendered to the recording.
+  final int renderedFrames;
+
+  /// The number of frames replaced by a newer frame before they could be
+  /// rendered.
+  final int droppedFrames;
+
+  /// The average time spent rendering a frame.
+  final int averageRenderTimeMicros;
+
+  /// The longest time spent rendering a frame.
+  final int maxRenderTimeMicros;
+
+  /// The average time between two rendered frames.
+  final int averageFrameIntervalMicros;
+}
+
 /// Handles calls from Dart to the native side.
 @HostApi()
 abstract class CameraApi {
@@ -149,6 +241,17 @@ abstract class CameraApi {
   @async
   String takePicture();
 
+  /// Takes [pictureCount] pictures in a burst on the camera with the given ID.
+  ///
+  /// [pictureCount] must be between 1 and 4, as all of the pictures are
+  /// requested at once and must fit in the picture image reader.
+  ///
+  /// The path of each picture is sent to [CameraEventApi.burstPictureSaved]
+  /// once it has been saved. Completes once all of the pictures have been
+  /// saved.
+  @async
+  void takePictureBurst(int pictureCount);
+
   /// Starts recording a video on the camera with the given ID.
   void startVideoRecording(bool enableStream);
 
@@ -163,11 +266,21 @@ abstract class CameraApi {
   void resumeVideoRecording();
 
   /// Begins streaming frames from the camera.
-  void startImageStream();
+  void startImageStream(PlatformImageStreamOptions options);
 
   /// Stops streaming frames from the camera.
   void stopImageStream();
 
+  /// Acknowledges that Dart has handled a frame of the image stream.
+  void acknowledgeImageStreamFrame();
+
+  /// Returns statistics of the current image stream.
+  PlatformImageStreamStats getImageStreamStats();
+
+  /// Returns statistics of the renderer used to switch cameras while
+  /// recording a video, which are kept once the recording has stopped.
+  PlatformVideoRendererStats getVideoRendererStats();
+
   /// Sets the flash mode of the camera with the given ID.
   @async
   void setFlashMode(PlatformFlashMode flashMode);
@@ -225,6 +338,10 @@ abstract class CameraApi {
   ///
   /// This should be called only while video recording is active.
   void setDescriptionWhileRecording(String description);
+
+  /// Prepares the camera with the given description, so that a later call to
+  /// [setDescriptionWhileRecording] with it switches cameras faster.
+  void prepareDescription(String description);
 }
 
 /// Handles calls from native side to Dart that are not camera-specific.
@@ -245,4 +362,7 @@ abstract class CameraEventApi {
 
   /// Called when the camera closes.
   void closed();
+
+  /// Called when the picture at [index] of a burst has been saved to [path].
+  void burstPictureSaved(int index, String path);
 }
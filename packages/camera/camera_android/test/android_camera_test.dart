@@ -7,8 +7,11 @@ import 'dart:math';
 
 import 'package:async/async.dart';
 import 'package:camera_android/src/android_camera.dart';
+import 'package:camera_android/src/burst_capture.dart';
+import 'package:camera_android/src/image_stream.dart';
 import 'package:camera_android/src/messages.g.dart';
 import 'package:camera_android/src/utils.dart';
+import 'package:camera_android/src/video_renderer_stats.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
@@ -341,6 +344,23 @@ void main() {
       await streamQueue.cancel();
     });
 
+    test('Should receive burst picture saved events', () async {
+      // Act
+      final StreamQueue<CameraEvent> streamQueue =
+          StreamQueue<CameraEvent>(camera.cameraEventStreamController.stream);
+
+      // Emit test events
+      camera.hostCameraHandlers[cameraId]!
+          .burstPictureSaved(1, '/test/burst1.jpg');
+
+      // Assert
+      expect(await streamQueue.next,
+          AndroidBurstPictureSavedEvent(cameraId, 1, '/test/burst1.jpg'));
+
+      // Clean up
+      await streamQueue.cancel();
+    });
+
     test('Should receive device orientation change events', () async {
       // Act
       final Stream<DeviceOrientationChangedEvent> eventStream =
@@ -464,6 +484,45 @@ void main() {
       expect(file.path, '/test/path.jpg');
     });
 
+    test('Should stream the pictures of a burst as they are saved', () async {
+      // Arrange
+      final Completer<void> burstCompleter = Completer<void>();
+      when(mockCameraApi.takePictureBurst(2))
+          .thenAnswer((_) => burstCompleter.future);
+
+      // Act
+      final Future<List<XFile>> files =
+          camera.takePictureBurst(cameraId, 2).toList();
+      camera.hostCameraHandlers[cameraId]!
+          .burstPictureSaved(0, '/test/burst0.jpg');
+      camera.hostCameraHandlers[cameraId]!
+          .burstPictureSaved(1, '/test/burst1.jpg');
+      burstCompleter.complete();
+
+      // Assert
+      expect((await files).map((XFile file) => file.path),
+          <String>['/test/burst0.jpg', '/test/burst1.jpg']);
+      verify(mockCameraApi.takePictureBurst(2)).called(1);
+    });
+
+    test('Should emit an error when a burst fails', () async {
+      // Arrange
+      when(mockCameraApi.takePictureBurst(3)).thenAnswer((_) async =>
+          throw PlatformException(code: 'captureFailed', message: 'failed'));
+
+      // Act
+      final Stream<XFile> stream = camera.takePictureBurst(cameraId, 3);
+
+      // Assert
+      expect(
+          stream,
+          emitsInOrder(<Object>[
+            emitsError(isA<PlatformException>().having(
+                (PlatformException e) => e.code, 'code', 'captureFailed')),
+            emitsDone,
+          ]));
+    });
+
     test('Should start recording a video', () async {
       // Arrange
       // Act
@@ -533,6 +592,21 @@ void main() {
           .called(1);
     });
 
+    test('Should prepare a description', () async {
+      // Arrange
+      const CameraDescription camera2Description = CameraDescription(
+          name: 'Test2',
+          lensDirection: CameraLensDirection.front,
+          sensorOrientation: 0);
+
+      // Act
+      await camera.prepareDescription(camera2Description);
+
+      // Assert
+      verify(mockCameraApi.prepareDescription(camera2Description.name))
+          .called(1);
+    });
+
     test('Should set the flash mode', () async {
       // Arrange
       // Act
@@ -738,7 +812,65 @@ void main() {
           .listen((CameraImageData imageData) {});
 
       // Assert
-      verify(mockCameraApi.startImageStream()).called(1);
+      final PlatformImageStreamOptions options =
+          verify(mockCameraApi.startImageStream(captureAny)).captured.single
+              as PlatformImageStreamOptions;
+      expect(
+          options.deliveryPolicy, PlatformImageStreamDeliveryPolicy.latestOnly);
+
+      await subscription.cancel();
+    });
+
+    test('Should start streaming with a delivery policy', () async {
+      // Arrange
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId,
+              options: AndroidCameraImageStreamOptions.maxFrameRate(10))
+          .listen((CameraImageData imageData) {});
+
+      // Assert
+      final PlatformImageStreamOptions options =
+          verify(mockCameraApi.startImageStream(captureAny)).captured.single
+              as PlatformImageStreamOptions;
+      expect(options.deliveryPolicy,
+          PlatformImageStreamDeliveryPolicy.maxFrameRate);
+      expect(options.maxFrameRate, 10);
+
+      await subscription.cancel();
+    });
+
+    test('Should acknowledge each frame once listeners have handled it',
+        () async {
+      // Arrange
+      const EventChannel imageStreamChannel =
+          EventChannel('plugins.flutter.io/camera_android/imageStream');
+      final MockStreamHandler streamHandler = MockStreamHandler.inline(
+          onListen: (Object? arguments, MockStreamHandlerEventSink events) {
+        events.success(<String, Object?>{
+          'format': 35,
+          'width': 4,
+          'height': 2,
+          'planes': <Object?>[],
+        });
+      });
+      TestDefaultBinaryMessengerBinding.instance.defaultBinaryMessenger
+          .setMockStreamHandler(imageStreamChannel, streamHandler);
+      addTearDown(() => TestDefaultBinaryMessengerBinding
+          .instance.defaultBinaryMessenger
+          .setMockStreamHandler(imageStreamChannel, null));
+      final List<String> calls = <String>[];
+      when(mockCameraApi.acknowledgeImageStreamFrame())
+          .thenAnswer((_) async => calls.add('acknowledge'));
+
+      // Act
+      final StreamSubscription<CameraImageData> subscription = camera
+          .onStreamedFrameAvailable(cameraId)
+          .listen((CameraImageData imageData) => calls.add('frame'));
+      await pumpEventQueue();
+
+      // Assert
+      expect(calls, <String>['frame', 'acknowledge']);
 
       await subscription.cancel();
     });
@@ -752,8 +884,59 @@ void main() {
       await subscription.cancel();
 
       // Assert
-      verify(mockCameraApi.startImageStream()).called(1);
+      verify(mockCameraApi.startImageStream(any)).called(1);
       verify(mockCameraApi.stopImageStream()).called(1);
     });
+
+    test('Should get the image stream statistics', () async {
+      // Arrange
+      when(mockCameraApi.getImageStreamStats())
+          .thenAnswer((_) async => PlatformImageStreamStats(
+                deliveredFrames: 10,
+                droppedFrames: 2,
+                skippedFrames: 20,
+                queueDepth: 1,
+                maxQueueDepth: 3,
+                averageLatencyMicros: 1500,
+                maxLatencyMicros: 4000,
+              ));
+
+      // Act
+      final AndroidCameraImageStreamStats stats =
+          await camera.getImageStreamStats(cameraId);
+
+      // Assert
+      expect(stats.deliveredFrames, 10);
+      expect(stats.droppedFrames, 2);
+      expect(stats.skippedFrames, 20);
+      expect(stats.queueDepth, 1);
+      expect(stats.maxQueueDepth, 3);
+      expect(stats.averageLatency, const Duration(microseconds: 1500));
+      expect(stats.maxLatency, const Duration(milliseconds: 4));
+    });
+
+    test('Should get the video renderer statistics', () async {
+      // Arrange
+      when(mockCameraApi.getVideoRendererStats())
+          .thenAnswer((_) async => PlatformVideoRendererStats(
+                renderedFrames: 120,
+                droppedFrames: 3,
+                averageRenderTimeMicros: 1500,
+                maxRenderTimeMicros: 4000,
+                averageFrameIntervalMicros: 16667,
+              ));
+
+      // Act
+      final AndroidCameraVideoRendererStats stats =
+          await camera.getVideoRendererStats(cameraId);
+
+      // Assert
+      expect(stats.renderedFrames, 120);
+      expect(stats.droppedFrames, 3);
+      expect(stats.averageRenderTime, const Duration(microseconds: 1500));
+      expect(stats.maxRenderTime, const Duration(milliseconds: 4));
+      expect(
+          stats.averageFrameInterval, const Duration(microseconds: 16667));
+    });
   });
 }
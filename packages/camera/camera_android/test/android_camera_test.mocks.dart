@@ -22,6 +22,28 @@ import 'package:mockito/src/dummies.dart' as _i3;
 // ignore_for_file: camel_case_types
 // ignore_for_file: subtype_of_sealed_class
 
+class _FakePlatformImageStreamStats_0 extends _i1.SmartFake
+    implements _i2.PlatformImageStreamStats {
+  _FakePlatformImageStreamStats_0(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
+class _FakePlatformVideoRendererStats_1 extends _i1.SmartFake
+    implements _i2.PlatformVideoRendererStats {
+  _FakePlatformVideoRendererStats_1(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [CameraApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -136,6 +158,16 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
         )),
       ) as _i4.Future<String>);
 
+  @override
+  _i4.Future<void> takePictureBurst(int? pictureCount) => (super.noSuchMethod(
+        Invocation.method(
+          #takePictureBurst,
+          [pictureCount],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
   @override
   _i4.Future<void> startVideoRecording(bool? enableStream) =>
       (super.noSuchMethod(
@@ -191,10 +223,12 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
       ) as _i4.Future<void>);
 
   @override
-  _i4.Future<void> startImageStream() => (super.noSuchMethod(
+  _i4.Future<void> startImageStream(
+          _i2.PlatformImageStreamOptions? options) =>
+      (super.noSuchMethod(
         Invocation.method(
           #startImageStream,
-          [],
+          [options],
         ),
         returnValue: _i4.Future<void>.value(),
         returnValueForMissingStub: _i4.Future<void>.value(),
@@ -210,6 +244,68 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
 
+  @override
+  _i4.Future<void> acknowledgeImageStreamFrame() => (super.noSuchMethod(
+        Invocation.method(
+          #acknowledgeImageStreamFrame,
+          [],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
+
+  @override
+  _i4.Future<_i2.PlatformImageStreamStats> getImageStreamStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getImageStreamStats,
+          [],
+        ),
+        returnValue: _i4.Future<_i2.PlatformImageStreamStats>.value(
+            _FakePlatformImageStreamStats_0(
+          this,
+          Invocation.method(
+            #getImageStreamStats,
+            [],
+          ),
+        )),
+        returnValueForMissingStub:
+            _i4.Future<_i2.PlatformImageStreamStats>.value(
+                _FakePlatformImageStreamStats_0(
+          this,
+          Invocation.method(
+            #getImageStreamStats,
+            [],
+          ),
+        )),
+      ) as _i4.Future<_i2.PlatformImageStreamStats>);
+
+  @override
+  _i4.Future<_i2.PlatformVideoRendererStats> getVideoRendererStats() =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getVideoRendererStats,
+          [],
+        ),
+        returnValue: _i4.Future<_i2.PlatformVideoRendererStats>.value(
+            _FakePlatformVideoRendererStats_1(
+          this,
+          Invocation.method(
+            #getVideoRendererStats,
+            [],
+          ),
+        )),
+        returnValueForMissingStub:
+            _i4.Future<_i2.PlatformVideoRendererStats>.value(
+                _FakePlatformVideoRendererStats_1(
+          this,
+          Invocation.method(
+            #getVideoRendererStats,
+            [],
+          ),
+        )),
+      ) as _i4.Future<_i2.PlatformVideoRendererStats>);
+
   @override
   _i4.Future<void> setFlashMode(_i2.PlatformFlashMode? flashMode) =>
       (super.noSuchMethod(
@@ -365,4 +461,15 @@ class MockCameraApi extends _i1.Mock implements _i2.CameraApi {
         returnValue: _i4.Future<void>.value(),
         returnValueForMissingStub: _i4.Future<void>.value(),
       ) as _i4.Future<void>);
+
+  @override
+  _i4.Future<void> prepareDescription(String? description) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #prepareDescription,
+          [description],
+        ),
+        returnValue: _i4.Future<void>.value(),
+        returnValueForMissingStub: _i4.Future<void>.value(),
+      ) as _i4.Future<void>);
 }
@@ -2,6 +2,7 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'package:camera_android/src/image_stream.dart';
 import 'package:camera_android/src/messages.g.dart';
 import 'package:camera_android/src/utils.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
@@ -55,5 +56,30 @@ void main() {
       expect(focusModeFromPlatform(PlatformFocusMode.auto), FocusMode.auto);
       expect(focusModeFromPlatform(PlatformFocusMode.locked), FocusMode.locked);
     });
+
+    test('imageStreamOptionsToPlatform() should convert correctly', () {
+      expect(imageStreamOptionsToPlatform(null).deliveryPolicy,
+          PlatformImageStreamDeliveryPolicy.latestOnly);
+      expect(
+          imageStreamOptionsToPlatform(CameraImageStreamOptions())
+              .deliveryPolicy,
+          PlatformImageStreamDeliveryPolicy.latestOnly);
+
+      final PlatformImageStreamOptions maxFrameRate =
+          imageStreamOptionsToPlatform(
+              AndroidCameraImageStreamOptions.maxFrameRate(15));
+      expect(maxFrameRate.deliveryPolicy,
+          PlatformImageStreamDeliveryPolicy.maxFrameRate);
+      expect(maxFrameRate.maxFrameRate, 15);
+      expect(maxFrameRate.frameInterval, isNull);
+
+      final PlatformImageStreamOptions everyNthFrame =
+          imageStreamOptionsToPlatform(
+              AndroidCameraImageStreamOptions.everyNthFrame(3));
+      expect(everyNthFrame.deliveryPolicy,
+          PlatformImageStreamDeliveryPolicy.everyNthFrame);
+      expect(everyNthFrame.maxFrameRate, isNull);
+      expect(everyNthFrame.frameInterval, 3);
+    });
   });
 }
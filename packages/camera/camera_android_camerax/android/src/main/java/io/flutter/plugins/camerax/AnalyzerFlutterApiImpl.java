@@ -62,6 +62,20 @@ public class AnalyzerFlutterApiImpl {
         callback);
   }
 
+  /**
+   * Sends a message to Dart to call {@code PackedFrameAnalyzer.analyzePackedFrame} on the Dart
+   * object representing `instance`.
+   */
+  public void analyzePackedFrame(
+      @NonNull ImageAnalysis.Analyzer analyzerInstance,
+      @NonNull byte[] frame,
+      @NonNull AnalyzerFlutterApi.Reply<Void> callback) {
+    api.analyzePackedFrame(
+        Objects.requireNonNull(instanceManager.getIdentifierForStrongReference(analyzerInstance)),
+        frame,
+        callback);
+  }
+
   /**
    * Sets the Flutter API used to send messages to Dart.
    *
@@ -32,6 +32,13 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
         @NonNull BinaryMessenger binaryMessenger, @NonNull InstanceManager instanceManager) {
       return new AnalyzerImpl(binaryMessenger, instanceManager);
     }
+
+    /** Creates an instance of {@link PackedFrameAnalyzerImpl}. */
+    @NonNull
+    public PackedFrameAnalyzerImpl createPacked(
+        @NonNull BinaryMessenger binaryMessenger, @NonNull InstanceManager instanceManager) {
+      return new PackedFrameAnalyzerImpl(binaryMessenger, instanceManager);
+    }
   }
 
   /**
@@ -79,6 +86,52 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
     }
   }
 
+  /**
+   * Implementation of {@link ImageAnalysis.Analyzer} that sends the format, size, strides and bytes
+   * of each image to Dart in a single message, and closes the image once Dart has handled it.
+   *
+   * <p>CameraX does not produce the next image for the analyzer until the current one is closed,
+   * so keeping it open until Dart replies lets {@link ImageAnalysis#STRATEGY_KEEP_ONLY_LATEST}
+   * drop the images that arrive while Dart is busy.
+   */
+  public static class PackedFrameAnalyzerImpl implements ImageAnalysis.Analyzer {
+    private final ImageProxyPacker packer = new ImageProxyPacker();
+    private AnalyzerFlutterApiImpl api;
+
+    /**
+     * Constructs an instance of {@link ImageAnalysis.Analyzer} that sends packed images to Dart.
+     */
+    public PackedFrameAnalyzerImpl(
+        @NonNull BinaryMessenger binaryMessenger, @NonNull InstanceManager instanceManager) {
+      api = new AnalyzerFlutterApiImpl(binaryMessenger, instanceManager);
+    }
+
+    @Override
+    public void analyze(@NonNull ImageProxy imageProxy) {
+      boolean sent = false;
+      try {
+        // The message is encoded while it is sent, so the packer can reuse its array for the next
+        // image even though this one is still open.
+        api.analyzePackedFrame(this, packer.pack(imageProxy), reply -> imageProxy.close());
+        sent = true;
+      } finally {
+        if (!sent) {
+          imageProxy.close();
+        }
+      }
+    }
+
+    /**
+     * Flutter API used to send messages back to Dart.
+     *
+     * <p>This is only visible for testing.
+     */
+    @VisibleForTesting
+    void setApi(@NonNull AnalyzerFlutterApiImpl api) {
+      this.api = api;
+    }
+  }
+
   /**
    * Constructs a {@link AnalyzerHostApiImpl}.
    *
@@ -116,4 +169,14 @@ public class AnalyzerHostApiImpl implements AnalyzerHostApi {
     instanceManager.addDartCreatedInstance(
         proxy.create(binaryMessenger, instanceManager), identifier);
   }
+
+  /**
+   * Creates a {@link PackedFrameAnalyzerImpl} that represents an {@link ImageAnalysis.Analyzer}
+   * instance with the specified identifier.
+   */
+  @Override
+  public void createPacked(@NonNull Long identifier) {
+    instanceManager.addDartCreatedInstance(
+        proxy.createPacked(binaryMessenger, instanceManager), identifier);
+  }
 }
@@ -53,6 +53,9 @@ public final class CameraAndroidCameraxPlugin implements FlutterPlugin, Activity
       @NonNull Context context,
       @NonNull TextureRegistry textureRegistry) {
     // Set up instance manager.
+    if (instanceManager != null) {
+      instanceManager.stopFinalizationListener();
+    }
     instanceManager =
         InstanceManager.create(
             identifier -> {
@@ -3054,6 +3054,8 @@ public class GeneratedCameraXLibrary {
 
     void create(@NonNull Long identifier);
 
+    void createPacked(@NonNull Long identifier);
+
     /** The codec used by AnalyzerHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return new StandardMessageCodec();
@@ -3085,6 +3087,29 @@ public class GeneratedCameraXLibrary {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AnalyzerHostApi.createPacked", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Number identifierArg = (Number) args.get(0);
+                try {
+                  api.createPacked((identifierArg == null) ? null : identifierArg.longValue());
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  ArrayList<Object> wrappedError = wrapError(exception);
+                  wrapped = wrappedError;
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
@@ -3400,6 +3425,18 @@ public class GeneratedCameraXLibrary {
           new ArrayList<Object>(Arrays.asList(identifierArg, imageProxyIdentifierArg)),
           channelReply -> callback.reply(null));
     }
+
+    public void analyzePackedFrame(
+        @NonNull Long identifierArg, @NonNull byte[] frameArg, @NonNull Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.AnalyzerFlutterApi.analyzePackedFrame",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(identifierArg, frameArg)),
+          channelReply -> callback.reply(null));
+    }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
   public interface ImageProxyHostApi {
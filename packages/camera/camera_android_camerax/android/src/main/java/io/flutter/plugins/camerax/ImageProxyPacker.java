@@ -0,0 +1,57 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.camera.core.ImageProxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Packs the format, size, strides and bytes of an {@link ImageProxy} into a single array, so that
+ * the image can be sent to Dart in one message.
+ *
+ * <p>The array starts with little-endian 32-bit integers for the format, width, height and number
+ * of planes, followed by the row stride, pixel stride and number of bytes of each plane. The bytes
+ * of each plane follow in order.
+ *
+ * <p>The array is reused for the next image of the same size, so it must be sent before packing
+ * another image.
+ */
+public final class ImageProxyPacker {
+  private static final int HEADER_SIZE = 4 * Integer.BYTES;
+  private static final int PLANE_HEADER_SIZE = 3 * Integer.BYTES;
+
+  @Nullable private byte[] frame;
+
+  /** Returns the packed data of {@code image}. */
+  @NonNull
+  public byte[] pack(@NonNull ImageProxy image) {
+    ImageProxy.PlaneProxy[] planes = image.getPlanes();
+    int size = HEADER_SIZE + planes.length * PLANE_HEADER_SIZE;
+    for (ImageProxy.PlaneProxy plane : planes) {
+      size += plane.getBuffer().remaining();
+    }
+    if (frame == null || frame.length != size) {
+      frame = new byte[size];
+    }
+
+    ByteBuffer output = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+    output.putInt(image.getFormat());
+    output.putInt(image.getWidth());
+    output.putInt(image.getHeight());
+    output.putInt(planes.length);
+    for (ImageProxy.PlaneProxy plane : planes) {
+      output.putInt(plane.getRowStride());
+      output.putInt(plane.getPixelStride());
+      output.putInt(plane.getBuffer().remaining());
+    }
+    for (ImageProxy.PlaneProxy plane : planes) {
+      output.put(plane.getBuffer().duplicate());
+    }
+    return frame;
+  }
+}
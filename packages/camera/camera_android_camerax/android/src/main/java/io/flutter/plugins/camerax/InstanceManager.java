@@ -5,13 +5,14 @@
 package io.flutter.plugins.camerax;
 
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.WeakHashMap;
 
 /**
@@ -28,6 +29,10 @@ import java.util.WeakHashMap;
  * is removed and then the identifier is retrieved with the intention to pass the identifier to Dart
  * (e.g. calling {@link #getIdentifierForStrongReference(Object)}), the strong reference to the
  * instance is recreated. The strong reference will then need to be removed manually again.
+ *
+ * <p>The manager is thread safe. Instances are stored by primitive identifier, and garbage
+ * collected instances are released in batches on a background thread, so that the {@link
+ * FinalizationListener} is called once per batch on the main thread.
  */
 @SuppressWarnings("unchecked")
 public class InstanceManager {
@@ -60,21 +65,37 @@ public class InstanceManager {
     void onFinalize(long identifier);
   }
 
+  /** A weak reference that knows the identifier of its instance. */
+  private static final class IdentifiedWeakReference extends WeakReference<Object> {
+    final long identifier;
+
+    IdentifiedWeakReference(Object instance, long identifier, ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.identifier = identifier;
+    }
+  }
+
+  // The maps and nextIdentifier are guarded by this.
   private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
-  private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
-  private final HashMap<Long, Object> strongInstances = new HashMap<>();
+  private final LongObjectMap<IdentifiedWeakReference> weakInstances = new LongObjectMap<>();
+  private final LongObjectMap<Object> strongInstances = new LongObjectMap<>();
 
   private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
-  private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers = new HashMap<>();
 
-  private final Handler handler = new Handler(Looper.getMainLooper());
+  // Shared by every manager and started on first use, so managers that are never stopped do not
+  // each leave a thread running. Guarded by InstanceManager.class.
+  @Nullable private static HandlerThread finalizationThread;
+
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final Handler finalizationHandler;
+  private final Runnable releaseFinalizedInstances = this::releaseFinalizedInstancesAndReschedule;
 
   private final FinalizationListener finalizationListener;
 
   private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
-  private boolean hasFinalizationListenerStopped = false;
+  private volatile boolean hasFinalizationListenerStopped = false;
 
-  private long clearFinalizedWeakReferencesInterval =
+  private volatile long clearFinalizedWeakReferencesInterval =
       DEFAULT_CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL;
 
   /**
@@ -92,7 +113,9 @@ public class InstanceManager {
 
   private InstanceManager(FinalizationListener finalizationListener) {
     this.finalizationListener = finalizationListener;
-    handler.postDelayed(this::releaseAllFinalizedInstances, clearFinalizedWeakReferencesInterval);
+    finalizationHandler = new Handler(getFinalizationLooper());
+    finalizationHandler.postDelayed(
+        releaseFinalizedInstances, clearFinalizedWeakReferencesInterval);
   }
 
   /**
@@ -105,7 +128,7 @@ public class InstanceManager {
    *     the manager doesn't contain the value.
    */
   @Nullable
-  public <T> T remove(long identifier) {
+  public synchronized <T> T remove(long identifier) {
     logWarningIfFinalizationListenerHasStopped();
     return (T) strongInstances.remove(identifier);
   }
@@ -127,7 +150,7 @@ public class InstanceManager {
    *     `null` if the manager doesn't contain the value.
    */
   @Nullable
-  public Long getIdentifierForStrongReference(@Nullable Object instance) {
+  public synchronized Long getIdentifierForStrongReference(@Nullable Object instance) {
     logWarningIfFinalizationListenerHasStopped();
 
     final Long identifier = identifiers.get(instance);
@@ -148,7 +171,7 @@ public class InstanceManager {
    * @param identifier the identifier to be paired with instance. This value must be >= 0 and
    *     unique.
    */
-  public void addDartCreatedInstance(@NonNull Object instance, long identifier) {
+  public synchronized void addDartCreatedInstance(@NonNull Object instance, long identifier) {
     logWarningIfFinalizationListenerHasStopped();
     addInstance(instance, identifier);
   }
@@ -159,7 +182,7 @@ public class InstanceManager {
    * @param instance the instance to be stored. This must be unique to all other added instances.
    * @return the unique identifier (>= 0) stored with instance.
    */
-  public long addHostCreatedInstance(@NonNull Object instance) {
+  public synchronized long addHostCreatedInstance(@NonNull Object instance) {
     logWarningIfFinalizationListenerHasStopped();
 
     if (containsInstance(instance)) {
@@ -180,12 +203,12 @@ public class InstanceManager {
    *     `null` if the manager doesn't contain the value.
    */
   @Nullable
-  public <T> T getInstance(long identifier) {
+  public synchronized <T> T getInstance(long identifier) {
     logWarningIfFinalizationListenerHasStopped();
 
-    final WeakReference<T> instance = (WeakReference<T>) weakInstances.get(identifier);
+    final IdentifiedWeakReference instance = weakInstances.get(identifier);
     if (instance != null) {
-      return instance.get();
+      return (T) instance.get();
     }
     return null;
   }
@@ -196,7 +219,7 @@ public class InstanceManager {
    * @param instance the instance whose presence in this manager is to be tested.
    * @return whether this manager contains the given `instance`.
    */
-  public boolean containsInstance(@Nullable Object instance) {
+  public synchronized boolean containsInstance(@Nullable Object instance) {
     logWarningIfFinalizationListenerHasStopped();
     return identifiers.containsKey(instance);
   }
@@ -209,8 +232,8 @@ public class InstanceManager {
    * longer be called and methods will log a warning.
    */
   public void stopFinalizationListener() {
-    handler.removeCallbacks(this::releaseAllFinalizedInstances);
     hasFinalizationListenerStopped = true;
+    finalizationHandler.removeCallbacks(releaseFinalizedInstances);
   }
 
   /**
@@ -218,11 +241,10 @@ public class InstanceManager {
    *
    * <p>The manager will be empty after this call returns.
    */
-  public void clear() {
+  public synchronized void clear() {
     identifiers.clear();
     weakInstances.clear();
     strongInstances.clear();
-    weakReferencesToIdentifiers.clear();
   }
 
   /**
@@ -246,22 +268,67 @@ public class InstanceManager {
   /**
    * Releases garbage collected weak references to native Android objects that this instance was
    * managing.
+   *
+   * <p>The references are released on a background thread as soon as possible, instead of waiting
+   * for the next periodic release.
    */
   public void releaseAllFinalizedInstances() {
     if (hasFinalizationListenerStopped()) {
       return;
     }
+    finalizationHandler.removeCallbacks(releaseFinalizedInstances);
+    finalizationHandler.post(releaseFinalizedInstances);
+  }
+
+  @NonNull
+  private static synchronized Looper getFinalizationLooper() {
+    if (finalizationThread == null || !finalizationThread.isAlive()) {
+      finalizationThread = new HandlerThread("InstanceManager");
+      finalizationThread.start();
+    }
+    return finalizationThread.getLooper();
+  }
+
+  private void releaseFinalizedInstancesAndReschedule() {
+    if (hasFinalizationListenerStopped()) {
+      return;
+    }
+    final long[] finalizedIdentifiers = removeFinalizedInstances();
+    if (finalizedIdentifiers.length > 0) {
+      // The listener sends messages to Dart, which must be done on the main thread.
+      mainHandler.post(
+          () -> {
+            for (long identifier : finalizedIdentifiers) {
+              finalizationListener.onFinalize(identifier);
+            }
+          });
+    }
+    finalizationHandler.postDelayed(
+        releaseFinalizedInstances, clearFinalizedWeakReferencesInterval);
+  }
 
-    WeakReference<Object> reference;
-    while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
-      final Long identifier = weakReferencesToIdentifiers.remove(reference);
-      if (identifier != null) {
-        weakInstances.remove(identifier);
-        strongInstances.remove(identifier);
-        finalizationListener.onFinalize(identifier);
+  /** Removes the instances that were garbage collected, and returns their identifiers. */
+  @NonNull
+  private synchronized long[] removeFinalizedInstances() {
+    long[] finalizedIdentifiers = new long[0];
+    int count = 0;
+    IdentifiedWeakReference reference;
+    while ((reference = (IdentifiedWeakReference) referenceQueue.poll()) != null) {
+      final long identifier = reference.identifier;
+      // Skip references to instances removed by clear(), whose identifier may have been reused.
+      if (weakInstances.get(identifier) != reference) {
+        continue;
+      }
+      weakInstances.remove(identifier);
+      strongInstances.remove(identifier);
+      if (count == finalizedIdentifiers.length) {
+        finalizedIdentifiers = Arrays.copyOf(finalizedIdentifiers, Math.max(8, count * 2));
       }
+      finalizedIdentifiers[count++] = identifier;
     }
-    handler.postDelayed(this::releaseAllFinalizedInstances, clearFinalizedWeakReferencesInterval);
+    return count == finalizedIdentifiers.length
+        ? finalizedIdentifiers
+        : Arrays.copyOf(finalizedIdentifiers, count);
   }
 
   private void addInstance(Object instance, long identifier) {
@@ -272,10 +339,9 @@ public class InstanceManager {
       throw new IllegalArgumentException(
           String.format("Identifier has already been added: %d", identifier));
     }
-    final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
     identifiers.put(instance, identifier);
-    weakInstances.put(identifier, weakReference);
-    weakReferencesToIdentifiers.put(weakReference, identifier);
+    weakInstances.put(
+        identifier, new IdentifiedWeakReference(instance, identifier, referenceQueue));
     strongInstances.put(identifier, instance);
   }
 
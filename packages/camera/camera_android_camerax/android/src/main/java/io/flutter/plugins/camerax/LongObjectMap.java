@@ -0,0 +1,151 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * A map from {@code long} keys to non-null values that stores its keys without boxing them.
+ *
+ * <p>Entries are stored in open-addressed arrays with linear probing. Removing an entry shifts the
+ * entries after it back instead of leaving a tombstone, so probe sequences stay short while keys
+ * are continuously added and removed.
+ *
+ * <p>This class is not thread safe.
+ */
+@SuppressWarnings("unchecked")
+final class LongObjectMap<V> {
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  // A null value marks an empty slot.
+  private Object[] values;
+  private int mask;
+  private int size;
+
+  LongObjectMap() {
+    allocate(MIN_CAPACITY);
+  }
+
+  /** Returns the number of entries in the map. */
+  int size() {
+    return size;
+  }
+
+  /** Returns the value for {@code key}, or null if the map does not contain it. */
+  @Nullable
+  V get(long key) {
+    final int index = indexOf(key);
+    return index < 0 ? null : (V) values[index];
+  }
+
+  /** Returns whether the map contains {@code key}. */
+  boolean containsKey(long key) {
+    return indexOf(key) >= 0;
+  }
+
+  /**
+   * Associates {@code value} with {@code key}.
+   *
+   * @return the previous value for {@code key}, or null if there was none.
+   */
+  @Nullable
+  V put(long key, @NonNull V value) {
+    int index = hash(key) & mask;
+    while (values[index] != null) {
+      if (keys[index] == key) {
+        final V previous = (V) values[index];
+        values[index] = value;
+        return previous;
+      }
+      index = (index + 1) & mask;
+    }
+    keys[index] = key;
+    values[index] = value;
+    // Keep the table at most half full.
+    if (++size * 2 > values.length) {
+      resize(values.length * 2);
+    }
+    return null;
+  }
+
+  /**
+   * Removes the entry for {@code key}.
+   *
+   * @return the removed value, or null if the map did not contain {@code key}.
+   */
+  @Nullable
+  V remove(long key) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    final V removed = (V) values[index];
+
+    // Move back each following entry of the probe sequence whose home slot is not between the hole
+    // and the entry, so that it can still be found from its home slot.
+    int hole = index;
+    int next = (hole + 1) & mask;
+    while (values[next] != null) {
+      final int home = hash(keys[next]) & mask;
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        keys[hole] = keys[next];
+        values[hole] = values[next];
+        hole = next;
+      }
+      next = (next + 1) & mask;
+    }
+    values[hole] = null;
+    size--;
+    return removed;
+  }
+
+  /** Removes all entries from the map. */
+  void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  private int indexOf(long key) {
+    int index = hash(key) & mask;
+    while (values[index] != null) {
+      if (keys[index] == key) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private void resize(int capacity) {
+    final long[] oldKeys = keys;
+    final Object[] oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldValues.length; i++) {
+      if (oldValues[i] != null) {
+        int index = hash(oldKeys[i]) & mask;
+        while (values[index] != null) {
+          index = (index + 1) & mask;
+        }
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new Object[capacity];
+    mask = capacity - 1;
+  }
+
+  private static int hash(long key) {
+    // Identifiers are mostly sequential, so spread them over the table.
+    final long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+}
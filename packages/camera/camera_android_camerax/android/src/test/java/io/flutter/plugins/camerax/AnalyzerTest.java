@@ -5,21 +5,27 @@
 package io.flutter.plugins.camerax;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import androidx.camera.core.ImageProxy;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.camerax.GeneratedCameraXLibrary.AnalyzerFlutterApi;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -103,4 +109,102 @@ public class AnalyzerTest {
     verify(mockFlutterApi).analyze(eq(instanceIdentifier), eq(mockImageProxyIdentifier), any());
     verify(mockImageProxyApi).create(eq(mockImageProxy), eq(format), eq(height), eq(width), any());
   }
+
+  @Test
+  public void hostApiCreatePacked_makesCallToCreatePackedAnalyzerInstanceWithExpectedIdentifier() {
+    final AnalyzerHostApiImpl hostApi =
+        new AnalyzerHostApiImpl(mockBinaryMessenger, instanceManager, mockProxy);
+    final AnalyzerHostApiImpl.PackedFrameAnalyzerImpl mockPackedFrameAnalyzer =
+        mock(AnalyzerHostApiImpl.PackedFrameAnalyzerImpl.class);
+    final long instanceIdentifier = 91;
+
+    when(mockProxy.createPacked(mockBinaryMessenger, instanceManager))
+        .thenReturn(mockPackedFrameAnalyzer);
+
+    hostApi.createPacked(instanceIdentifier);
+
+    assertEquals(instanceManager.getInstance(instanceIdentifier), mockPackedFrameAnalyzer);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void analyze_sendsPackedFrameToDartAndClosesImageOnceHandled() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.PackedFrameAnalyzerImpl instance =
+        new AnalyzerHostApiImpl.PackedFrameAnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlaneY = mock(ImageProxy.PlaneProxy.class);
+    final ImageProxy.PlaneProxy mockPlaneUv = mock(ImageProxy.PlaneProxy.class);
+    final long instanceIdentifier = 21;
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instanceManager.addDartCreatedInstance(instance, instanceIdentifier);
+
+    when(mockImageProxy.getFormat()).thenReturn(35);
+    when(mockImageProxy.getWidth()).thenReturn(2);
+    when(mockImageProxy.getHeight()).thenReturn(1);
+    when(mockImageProxy.getPlanes())
+        .thenReturn(new ImageProxy.PlaneProxy[] {mockPlaneY, mockPlaneUv});
+    when(mockPlaneY.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {1, 2}));
+    when(mockPlaneY.getRowStride()).thenReturn(2);
+    when(mockPlaneY.getPixelStride()).thenReturn(1);
+    when(mockPlaneUv.getBuffer()).thenReturn(ByteBuffer.wrap(new byte[] {3}));
+    when(mockPlaneUv.getRowStride()).thenReturn(4);
+    when(mockPlaneUv.getPixelStride()).thenReturn(2);
+
+    instance.analyze(mockImageProxy);
+
+    final ArgumentCaptor<byte[]> frameCaptor = ArgumentCaptor.forClass(byte[].class);
+    final ArgumentCaptor<AnalyzerFlutterApi.Reply<Void>> replyCaptor =
+        ArgumentCaptor.forClass(AnalyzerFlutterApi.Reply.class);
+    verify(mockFlutterApi)
+        .analyzePackedFrame(eq(instanceIdentifier), frameCaptor.capture(), replyCaptor.capture());
+    verify(mockImageProxy, never()).close();
+
+    replyCaptor.getValue().reply(null);
+    verify(mockImageProxy).close();
+
+    final ByteBuffer frame = ByteBuffer.wrap(frameCaptor.getValue()).order(ByteOrder.LITTLE_ENDIAN);
+    assertEquals(35, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(1, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(1, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(4, frame.getInt());
+    assertEquals(2, frame.getInt());
+    assertEquals(1, frame.getInt());
+    assertEquals(1, frame.get());
+    assertEquals(2, frame.get());
+    assertEquals(3, frame.get());
+    assertEquals(0, frame.remaining());
+  }
+
+  @Test
+  public void analyze_reusesPackedFrameForImagesOfTheSameSize() {
+    final AnalyzerFlutterApiImpl flutterApi =
+        new AnalyzerFlutterApiImpl(mockBinaryMessenger, instanceManager);
+    final AnalyzerHostApiImpl.PackedFrameAnalyzerImpl instance =
+        new AnalyzerHostApiImpl.PackedFrameAnalyzerImpl(mockBinaryMessenger, instanceManager);
+    final ImageProxy mockImageProxy = mock(ImageProxy.class);
+    final ImageProxy.PlaneProxy mockPlane = mock(ImageProxy.PlaneProxy.class);
+
+    flutterApi.setApi(mockFlutterApi);
+    instance.setApi(flutterApi);
+    instanceManager.addDartCreatedInstance(instance, 22);
+
+    when(mockImageProxy.getPlanes()).thenReturn(new ImageProxy.PlaneProxy[] {mockPlane});
+    when(mockPlane.getBuffer())
+        .thenReturn(ByteBuffer.wrap(new byte[] {1, 2}), ByteBuffer.wrap(new byte[] {3, 4}));
+
+    instance.analyze(mockImageProxy);
+    instance.analyze(mockImageProxy);
+
+    final ArgumentCaptor<byte[]> frameCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(mockFlutterApi, times(2)).analyzePackedFrame(eq(22L), frameCaptor.capture(), any());
+    assertSame(frameCaptor.getAllValues().get(0), frameCaptor.getAllValues().get(1));
+  }
 }
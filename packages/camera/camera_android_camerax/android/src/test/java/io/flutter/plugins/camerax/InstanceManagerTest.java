@@ -9,9 +9,19 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
-
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
 
+@RunWith(RobolectricTestRunner.class)
 public class InstanceManagerTest {
   @Test
   public void addDartCreatedInstance() {
@@ -137,4 +147,139 @@ public class InstanceManagerTest {
     assertEquals(instanceManager.getIdentifierForStrongReference(instance), (Long) identifier);
     assertTrue(instanceManager.containsInstance(instance));
   }
+
+  @Test
+  public void removesEveryInstanceOfSimulatedImageAnalysis() {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+
+    // One minute of frames at 60 FPS, where each frame adds an image and its three planes, reads
+    // them back once and removes them a few frames later.
+    final int frameCount = 60 * 60;
+    final int framesInFlight = 3;
+    final long[][] frames = new long[frameCount][];
+    for (int frame = 0; frame < frameCount; frame++) {
+      final long[] identifiers = new long[4];
+      for (int i = 0; i < identifiers.length; i++) {
+        identifiers[i] = instanceManager.addHostCreatedInstance(new Object());
+      }
+      for (long identifier : identifiers) {
+        assertNotNull(instanceManager.getInstance(identifier));
+      }
+      frames[frame] = identifiers;
+
+      if (frame >= framesInFlight) {
+        for (long identifier : frames[frame - framesInFlight]) {
+          assertNotNull(instanceManager.remove(identifier));
+        }
+      }
+    }
+
+    for (int frame = frameCount - framesInFlight; frame < frameCount; frame++) {
+      for (long identifier : frames[frame]) {
+        assertNotNull(instanceManager.remove(identifier));
+      }
+    }
+    for (long identifier : frames[0]) {
+      assertNull(instanceManager.remove(identifier));
+    }
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void canBeUsedFromMultipleThreads() throws InterruptedException {
+    final InstanceManager instanceManager = InstanceManager.create(identifier -> {});
+    final AtomicLong failures = new AtomicLong();
+
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      threads.add(
+          new Thread(
+              () -> {
+                for (int j = 0; j < 10000; j++) {
+                  final Object instance = new Object();
+                  final long identifier = instanceManager.addHostCreatedInstance(instance);
+                  if (instanceManager.getInstance(identifier) != instance
+                      || instanceManager.remove(identifier) != instance) {
+                    failures.incrementAndGet();
+                  }
+                }
+              }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(0, failures.get());
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void releaseAllFinalizedInstancesCallsListenerOnMainThread() throws InterruptedException {
+    final List<Long> finalizedIdentifiers = new CopyOnWriteArrayList<>();
+    final List<Boolean> calledOnMainThread = new CopyOnWriteArrayList<>();
+    final InstanceManager instanceManager =
+        InstanceManager.create(
+            identifier -> {
+              finalizedIdentifiers.add(identifier);
+              calledOnMainThread.add(Looper.myLooper() == Looper.getMainLooper());
+            });
+
+    Object instance = new Object();
+    final long identifier = instanceManager.addHostCreatedInstance(instance);
+    final WeakReference<Object> weakInstance = new WeakReference<>(instance);
+    instanceManager.remove(identifier);
+
+    // To allow for instance to be garbage collected.
+    //noinspection UnusedAssignment
+    instance = null;
+
+    // The release runs on a background thread and then posts the listener to the main looper, so
+    // keep asking for a release until the callback arrives.
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (finalizedIdentifiers.isEmpty() && System.currentTimeMillis() < deadline) {
+      if (weakInstance.get() != null) {
+        Runtime.getRuntime().gc();
+      }
+      instanceManager.releaseAllFinalizedInstances();
+      Thread.sleep(10);
+      shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    assertEquals(1, finalizedIdentifiers.size());
+    assertEquals((Long) identifier, finalizedIdentifiers.get(0));
+    assertTrue(calledOnMainThread.get(0));
+    assertNull(instanceManager.getInstance(identifier));
+
+    instanceManager.stopFinalizationListener();
+  }
+
+  @Test
+  public void managersShareOneFinalizationThread() {
+    final InstanceManager first = InstanceManager.create(identifier -> {});
+    final int threadCount = countFinalizationThreads();
+
+    first.stopFinalizationListener();
+    final InstanceManager second = InstanceManager.create(identifier -> {});
+    final InstanceManager third = InstanceManager.create(identifier -> {});
+
+    assertEquals(threadCount, countFinalizationThreads());
+
+    second.stopFinalizationListener();
+    third.stopFinalizationListener();
+  }
+
+  private static int countFinalizationThreads() {
+    int count = 0;
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      if (thread.getName().equals("InstanceManager") && thread.isAlive()) {
+        count++;
+      }
+    }
+    return count;
+  }
 }
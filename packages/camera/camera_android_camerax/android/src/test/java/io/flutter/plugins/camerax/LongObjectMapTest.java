@@ -0,0 +1,103 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camerax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class LongObjectMapTest {
+  @Test
+  public void putGetAndRemove() {
+    final LongObjectMap<String> map = new LongObjectMap<>();
+
+    assertNull(map.put(1, "a"));
+    assertEquals("a", map.put(1, "b"));
+    assertEquals("b", map.get(1));
+    assertTrue(map.containsKey(1));
+    assertEquals(1, map.size());
+
+    assertEquals("b", map.remove(1));
+    assertNull(map.get(1));
+    assertFalse(map.containsKey(1));
+    assertNull(map.remove(1));
+    assertEquals(0, map.size());
+  }
+
+  @Test
+  public void growsWhileKeepingEntries() {
+    final LongObjectMap<Long> map = new LongObjectMap<>();
+
+    for (long key = 0; key < 10000; key++) {
+      map.put(key, key);
+    }
+
+    assertEquals(10000, map.size());
+    for (long key = 0; key < 10000; key++) {
+      assertEquals((Long) key, map.get(key));
+    }
+  }
+
+  @Test
+  public void removeKeepsOtherEntriesReachable() {
+    final LongObjectMap<Long> map = new LongObjectMap<>();
+    final long hostCreatedIdentifier = 65536;
+
+    // Add and remove identifiers in the order they are used by image analysis, where each frame is
+    // removed long after the ones added after it.
+    for (long key = 0; key < 1000; key++) {
+      map.put(hostCreatedIdentifier + key, key);
+      if (key >= 10) {
+        assertEquals((Long) (key - 10), map.remove(hostCreatedIdentifier + key - 10));
+      }
+    }
+
+    assertEquals(10, map.size());
+    for (long key = 990; key < 1000; key++) {
+      assertEquals((Long) key, map.get(hostCreatedIdentifier + key));
+    }
+  }
+
+  @Test
+  public void matchesHashMapForRandomOperations() {
+    final LongObjectMap<Integer> map = new LongObjectMap<>();
+    final Map<Long, Integer> expected = new HashMap<>();
+    final Random random = new Random(0);
+
+    for (int i = 0; i < 100000; i++) {
+      final long key = random.nextInt(256) + (random.nextBoolean() ? 0 : 1L << 32);
+      switch (random.nextInt(3)) {
+        case 0:
+          assertEquals(expected.put(key, i), map.put(key, i));
+          break;
+        case 1:
+          assertEquals(expected.remove(key), map.remove(key));
+          break;
+        default:
+          assertEquals(expected.get(key), map.get(key));
+      }
+      assertEquals(expected.size(), map.size());
+    }
+  }
+
+  @Test
+  public void clear() {
+    final LongObjectMap<String> map = new LongObjectMap<>();
+    map.put(0, "a");
+    map.put(1, "b");
+
+    map.clear();
+
+    assertEquals(0, map.size());
+    assertNull(map.get(0));
+    assertNull(map.get(1));
+  }
+}
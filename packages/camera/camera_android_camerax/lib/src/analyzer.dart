@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:flutter/services.dart' show BinaryMessenger;
 import 'package:meta/meta.dart' show immutable, protected;
@@ -12,6 +13,7 @@ import 'camerax_library.g.dart';
 import 'image_proxy.dart';
 import 'instance_manager.dart';
 import 'java_object.dart';
+import 'packed_image_frame.dart';
 
 /// Wrapper of callback for analyzing images.
 ///
@@ -51,6 +53,51 @@ class Analyzer extends JavaObject {
   final Future<void> Function(ImageProxy imageProxy) analyze;
 }
 
+/// Wrapper of callback for analyzing images that receives the data of each
+/// image in a single message.
+///
+/// The native analyzer sends the format, size, strides and bytes of each image
+/// together, instead of sending an [ImageProxy] whose planes are then
+/// requested with further messages. It closes the image once
+/// [analyzePackedFrame] has returned, so that the backpressure strategy of the
+/// image analysis use case applies to Dart.
+@immutable
+class PackedFrameAnalyzer extends Analyzer {
+  /// Creates a [PackedFrameAnalyzer].
+  PackedFrameAnalyzer(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      required this.analyzePackedFrame})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager,
+            analyze: _closeImageProxy) {
+    _api.createPackedFromInstances(this);
+  }
+
+  /// Constructs a [PackedFrameAnalyzer] that is not automatically attached to
+  /// a native object.
+  PackedFrameAnalyzer.detached(
+      {BinaryMessenger? binaryMessenger,
+      InstanceManager? instanceManager,
+      required this.analyzePackedFrame})
+      : super.detached(
+            binaryMessenger: binaryMessenger,
+            instanceManager: instanceManager,
+            analyze: _closeImageProxy);
+
+  /// Analyzes the data of an image.
+  ///
+  /// The native image is closed, and the next image produced, once this
+  /// returns. The data of [PackedImageFrame] stays valid after that.
+  final void Function(PackedImageFrame frame) analyzePackedFrame;
+
+  // The native analyzer does not send ImageProxy instances, so any that are
+  // received are only closed.
+  static Future<void> _closeImageProxy(ImageProxy imageProxy) =>
+      imageProxy.close();
+}
+
 /// Host API implementation of [Analyzer].
 class _AnalyzerHostApiImpl extends AnalyzerHostApi {
   _AnalyzerHostApiImpl({
@@ -78,6 +125,22 @@ class _AnalyzerHostApiImpl extends AnalyzerHostApi {
       ),
     );
   }
+
+  /// Creates a [PackedFrameAnalyzer] instance on the native side.
+  Future<void> createPackedFromInstances(
+    PackedFrameAnalyzer instance,
+  ) {
+    return createPacked(
+      instanceManager.addDartCreatedInstance(
+        instance,
+        onCopy: (PackedFrameAnalyzer original) => PackedFrameAnalyzer.detached(
+          analyzePackedFrame: original.analyzePackedFrame,
+          binaryMessenger: binaryMessenger,
+          instanceManager: instanceManager,
+        ),
+      ),
+    );
+  }
 }
 
 /// Flutter API implementation for [Analyzer].
@@ -139,4 +202,16 @@ class AnalyzerFlutterApiImpl implements AnalyzerFlutterApi {
       imageProxy,
     );
   }
+
+  @override
+  void analyzePackedFrame(
+    int identifier,
+    Uint8List frame,
+  ) {
+    final PackedFrameAnalyzer instance =
+        _instanceManager.getInstanceWithWeakReference(identifier)!;
+    instance.analyzePackedFrame(
+      PackedImageFrame.fromBytes(frame),
+    );
+  }
 }
@@ -33,12 +33,11 @@ import 'focus_metering_action.dart';
 import 'focus_metering_result.dart';
 import 'image_analysis.dart';
 import 'image_capture.dart';
-import 'image_proxy.dart';
 import 'live_data.dart';
 import 'metering_point.dart';
 import 'observer.dart';
+import 'packed_image_frame.dart';
 import 'pending_recording.dart';
-import 'plane_proxy.dart';
 import 'preview.dart';
 import 'process_camera_provider.dart';
 import 'quality_selector.dart';
@@ -1153,17 +1152,16 @@ class AndroidCameraCameraX extends CameraPlatform {
     // Create and set Analyzer that can read image data for image streaming.
     final WeakReference<AndroidCameraCameraX> weakThis =
         WeakReference<AndroidCameraCameraX>(this);
-    Future<void> analyze(ImageProxy imageProxy) async {
-      final List<PlaneProxy> planes = await imageProxy.getPlanes();
+    void analyzePackedFrame(PackedImageFrame frame) {
       final List<CameraImagePlane> cameraImagePlanes = <CameraImagePlane>[];
-      for (final PlaneProxy plane in planes) {
+      for (final PackedImagePlane plane in frame.planes) {
         cameraImagePlanes.add(CameraImagePlane(
-            bytes: plane.buffer,
+            bytes: plane.bytes,
             bytesPerRow: plane.rowStride,
             bytesPerPixel: plane.pixelStride));
       }
 
-      final int format = imageProxy.format;
+      final int format = frame.format;
       final CameraImageFormat cameraImageFormat = CameraImageFormat(
           _imageFormatGroupFromPlatformData(format),
           raw: format);
@@ -1171,14 +1169,13 @@ class AndroidCameraCameraX extends CameraPlatform {
       final CameraImageData cameraImageData = CameraImageData(
           format: cameraImageFormat,
           planes: cameraImagePlanes,
-          height: imageProxy.height,
-          width: imageProxy.width);
+          height: frame.height,
+          width: frame.width);
 
       weakThis.target!.cameraImageDataStreamController!.add(cameraImageData);
-      await imageProxy.close();
     }
 
-    final Analyzer analyzer = proxy.createAnalyzer(analyze);
+    final Analyzer analyzer = proxy.createAnalyzer(analyzePackedFrame);
     await imageAnalysis!.setAnalyzer(analyzer);
   }
 
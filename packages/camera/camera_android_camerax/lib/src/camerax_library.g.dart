@@ -2402,6 +2402,28 @@ class AnalyzerHostApi {
       return;
     }
   }
+
+  Future<void> createPacked(int arg_identifier) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AnalyzerHostApi.createPacked', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_identifier]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
 
 class ObserverHostApi {
@@ -2666,6 +2688,8 @@ abstract class AnalyzerFlutterApi {
 
   void analyze(int identifier, int imageProxyIdentifier);
 
+  void analyzePackedFrame(int identifier, Uint8List frame);
+
   static void setup(AnalyzerFlutterApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -2709,6 +2733,28 @@ abstract class AnalyzerFlutterApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AnalyzerFlutterApi.analyzePackedFrame', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMessageHandler(null);
+      } else {
+        channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AnalyzerFlutterApi.analyzePackedFrame was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.AnalyzerFlutterApi.analyzePackedFrame was null, expected non-null int.');
+          final Uint8List? arg_frame = (args[1] as Uint8List?);
+          assert(arg_frame != null,
+              'Argument for dev.flutter.pigeon.AnalyzerFlutterApi.analyzePackedFrame was null, expected non-null Uint8List.');
+          api.analyzePackedFrame(arg_identifier!, arg_frame!);
+          return;
+        });
+      }
+    }
   }
 }
 
@@ -21,9 +21,9 @@ import 'fallback_strategy.dart';
 import 'focus_metering_action.dart';
 import 'image_analysis.dart';
 import 'image_capture.dart';
-import 'image_proxy.dart';
 import 'metering_point.dart';
 import 'observer.dart';
+import 'packed_image_frame.dart';
 import 'preview.dart';
 import 'process_camera_provider.dart';
 import 'quality_selector.dart';
@@ -107,8 +107,8 @@ class CameraXProxy {
       createImageAnalysis;
 
   /// Returns an [Analyzer] configured with the specified callback for
-  /// analyzing [ImageProxy]s.
-  Analyzer Function(Future<void> Function(ImageProxy imageProxy) analyze)
+  /// analyzing [PackedImageFrame]s.
+  Analyzer Function(void Function(PackedImageFrame frame) analyzePackedFrame)
       createAnalyzer;
 
   /// Returns an [Observer] of the [CameraState] with the specified callback
@@ -254,8 +254,8 @@ class CameraXProxy {
   }
 
   static Analyzer _createAttachedAnalyzer(
-      Future<void> Function(ImageProxy imageProxy) analyze) {
-    return Analyzer(analyze: analyze);
+      void Function(PackedImageFrame frame) analyzePackedFrame) {
+    return PackedFrameAnalyzer(analyzePackedFrame: analyzePackedFrame);
   }
 
   static Observer<CameraState> _createAttachedCameraStateObserver(
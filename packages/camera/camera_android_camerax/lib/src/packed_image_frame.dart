@@ -0,0 +1,84 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+import 'package:meta/meta.dart' show immutable;
+
+/// The data of an image that is sent by the native analyzer in a single
+/// message.
+///
+/// The message starts with little-endian 32-bit integers for the format,
+/// width, height and number of planes, followed by the row stride, pixel
+/// stride and number of bytes of each plane. The bytes of each plane follow in
+/// order.
+@immutable
+class PackedImageFrame {
+  /// Constructs a [PackedImageFrame].
+  const PackedImageFrame(
+      {required this.format,
+      required this.width,
+      required this.height,
+      required this.planes});
+
+  /// Reads a [PackedImageFrame] from a message, without copying the bytes of
+  /// its planes.
+  factory PackedImageFrame.fromBytes(Uint8List bytes) {
+    final ByteData data = ByteData.sublistView(bytes);
+    final int planeCount = data.getInt32(12, Endian.little);
+    final List<PackedImagePlane> planes = <PackedImagePlane>[];
+    int headerOffset = _headerSize;
+    int bytesOffset = _headerSize + planeCount * _planeHeaderSize;
+    for (int i = 0; i < planeCount; i++) {
+      final int length = data.getInt32(headerOffset + 8, Endian.little);
+      planes.add(PackedImagePlane(
+          bytes:
+              Uint8List.sublistView(bytes, bytesOffset, bytesOffset + length),
+          rowStride: data.getInt32(headerOffset, Endian.little),
+          pixelStride: data.getInt32(headerOffset + 4, Endian.little)));
+      headerOffset += _planeHeaderSize;
+      bytesOffset += length;
+    }
+
+    return PackedImageFrame(
+        format: data.getInt32(0, Endian.little),
+        width: data.getInt32(4, Endian.little),
+        height: data.getInt32(8, Endian.little),
+        planes: planes);
+  }
+
+  static const int _headerSize = 16;
+  static const int _planeHeaderSize = 12;
+
+  /// The image format.
+  final int format;
+
+  /// The image width.
+  final int width;
+
+  /// The image height.
+  final int height;
+
+  /// The color planes of the image data.
+  final List<PackedImagePlane> planes;
+}
+
+/// A single color plane of a [PackedImageFrame].
+@immutable
+class PackedImagePlane {
+  /// Constructs a [PackedImagePlane].
+  const PackedImagePlane(
+      {required this.bytes,
+      required this.rowStride,
+      required this.pixelStride});
+
+  /// The bytes of the plane.
+  final Uint8List bytes;
+
+  /// The row stride of the plane.
+  final int rowStride;
+
+  /// The pixel stride of the plane.
+  final int pixelStride;
+}
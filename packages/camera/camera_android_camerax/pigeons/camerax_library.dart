@@ -423,6 +423,8 @@ abstract class ImageAnalysisHostApi {
 @HostApi(dartHostTestHandler: 'TestAnalyzerHostApi')
 abstract class AnalyzerHostApi {
   void create(int identifier);
+
+  void createPacked(int identifier);
 }
 
 @HostApi(dartHostTestHandler: 'TestObserverHostApi')
@@ -459,6 +461,8 @@ abstract class AnalyzerFlutterApi {
   void create(int identifier);
 
   void analyze(int identifier, int imageProxyIdentifier);
+
+  void analyzePackedFrame(int identifier, Uint8List frame);
 }
 
 @HostApi(dartHostTestHandler: 'TestImageProxyHostApi')
@@ -2,9 +2,12 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:camera_android_camerax/src/analyzer.dart';
 import 'package:camera_android_camerax/src/image_proxy.dart';
 import 'package:camera_android_camerax/src/instance_manager.dart';
+import 'package:camera_android_camerax/src/packed_image_frame.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -113,4 +116,82 @@ void main() {
       );
     });
   });
+
+  group('PackedFrameAnalyzer', () {
+    tearDown(() {
+      TestAnalyzerHostApi.setup(null);
+    });
+
+    test('HostApi createPacked', () {
+      final MockTestAnalyzerHostApi mockApi = MockTestAnalyzerHostApi();
+      TestAnalyzerHostApi.setup(mockApi);
+
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      final PackedFrameAnalyzer instance = PackedFrameAnalyzer(
+        analyzePackedFrame: (PackedImageFrame frame) {},
+        instanceManager: instanceManager,
+      );
+
+      verify(mockApi.createPacked(
+        instanceManager.getIdentifier(instance),
+      ));
+    });
+
+    test('analyzePackedFrame', () {
+      final InstanceManager instanceManager = InstanceManager(
+        onWeakReferenceRemoved: (_) {},
+      );
+
+      const int instanceIdentifier = 0;
+      late final PackedImageFrame callbackParameter;
+      final PackedFrameAnalyzer instance = PackedFrameAnalyzer.detached(
+        analyzePackedFrame: (PackedImageFrame frame) {
+          callbackParameter = frame;
+        },
+        instanceManager: instanceManager,
+      );
+      instanceManager.addHostCreatedInstance(
+        instance,
+        instanceIdentifier,
+        onCopy: (PackedFrameAnalyzer original) => PackedFrameAnalyzer.detached(
+          analyzePackedFrame: original.analyzePackedFrame,
+          instanceManager: instanceManager,
+        ),
+      );
+
+      final AnalyzerFlutterApiImpl flutterApi = AnalyzerFlutterApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      // Format, width, height and plane count, then the row stride, pixel
+      // stride and length of each plane, then the bytes of each plane.
+      final ByteData frame = ByteData(16 + 2 * 12 + 3);
+      final List<int> header = <int>[35, 2, 1, 2, 2, 1, 2, 4, 2, 1];
+      for (int i = 0; i < header.length; i++) {
+        frame.setInt32(i * 4, header[i], Endian.little);
+      }
+      frame.setUint8(40, 7);
+      frame.setUint8(41, 8);
+      frame.setUint8(42, 9);
+
+      flutterApi.analyzePackedFrame(
+        instanceIdentifier,
+        frame.buffer.asUint8List(),
+      );
+
+      expect(callbackParameter.format, 35);
+      expect(callbackParameter.width, 2);
+      expect(callbackParameter.height, 1);
+      expect(callbackParameter.planes.length, 2);
+      expect(callbackParameter.planes[0].rowStride, 2);
+      expect(callbackParameter.planes[0].pixelStride, 1);
+      expect(callbackParameter.planes[0].bytes, <int>[7, 8]);
+      expect(callbackParameter.planes[1].rowStride, 4);
+      expect(callbackParameter.planes[1].pixelStride, 2);
+      expect(callbackParameter.planes[1].bytes, <int>[9]);
+    });
+  });
 }
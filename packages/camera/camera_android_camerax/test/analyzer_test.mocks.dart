@@ -37,6 +37,15 @@ class MockTestAnalyzerHostApi extends _i1.Mock
         ),
         returnValueForMissingStub: null,
       );
+
+  @override
+  void createPacked(int? identifier) => super.noSuchMethod(
+        Invocation.method(
+          #createPacked,
+          [identifier],
+        ),
+        returnValueForMissingStub: null,
+      );
 }
 
 /// A class which mocks [TestInstanceManagerHostApi].
@@ -32,6 +32,7 @@ import 'package:camera_android_camerax/src/image_proxy.dart';
 import 'package:camera_android_camerax/src/live_data.dart';
 import 'package:camera_android_camerax/src/metering_point.dart';
 import 'package:camera_android_camerax/src/observer.dart';
+import 'package:camera_android_camerax/src/packed_image_frame.dart';
 import 'package:camera_android_camerax/src/pending_recording.dart';
 import 'package:camera_android_camerax/src/plane_proxy.dart';
 import 'package:camera_android_camerax/src/preview.dart';
@@ -1518,8 +1519,9 @@ void main() {
       // Tell plugin to create detached Analyzer for testing.
       camera.proxy = CameraXProxy(
           createAnalyzer:
-              (Future<void> Function(ImageProxy imageProxy) analyze) =>
-                  Analyzer.detached(analyze: analyze),
+              (void Function(PackedImageFrame frame) analyzePackedFrame) =>
+                  PackedFrameAnalyzer.detached(
+                      analyzePackedFrame: analyzePackedFrame),
           getCamera2CameraInfo: (CameraInfo cameraInfo) async =>
               cameraInfo == initialCameraInfo
                   ? mockCamera2CameraInfo
@@ -2176,8 +2178,9 @@ void main() {
     // Tell plugin to create detached Analyzer for testing.
     camera.proxy = CameraXProxy(
         createAnalyzer:
-            (Future<void> Function(ImageProxy imageProxy) analyze) =>
-                Analyzer.detached(analyze: analyze));
+            (void Function(PackedImageFrame frame) analyzePackedFrame) =>
+                PackedFrameAnalyzer.detached(
+                    analyzePackedFrame: analyzePackedFrame));
 
     // Set directly for test versus calling createCamera.
     camera.processCameraProvider = mockProcessCameraProvider;
@@ -2219,8 +2222,9 @@ void main() {
     // Tell plugin to create detached Analyzer for testing.
     camera.proxy = CameraXProxy(
         createAnalyzer:
-            (Future<void> Function(ImageProxy imageProxy) analyze) =>
-                Analyzer.detached(analyze: analyze));
+            (void Function(PackedImageFrame frame) analyzePackedFrame) =>
+                PackedFrameAnalyzer.detached(
+                    analyzePackedFrame: analyzePackedFrame));
 
     // Set directly for test versus calling createCamera.
     camera.processCameraProvider = mockProcessCameraProvider;
@@ -2266,10 +2270,7 @@ void main() {
     final MockImageAnalysis mockImageAnalysis = MockImageAnalysis();
     final Camera mockCamera = MockCamera();
     final CameraInfo mockCameraInfo = MockCameraInfo();
-    final MockImageProxy mockImageProxy = MockImageProxy();
-    final MockPlaneProxy mockPlane = MockPlaneProxy();
-    final List<MockPlaneProxy> mockPlanes = <MockPlaneProxy>[mockPlane];
-    final Uint8List buffer = Uint8List(0);
+    final Uint8List buffer = Uint8List.fromList(<int>[1, 2, 3]);
     const int pixelStride = 27;
     const int rowStride = 58;
     const int imageFormat = 582;
@@ -2279,8 +2280,9 @@ void main() {
     // Tell plugin to create detached Analyzer for testing.
     camera.proxy = CameraXProxy(
         createAnalyzer:
-            (Future<void> Function(ImageProxy imageProxy) analyze) =>
-                Analyzer.detached(analyze: analyze),
+            (void Function(PackedImageFrame frame) analyzePackedFrame) =>
+                PackedFrameAnalyzer.detached(
+                    analyzePackedFrame: analyzePackedFrame),
         createCameraStateObserver: (void Function(Object) onChanged) =>
             Observer<CameraState>.detached(onChanged: onChanged));
 
@@ -2300,14 +2302,6 @@ void main() {
     when(mockCamera.getCameraInfo()).thenAnswer((_) async => mockCameraInfo);
     when(mockCameraInfo.getCameraState())
         .thenAnswer((_) async => MockLiveCameraState());
-    when(mockImageProxy.getPlanes())
-        .thenAnswer((_) async => Future<List<PlaneProxy>>.value(mockPlanes));
-    when(mockPlane.buffer).thenReturn(buffer);
-    when(mockPlane.rowStride).thenReturn(rowStride);
-    when(mockPlane.pixelStride).thenReturn(pixelStride);
-    when(mockImageProxy.format).thenReturn(imageFormat);
-    when(mockImageProxy.height).thenReturn(imageHeight);
-    when(mockImageProxy.width).thenReturn(imageWidth);
 
     final Completer<CameraImageData> imageDataCompleter =
         Completer<CameraImageData>();
@@ -2320,15 +2314,22 @@ void main() {
 
     // Test ImageAnalysis use case is bound to ProcessCameraProvider.
     await untilCalled(mockImageAnalysis.setAnalyzer(any));
-    final Analyzer capturedAnalyzer =
+    final PackedFrameAnalyzer capturedAnalyzer =
         verify(mockImageAnalysis.setAnalyzer(captureAny)).captured.single
-            as Analyzer;
+            as PackedFrameAnalyzer;
 
-    await capturedAnalyzer.analyze(mockImageProxy);
+    capturedAnalyzer.analyzePackedFrame(PackedImageFrame(
+        format: imageFormat,
+        width: imageWidth,
+        height: imageHeight,
+        planes: <PackedImagePlane>[
+          PackedImagePlane(
+              bytes: buffer, rowStride: rowStride, pixelStride: pixelStride),
+        ]));
 
     final CameraImageData imageData = await imageDataCompleter.future;
 
-    // Test Analyzer correctly process ImageProxy instances.
+    // Test Analyzer correctly process PackedImageFrame instances.
     expect(imageData.planes.length, equals(1));
     expect(imageData.planes[0].bytes, equals(buffer));
     expect(imageData.planes[0].bytesPerRow, equals(rowStride));
@@ -4026,8 +4027,9 @@ void main() {
     // Tell plugin to create detached Observer when camera info updated.
     camera.proxy = CameraXProxy(
         createAnalyzer:
-            (Future<void> Function(ImageProxy imageProxy) analyze) =>
-                Analyzer.detached(analyze: analyze),
+            (void Function(PackedImageFrame frame) analyzePackedFrame) =>
+                PackedFrameAnalyzer.detached(
+                    analyzePackedFrame: analyzePackedFrame),
         createCameraStateObserver: (void Function(Object) onChanged) =>
             Observer<CameraState>.detached(onChanged: onChanged),
         getCamera2CameraInfo: (CameraInfo cameraInfo) =>
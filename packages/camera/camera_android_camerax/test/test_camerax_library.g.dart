@@ -1560,6 +1560,8 @@ abstract class TestAnalyzerHostApi {
 
   void create(int identifier);
 
+  void createPacked(int identifier);
+
   static void setup(TestAnalyzerHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1584,6 +1586,28 @@ abstract class TestAnalyzerHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.AnalyzerHostApi.createPacked', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.AnalyzerHostApi.createPacked was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_identifier = (args[0] as int?);
+          assert(arg_identifier != null,
+              'Argument for dev.flutter.pigeon.AnalyzerHostApi.createPacked was null, expected non-null int.');
+          api.createPacked(arg_identifier!);
+          return <Object?>[];
+        });
+      }
+    }
   }
 }
 
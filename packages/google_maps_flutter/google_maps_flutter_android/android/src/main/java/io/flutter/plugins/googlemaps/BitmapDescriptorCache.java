@@ -0,0 +1,196 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.graphics.Bitmap;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import io.flutter.plugins.googlemaps.Convert.BitmapDescriptorFactoryWrapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A least recently used cache of the {@link BitmapDescriptor}s decoded from marker icons and
+ * custom polyline caps, so that objects sharing an image only decode and scale it once.
+ *
+ * <p>Images are identified by a hash of their contents and the parameters used to scale them, and
+ * the cache is limited to a number of bytes of decoded bitmaps.
+ */
+class BitmapDescriptorCache {
+  /** The default limit of the bytes of bitmaps kept by the cache. */
+  static final long DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private final long maxBytes;
+
+  // Guarded by `this`.
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes;
+  private long hitCount;
+  private long missCount;
+  private long decodeNanosSaved;
+
+  BitmapDescriptorCache(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /** Returns the cached descriptor for {@code key}, or null if there is none. */
+  synchronized @Nullable BitmapDescriptor get(@NonNull String key) {
+    final Entry entry = entries.get(key);
+    if (entry == null) {
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    decodeNanosSaved += entry.decodeNanos;
+    return entry.descriptor;
+  }
+
+  /**
+   * Adds a descriptor to the cache.
+   *
+   * @param sizeBytes the size of the bitmaps backing the descriptor.
+   * @param decodeNanos how long it took to create the descriptor.
+   */
+  synchronized void put(
+      @NonNull String key,
+      @NonNull BitmapDescriptor descriptor,
+      long sizeBytes,
+      long decodeNanos) {
+    if (sizeBytes > maxBytes) {
+      return;
+    }
+    final Entry previous = entries.put(key, new Entry(descriptor, sizeBytes, decodeNanos));
+    if (previous != null) {
+      bytes -= previous.sizeBytes;
+    }
+    bytes += sizeBytes;
+    final Iterator<Entry> iterator = entries.values().iterator();
+    while (bytes > maxBytes && iterator.hasNext()) {
+      bytes -= iterator.next().sizeBytes;
+      iterator.remove();
+    }
+  }
+
+  synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /** Returns the total time that decoding the images returned from the cache originally took. */
+  synchronized long getDecodeNanosSaved() {
+    return decodeNanosSaved;
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the key of the descriptor of {@code platformBitmap}, or null if the bitmap is cheap to
+   * create and is not worth caching.
+   */
+  static @Nullable String keyFor(@NonNull Messages.PlatformBitmap platformBitmap, float density) {
+    final Object bitmap = platformBitmap.getBitmap();
+    if (bitmap instanceof Messages.PlatformBitmapBytes) {
+      return "bytes:" + hash(((Messages.PlatformBitmapBytes) bitmap).getByteData());
+    }
+    if (bitmap instanceof Messages.PlatformBitmapBytesMap) {
+      final Messages.PlatformBitmapBytesMap bytesMap = (Messages.PlatformBitmapBytesMap) bitmap;
+      return "bytesMap:"
+          + hash(bytesMap.getByteData())
+          + scalingKey(
+              bytesMap.getBitmapScaling(),
+              bytesMap.getImagePixelRatio(),
+              bytesMap.getWidth(),
+              bytesMap.getHeight(),
+              density);
+    }
+    if (bitmap instanceof Messages.PlatformBitmapAssetMap) {
+      final Messages.PlatformBitmapAssetMap assetMap = (Messages.PlatformBitmapAssetMap) bitmap;
+      return "assetMap:"
+          + assetMap.getAssetName()
+          + scalingKey(
+              assetMap.getBitmapScaling(),
+              assetMap.getImagePixelRatio(),
+              assetMap.getWidth(),
+              assetMap.getHeight(),
+              density);
+    }
+    return null;
+  }
+
+  private static @NonNull String scalingKey(
+      @NonNull Messages.PlatformMapBitmapScaling scaling,
+      @NonNull Double imagePixelRatio,
+      @Nullable Double width,
+      @Nullable Double height,
+      float density) {
+    return ":" + scaling + ":" + imagePixelRatio + ":" + width + ":" + height + ":" + density;
+  }
+
+  private static @NonNull String hash(@NonNull byte[] data) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is available on all supported Android versions.
+      throw new IllegalStateException(e);
+    }
+    final byte[] hash = digest.digest(data);
+    final char[] hex = new char[hash.length * 2];
+    for (int i = 0; i < hash.length; i++) {
+      hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+      hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xf];
+    }
+    return new String(hex);
+  }
+
+  private static final class Entry {
+    final @NonNull BitmapDescriptor descriptor;
+    final long sizeBytes;
+    final long decodeNanos;
+
+    Entry(@NonNull BitmapDescriptor descriptor, long sizeBytes, long decodeNanos) {
+      this.descriptor = descriptor;
+      this.sizeBytes = sizeBytes;
+      this.decodeNanos = decodeNanos;
+    }
+  }
+
+  /** A {@link BitmapDescriptorFactoryWrapper} that records the size of the bitmaps it is given. */
+  static final class SizeRecordingFactoryWrapper extends BitmapDescriptorFactoryWrapper {
+    private final @NonNull BitmapDescriptorFactoryWrapper wrapper;
+    private long sizeBytes;
+
+    SizeRecordingFactoryWrapper(@NonNull BitmapDescriptorFactoryWrapper wrapper) {
+      this.wrapper = wrapper;
+    }
+
+    @Override
+    public BitmapDescriptor fromAsset(String assetKey) {
+      return wrapper.fromAsset(assetKey);
+    }
+
+    @Override
+    public BitmapDescriptor fromBitmap(Bitmap bitmap) {
+      sizeBytes += bitmap.getByteCount();
+      return wrapper.fromBitmap(bitmap);
+    }
+
+    long getSizeBytes() {
+      return sizeBytes;
+    }
+  }
+}
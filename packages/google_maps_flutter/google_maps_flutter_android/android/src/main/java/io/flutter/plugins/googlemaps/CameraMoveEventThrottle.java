@@ -0,0 +1,185 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+
+/**
+ * Sends the camera moves of a map to Dart, holding back the moves that are more frequent or smaller
+ * than its policy allows.
+ *
+ * <p>A camera move is sent if the policy's minimum interval has passed since the last one, and any
+ * of the zoom, bearing, tilt or target changed by at least its minimum change, where a minimum of 0
+ * means any change. When moves are skipped while Dart is busy, only the latest move received while
+ * waiting for Dart is sent once it has handled the previous one. The exact camera position is
+ * always sent when the camera becomes idle after a move.
+ *
+ * <p>Must only be used on the platform thread.
+ */
+class CameraMoveEventThrottle {
+  // The size of the world in logical pixels at zoom level 0.
+  private static final double WORLD_SIZE = 256;
+
+  private final @NonNull MapsCallbackApi flutterApi;
+  private long minIntervalMillis;
+  private double minZoomDelta;
+  private double minBearingDelta;
+  private double minTiltDelta;
+  private double minTargetDelta;
+  private boolean skipWhileBusy;
+
+  private @Nullable CameraPosition lastSentPosition;
+  private long lastSentAtMillis;
+  // The number of camera moves sent that Dart has not handled yet.
+  private int unhandledCount;
+  // The latest camera move held back while Dart is busy.
+  private @Nullable CameraPosition pendingPosition;
+  // Whether the camera has started moving since it was last idle.
+  private boolean isMoving;
+  private long suppressedCount;
+
+  CameraMoveEventThrottle(@NonNull MapsCallbackApi flutterApi) {
+    this.flutterApi = flutterApi;
+  }
+
+  void setPolicy(@NonNull Messages.PlatformCameraMoveEventPolicy policy) {
+    minIntervalMillis = policy.getMinIntervalMilliseconds();
+    minZoomDelta = policy.getMinZoomDelta();
+    minBearingDelta = policy.getMinBearingDelta();
+    minTiltDelta = policy.getMinTiltDelta();
+    minTargetDelta = policy.getMinTargetDelta();
+    skipWhileBusy = policy.getSkipWhileBusy();
+  }
+
+  /** Records that the camera started moving, so that its final position is sent once idle. */
+  void onCameraMoveStarted() {
+    isMoving = true;
+  }
+
+  /** Sends {@code position} to Dart, unless the policy holds it back. */
+  void onCameraMove(@NonNull CameraPosition position) {
+    if (skipWhileBusy && unhandledCount > 0) {
+      if (pendingPosition != null) {
+        suppressedCount++;
+      }
+      pendingPosition = position;
+      return;
+    }
+    sendIfAllowed(position);
+  }
+
+  /**
+   * Sends the final camera position {@code position} to Dart, unless the camera did not move or
+   * Dart already has it.
+   */
+  void onCameraIdle(@NonNull CameraPosition position) {
+    if (pendingPosition != null) {
+      suppressedCount++;
+      pendingPosition = null;
+    }
+    final boolean wasMoving = isMoving;
+    isMoving = false;
+    if (wasMoving && !position.equals(lastSentPosition)) {
+      send(position);
+    }
+  }
+
+  /** Returns the number of camera moves that were not sent to Dart. */
+  long getSuppressedCount() {
+    return suppressedCount;
+  }
+
+  @VisibleForTesting
+  long uptimeMillis() {
+    return SystemClock.uptimeMillis();
+  }
+
+  private void sendIfAllowed(@NonNull CameraPosition position) {
+    if (isAllowed(position)) {
+      send(position);
+    } else {
+      suppressedCount++;
+    }
+  }
+
+  private boolean isAllowed(@NonNull CameraPosition position) {
+    final CameraPosition last = lastSentPosition;
+    if (last == null) {
+      return true;
+    }
+    if (uptimeMillis() - lastSentAtMillis < minIntervalMillis) {
+      return false;
+    }
+    return exceeds(Math.abs(position.zoom - last.zoom), minZoomDelta)
+        || exceeds(bearingDelta(last.bearing, position.bearing), minBearingDelta)
+        || exceeds(Math.abs(position.tilt - last.tilt), minTiltDelta)
+        || exceeds(targetDelta(last.target, position.target, position.zoom), minTargetDelta);
+  }
+
+  private void send(@NonNull CameraPosition position) {
+    lastSentPosition = position;
+    lastSentAtMillis = uptimeMillis();
+    unhandledCount++;
+    flutterApi.onCameraMove(
+        Convert.cameraPositionToPigeon(position),
+        new Messages.VoidResult() {
+          @Override
+          public void success() {
+            onHandled();
+          }
+
+          @Override
+          public void error(@NonNull Throwable error) {
+            onHandled();
+          }
+        });
+  }
+
+  private void onHandled() {
+    unhandledCount--;
+    final CameraPosition position = pendingPosition;
+    if (unhandledCount == 0 && position != null) {
+      pendingPosition = null;
+      sendIfAllowed(position);
+    }
+  }
+
+  private static boolean exceeds(double delta, double minDelta) {
+    return minDelta > 0 ? delta >= minDelta : delta > 0;
+  }
+
+  /** Returns the smallest angle between two bearings, in degrees. */
+  @VisibleForTesting
+  static double bearingDelta(double from, double to) {
+    final double delta = Math.abs(to - from) % 360;
+    return Math.min(delta, 360 - delta);
+  }
+
+  /**
+   * Returns the distance between two camera targets in logical pixels at {@code zoom}, using Web
+   * Mercator world coordinates.
+   */
+  @VisibleForTesting
+  static double targetDelta(@NonNull LatLng from, @NonNull LatLng to, double zoom) {
+    double dx = Math.abs(to.longitude - from.longitude) / 360;
+    if (dx > 0.5) {
+      // The shortest path crosses the antimeridian.
+      dx = 1 - dx;
+    }
+    final double dy = mercatorY(to.latitude) - mercatorY(from.latitude);
+    return Math.hypot(dx, dy) * WORLD_SIZE * Math.pow(2, zoom);
+  }
+
+  private static double mercatorY(double latitude) {
+    final double sin = Math.max(-0.9999, Math.min(0.9999, Math.sin(Math.toRadians(latitude))));
+    return Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+  }
+}
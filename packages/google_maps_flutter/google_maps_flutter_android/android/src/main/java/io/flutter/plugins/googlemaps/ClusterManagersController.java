@@ -8,6 +8,8 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.maps.android.clustering.Cluster;
@@ -16,6 +18,9 @@ import com.google.maps.android.clustering.ClusterManager;
 import com.google.maps.android.clustering.view.DefaultClusterRenderer;
 import com.google.maps.android.collections.MarkerManager;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,11 +33,28 @@ import java.util.Set;
 class ClusterManagersController
     implements GoogleMap.OnCameraIdleListener,
         ClusterManager.OnClusterClickListener<MarkerBuilder> {
+  // Orders clusters by position, so that pages of queried clusters are stable.
+  private static final Comparator<Cluster<MarkerBuilder>> CLUSTER_POSITION_ORDER =
+      (a, b) -> {
+        final int latitudeOrder =
+            Double.compare(a.getPosition().latitude, b.getPosition().latitude);
+        return latitudeOrder != 0
+            ? latitudeOrder
+            : Double.compare(a.getPosition().longitude, b.getPosition().longitude);
+      };
+
   @NonNull private final Context context;
   @NonNull private final HashMap<String, ClusterManager<MarkerBuilder>> clusterManagerIdToManager;
   @NonNull private final MapsCallbackApi flutterApi;
   @Nullable private MarkerManager markerManager;
   @Nullable private GoogleMap googleMap;
+  private boolean trackClusterChanges;
+
+  // The sizes of the clusters last shown by each cluster manager, by position. Only kept while
+  // cluster changes are tracked.
+  @NonNull
+  private final HashMap<String, Map<LatLng, Integer>> clusterManagerIdToShownClusterSizes =
+      new HashMap<>();
 
   @Nullable
   private ClusterManager.OnClusterItemClickListener<MarkerBuilder> clusterItemClickListener;
@@ -63,6 +85,18 @@ class ClusterManagersController
     clusterItemRenderedListener = listener;
   }
 
+  /** Sets whether changes of the clusters shown as cluster markers are sent to Dart. */
+  void setTrackClusterChanges(boolean trackClusterChanges) {
+    this.trackClusterChanges = trackClusterChanges;
+    if (!trackClusterChanges) {
+      clusterManagerIdToShownClusterSizes.clear();
+    }
+  }
+
+  boolean isTrackingClusterChanges() {
+    return trackClusterChanges;
+  }
+
   private void initListenersForClusterManagers() {
     for (Map.Entry<String, ClusterManager<MarkerBuilder>> entry :
         clusterManagerIdToManager.entrySet()) {
@@ -90,7 +124,8 @@ class ClusterManagersController
     ClusterManager<MarkerBuilder> clusterManager =
         new ClusterManager<MarkerBuilder>(context, googleMap, markerManager);
     ClusterRenderer<MarkerBuilder> clusterRenderer =
-        new ClusterRenderer<MarkerBuilder>(context, googleMap, clusterManager, this);
+        new ClusterRenderer<MarkerBuilder>(
+            context, googleMap, clusterManager, this, clusterManagerId);
     clusterManager.setRenderer(clusterRenderer);
     initListenersForClusterManager(clusterManager, this, clusterItemClickListener);
     clusterManagerIdToManager.put(clusterManagerId, clusterManager);
@@ -115,6 +150,7 @@ class ClusterManagersController
     if (clusterManager == null) {
       return;
     }
+    clusterManagerIdToShownClusterSizes.remove(clusterManagerId);
     initListenersForClusterManager(clusterManager, null, null);
     clusterManager.clearItems();
     clusterManager.cluster();
@@ -173,6 +209,82 @@ class ClusterManagersController
     return clusterManager.getAlgorithm().getClusters(googleMap.getCameraPosition().zoom);
   }
 
+  /**
+   * Returns a page of the current clusters of the requested ClusterManager, ordered by position.
+   *
+   * @param bounds the bounds that the positions of the returned clusters must be in, or null to
+   *     return clusters anywhere.
+   * @param includeMembers whether to include the bounds and marker IDs of each returned cluster.
+   */
+  @NonNull
+  Messages.PlatformClusterPage queryClusters(
+      @NonNull String clusterManagerId,
+      @Nullable LatLngBounds bounds,
+      long offset,
+      long limit,
+      boolean includeMembers) {
+    final Set<? extends Cluster<MarkerBuilder>> clusters =
+        getClustersWithClusterManagerId(clusterManagerId);
+    final List<Cluster<MarkerBuilder>> matchingClusters = new ArrayList<>();
+    for (Cluster<MarkerBuilder> cluster : clusters) {
+      if (bounds == null || bounds.contains(cluster.getPosition())) {
+        matchingClusters.add(cluster);
+      }
+    }
+    Collections.sort(matchingClusters, CLUSTER_POSITION_ORDER);
+    final int start = (int) Math.min(Math.max(offset, 0), matchingClusters.size());
+    final int end = (int) Math.min(start + Math.max(limit, 0), matchingClusters.size());
+    final List<Messages.PlatformClusterSummary> page = new ArrayList<>(end - start);
+    for (Cluster<MarkerBuilder> cluster : matchingClusters.subList(start, end)) {
+      page.add(Convert.clusterSummaryToPigeon(clusterManagerId, cluster, includeMembers));
+    }
+    return new Messages.PlatformClusterPage.Builder()
+        .setClusters(page)
+        .setTotalCount((long) matchingClusters.size())
+        .build();
+  }
+
+  /**
+   * Called when the clusters shown as cluster markers by a ClusterManager changed, with the size of
+   * each cluster by position. Sends the clusters that were added, removed or resized since the
+   * last call to Dart.
+   */
+  void onShownClustersChanged(
+      @NonNull String clusterManagerId, @NonNull Map<LatLng, Integer> clusterSizes) {
+    // The cluster manager may have been removed while its clusters were computed.
+    if (!trackClusterChanges || !clusterManagerIdToManager.containsKey(clusterManagerId)) {
+      return;
+    }
+    Map<LatLng, Integer> previousSizes =
+        clusterManagerIdToShownClusterSizes.put(clusterManagerId, clusterSizes);
+    if (previousSizes == null) {
+      previousSizes = Collections.emptyMap();
+    }
+    final List<Messages.PlatformClusterSummary> added = new ArrayList<>();
+    final List<Messages.PlatformClusterSummary> removed = new ArrayList<>();
+    final List<Messages.PlatformClusterSummary> resized = new ArrayList<>();
+    for (Map.Entry<LatLng, Integer> entry : clusterSizes.entrySet()) {
+      final Integer previousSize = previousSizes.get(entry.getKey());
+      if (previousSize == null) {
+        added.add(
+            Convert.clusterSummaryToPigeon(clusterManagerId, entry.getKey(), entry.getValue()));
+      } else if (!previousSize.equals(entry.getValue())) {
+        resized.add(
+            Convert.clusterSummaryToPigeon(clusterManagerId, entry.getKey(), entry.getValue()));
+      }
+    }
+    for (Map.Entry<LatLng, Integer> entry : previousSizes.entrySet()) {
+      if (!clusterSizes.containsKey(entry.getKey())) {
+        removed.add(
+            Convert.clusterSummaryToPigeon(clusterManagerId, entry.getKey(), entry.getValue()));
+      }
+    }
+    if (added.isEmpty() && removed.isEmpty() && resized.isEmpty()) {
+      return;
+    }
+    flutterApi.onClustersChanged(clusterManagerId, added, removed, resized, new NoOpVoidResult());
+  }
+
   @Override
   public void onCameraIdle() {
     for (Map.Entry<String, ClusterManager<MarkerBuilder>> entry :
@@ -200,14 +312,32 @@ class ClusterManagersController
    */
   private static class ClusterRenderer<T extends MarkerBuilder> extends DefaultClusterRenderer<T> {
     private final ClusterManagersController clusterManagersController;
+    private final String clusterManagerId;
 
     public ClusterRenderer(
         Context context,
         GoogleMap map,
         ClusterManager<T> clusterManager,
-        ClusterManagersController clusterManagersController) {
+        ClusterManagersController clusterManagersController,
+        String clusterManagerId) {
       super(context, map, clusterManager);
       this.clusterManagersController = clusterManagersController;
+      this.clusterManagerId = clusterManagerId;
+    }
+
+    @Override
+    public void onClustersChanged(Set<? extends Cluster<T>> clusters) {
+      super.onClustersChanged(clusters);
+      if (!clusterManagersController.isTrackingClusterChanges()) {
+        return;
+      }
+      final Map<LatLng, Integer> clusterSizes = new HashMap<>();
+      for (Cluster<T> cluster : clusters) {
+        if (shouldRenderAsCluster(cluster)) {
+          clusterSizes.put(cluster.getPosition(), cluster.getSize());
+        }
+      }
+      clusterManagersController.onShownClustersChanged(clusterManagerId, clusterSizes);
     }
 
     @Override
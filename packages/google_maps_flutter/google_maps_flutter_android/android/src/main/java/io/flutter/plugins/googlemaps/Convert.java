@@ -60,10 +60,36 @@ class Convert {
   public static final String HEATMAP_GRADIENT_START_POINTS_KEY = "startPoints";
   public static final String HEATMAP_GRADIENT_COLOR_MAP_SIZE_KEY = "colorMapSize";
 
-  private static BitmapDescriptor toBitmapDescriptor(
-      Messages.PlatformBitmap platformBitmap, AssetManager assetManager, float density) {
-    return toBitmapDescriptor(
-        platformBitmap, assetManager, density, new BitmapDescriptorFactoryWrapper());
+  /**
+   * Returns the descriptor of {@code platformBitmap} from {@code bitmapDescriptorCache}, creating
+   * and caching it if needed.
+   *
+   * <p>This may be called from a background thread.
+   */
+  static BitmapDescriptor toBitmapDescriptor(
+      Messages.PlatformBitmap platformBitmap,
+      AssetManager assetManager,
+      float density,
+      BitmapDescriptorFactoryWrapper wrapper,
+      BitmapDescriptorCache bitmapDescriptorCache) {
+    final String key = BitmapDescriptorCache.keyFor(platformBitmap, density);
+    if (key == null) {
+      return toBitmapDescriptor(platformBitmap, assetManager, density, wrapper);
+    }
+    final BitmapDescriptor cachedDescriptor = bitmapDescriptorCache.get(key);
+    if (cachedDescriptor != null) {
+      return cachedDescriptor;
+    }
+    final long startNanos = System.nanoTime();
+    final BitmapDescriptorCache.SizeRecordingFactoryWrapper recordingWrapper =
+        new BitmapDescriptorCache.SizeRecordingFactoryWrapper(wrapper);
+    final BitmapDescriptor descriptor =
+        toBitmapDescriptor(platformBitmap, assetManager, density, recordingWrapper);
+    if (descriptor != null) {
+      bitmapDescriptorCache.put(
+          key, descriptor, recordingWrapper.getSizeBytes(), System.nanoTime() - startNanos);
+    }
+    return descriptor;
   }
 
   private static BitmapDescriptor toBitmapDescriptor(
@@ -104,7 +130,7 @@ class Convert {
     }
     if (bitmap instanceof Messages.PlatformBitmapBytes) {
       Messages.PlatformBitmapBytes typedBitmap = (Messages.PlatformBitmapBytes) bitmap;
-      return getBitmapFromBytesLegacy(typedBitmap);
+      return getBitmapFromBytesLegacy(typedBitmap, wrapper);
     }
     if (bitmap instanceof Messages.PlatformBitmapAssetMap) {
       Messages.PlatformBitmapAssetMap typedBitmap = (Messages.PlatformBitmapAssetMap) bitmap;
@@ -122,10 +148,11 @@ class Convert {
   // Can be removed after support for "fromBytes" bitmap descriptor type is
   // removed.
   private static BitmapDescriptor getBitmapFromBytesLegacy(
-      Messages.PlatformBitmapBytes bitmapBytes) {
+      Messages.PlatformBitmapBytes bitmapBytes,
+      BitmapDescriptorFactoryWrapper bitmapDescriptorFactory) {
     try {
       Bitmap bitmap = toBitmap(bitmapBytes.getByteData());
-      return BitmapDescriptorFactory.fromBitmap(bitmap);
+      return bitmapDescriptorFactory.fromBitmap(bitmap);
     } catch (Exception e) {
       throw new IllegalArgumentException("Unable to interpret bytes as a valid image.", e);
     }
@@ -427,6 +454,31 @@ class Convert {
         .build();
   }
 
+  /**
+   * Converts a cluster to a summary that only includes its bounds and marker IDs if {@code
+   * includeMembers} is true, since collecting them is linear in the size of the cluster.
+   */
+  static Messages.PlatformClusterSummary clusterSummaryToPigeon(
+      String clusterManagerId, Cluster<MarkerBuilder> cluster, boolean includeMembers) {
+    final Messages.PlatformClusterSummary summary =
+        clusterSummaryToPigeon(clusterManagerId, cluster.getPosition(), cluster.getSize());
+    if (includeMembers) {
+      final Messages.PlatformCluster fullCluster = clusterToPigeon(clusterManagerId, cluster);
+      summary.setBounds(fullCluster.getBounds());
+      summary.setMarkerIds(fullCluster.getMarkerIds());
+    }
+    return summary;
+  }
+
+  static Messages.PlatformClusterSummary clusterSummaryToPigeon(
+      String clusterManagerId, LatLng position, long size) {
+    return new Messages.PlatformClusterSummary.Builder()
+        .setClusterManagerId(clusterManagerId)
+        .setPosition(latLngToPigeon(position))
+        .setSize(size)
+        .build();
+  }
+
   static LatLng toLatLng(Object o) {
     final List<?> data = toList(o);
     return new LatLng(toDouble(data.get(0)), toDouble(data.get(1)));
@@ -588,13 +640,27 @@ class Convert {
       MarkerOptionsSink sink,
       AssetManager assetManager,
       float density,
-      BitmapDescriptorFactoryWrapper wrapper) {
+      BitmapDescriptorFactoryWrapper wrapper,
+      BitmapDescriptorCache bitmapDescriptorCache) {
+    interpretMarkerOptions(
+        marker,
+        sink,
+        toBitmapDescriptor(
+            marker.getIcon(), assetManager, density, wrapper, bitmapDescriptorCache));
+  }
+
+  /**
+   * Set the options in the given object to marker options sink, using an icon that has already
+   * been created from the marker's bitmap.
+   */
+  static void interpretMarkerOptions(
+      Messages.PlatformMarker marker, MarkerOptionsSink sink, BitmapDescriptor icon) {
     sink.setAlpha(marker.getAlpha().floatValue());
     sink.setAnchor(marker.getAnchor().getX().floatValue(), marker.getAnchor().getY().floatValue());
     sink.setConsumeTapEvents(marker.getConsumeTapEvents());
     sink.setDraggable(marker.getDraggable());
     sink.setFlat(marker.getFlat());
-    sink.setIcon(toBitmapDescriptor(marker.getIcon(), assetManager, density, wrapper));
+    sink.setIcon(icon);
     interpretInfoWindowOptions(sink, marker.getInfoWindow());
     sink.setPosition(toLatLng(marker.getPosition().toList()));
     sink.setRotation(marker.getRotation().floatValue());
@@ -621,7 +687,7 @@ class Convert {
     sink.setStrokeColor(polygon.getStrokeColor().intValue());
     sink.setStrokeWidth(polygon.getStrokeWidth());
     sink.setZIndex(polygon.getZIndex());
-    sink.setPoints(pointsFromPigeon(polygon.getPoints()));
+    sink.setPoints(pointsFromPacked(polygon.getPoints()));
     sink.setHoles(toHoles(polygon.getHoles()));
     return polygon.getPolygonId();
   }
@@ -642,17 +708,20 @@ class Convert {
       Messages.PlatformPolyline polyline,
       PolylineOptionsSink sink,
       AssetManager assetManager,
-      float density) {
+      float density,
+      BitmapDescriptorCache bitmapDescriptorCache) {
     sink.setConsumeTapEvents(polyline.getConsumesTapEvents());
     sink.setColor(polyline.getColor().intValue());
-    sink.setEndCap(capFromPigeon(polyline.getEndCap(), assetManager, density));
-    sink.setStartCap(capFromPigeon(polyline.getStartCap(), assetManager, density));
+    sink.setEndCap(
+        capFromPigeon(polyline.getEndCap(), assetManager, density, bitmapDescriptorCache));
+    sink.setStartCap(
+        capFromPigeon(polyline.getStartCap(), assetManager, density, bitmapDescriptorCache));
     sink.setGeodesic(polyline.getGeodesic());
     sink.setJointType(jointTypeFromPigeon(polyline.getJointType()));
     sink.setVisible(polyline.getVisible());
     sink.setWidth(polyline.getWidth());
     sink.setZIndex(polyline.getZIndex());
-    sink.setPoints(pointsFromPigeon(polyline.getPoints()));
+    sink.setPoints(pointsFromPacked(polyline.getPoints()));
     sink.setPattern(patternFromPigeon(polyline.getPatterns()));
     return polyline.getPolylineId();
   }
@@ -669,6 +738,22 @@ class Convert {
     return circle.getCircleId();
   }
 
+  /**
+   * Set the options in the given heatmap to the given sink, using its packed weighted data if it
+   * has any.
+   *
+   * @return the heatmapId.
+   * @throws IllegalArgumentException if heatmapId is null.
+   */
+  static String interpretHeatmapOptions(Messages.PlatformHeatmap heatmap, HeatmapOptionsSink sink) {
+    final String heatmapId = interpretHeatmapOptions(heatmap.getJson(), sink);
+    final double[] weightedData = heatmap.getWeightedData();
+    if (weightedData != null) {
+      sink.setWeightedData(weightedDataFromPacked(weightedData));
+    }
+    return heatmapId;
+  }
+
   /**
    * Set the options in the given heatmap object to the given sink.
    *
@@ -718,15 +803,50 @@ class Convert {
     }
   }
 
-  static List<LatLng> pointsFromPigeon(List<Messages.PlatformLatLng> data) {
-    final List<LatLng> points = new ArrayList<>(data.size());
+  /**
+   * Converts packed coordinates to a list of LatLng.
+   *
+   * @param data consecutive latitude and longitude pairs.
+   * @return the list of LatLng.
+   * @throws IllegalArgumentException if the length of data is not a multiple of 2.
+   */
+  static List<LatLng> pointsFromPacked(double[] data) {
+    if (data.length % 2 != 0) {
+      throw new IllegalArgumentException(
+          "Packed points must contain latitude and longitude pairs, but had "
+              + data.length
+              + " values.");
+    }
+    final List<LatLng> points = new ArrayList<>(data.length / 2);
 
-    for (Messages.PlatformLatLng rawPoint : data) {
-      points.add(new LatLng(rawPoint.getLatitude(), rawPoint.getLongitude()));
+    for (int i = 0; i < data.length; i += 2) {
+      points.add(new LatLng(data[i], data[i + 1]));
     }
     return points;
   }
 
+  /**
+   * Converts packed weighted coordinates to a list of WeightedLatLng.
+   *
+   * @param data consecutive latitude, longitude and weight triples.
+   * @return the list of WeightedLatLng.
+   * @throws IllegalArgumentException if the length of data is not a multiple of 3.
+   */
+  static List<WeightedLatLng> weightedDataFromPacked(double[] data) {
+    if (data.length % 3 != 0) {
+      throw new IllegalArgumentException(
+          "Packed weighted data must contain latitude, longitude and weight triples, but had "
+              + data.length
+              + " values.");
+    }
+    final List<WeightedLatLng> weightedData = new ArrayList<>(data.length / 3);
+
+    for (int i = 0; i < data.length; i += 3) {
+      weightedData.add(new WeightedLatLng(new LatLng(data[i], data[i + 1]), data[i + 2]));
+    }
+    return weightedData;
+  }
+
   /**
    * Converts the given object to a list of WeightedLatLng objects.
    *
@@ -783,11 +903,11 @@ class Convert {
     return new Gradient(colors, startPoints, colorMapSize);
   }
 
-  private static List<List<LatLng>> toHoles(List<List<Messages.PlatformLatLng>> data) {
+  private static List<List<LatLng>> toHoles(List<double[]> data) {
     final List<List<LatLng>> holes = new ArrayList<>(data.size());
 
-    for (List<Messages.PlatformLatLng> hole : data) {
-      holes.add(pointsFromPigeon(hole));
+    for (double[] hole : data) {
+      holes.add(pointsFromPacked(hole));
     }
     return holes;
   }
@@ -817,7 +937,10 @@ class Convert {
   }
 
   private static Cap capFromPigeon(
-      Messages.PlatformCap cap, AssetManager assetManager, float density) {
+      Messages.PlatformCap cap,
+      AssetManager assetManager,
+      float density,
+      BitmapDescriptorCache bitmapDescriptorCache) {
     switch (cap.getType()) {
       case BUTT_CAP:
         return new ButtCap();
@@ -830,7 +953,12 @@ class Convert {
           throw new IllegalArgumentException("A Custom Cap must specify a refWidth value.");
         }
         return new CustomCap(
-            toBitmapDescriptor(cap.getBitmapDescriptor(), assetManager, density),
+            toBitmapDescriptor(
+                cap.getBitmapDescriptor(),
+                assetManager,
+                density,
+                new BitmapDescriptorFactoryWrapper(),
+                bitmapDescriptorCache),
             cap.getRefWidth().floatValue());
     }
     throw new IllegalArgumentException("Unrecognized PlatformCap type: " + cap.getType());
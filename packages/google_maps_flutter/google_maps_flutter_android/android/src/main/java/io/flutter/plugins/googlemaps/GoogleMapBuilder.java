@@ -31,6 +31,12 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
   private List<Messages.PlatformTileOverlay> initialTileOverlays;
   private Rect padding = new Rect(0, 0, 0, 0);
   private @Nullable String style;
+  private long tileCacheMemoryBytes;
+  private long tileCacheDiskBytes;
+  private long tileCacheTimeToLiveMillis;
+  private boolean cullOffscreenMarkers;
+  private @Nullable Messages.PlatformCameraMoveEventPolicy cameraMoveEventPolicy;
+  private boolean trackClusterChanges;
 
   GoogleMapController build(
       int id,
@@ -46,13 +52,20 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     controller.setTrafficEnabled(trafficEnabled);
     controller.setBuildingsEnabled(buildingsEnabled);
     controller.setTrackCameraPosition(trackCameraPosition);
+    if (cameraMoveEventPolicy != null) {
+      controller.setCameraMoveEventPolicy(cameraMoveEventPolicy);
+    }
+    controller.setTrackClusterChanges(trackClusterChanges);
     controller.setInitialClusterManagers(initialClusterManagers);
+    controller.setCullOffscreenMarkers(cullOffscreenMarkers);
     controller.setInitialMarkers(initialMarkers);
     controller.setInitialPolygons(initialPolygons);
     controller.setInitialPolylines(initialPolylines);
     controller.setInitialCircles(initialCircles);
     controller.setInitialHeatmaps(initialHeatmaps);
     controller.setPadding(padding.top, padding.left, padding.bottom, padding.right);
+    controller.setTileCacheOptions(
+        tileCacheMemoryBytes, tileCacheDiskBytes, tileCacheTimeToLiveMillis);
     controller.setInitialTileOverlays(initialTileOverlays);
     controller.setMapStyle(style);
     return controller;
@@ -197,6 +210,25 @@ class GoogleMapBuilder implements GoogleMapOptionsSink {
     this.initialTileOverlays = initialTileOverlays;
   }
 
+  public void setTileCacheOptions(long memoryBytes, long diskBytes, long timeToLiveMillis) {
+    this.tileCacheMemoryBytes = memoryBytes;
+    this.tileCacheDiskBytes = diskBytes;
+    this.tileCacheTimeToLiveMillis = timeToLiveMillis;
+  }
+
+  public void setCullOffscreenMarkers(boolean cullOffscreenMarkers) {
+    this.cullOffscreenMarkers = cullOffscreenMarkers;
+  }
+
+  public void setCameraMoveEventPolicy(
+      @NonNull Messages.PlatformCameraMoveEventPolicy cameraMoveEventPolicy) {
+    this.cameraMoveEventPolicy = cameraMoveEventPolicy;
+  }
+
+  public void setTrackClusterChanges(boolean trackClusterChanges) {
+    this.trackClusterChanges = trackClusterChanges;
+  }
+
   @Override
   public void setMapStyle(@Nullable String style) {
     this.style = style;
@@ -49,7 +49,9 @@ import io.flutter.plugins.googlemaps.Messages.MapsApi;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
 import io.flutter.plugins.googlemaps.Messages.MapsInspectorApi;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -68,6 +70,7 @@ class GoogleMapController
         PlatformView {
 
   private static final String TAG = "GoogleMapController";
+  private static final String TILE_CACHE_DIRECTORY_NAME = "google_maps_flutter_tiles";
   private final int id;
   private final MapsCallbackApi flutterApi;
   private final BinaryMessenger binaryMessenger;
@@ -93,6 +96,7 @@ class GoogleMapController
   private final CirclesController circlesController;
   private final HeatmapsController heatmapsController;
   private final TileOverlaysController tileOverlaysController;
+  private final CameraMoveEventThrottle cameraMoveEventThrottle;
   private MarkerManager markerManager;
   private MarkerManager.Collection markerCollection;
   private @Nullable List<Messages.PlatformMarker> initialMarkers;
@@ -125,18 +129,28 @@ class GoogleMapController
     AssetManager assetManager = context.getAssets();
     this.lifecycleProvider = lifecycleProvider;
     this.clusterManagersController = new ClusterManagersController(flutterApi, context);
+    // Shared by markers and polyline caps, which often use the same images.
+    final BitmapDescriptorCache bitmapDescriptorCache =
+        new BitmapDescriptorCache(BitmapDescriptorCache.DEFAULT_MAX_BYTES);
     this.markersController =
         new MarkersController(
             flutterApi,
             clusterManagersController,
             assetManager,
             density,
-            new Convert.BitmapDescriptorFactoryWrapper());
+            new Convert.BitmapDescriptorFactoryWrapper(),
+            bitmapDescriptorCache);
     this.polygonsController = new PolygonsController(flutterApi, density);
-    this.polylinesController = new PolylinesController(flutterApi, assetManager, density);
+    this.polylinesController =
+        new PolylinesController(flutterApi, assetManager, density, bitmapDescriptorCache);
     this.circlesController = new CirclesController(flutterApi, density);
     this.heatmapsController = new HeatmapsController();
-    this.tileOverlaysController = new TileOverlaysController(flutterApi);
+    this.tileOverlaysController =
+        new TileOverlaysController(
+            flutterApi,
+            TileCacheRegistry.getInstance(
+                new File(context.getCacheDir(), TILE_CACHE_DIRECTORY_NAME)));
+    this.cameraMoveEventThrottle = new CameraMoveEventThrottle(flutterApi);
   }
 
   // Constructor for testing purposes only
@@ -170,6 +184,7 @@ class GoogleMapController
     this.circlesController = circlesController;
     this.heatmapsController = heatmapController;
     this.tileOverlaysController = tileOverlaysController;
+    this.cameraMoveEventThrottle = new CameraMoveEventThrottle(flutterApi);
   }
 
   @Override
@@ -311,6 +326,7 @@ class GoogleMapController
 
   @Override
   public void onCameraMoveStarted(int reason) {
+    cameraMoveEventThrottle.onCameraMoveStarted();
     flutterApi.onCameraMoveStarted(new NoOpVoidResult());
   }
 
@@ -321,16 +337,23 @@ class GoogleMapController
 
   @Override
   public void onCameraMove() {
+    tileOverlaysController.onCameraMove();
     if (!trackCameraPosition) {
       return;
     }
-    flutterApi.onCameraMove(
-        Convert.cameraPositionToPigeon(googleMap.getCameraPosition()), new NoOpVoidResult());
+    cameraMoveEventThrottle.onCameraMove(googleMap.getCameraPosition());
   }
 
   @Override
   public void onCameraIdle() {
     clusterManagersController.onCameraIdle();
+    tileOverlaysController.onCameraIdle();
+    if (googleMap != null && markersController.isCullingOffscreenMarkers()) {
+      markersController.cullMarkers(googleMap.getProjection().getVisibleRegion().latLngBounds);
+    }
+    if (trackCameraPosition && googleMap != null) {
+      cameraMoveEventThrottle.onCameraIdle(googleMap.getCameraPosition());
+    }
     flutterApi.onCameraIdle(new NoOpVoidResult());
   }
 
@@ -381,6 +404,8 @@ class GoogleMapController
     setMarkerCollectionListener(null);
     setClusterItemClickListener(null);
     setClusterItemRenderedListener(null);
+    markersController.dispose();
+    tileOverlaysController.dispose();
     destroyMapViewIfNecessary();
     Lifecycle lifecycle = lifecycleProvider.getLifecycle();
     if (lifecycle != null) {
@@ -637,7 +662,11 @@ class GoogleMapController
 
   private void updateInitialMarkers() {
     if (initialMarkers != null) {
-      markersController.addMarkers(initialMarkers);
+      markersController.updateMarkers(
+          initialMarkers,
+          Collections.emptyList(),
+          Collections.emptyList(),
+          new NoOpVoidResult());
     }
   }
 
@@ -721,6 +750,26 @@ class GoogleMapController
     }
   }
 
+  /** Sets whether markers that are not clustered are only added to the map while near the view. */
+  public void setCullOffscreenMarkers(boolean cullOffscreenMarkers) {
+    markersController.setCullOffscreenMarkers(cullOffscreenMarkers);
+  }
+
+  /** Sets whether changes of the clusters shown on the map are sent to Dart. */
+  public void setTrackClusterChanges(boolean trackClusterChanges) {
+    clusterManagersController.setTrackClusterChanges(trackClusterChanges);
+  }
+
+  /** Sets which camera moves are sent to Dart while the camera position is tracked. */
+  public void setCameraMoveEventPolicy(@NonNull Messages.PlatformCameraMoveEventPolicy policy) {
+    cameraMoveEventThrottle.setPolicy(policy);
+  }
+
+  /** Sets the limits of the tile caches of the tile overlays added after this call. */
+  public void setTileCacheOptions(long memoryBytes, long diskBytes, long timeToLiveMillis) {
+    tileOverlaysController.setTileCacheOptions(memoryBytes, diskBytes, timeToLiveMillis);
+  }
+
   private void updateInitialTileOverlays() {
     if (initialTileOverlays != null) {
       tileOverlaysController.addTileOverlays(initialTileOverlays);
@@ -855,10 +904,9 @@ class GoogleMapController
   public void updateMarkers(
       @NonNull List<Messages.PlatformMarker> toAdd,
       @NonNull List<Messages.PlatformMarker> toChange,
-      @NonNull List<String> idsToRemove) {
-    markersController.addMarkers(toAdd);
-    markersController.changeMarkers(toChange);
-    markersController.removeMarkers(idsToRemove);
+      @NonNull List<String> idsToRemove,
+      @NonNull Messages.VoidResult result) {
+    markersController.updateMarkers(toAdd, toChange, idsToRemove, result);
   }
 
   @Override
@@ -1005,6 +1053,26 @@ class GoogleMapController
     }
   }
 
+  @Override
+  public @NonNull Long getSuppressedCameraMoveCount() {
+    return cameraMoveEventThrottle.getSuppressedCount();
+  }
+
+  @Override
+  public @NonNull Messages.PlatformClusterPage queryClusters(
+      @NonNull String clusterManagerId,
+      @Nullable Messages.PlatformLatLngBounds bounds,
+      @NonNull Long offset,
+      @NonNull Long limit,
+      @NonNull Boolean includeMembers) {
+    return clusterManagersController.queryClusters(
+        clusterManagerId,
+        bounds == null ? null : Convert.latLngBoundsFromPigeon(bounds),
+        offset,
+        limit,
+        includeMembers);
+  }
+
   /** MapsInspectorApi implementation */
   @Override
   public @NonNull Boolean areBuildingsEnabled() {
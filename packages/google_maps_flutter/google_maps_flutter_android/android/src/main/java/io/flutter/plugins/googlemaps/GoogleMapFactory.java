@@ -46,6 +46,13 @@ public class GoogleMapFactory extends PlatformViewFactory {
     builder.setInitialCircles(params.getInitialCircles());
     builder.setInitialHeatmaps(params.getInitialHeatmaps());
     builder.setInitialTileOverlays(params.getInitialTileOverlays());
+    builder.setTileCacheOptions(
+        params.getTileCacheMemoryBytes(),
+        params.getTileCacheDiskBytes(),
+        params.getTileCacheTimeToLiveMilliseconds());
+    builder.setCullOffscreenMarkers(params.getCullOffscreenMarkers());
+    builder.setCameraMoveEventPolicy(params.getCameraMoveEventPolicy());
+    builder.setTrackClusterChanges(params.getTrackClusterChanges());
 
     final String cloudMapId = mapConfig.getCloudMapId();
     if (cloudMapId != null) {
@@ -36,14 +36,14 @@ public class HeatmapsController {
   /** Adds heatmaps to the map. */
   void addHeatmaps(@NonNull List<Messages.PlatformHeatmap> heatmapsToAdd) {
     for (Messages.PlatformHeatmap heatmapToAdd : heatmapsToAdd) {
-      addJsonHeatmap(heatmapToAdd.getJson());
+      addHeatmap(heatmapToAdd);
     }
   }
 
   /** Updates the given heatmaps on the map. */
   void changeHeatmaps(@NonNull List<Messages.PlatformHeatmap> heatmapsToChange) {
     for (Messages.PlatformHeatmap heatmapToChange : heatmapsToChange) {
-      changeJsonHeatmap(heatmapToChange.getJson());
+      changeHeatmap(heatmapToChange);
     }
   }
 
@@ -64,9 +64,9 @@ public class HeatmapsController {
     return builder.build();
   }
 
-  /** Adds a heatmap to the map from json data. */
-  private void addJsonHeatmap(Map<String, ?> heatmap) {
-    if (heatmap == null) {
+  /** Adds a heatmap to the map from its pigeon representation. */
+  private void addHeatmap(Messages.PlatformHeatmap heatmap) {
+    if (heatmap.getJson() == null) {
       return;
     }
     HeatmapBuilder heatmapBuilder = new HeatmapBuilder();
@@ -84,11 +84,11 @@ public class HeatmapsController {
   }
 
   /** Updates the given heatmap on the map. */
-  private void changeJsonHeatmap(Map<String, ?> heatmap) {
-    if (heatmap == null) {
+  private void changeHeatmap(Messages.PlatformHeatmap heatmap) {
+    if (heatmap.getJson() == null) {
       return;
     }
-    String heatmapId = getHeatmapId(heatmap);
+    String heatmapId = getHeatmapId(heatmap.getJson());
     HeatmapController heatmapController = heatmapIdToController.get(heatmapId);
     if (heatmapController != null) {
       Convert.interpretHeatmapOptions(heatmap, heatmapController);
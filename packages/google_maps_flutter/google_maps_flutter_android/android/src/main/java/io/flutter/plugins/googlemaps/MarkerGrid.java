@@ -0,0 +1,206 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A spatial index of markers, which groups them into cells of a grid over latitude and longitude
+ * so that the markers in a region can be found without checking every marker.
+ *
+ * <p>The size of the cells follows the markers. Each time the number of markers has doubled or
+ * halved since the cells were last sized, the grid uses the largest cells, from 1 degree down to
+ * about 2 meters, that hold at most {@link #TARGET_MARKERS_PER_CELL} markers per non-empty cell on
+ * average. Markers spread over the world and markers within a city are both split into small
+ * groups.
+ *
+ * <p>Markers are indexed by their position when they are added, so they must be moved with {@link
+ * #move} whenever their position changes.
+ */
+class MarkerGrid {
+  /** The number of times the cells can be halved from their largest size of 1 degree. */
+  @VisibleForTesting static final int MAX_LEVEL = 16;
+
+  /** The average number of markers per non-empty cell that the size of the cells aims for. */
+  @VisibleForTesting static final int TARGET_MARKERS_PER_CELL = 8;
+
+  /** The number of markers up to which the cells keep their largest size. */
+  private static final int MIN_SIZED_MARKER_COUNT = 32;
+
+  // The markers in each non-empty cell, by cell index.
+  private final Map<Long, Set<MarkerBuilder>> cells = new HashMap<>();
+  private int size;
+  // The cells are 1 / 2^level degrees wide and high.
+  private int level;
+  // The number of markers when the cells were last sized.
+  private int sizedMarkerCount = MIN_SIZED_MARKER_COUNT;
+
+  void add(@NonNull MarkerBuilder markerBuilder) {
+    if (addToCell(markerBuilder)) {
+      size++;
+      if (size >= 2 * sizedMarkerCount) {
+        resizeCells();
+      }
+    }
+  }
+
+  void remove(@NonNull MarkerBuilder markerBuilder) {
+    remove(markerBuilder, markerBuilder.getPosition());
+  }
+
+  /** Updates the index after the position of {@code markerBuilder} changed from {@code from}. */
+  void move(@NonNull MarkerBuilder markerBuilder, @NonNull LatLng from) {
+    if (cellIndex(from, level) != cellIndex(markerBuilder.getPosition(), level)) {
+      remove(markerBuilder, from);
+      add(markerBuilder);
+    }
+  }
+
+  /** Returns the markers inside {@code bounds}. */
+  @NonNull
+  List<MarkerBuilder> query(@NonNull LatLngBounds bounds) {
+    final List<MarkerBuilder> result = new ArrayList<>();
+    final int columnCount = columnCount(level);
+    final int firstRow = row(bounds.southwest.latitude, level);
+    final int lastRow = row(bounds.northeast.latitude, level);
+    final int firstColumn = column(bounds.southwest.longitude, level);
+    int lastColumn = column(bounds.northeast.longitude, level);
+    if (lastColumn < firstColumn
+        || (lastColumn == firstColumn
+            && bounds.northeast.longitude < bounds.southwest.longitude)) {
+      // The bounds cross the antimeridian.
+      lastColumn += columnCount;
+    }
+    final long queriedCellCount = (long) (lastRow - firstRow + 1) * (lastColumn - firstColumn + 1);
+    if (queriedCellCount > cells.size()) {
+      // Checking the occupied cells is cheaper than checking every cell in the bounds.
+      for (Set<MarkerBuilder> markers : cells.values()) {
+        addMarkersInBounds(markers, bounds, result);
+      }
+      return result;
+    }
+    for (int row = firstRow; row <= lastRow; row++) {
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        final Set<MarkerBuilder> markers =
+            cells.get((long) row * columnCount + column % columnCount);
+        if (markers != null) {
+          addMarkersInBounds(markers, bounds, result);
+        }
+      }
+    }
+    return result;
+  }
+
+  @VisibleForTesting
+  int size() {
+    return size;
+  }
+
+  /** Returns the number of times the cells have been halved from their largest size. */
+  @VisibleForTesting
+  int getLevel() {
+    return level;
+  }
+
+  /** Adds a marker to the cell of its position, returning whether it was not there yet. */
+  private boolean addToCell(@NonNull MarkerBuilder markerBuilder) {
+    final long cell = cellIndex(markerBuilder.getPosition(), level);
+    Set<MarkerBuilder> markers = cells.get(cell);
+    if (markers == null) {
+      markers = new HashSet<>();
+      cells.put(cell, markers);
+    }
+    return markers.add(markerBuilder);
+  }
+
+  private void remove(@NonNull MarkerBuilder markerBuilder, @NonNull LatLng position) {
+    final long cell = cellIndex(position, level);
+    final Set<MarkerBuilder> markers = cells.get(cell);
+    if (markers != null && markers.remove(markerBuilder)) {
+      size--;
+      if (markers.isEmpty()) {
+        cells.remove(cell);
+      }
+      if (2 * size <= sizedMarkerCount && sizedMarkerCount > MIN_SIZED_MARKER_COUNT) {
+        resizeCells();
+      }
+    }
+  }
+
+  /** Picks the size of the cells for the current markers, and moves the markers to new cells. */
+  private void resizeCells() {
+    sizedMarkerCount = Math.max(size, MIN_SIZED_MARKER_COUNT);
+    final List<MarkerBuilder> markers = new ArrayList<>(size);
+    for (Set<MarkerBuilder> cellMarkers : cells.values()) {
+      markers.addAll(cellMarkers);
+    }
+    // Smaller cells never hold more markers each, so the level is found by binary search.
+    int minLevel = 0;
+    int maxLevel = MAX_LEVEL;
+    while (minLevel < maxLevel) {
+      final int candidateLevel = (minLevel + maxLevel) / 2;
+      if ((long) countCells(markers, candidateLevel) * TARGET_MARKERS_PER_CELL >= markers.size()) {
+        maxLevel = candidateLevel;
+      } else {
+        minLevel = candidateLevel + 1;
+      }
+    }
+    if (minLevel == level) {
+      return;
+    }
+    level = minLevel;
+    cells.clear();
+    for (MarkerBuilder markerBuilder : markers) {
+      addToCell(markerBuilder);
+    }
+  }
+
+  private static int countCells(@NonNull List<MarkerBuilder> markers, int level) {
+    final Set<Long> cells = new HashSet<>();
+    for (MarkerBuilder markerBuilder : markers) {
+      cells.add(cellIndex(markerBuilder.getPosition(), level));
+    }
+    return cells.size();
+  }
+
+  private static void addMarkersInBounds(
+      @NonNull Set<MarkerBuilder> markers,
+      @NonNull LatLngBounds bounds,
+      @NonNull List<MarkerBuilder> result) {
+    for (MarkerBuilder markerBuilder : markers) {
+      if (bounds.contains(markerBuilder.getPosition())) {
+        result.add(markerBuilder);
+      }
+    }
+  }
+
+  private static long cellIndex(@NonNull LatLng position, int level) {
+    return (long) row(position.latitude, level) * columnCount(level)
+        + column(position.longitude, level);
+  }
+
+  private static int columnCount(int level) {
+    return 360 << level;
+  }
+
+  private static int row(double latitude, int level) {
+    final int row = (int) Math.floor((latitude + 90) * (1 << level));
+    return Math.max(0, Math.min((180 << level) - 1, row));
+  }
+
+  private static int column(double longitude, int level) {
+    final int column = (int) Math.floor((longitude + 180) * (1 << level));
+    return Math.max(0, Math.min(columnCount(level) - 1, column));
+  }
+}
@@ -5,17 +5,56 @@
 package io.flutter.plugins.googlemaps;
 
 import android.content.res.AssetManager;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.maps.android.collections.MarkerManager;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Manages the markers of a map.
+ *
+ * <p>Marker updates with many changes are applied in bulk: their icons are created and their
+ * options built on a background thread, then the changes are applied on the main thread a frame's
+ * worth at a time, reporting progress to Dart after each frame. Later updates wait for earlier bulk
+ * updates to be applied, so until then, markers added by a pending update are not known to the
+ * controller.
+ *
+ * <p>When culling offscreen markers, markers that are not clustered are only added to the map while
+ * they are inside the visible region, extended by {@link #CULLING_MARGIN}, as of the last time the
+ * camera stopped moving. The other markers are kept in a {@link MarkerGrid} until they come into
+ * view, and have no {@link MarkerController} until then.
+ */
 class MarkersController {
+  /** The number of changes from which a marker update is applied in bulk. */
+  @VisibleForTesting static final int BULK_UPDATE_THRESHOLD = 500;
+
+  /** How long applying a bulk update may keep the main thread busy before yielding to a frame. */
+  @VisibleForTesting static final long FRAME_BUDGET_NANOS = 8_000_000;
+
+  /**
+   * The fraction of the visible region's size added to each of its sides to get the region in which
+   * markers are shown when culling offscreen markers.
+   */
+  @VisibleForTesting static final double CULLING_MARGIN = 0.5;
+
   private final HashMap<String, MarkerBuilder> markerIdToMarkerBuilder;
   private final HashMap<String, MarkerController> markerIdToController;
   private final HashMap<String, String> googleMapsMarkerIdToDartMarkerId;
@@ -25,13 +64,45 @@ class MarkersController {
   private final AssetManager assetManager;
   private final float density;
   private final Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper;
+  private final BitmapDescriptorCache bitmapDescriptorCache;
+  private final Executor bulkUpdateExecutor;
+  private final Handler handler;
+  // Bulk updates that have not been fully applied yet, in the order they were received.
+  private final ArrayDeque<BulkUpdate> bulkUpdates = new ArrayDeque<>();
+  private boolean disposed;
+  private boolean cullOffscreenMarkers;
+  private final MarkerGrid markerGrid = new MarkerGrid();
+  // The region in which markers are shown when culling, or null until the camera first stops.
+  private @Nullable LatLngBounds cullingBounds;
 
   MarkersController(
       @NonNull MapsCallbackApi flutterApi,
       ClusterManagersController clusterManagersController,
       AssetManager assetManager,
       float density,
-      Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper) {
+      Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper,
+      BitmapDescriptorCache bitmapDescriptorCache) {
+    this(
+        flutterApi,
+        clusterManagersController,
+        assetManager,
+        density,
+        bitmapDescriptorFactoryWrapper,
+        bitmapDescriptorCache,
+        Executors.newSingleThreadExecutor(),
+        new Handler(Looper.getMainLooper()));
+  }
+
+  @VisibleForTesting
+  MarkersController(
+      @NonNull MapsCallbackApi flutterApi,
+      ClusterManagersController clusterManagersController,
+      AssetManager assetManager,
+      float density,
+      Convert.BitmapDescriptorFactoryWrapper bitmapDescriptorFactoryWrapper,
+      BitmapDescriptorCache bitmapDescriptorCache,
+      @NonNull Executor bulkUpdateExecutor,
+      @NonNull Handler handler) {
     this.markerIdToMarkerBuilder = new HashMap<>();
     this.markerIdToController = new HashMap<>();
     this.googleMapsMarkerIdToDartMarkerId = new HashMap<>();
@@ -40,12 +111,106 @@ class MarkersController {
     this.assetManager = assetManager;
     this.density = density;
     this.bitmapDescriptorFactoryWrapper = bitmapDescriptorFactoryWrapper;
+    this.bitmapDescriptorCache = bitmapDescriptorCache;
+    this.bulkUpdateExecutor = bulkUpdateExecutor;
+    this.handler = handler;
   }
 
   void setCollection(MarkerManager.Collection markerCollection) {
     this.markerCollection = markerCollection;
   }
 
+  /**
+   * Adds, changes and removes markers, then calls {@code result}.
+   *
+   * <p>Updates with at least {@link #BULK_UPDATE_THRESHOLD} changes, and updates received while a
+   * bulk update is pending, are applied in bulk.
+   */
+  void updateMarkers(
+      @NonNull List<Messages.PlatformMarker> toAdd,
+      @NonNull List<Messages.PlatformMarker> toChange,
+      @NonNull List<String> idsToRemove,
+      @NonNull Messages.VoidResult result) {
+    if (bulkUpdates.isEmpty()
+        && toAdd.size() + toChange.size() + idsToRemove.size() < BULK_UPDATE_THRESHOLD) {
+      addMarkers(toAdd);
+      changeMarkers(toChange);
+      removeMarkers(idsToRemove);
+      result.success();
+      return;
+    }
+    final BulkUpdate update = new BulkUpdate(toAdd, toChange, idsToRemove, result);
+    bulkUpdates.add(update);
+    bulkUpdateExecutor.execute(
+        () -> {
+          try {
+            prepareBulkUpdate(update);
+          } catch (Throwable e) {
+            update.error = e;
+          }
+          handler.post(() -> onBulkUpdatePrepared(update));
+        });
+  }
+
+  /**
+   * Sets whether markers that are not clustered are only added to the map while they are near the
+   * visible region. This must be set before any markers are added.
+   */
+  void setCullOffscreenMarkers(boolean cullOffscreenMarkers) {
+    this.cullOffscreenMarkers = cullOffscreenMarkers;
+  }
+
+  boolean isCullingOffscreenMarkers() {
+    return cullOffscreenMarkers;
+  }
+
+  /**
+   * Adds the markers near {@code visibleBounds} to the map, and removes the markers that have moved
+   * out of view, when culling offscreen markers.
+   */
+  void cullMarkers(@NonNull LatLngBounds visibleBounds) {
+    if (!cullOffscreenMarkers) {
+      return;
+    }
+    cullingBounds = extendBounds(visibleBounds, CULLING_MARGIN);
+    final Iterator<Map.Entry<String, MarkerController>> iterator =
+        markerIdToController.entrySet().iterator();
+    while (iterator.hasNext()) {
+      final Map.Entry<String, MarkerController> entry = iterator.next();
+      final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(entry.getKey());
+      if (markerBuilder != null
+          && markerBuilder.clusterManagerId() == null
+          && !cullingBounds.contains(markerBuilder.getPosition())) {
+        final MarkerController markerController = entry.getValue();
+        iterator.remove();
+        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+        markerController.removeFromCollection(markerCollection);
+      }
+    }
+    for (MarkerBuilder markerBuilder : markerGrid.query(cullingBounds)) {
+      if (!markerIdToController.containsKey(markerBuilder.markerId())) {
+        addMarkerToCollection(markerBuilder.markerId(), markerBuilder);
+      }
+    }
+  }
+
+  /**
+   * Stops applying bulk updates, failing the ones that are pending, and shuts down the thread
+   * preparing them.
+   */
+  void dispose() {
+    disposed = true;
+    for (BulkUpdate update : bulkUpdates) {
+      update.result.error(
+          new Messages.FlutterError(
+              "Map disposed", "The map was disposed before the markers were updated", null));
+    }
+    bulkUpdates.clear();
+    if (bulkUpdateExecutor instanceof ExecutorService) {
+      ((ExecutorService) bulkUpdateExecutor).shutdown();
+    }
+  }
+
   void addMarkers(@NonNull List<Messages.PlatformMarker> markersToAdd) {
     for (Messages.PlatformMarker markerToAdd : markersToAdd) {
       addMarker(markerToAdd);
@@ -74,9 +239,14 @@ class MarkersController {
     if (clusterManagerId != null) {
       // Remove marker from clusterManager.
       clusterManagersController.removeItem(markerBuilder);
-    } else if (markerController != null && this.markerCollection != null) {
-      // Remove marker from map and markerCollection
-      markerController.removeFromCollection(markerCollection);
+    } else {
+      if (cullOffscreenMarkers) {
+        markerGrid.remove(markerBuilder);
+      }
+      if (markerController != null && this.markerCollection != null) {
+        // Remove marker from map and markerCollection
+        markerController.removeFromCollection(markerCollection);
+      }
     }
 
     if (markerController != null) {
@@ -85,6 +255,10 @@ class MarkersController {
   }
 
   void showMarkerInfoWindow(String markerId) {
+    if (isCulled(markerId)) {
+      // Add the marker to the map until the camera next stops, so that its info window is shown.
+      addMarkerToCollection(markerId, markerIdToMarkerBuilder.get(markerId));
+    }
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController == null) {
       throw new Messages.FlutterError(
@@ -94,6 +268,9 @@ class MarkersController {
   }
 
   void hideMarkerInfoWindow(String markerId) {
+    if (isCulled(markerId)) {
+      return;
+    }
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController == null) {
       throw new Messages.FlutterError(
@@ -103,6 +280,9 @@ class MarkersController {
   }
 
   boolean isInfoWindowShown(String markerId) {
+    if (isCulled(markerId)) {
+      return false;
+    }
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController == null) {
       throw new Messages.FlutterError(
@@ -149,6 +329,13 @@ class MarkersController {
     if (markerId == null) {
       return;
     }
+    final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+    if (cullOffscreenMarkers && markerBuilder != null && markerBuilder.clusterManagerId() == null) {
+      // Keep the marker where it was dropped if it is culled and added to the map again.
+      final LatLng previousPosition = markerBuilder.getPosition();
+      markerBuilder.setPosition(latLng);
+      markerGrid.move(markerBuilder, previousPosition);
+    }
     flutterApi.onMarkerDragEnd(markerId, Convert.latLngToPigeon(latLng), new NoOpVoidResult());
   }
 
@@ -171,13 +358,26 @@ class MarkersController {
     }
   }
 
+  /** Creates the icon of {@code marker}. This may be called from a background thread. */
+  private BitmapDescriptor iconFor(@NonNull Messages.PlatformMarker marker) {
+    return Convert.toBitmapDescriptor(
+        marker.getIcon(),
+        assetManager,
+        density,
+        bitmapDescriptorFactoryWrapper,
+        bitmapDescriptorCache);
+  }
+
+  private static MarkerBuilder buildMarker(
+      @NonNull Messages.PlatformMarker marker, BitmapDescriptor icon) {
+    MarkerBuilder markerBuilder =
+        new MarkerBuilder(marker.getMarkerId(), marker.getClusterManagerId());
+    Convert.interpretMarkerOptions(marker, markerBuilder, icon);
+    return markerBuilder;
+  }
+
   private void addMarker(@NonNull Messages.PlatformMarker marker) {
-    String markerId = marker.getMarkerId();
-    String clusterManagerId = marker.getClusterManagerId();
-    MarkerBuilder markerBuilder = new MarkerBuilder(markerId, clusterManagerId);
-    Convert.interpretMarkerOptions(
-        marker, markerBuilder, assetManager, density, bitmapDescriptorFactoryWrapper);
-    addMarker(markerBuilder);
+    addMarker(buildMarker(marker, iconFor(marker)));
   }
 
   private void addMarker(MarkerBuilder markerBuilder) {
@@ -190,6 +390,12 @@ class MarkersController {
     markerIdToMarkerBuilder.put(markerId, markerBuilder);
 
     if (markerBuilder.clusterManagerId() == null) {
+      if (cullOffscreenMarkers) {
+        markerGrid.add(markerBuilder);
+        if (!isInCullingBounds(markerBuilder)) {
+          return;
+        }
+      }
       addMarkerToCollection(markerId, markerBuilder);
     } else {
       addMarkerBuilderForCluster(markerBuilder);
@@ -213,6 +419,10 @@ class MarkersController {
   }
 
   private void changeMarker(@NonNull Messages.PlatformMarker marker) {
+    changeMarker(marker, iconFor(marker));
+  }
+
+  private void changeMarker(@NonNull Messages.PlatformMarker marker, BitmapDescriptor icon) {
     String markerId = marker.getMarkerId();
 
     MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
@@ -227,19 +437,157 @@ class MarkersController {
     // be removed and re-added to update its cluster manager state.
     if (!(Objects.equals(clusterManagerId, oldClusterManagerId))) {
       removeMarker(markerId);
-      addMarker(marker);
+      addMarker(buildMarker(marker, icon));
       return;
     }
 
     // Update marker builder.
-    Convert.interpretMarkerOptions(
-        marker, markerBuilder, assetManager, density, bitmapDescriptorFactoryWrapper);
+    final LatLng previousPosition = markerBuilder.getPosition();
+    Convert.interpretMarkerOptions(marker, markerBuilder, icon);
+    final boolean isCullable = cullOffscreenMarkers && clusterManagerId == null;
+    if (isCullable) {
+      markerGrid.move(markerBuilder, previousPosition);
+    }
 
     // Update existing marker on map.
     MarkerController markerController = markerIdToController.get(markerId);
     if (markerController != null) {
-      Convert.interpretMarkerOptions(
-          marker, markerController, assetManager, density, bitmapDescriptorFactoryWrapper);
+      if (isCullable && !isInCullingBounds(markerBuilder)) {
+        markerIdToController.remove(markerId);
+        googleMapsMarkerIdToDartMarkerId.remove(markerController.getGoogleMapsMarkerId());
+        markerController.removeFromCollection(markerCollection);
+      } else {
+        Convert.interpretMarkerOptions(marker, markerController, icon);
+      }
+    } else if (isCullable && isInCullingBounds(markerBuilder)) {
+      addMarkerToCollection(markerId, markerBuilder);
+    }
+  }
+
+  private boolean isInCullingBounds(@NonNull MarkerBuilder markerBuilder) {
+    return cullingBounds != null && cullingBounds.contains(markerBuilder.getPosition());
+  }
+
+  /** Returns whether the marker is known, but not on the map because it is culled. */
+  private boolean isCulled(String markerId) {
+    final MarkerBuilder markerBuilder = markerIdToMarkerBuilder.get(markerId);
+    return cullOffscreenMarkers
+        && markerBuilder != null
+        && markerBuilder.clusterManagerId() == null
+        && !markerIdToController.containsKey(markerId);
+  }
+
+  /**
+   * Returns {@code bounds} extended by {@code margin} times its size on each side, clamped to the
+   * valid latitudes and wrapping around the antimeridian.
+   */
+  @VisibleForTesting
+  static @NonNull LatLngBounds extendBounds(@NonNull LatLngBounds bounds, double margin) {
+    final double latitudeMargin =
+        (bounds.northeast.latitude - bounds.southwest.latitude) * margin;
+    double longitudeSpan = bounds.northeast.longitude - bounds.southwest.longitude;
+    if (longitudeSpan < 0) {
+      longitudeSpan += 360;
+    }
+    final double south = Math.max(-90, bounds.southwest.latitude - latitudeMargin);
+    final double north = Math.min(90, bounds.northeast.latitude + latitudeMargin);
+    if (longitudeSpan * (1 + 2 * margin) >= 360) {
+      return new LatLngBounds(new LatLng(south, -180), new LatLng(north, Math.nextAfter(180.0, 0)));
+    }
+    final double longitudeMargin = longitudeSpan * margin;
+    // LatLng wraps longitudes around the antimeridian.
+    return new LatLngBounds(
+        new LatLng(south, bounds.southwest.longitude - longitudeMargin),
+        new LatLng(north, bounds.northeast.longitude + longitudeMargin));
+  }
+
+  /** Creates the icons and options of the markers in {@code update}, on a background thread. */
+  private void prepareBulkUpdate(@NonNull BulkUpdate update) {
+    for (Messages.PlatformMarker marker : update.toAdd) {
+      update.addedMarkers.add(buildMarker(marker, iconFor(marker)));
+    }
+    for (Messages.PlatformMarker marker : update.toChange) {
+      update.changedIcons.add(iconFor(marker));
+    }
+  }
+
+  private void onBulkUpdatePrepared(@NonNull BulkUpdate update) {
+    update.isPrepared = true;
+    if (!disposed && bulkUpdates.peek() == update) {
+      applyBulkUpdate(update);
+    }
+  }
+
+  /**
+   * Applies the changes of {@code update} until the frame budget is used up, then schedules the
+   * rest of the update, or the next one, for after the next frame.
+   */
+  private void applyBulkUpdate(@NonNull BulkUpdate update) {
+    if (disposed) {
+      return;
+    }
+    if (update.error != null) {
+      bulkUpdates.remove();
+      update.result.error(update.error);
+    } else {
+      final long deadlineNanos = System.nanoTime() + FRAME_BUDGET_NANOS;
+      do {
+        applyNextChange(update);
+      } while (update.appliedCount < update.totalCount && System.nanoTime() < deadlineNanos);
+      flutterApi.onMarkerUpdateProgress(
+          (long) update.appliedCount, (long) update.totalCount, new NoOpVoidResult());
+      if (update.appliedCount < update.totalCount) {
+        handler.post(() -> applyBulkUpdate(update));
+        return;
+      }
+      bulkUpdates.remove();
+      update.result.success();
+    }
+    final BulkUpdate nextUpdate = bulkUpdates.peek();
+    if (nextUpdate != null && nextUpdate.isPrepared) {
+      handler.post(() -> applyBulkUpdate(nextUpdate));
+    }
+  }
+
+  private void applyNextChange(@NonNull BulkUpdate update) {
+    int index = update.appliedCount++;
+    if (index < update.toAdd.size()) {
+      addMarker(update.addedMarkers.get(index));
+      return;
+    }
+    index -= update.toAdd.size();
+    if (index < update.toChange.size()) {
+      changeMarker(update.toChange.get(index), update.changedIcons.get(index));
+      return;
+    }
+    index -= update.toChange.size();
+    removeMarker(update.idsToRemove.get(index));
+  }
+
+  /** A marker update that is applied over several frames. */
+  private static final class BulkUpdate {
+    final @NonNull List<Messages.PlatformMarker> toAdd;
+    final @NonNull List<Messages.PlatformMarker> toChange;
+    final @NonNull List<String> idsToRemove;
+    final @NonNull Messages.VoidResult result;
+    final int totalCount;
+    // Built on the background thread, and only read on the main thread once `isPrepared` is set.
+    final List<MarkerBuilder> addedMarkers = new ArrayList<>();
+    final List<BitmapDescriptor> changedIcons = new ArrayList<>();
+    Throwable error;
+    boolean isPrepared;
+    int appliedCount;
+
+    BulkUpdate(
+        @NonNull List<Messages.PlatformMarker> toAdd,
+        @NonNull List<Messages.PlatformMarker> toChange,
+        @NonNull List<String> idsToRemove,
+        @NonNull Messages.VoidResult result) {
+      this.toAdd = toAdd;
+      this.toChange = toChange;
+      this.idsToRemove = idsToRemove;
+      this.result = result;
+      this.totalCount = toAdd.size() + toChange.size() + idsToRemove.size();
     }
   }
 }
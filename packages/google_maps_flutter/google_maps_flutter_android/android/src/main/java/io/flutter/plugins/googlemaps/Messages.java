@@ -1366,6 +1366,20 @@ public class Messages {
       this.json = setterArg;
     }
 
+    /**
+     * The weighted points of the heatmap, as consecutive latitude, longitude and weight triples. If
+     * null, the points are read from [json].
+     */
+    private @Nullable double[] weightedData;
+
+    public @Nullable double[] getWeightedData() {
+      return weightedData;
+    }
+
+    public void setWeightedData(@Nullable double[] setterArg) {
+      this.weightedData = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     PlatformHeatmap() {}
 
@@ -1378,12 +1392,14 @@ public class Messages {
         return false;
       }
       PlatformHeatmap that = (PlatformHeatmap) o;
-      return json.equals(that.json);
+      return json.equals(that.json) && Arrays.equals(weightedData, that.weightedData);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(json);
+      int pigeonVar_result = Objects.hash(json);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(weightedData);
+      return pigeonVar_result;
     }
 
     public static final class Builder {
@@ -1396,17 +1412,27 @@ public class Messages {
         return this;
       }
 
+      private @Nullable double[] weightedData;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWeightedData(@Nullable double[] setterArg) {
+        this.weightedData = setterArg;
+        return this;
+      }
+
       public @NonNull PlatformHeatmap build() {
         PlatformHeatmap pigeonReturn = new PlatformHeatmap();
         pigeonReturn.setJson(json);
+        pigeonReturn.setWeightedData(weightedData);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<>(1);
+      ArrayList<Object> toListResult = new ArrayList<>(2);
       toListResult.add(json);
+      toListResult.add(weightedData);
       return toListResult;
     }
 
@@ -1414,6 +1440,8 @@ public class Messages {
       PlatformHeatmap pigeonResult = new PlatformHeatmap();
       Object json = pigeonVar_list.get(0);
       pigeonResult.setJson((Map<String, Object>) json);
+      Object weightedData = pigeonVar_list.get(1);
+      pigeonResult.setWeightedData((double[]) weightedData);
       return pigeonResult;
     }
   }
@@ -2153,26 +2181,28 @@ public class Messages {
       this.geodesic = setterArg;
     }
 
-    private @NonNull List<PlatformLatLng> points;
+    /** The vertices, as consecutive latitude and longitude pairs. */
+    private @NonNull double[] points;
 
-    public @NonNull List<PlatformLatLng> getPoints() {
+    public @NonNull double[] getPoints() {
       return points;
     }
 
-    public void setPoints(@NonNull List<PlatformLatLng> setterArg) {
+    public void setPoints(@NonNull double[] setterArg) {
       if (setterArg == null) {
         throw new IllegalStateException("Nonnull field \"points\" is null.");
       }
       this.points = setterArg;
     }
 
-    private @NonNull List<List<PlatformLatLng>> holes;
+    /** The vertices of each hole, as consecutive latitude and longitude pairs. */
+    private @NonNull List<double[]> holes;
 
-    public @NonNull List<List<PlatformLatLng>> getHoles() {
+    public @NonNull List<double[]> getHoles() {
       return holes;
     }
 
-    public void setHoles(@NonNull List<List<PlatformLatLng>> setterArg) {
+    public void setHoles(@NonNull List<double[]> setterArg) {
       if (setterArg == null) {
         throw new IllegalStateException("Nonnull field \"holes\" is null.");
       }
@@ -2247,7 +2277,7 @@ public class Messages {
           && consumesTapEvents.equals(that.consumesTapEvents)
           && fillColor.equals(that.fillColor)
           && geodesic.equals(that.geodesic)
-          && points.equals(that.points)
+          && Arrays.equals(points, that.points)
           && holes.equals(that.holes)
           && visible.equals(that.visible)
           && strokeColor.equals(that.strokeColor)
@@ -2257,17 +2287,19 @@ public class Messages {
 
     @Override
     public int hashCode() {
-      return Objects.hash(
-          polygonId,
-          consumesTapEvents,
-          fillColor,
-          geodesic,
-          points,
-          holes,
-          visible,
-          strokeColor,
-          strokeWidth,
-          zIndex);
+      int pigeonVar_result =
+          Objects.hash(
+              polygonId,
+              consumesTapEvents,
+              fillColor,
+              geodesic,
+              holes,
+              visible,
+              strokeColor,
+              strokeWidth,
+              zIndex);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(points);
+      return pigeonVar_result;
     }
 
     public static final class Builder {
@@ -2304,18 +2336,18 @@ public class Messages {
         return this;
       }
 
-      private @Nullable List<PlatformLatLng> points;
+      private @Nullable double[] points;
 
       @CanIgnoreReturnValue
-      public @NonNull Builder setPoints(@NonNull List<PlatformLatLng> setterArg) {
+      public @NonNull Builder setPoints(@NonNull double[] setterArg) {
         this.points = setterArg;
         return this;
       }
 
-      private @Nullable List<List<PlatformLatLng>> holes;
+      private @Nullable List<double[]> holes;
 
       @CanIgnoreReturnValue
-      public @NonNull Builder setHoles(@NonNull List<List<PlatformLatLng>> setterArg) {
+      public @NonNull Builder setHoles(@NonNull List<double[]> setterArg) {
         this.holes = setterArg;
         return this;
       }
@@ -2395,9 +2427,9 @@ public class Messages {
       Object geodesic = pigeonVar_list.get(3);
       pigeonResult.setGeodesic((Boolean) geodesic);
       Object points = pigeonVar_list.get(4);
-      pigeonResult.setPoints((List<PlatformLatLng>) points);
+      pigeonResult.setPoints((double[]) points);
       Object holes = pigeonVar_list.get(5);
-      pigeonResult.setHoles((List<List<PlatformLatLng>>) holes);
+      pigeonResult.setHoles((List<double[]>) holes);
       Object visible = pigeonVar_list.get(6);
       pigeonResult.setVisible((Boolean) visible);
       Object strokeColor = pigeonVar_list.get(7);
@@ -2496,13 +2528,14 @@ public class Messages {
       this.patterns = setterArg;
     }
 
-    private @NonNull List<PlatformLatLng> points;
+    /** The vertices, as consecutive latitude and longitude pairs. */
+    private @NonNull double[] points;
 
-    public @NonNull List<PlatformLatLng> getPoints() {
+    public @NonNull double[] getPoints() {
       return points;
     }
 
-    public void setPoints(@NonNull List<PlatformLatLng> setterArg) {
+    public void setPoints(@NonNull double[] setterArg) {
       if (setterArg == null) {
         throw new IllegalStateException("Nonnull field \"points\" is null.");
       }
@@ -2596,7 +2629,7 @@ public class Messages {
           && geodesic.equals(that.geodesic)
           && jointType.equals(that.jointType)
           && patterns.equals(that.patterns)
-          && points.equals(that.points)
+          && Arrays.equals(points, that.points)
           && startCap.equals(that.startCap)
           && endCap.equals(that.endCap)
           && visible.equals(that.visible)
@@ -2606,19 +2639,21 @@ public class Messages {
 
     @Override
     public int hashCode() {
-      return Objects.hash(
-          polylineId,
-          consumesTapEvents,
-          color,
-          geodesic,
-          jointType,
-          patterns,
-          points,
-          startCap,
-          endCap,
-          visible,
-          width,
-          zIndex);
+      int pigeonVar_result =
+          Objects.hash(
+              polylineId,
+              consumesTapEvents,
+              color,
+              geodesic,
+              jointType,
+              patterns,
+              startCap,
+              endCap,
+              visible,
+              width,
+              zIndex);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(points);
+      return pigeonVar_result;
     }
 
     public static final class Builder {
@@ -2671,10 +2706,10 @@ public class Messages {
         return this;
       }
 
-      private @Nullable List<PlatformLatLng> points;
+      private @Nullable double[] points;
 
       @CanIgnoreReturnValue
-      public @NonNull Builder setPoints(@NonNull List<PlatformLatLng> setterArg) {
+      public @NonNull Builder setPoints(@NonNull double[] setterArg) {
         this.points = setterArg;
         return this;
       }
@@ -2770,7 +2805,7 @@ public class Messages {
       Object patterns = pigeonVar_list.get(5);
       pigeonResult.setPatterns((List<PlatformPatternItem>) patterns);
       Object points = pigeonVar_list.get(6);
-      pigeonResult.setPoints((List<PlatformLatLng>) points);
+      pigeonResult.setPoints((double[]) points);
       Object startCap = pigeonVar_list.get(7);
       pigeonResult.setStartCap((PlatformCap) startCap);
       Object endCap = pigeonVar_list.get(8);
@@ -4000,6 +4035,85 @@ public class Messages {
       this.initialClusterManagers = setterArg;
     }
 
+    private @NonNull Long tileCacheMemoryBytes;
+
+    public @NonNull Long getTileCacheMemoryBytes() {
+      return tileCacheMemoryBytes;
+    }
+
+    public void setTileCacheMemoryBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"tileCacheMemoryBytes\" is null.");
+      }
+      this.tileCacheMemoryBytes = setterArg;
+    }
+
+    private @NonNull Long tileCacheDiskBytes;
+
+    public @NonNull Long getTileCacheDiskBytes() {
+      return tileCacheDiskBytes;
+    }
+
+    public void setTileCacheDiskBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"tileCacheDiskBytes\" is null.");
+      }
+      this.tileCacheDiskBytes = setterArg;
+    }
+
+    private @NonNull Long tileCacheTimeToLiveMilliseconds;
+
+    public @NonNull Long getTileCacheTimeToLiveMilliseconds() {
+      return tileCacheTimeToLiveMilliseconds;
+    }
+
+    public void setTileCacheTimeToLiveMilliseconds(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException(
+            "Nonnull field \"tileCacheTimeToLiveMilliseconds\" is null.");
+      }
+      this.tileCacheTimeToLiveMilliseconds = setterArg;
+    }
+
+    private @NonNull Boolean cullOffscreenMarkers;
+
+    public @NonNull Boolean getCullOffscreenMarkers() {
+      return cullOffscreenMarkers;
+    }
+
+    public void setCullOffscreenMarkers(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cullOffscreenMarkers\" is null.");
+      }
+      this.cullOffscreenMarkers = setterArg;
+    }
+
+    private @NonNull PlatformCameraMoveEventPolicy cameraMoveEventPolicy;
+
+    public @NonNull PlatformCameraMoveEventPolicy getCameraMoveEventPolicy() {
+      return cameraMoveEventPolicy;
+    }
+
+    public void setCameraMoveEventPolicy(@NonNull PlatformCameraMoveEventPolicy setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cameraMoveEventPolicy\" is null.");
+      }
+      this.cameraMoveEventPolicy = setterArg;
+    }
+
+    private @NonNull Boolean trackClusterChanges;
+
+    public @NonNull Boolean getTrackClusterChanges() {
+      return trackClusterChanges;
+    }
+
+    public void setTrackClusterChanges(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"trackClusterChanges\" is null.");
+      }
+      this.trackClusterChanges = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     PlatformMapViewCreationParams() {}
 
@@ -4020,7 +4134,13 @@ public class Messages {
           && initialPolylines.equals(that.initialPolylines)
           && initialHeatmaps.equals(that.initialHeatmaps)
           && initialTileOverlays.equals(that.initialTileOverlays)
-          && initialClusterManagers.equals(that.initialClusterManagers);
+          && initialClusterManagers.equals(that.initialClusterManagers)
+          && tileCacheMemoryBytes.equals(that.tileCacheMemoryBytes)
+          && tileCacheDiskBytes.equals(that.tileCacheDiskBytes)
+          && tileCacheTimeToLiveMilliseconds.equals(that.tileCacheTimeToLiveMilliseconds)
+          && cullOffscreenMarkers.equals(that.cullOffscreenMarkers)
+          && cameraMoveEventPolicy.equals(that.cameraMoveEventPolicy)
+          && trackClusterChanges.equals(that.trackClusterChanges);
     }
 
     @Override
@@ -4034,7 +4154,13 @@ public class Messages {
           initialPolylines,
           initialHeatmaps,
           initialTileOverlays,
-          initialClusterManagers);
+          initialClusterManagers,
+          tileCacheMemoryBytes,
+          tileCacheDiskBytes,
+          tileCacheTimeToLiveMilliseconds,
+          cullOffscreenMarkers,
+          cameraMoveEventPolicy,
+          trackClusterChanges);
     }
 
     public static final class Builder {
@@ -4112,6 +4238,55 @@ public class Messages {
         return this;
       }
 
+      private @Nullable Long tileCacheMemoryBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTileCacheMemoryBytes(@NonNull Long setterArg) {
+        this.tileCacheMemoryBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long tileCacheDiskBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTileCacheDiskBytes(@NonNull Long setterArg) {
+        this.tileCacheDiskBytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long tileCacheTimeToLiveMilliseconds;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTileCacheTimeToLiveMilliseconds(@NonNull Long setterArg) {
+        this.tileCacheTimeToLiveMilliseconds = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean cullOffscreenMarkers;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCullOffscreenMarkers(@NonNull Boolean setterArg) {
+        this.cullOffscreenMarkers = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformCameraMoveEventPolicy cameraMoveEventPolicy;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCameraMoveEventPolicy(
+          @NonNull PlatformCameraMoveEventPolicy setterArg) {
+        this.cameraMoveEventPolicy = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean trackClusterChanges;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTrackClusterChanges(@NonNull Boolean setterArg) {
+        this.trackClusterChanges = setterArg;
+        return this;
+      }
+
       public @NonNull PlatformMapViewCreationParams build() {
         PlatformMapViewCreationParams pigeonReturn = new PlatformMapViewCreationParams();
         pigeonReturn.setInitialCameraPosition(initialCameraPosition);
@@ -4123,13 +4298,19 @@ public class Messages {
         pigeonReturn.setInitialHeatmaps(initialHeatmaps);
         pigeonReturn.setInitialTileOverlays(initialTileOverlays);
         pigeonReturn.setInitialClusterManagers(initialClusterManagers);
+        pigeonReturn.setTileCacheMemoryBytes(tileCacheMemoryBytes);
+        pigeonReturn.setTileCacheDiskBytes(tileCacheDiskBytes);
+        pigeonReturn.setTileCacheTimeToLiveMilliseconds(tileCacheTimeToLiveMilliseconds);
+        pigeonReturn.setCullOffscreenMarkers(cullOffscreenMarkers);
+        pigeonReturn.setCameraMoveEventPolicy(cameraMoveEventPolicy);
+        pigeonReturn.setTrackClusterChanges(trackClusterChanges);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<>(9);
+      ArrayList<Object> toListResult = new ArrayList<>(15);
       toListResult.add(initialCameraPosition);
       toListResult.add(mapConfiguration);
       toListResult.add(initialCircles);
@@ -4139,6 +4320,12 @@ public class Messages {
       toListResult.add(initialHeatmaps);
       toListResult.add(initialTileOverlays);
       toListResult.add(initialClusterManagers);
+      toListResult.add(tileCacheMemoryBytes);
+      toListResult.add(tileCacheDiskBytes);
+      toListResult.add(tileCacheTimeToLiveMilliseconds);
+      toListResult.add(cullOffscreenMarkers);
+      toListResult.add(cameraMoveEventPolicy);
+      toListResult.add(trackClusterChanges);
       return toListResult;
     }
 
@@ -4163,6 +4350,18 @@ public class Messages {
       pigeonResult.setInitialTileOverlays((List<PlatformTileOverlay>) initialTileOverlays);
       Object initialClusterManagers = pigeonVar_list.get(8);
       pigeonResult.setInitialClusterManagers((List<PlatformClusterManager>) initialClusterManagers);
+      Object tileCacheMemoryBytes = pigeonVar_list.get(9);
+      pigeonResult.setTileCacheMemoryBytes((Long) tileCacheMemoryBytes);
+      Object tileCacheDiskBytes = pigeonVar_list.get(10);
+      pigeonResult.setTileCacheDiskBytes((Long) tileCacheDiskBytes);
+      Object tileCacheTimeToLiveMilliseconds = pigeonVar_list.get(11);
+      pigeonResult.setTileCacheTimeToLiveMilliseconds((Long) tileCacheTimeToLiveMilliseconds);
+      Object cullOffscreenMarkers = pigeonVar_list.get(12);
+      pigeonResult.setCullOffscreenMarkers((Boolean) cullOffscreenMarkers);
+      Object cameraMoveEventPolicy = pigeonVar_list.get(13);
+      pigeonResult.setCameraMoveEventPolicy((PlatformCameraMoveEventPolicy) cameraMoveEventPolicy);
+      Object trackClusterChanges = pigeonVar_list.get(14);
+      pigeonResult.setTrackClusterChanges((Boolean) trackClusterChanges);
       return pigeonResult;
     }
   }
@@ -5820,164 +6019,659 @@ public class Messages {
     }
   }
 
-  private static class PigeonCodec extends StandardMessageCodec {
-    public static final PigeonCodec INSTANCE = new PigeonCodec();
+  /**
+   * Pigeon equivalent of CameraMoveEventPolicy.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformCameraMoveEventPolicy {
+    /** The minimum time between camera move events, in milliseconds. */
+    private @NonNull Long minIntervalMilliseconds;
 
-    private PigeonCodec() {}
+    public @NonNull Long getMinIntervalMilliseconds() {
+      return minIntervalMilliseconds;
+    }
 
-    @Override
-    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 129:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformMapType.values()[((Long) value).intValue()];
-          }
-        case (byte) 130:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformRendererType.values()[((Long) value).intValue()];
-          }
-        case (byte) 131:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformJointType.values()[((Long) value).intValue()];
-          }
-        case (byte) 132:
-          {
-            Object value = readValue(buffer);
-            return value == null ? null : PlatformCapType.values()[((Long) value).intValue()];
-          }
-        case (byte) 133:
-          {
-            Object value = readValue(buffer);
-            return value == null
-                ? null
-                : PlatformPatternItemType.values()[((Long) value).intValue()];
-          }
-        case (byte) 134:
-          {
-            Object value = readValue(buffer);
-            return value == null
-                ? null
-                : PlatformMapBitmapScaling.values()[((Long) value).intValue()];
-          }
-        case (byte) 135:
-          return PlatformCameraPosition.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 136:
-          return PlatformCameraUpdate.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 137:
-          return PlatformCameraUpdateNewCameraPosition.fromList(
-              (ArrayList<Object>) readValue(buffer));
-        case (byte) 138:
-          return PlatformCameraUpdateNewLatLng.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 139:
-          return PlatformCameraUpdateNewLatLngBounds.fromList(
-              (ArrayList<Object>) readValue(buffer));
-        case (byte) 140:
-          return PlatformCameraUpdateNewLatLngZoom.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 141:
-          return PlatformCameraUpdateScrollBy.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 142:
-          return PlatformCameraUpdateZoomBy.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 143:
-          return PlatformCameraUpdateZoom.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 144:
-          return PlatformCameraUpdateZoomTo.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 145:
-          return PlatformCircle.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 146:
-          return PlatformHeatmap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 147:
-          return PlatformClusterManager.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 148:
-          return PlatformDoublePair.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 149:
-          return PlatformInfoWindow.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 150:
-          return PlatformMarker.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 151:
-          return PlatformPolygon.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 152:
-          return PlatformPolyline.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 153:
-          return PlatformCap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 154:
-          return PlatformPatternItem.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 155:
-          return PlatformTile.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 156:
-          return PlatformTileOverlay.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 157:
-          return PlatformEdgeInsets.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 158:
-          return PlatformLatLng.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 159:
-          return PlatformLatLngBounds.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 160:
-          return PlatformCluster.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 161:
-          return PlatformCameraTargetBounds.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 162:
-          return PlatformMapViewCreationParams.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 163:
-          return PlatformMapConfiguration.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 164:
-          return PlatformPoint.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 165:
-          return PlatformTileLayer.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 166:
-          return PlatformZoomRange.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 167:
-          return PlatformBitmap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 168:
-          return PlatformBitmapDefaultMarker.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 169:
-          return PlatformBitmapBytes.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 170:
-          return PlatformBitmapAsset.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 171:
-          return PlatformBitmapAssetImage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 172:
-          return PlatformBitmapAssetMap.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 173:
-          return PlatformBitmapBytesMap.fromList((ArrayList<Object>) readValue(buffer));
-        default:
-          return super.readValueOfType(type, buffer);
+    public void setMinIntervalMilliseconds(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minIntervalMilliseconds\" is null.");
       }
+      this.minIntervalMilliseconds = setterArg;
     }
 
-    @Override
-    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof PlatformMapType) {
-        stream.write(129);
-        writeValue(stream, value == null ? null : ((PlatformMapType) value).index);
-      } else if (value instanceof PlatformRendererType) {
-        stream.write(130);
-        writeValue(stream, value == null ? null : ((PlatformRendererType) value).index);
-      } else if (value instanceof PlatformJointType) {
-        stream.write(131);
-        writeValue(stream, value == null ? null : ((PlatformJointType) value).index);
-      } else if (value instanceof PlatformCapType) {
-        stream.write(132);
-        writeValue(stream, value == null ? null : ((PlatformCapType) value).index);
-      } else if (value instanceof PlatformPatternItemType) {
-        stream.write(133);
-        writeValue(stream, value == null ? null : ((PlatformPatternItemType) value).index);
-      } else if (value instanceof PlatformMapBitmapScaling) {
-        stream.write(134);
-        writeValue(stream, value == null ? null : ((PlatformMapBitmapScaling) value).index);
-      } else if (value instanceof PlatformCameraPosition) {
-        stream.write(135);
-        writeValue(stream, ((PlatformCameraPosition) value).toList());
-      } else if (value instanceof PlatformCameraUpdate) {
-        stream.write(136);
-        writeValue(stream, ((PlatformCameraUpdate) value).toList());
-      } else if (value instanceof PlatformCameraUpdateNewCameraPosition) {
-        stream.write(137);
-        writeValue(stream, ((PlatformCameraUpdateNewCameraPosition) value).toList());
-      } else if (value instanceof PlatformCameraUpdateNewLatLng) {
-        stream.write(138);
+    /** The minimum change in zoom level that is reported. */
+    private @NonNull Double minZoomDelta;
+
+    public @NonNull Double getMinZoomDelta() {
+      return minZoomDelta;
+    }
+
+    public void setMinZoomDelta(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minZoomDelta\" is null.");
+      }
+      this.minZoomDelta = setterArg;
+    }
+
+    /** The minimum change in bearing that is reported, in degrees. */
+    private @NonNull Double minBearingDelta;
+
+    public @NonNull Double getMinBearingDelta() {
+      return minBearingDelta;
+    }
+
+    public void setMinBearingDelta(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minBearingDelta\" is null.");
+      }
+      this.minBearingDelta = setterArg;
+    }
+
+    /** The minimum change in tilt that is reported, in degrees. */
+    private @NonNull Double minTiltDelta;
+
+    public @NonNull Double getMinTiltDelta() {
+      return minTiltDelta;
+    }
+
+    public void setMinTiltDelta(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minTiltDelta\" is null.");
+      }
+      this.minTiltDelta = setterArg;
+    }
+
+    /**
+     * The minimum movement of the camera target that is reported, in logical pixels at the
+     * current zoom level.
+     */
+    private @NonNull Double minTargetDelta;
+
+    public @NonNull Double getMinTargetDelta() {
+      return minTargetDelta;
+    }
+
+    public void setMinTargetDelta(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"minTargetDelta\" is null.");
+      }
+      this.minTargetDelta = setterArg;
+    }
+
+    /**
+     * Whether to hold back camera moves while Dart has not handled the previous one, then send
+     * only the latest.
+     */
+    private @NonNull Boolean skipWhileBusy;
+
+    public @NonNull Boolean getSkipWhileBusy() {
+      return skipWhileBusy;
+    }
+
+    public void setSkipWhileBusy(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"skipWhileBusy\" is null.");
+      }
+      this.skipWhileBusy = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformCameraMoveEventPolicy() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformCameraMoveEventPolicy that = (PlatformCameraMoveEventPolicy) o;
+      return minIntervalMilliseconds.equals(that.minIntervalMilliseconds)
+          && minZoomDelta.equals(that.minZoomDelta)
+          && minBearingDelta.equals(that.minBearingDelta)
+          && minTiltDelta.equals(that.minTiltDelta)
+          && minTargetDelta.equals(that.minTargetDelta)
+          && skipWhileBusy.equals(that.skipWhileBusy);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          minIntervalMilliseconds,
+          minZoomDelta,
+          minBearingDelta,
+          minTiltDelta,
+          minTargetDelta,
+          skipWhileBusy);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long minIntervalMilliseconds;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinIntervalMilliseconds(@NonNull Long setterArg) {
+        this.minIntervalMilliseconds = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minZoomDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinZoomDelta(@NonNull Double setterArg) {
+        this.minZoomDelta = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minBearingDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinBearingDelta(@NonNull Double setterArg) {
+        this.minBearingDelta = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minTiltDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinTiltDelta(@NonNull Double setterArg) {
+        this.minTiltDelta = setterArg;
+        return this;
+      }
+
+      private @Nullable Double minTargetDelta;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMinTargetDelta(@NonNull Double setterArg) {
+        this.minTargetDelta = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean skipWhileBusy;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSkipWhileBusy(@NonNull Boolean setterArg) {
+        this.skipWhileBusy = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformCameraMoveEventPolicy build() {
+        PlatformCameraMoveEventPolicy pigeonReturn = new PlatformCameraMoveEventPolicy();
+        pigeonReturn.setMinIntervalMilliseconds(minIntervalMilliseconds);
+        pigeonReturn.setMinZoomDelta(minZoomDelta);
+        pigeonReturn.setMinBearingDelta(minBearingDelta);
+        pigeonReturn.setMinTiltDelta(minTiltDelta);
+        pigeonReturn.setMinTargetDelta(minTargetDelta);
+        pigeonReturn.setSkipWhileBusy(skipWhileBusy);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(6);
+      toListResult.add(minIntervalMilliseconds);
+      toListResult.add(minZoomDelta);
+      toListResult.add(minBearingDelta);
+      toListResult.add(minTiltDelta);
+      toListResult.add(minTargetDelta);
+      toListResult.add(skipWhileBusy);
+      return toListResult;
+    }
+
+    static @NonNull PlatformCameraMoveEventPolicy fromList(
+        @NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformCameraMoveEventPolicy pigeonResult = new PlatformCameraMoveEventPolicy();
+      Object minIntervalMilliseconds = pigeonVar_list.get(0);
+      pigeonResult.setMinIntervalMilliseconds((Long) minIntervalMilliseconds);
+      Object minZoomDelta = pigeonVar_list.get(1);
+      pigeonResult.setMinZoomDelta((Double) minZoomDelta);
+      Object minBearingDelta = pigeonVar_list.get(2);
+      pigeonResult.setMinBearingDelta((Double) minBearingDelta);
+      Object minTiltDelta = pigeonVar_list.get(3);
+      pigeonResult.setMinTiltDelta((Double) minTiltDelta);
+      Object minTargetDelta = pigeonVar_list.get(4);
+      pigeonResult.setMinTargetDelta((Double) minTargetDelta);
+      Object skipWhileBusy = pigeonVar_list.get(5);
+      pigeonResult.setSkipWhileBusy((Boolean) skipWhileBusy);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A cluster of markers, without its members unless they were requested.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformClusterSummary {
+    private @NonNull String clusterManagerId;
+
+    public @NonNull String getClusterManagerId() {
+      return clusterManagerId;
+    }
+
+    public void setClusterManagerId(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"clusterManagerId\" is null.");
+      }
+      this.clusterManagerId = setterArg;
+    }
+
+    private @NonNull PlatformLatLng position;
+
+    public @NonNull PlatformLatLng getPosition() {
+      return position;
+    }
+
+    public void setPosition(@NonNull PlatformLatLng setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"position\" is null.");
+      }
+      this.position = setterArg;
+    }
+
+    /** The number of markers in the cluster. */
+    private @NonNull Long size;
+
+    public @NonNull Long getSize() {
+      return size;
+    }
+
+    public void setSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"size\" is null.");
+      }
+      this.size = setterArg;
+    }
+
+    /** The bounds of the markers in the cluster, if members were requested. */
+    private @Nullable PlatformLatLngBounds bounds;
+
+    public @Nullable PlatformLatLngBounds getBounds() {
+      return bounds;
+    }
+
+    public void setBounds(@Nullable PlatformLatLngBounds setterArg) {
+      this.bounds = setterArg;
+    }
+
+    /** The IDs of the markers in the cluster, if members were requested. */
+    private @Nullable List<String> markerIds;
+
+    public @Nullable List<String> getMarkerIds() {
+      return markerIds;
+    }
+
+    public void setMarkerIds(@Nullable List<String> setterArg) {
+      this.markerIds = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformClusterSummary() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformClusterSummary that = (PlatformClusterSummary) o;
+      return clusterManagerId.equals(that.clusterManagerId)
+          && position.equals(that.position)
+          && size.equals(that.size)
+          && Objects.equals(bounds, that.bounds)
+          && Objects.equals(markerIds, that.markerIds);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(clusterManagerId, position, size, bounds, markerIds);
+    }
+
+    public static final class Builder {
+
+      private @Nullable String clusterManagerId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setClusterManagerId(@NonNull String setterArg) {
+        this.clusterManagerId = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformLatLng position;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPosition(@NonNull PlatformLatLng setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable Long size;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSize(@NonNull Long setterArg) {
+        this.size = setterArg;
+        return this;
+      }
+
+      private @Nullable PlatformLatLngBounds bounds;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBounds(@Nullable PlatformLatLngBounds setterArg) {
+        this.bounds = setterArg;
+        return this;
+      }
+
+      private @Nullable List<String> markerIds;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMarkerIds(@Nullable List<String> setterArg) {
+        this.markerIds = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformClusterSummary build() {
+        PlatformClusterSummary pigeonReturn = new PlatformClusterSummary();
+        pigeonReturn.setClusterManagerId(clusterManagerId);
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setSize(size);
+        pigeonReturn.setBounds(bounds);
+        pigeonReturn.setMarkerIds(markerIds);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(clusterManagerId);
+      toListResult.add(position);
+      toListResult.add(size);
+      toListResult.add(bounds);
+      toListResult.add(markerIds);
+      return toListResult;
+    }
+
+    static @NonNull PlatformClusterSummary fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformClusterSummary pigeonResult = new PlatformClusterSummary();
+      Object clusterManagerId = pigeonVar_list.get(0);
+      pigeonResult.setClusterManagerId((String) clusterManagerId);
+      Object position = pigeonVar_list.get(1);
+      pigeonResult.setPosition((PlatformLatLng) position);
+      Object size = pigeonVar_list.get(2);
+      pigeonResult.setSize((Long) size);
+      Object bounds = pigeonVar_list.get(3);
+      pigeonResult.setBounds((PlatformLatLngBounds) bounds);
+      Object markerIds = pigeonVar_list.get(4);
+      pigeonResult.setMarkerIds((List<String>) markerIds);
+      return pigeonResult;
+    }
+  }
+
+  /**
+   * A page of the clusters of a cluster manager.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class PlatformClusterPage {
+    private @NonNull List<PlatformClusterSummary> clusters;
+
+    public @NonNull List<PlatformClusterSummary> getClusters() {
+      return clusters;
+    }
+
+    public void setClusters(@NonNull List<PlatformClusterSummary> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"clusters\" is null.");
+      }
+      this.clusters = setterArg;
+    }
+
+    /** The number of clusters matching the query, across all pages. */
+    private @NonNull Long totalCount;
+
+    public @NonNull Long getTotalCount() {
+      return totalCount;
+    }
+
+    public void setTotalCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"totalCount\" is null.");
+      }
+      this.totalCount = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlatformClusterPage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      PlatformClusterPage that = (PlatformClusterPage) o;
+      return clusters.equals(that.clusters) && totalCount.equals(that.totalCount);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(clusters, totalCount);
+    }
+
+    public static final class Builder {
+
+      private @Nullable List<PlatformClusterSummary> clusters;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setClusters(@NonNull List<PlatformClusterSummary> setterArg) {
+        this.clusters = setterArg;
+        return this;
+      }
+
+      private @Nullable Long totalCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTotalCount(@NonNull Long setterArg) {
+        this.totalCount = setterArg;
+        return this;
+      }
+
+      public @NonNull PlatformClusterPage build() {
+        PlatformClusterPage pigeonReturn = new PlatformClusterPage();
+        pigeonReturn.setClusters(clusters);
+        pigeonReturn.setTotalCount(totalCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(clusters);
+      toListResult.add(totalCount);
+      return toListResult;
+    }
+
+    static @NonNull PlatformClusterPage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlatformClusterPage pigeonResult = new PlatformClusterPage();
+      Object clusters = pigeonVar_list.get(0);
+      pigeonResult.setClusters((List<PlatformClusterSummary>) clusters);
+      Object totalCount = pigeonVar_list.get(1);
+      pigeonResult.setTotalCount((Long) totalCount);
+      return pigeonResult;
+    }
+  }
+
+  private static class PigeonCodec extends StandardMessageCodec {
+    public static final PigeonCodec INSTANCE = new PigeonCodec();
+
+    private PigeonCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 129:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformMapType.values()[((Long) value).intValue()];
+          }
+        case (byte) 130:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformRendererType.values()[((Long) value).intValue()];
+          }
+        case (byte) 131:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformJointType.values()[((Long) value).intValue()];
+          }
+        case (byte) 132:
+          {
+            Object value = readValue(buffer);
+            return value == null ? null : PlatformCapType.values()[((Long) value).intValue()];
+          }
+        case (byte) 133:
+          {
+            Object value = readValue(buffer);
+            return value == null
+                ? null
+                : PlatformPatternItemType.values()[((Long) value).intValue()];
+          }
+        case (byte) 134:
+          {
+            Object value = readValue(buffer);
+            return value == null
+                ? null
+                : PlatformMapBitmapScaling.values()[((Long) value).intValue()];
+          }
+        case (byte) 135:
+          return PlatformCameraPosition.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return PlatformCameraUpdate.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return PlatformCameraUpdateNewCameraPosition.fromList(
+              (ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return PlatformCameraUpdateNewLatLng.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return PlatformCameraUpdateNewLatLngBounds.fromList(
+              (ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return PlatformCameraUpdateNewLatLngZoom.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return PlatformCameraUpdateScrollBy.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return PlatformCameraUpdateZoomBy.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return PlatformCameraUpdateZoom.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return PlatformCameraUpdateZoomTo.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return PlatformCircle.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 146:
+          return PlatformHeatmap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 147:
+          return PlatformClusterManager.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 148:
+          return PlatformDoublePair.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 149:
+          return PlatformInfoWindow.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 150:
+          return PlatformMarker.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 151:
+          return PlatformPolygon.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 152:
+          return PlatformPolyline.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 153:
+          return PlatformCap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 154:
+          return PlatformPatternItem.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 155:
+          return PlatformTile.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 156:
+          return PlatformTileOverlay.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 157:
+          return PlatformEdgeInsets.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 158:
+          return PlatformLatLng.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 159:
+          return PlatformLatLngBounds.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 160:
+          return PlatformCluster.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 161:
+          return PlatformCameraTargetBounds.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 162:
+          return PlatformMapViewCreationParams.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 163:
+          return PlatformMapConfiguration.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 164:
+          return PlatformPoint.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 165:
+          return PlatformTileLayer.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 166:
+          return PlatformZoomRange.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 167:
+          return PlatformBitmap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 168:
+          return PlatformBitmapDefaultMarker.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 169:
+          return PlatformBitmapBytes.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 170:
+          return PlatformBitmapAsset.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 171:
+          return PlatformBitmapAssetImage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 172:
+          return PlatformBitmapAssetMap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 173:
+          return PlatformBitmapBytesMap.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 174:
+          return PlatformCameraMoveEventPolicy.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 175:
+          return PlatformClusterSummary.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 176:
+          return PlatformClusterPage.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof PlatformMapType) {
+        stream.write(129);
+        writeValue(stream, value == null ? null : ((PlatformMapType) value).index);
+      } else if (value instanceof PlatformRendererType) {
+        stream.write(130);
+        writeValue(stream, value == null ? null : ((PlatformRendererType) value).index);
+      } else if (value instanceof PlatformJointType) {
+        stream.write(131);
+        writeValue(stream, value == null ? null : ((PlatformJointType) value).index);
+      } else if (value instanceof PlatformCapType) {
+        stream.write(132);
+        writeValue(stream, value == null ? null : ((PlatformCapType) value).index);
+      } else if (value instanceof PlatformPatternItemType) {
+        stream.write(133);
+        writeValue(stream, value == null ? null : ((PlatformPatternItemType) value).index);
+      } else if (value instanceof PlatformMapBitmapScaling) {
+        stream.write(134);
+        writeValue(stream, value == null ? null : ((PlatformMapBitmapScaling) value).index);
+      } else if (value instanceof PlatformCameraPosition) {
+        stream.write(135);
+        writeValue(stream, ((PlatformCameraPosition) value).toList());
+      } else if (value instanceof PlatformCameraUpdate) {
+        stream.write(136);
+        writeValue(stream, ((PlatformCameraUpdate) value).toList());
+      } else if (value instanceof PlatformCameraUpdateNewCameraPosition) {
+        stream.write(137);
+        writeValue(stream, ((PlatformCameraUpdateNewCameraPosition) value).toList());
+      } else if (value instanceof PlatformCameraUpdateNewLatLng) {
+        stream.write(138);
         writeValue(stream, ((PlatformCameraUpdateNewLatLng) value).toList());
       } else if (value instanceof PlatformCameraUpdateNewLatLngBounds) {
         stream.write(139);
@@ -6084,6 +6778,15 @@ public class Messages {
       } else if (value instanceof PlatformBitmapBytesMap) {
         stream.write(173);
         writeValue(stream, ((PlatformBitmapBytesMap) value).toList());
+      } else if (value instanceof PlatformCameraMoveEventPolicy) {
+        stream.write(174);
+        writeValue(stream, ((PlatformCameraMoveEventPolicy) value).toList());
+      } else if (value instanceof PlatformClusterSummary) {
+        stream.write(175);
+        writeValue(stream, ((PlatformClusterSummary) value).toList());
+      } else if (value instanceof PlatformClusterPage) {
+        stream.write(176);
+        writeValue(stream, ((PlatformClusterPage) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -6144,11 +6847,17 @@ public class Messages {
     /** Updates the set of custer managers for clusters on the map. */
     void updateClusterManagers(
         @NonNull List<PlatformClusterManager> toAdd, @NonNull List<String> idsToRemove);
-    /** Updates the set of markers on the map. */
+    /**
+     * Updates the set of markers on the map.
+     *
+     * <p>Large updates are applied over several frames, and this returns once all of the changes
+     * have been applied.
+     */
     void updateMarkers(
         @NonNull List<PlatformMarker> toAdd,
         @NonNull List<PlatformMarker> toChange,
-        @NonNull List<String> idsToRemove);
+        @NonNull List<String> idsToRemove,
+        @NonNull VoidResult result);
     /** Updates the set of polygonss on the map. */
     void updatePolygons(
         @NonNull List<PlatformPolygon> toAdd,
@@ -6208,6 +6917,27 @@ public class Messages {
     void clearTileCache(@NonNull String tileOverlayId);
     /** Takes a snapshot of the map and returns its image data. */
     void takeSnapshot(@NonNull Result<byte[]> result);
+    /**
+     * Returns the number of camera moves that were not sent to Dart because of the map's camera
+     * move event policy.
+     */
+    @NonNull
+    Long getSuppressedCameraMoveCount();
+    /**
+     * Returns the clusters of the given cluster manager at the current zoom level, ordered by
+     * position.
+     *
+     * <p>Only clusters inside [bounds] are returned, if it is set, starting at [offset] and up to
+     * [limit] clusters. The bounds and marker IDs of each cluster are only included if
+     * [includeMembers] is true.
+     */
+    @NonNull
+    PlatformClusterPage queryClusters(
+        @NonNull String clusterManagerId,
+        @Nullable PlatformLatLngBounds bounds,
+        @NonNull Long offset,
+        @NonNull Long limit,
+        @NonNull Boolean includeMembers);
 
     /** The codec used by MapsApi. */
     static @NonNull MessageCodec<Object> getCodec() {
@@ -6373,13 +7103,20 @@ public class Messages {
                 List<PlatformMarker> toAddArg = (List<PlatformMarker>) args.get(0);
                 List<PlatformMarker> toChangeArg = (List<PlatformMarker>) args.get(1);
                 List<String> idsToRemoveArg = (List<String>) args.get(2);
-                try {
-                  api.updateMarkers(toAddArg, toChangeArg, idsToRemoveArg);
-                  wrapped.add(0, null);
-                } catch (Throwable exception) {
-                  wrapped = wrapError(exception);
-                }
-                reply.reply(wrapped);
+                VoidResult resultCallback =
+                    new VoidResult() {
+                      public void success() {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.updateMarkers(toAddArg, toChangeArg, idsToRemoveArg, resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
@@ -6790,6 +7527,60 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.getSuppressedCameraMoveCount"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  Long output = api.getSuppressedCameraMoveCount();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.google_maps_flutter_android.MapsApi.queryClusters"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String clusterManagerIdArg = (String) args.get(0);
+                PlatformLatLngBounds boundsArg = (PlatformLatLngBounds) args.get(1);
+                Long offsetArg = (Long) args.get(2);
+                Long limitArg = (Long) args.get(3);
+                Boolean includeMembersArg = (Boolean) args.get(4);
+                try {
+                  PlatformClusterPage output =
+                      api.queryClusters(
+                          clusterManagerIdArg, boundsArg, offsetArg, limitArg, includeMembersArg);
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
@@ -7157,19 +7948,87 @@ public class Messages {
             }
           });
     }
-    /** Called to get data for a map tile. */
-    public void getTileOverlayTile(
+    /**
+     * Called after each frame's worth of a large marker update is applied.
+     *
+     * <p>[appliedCount] of the update's [totalCount] changes have been applied.
+     */
+    public void onMarkerUpdateProgress(
+        @NonNull Long appliedCountArg, @NonNull Long totalCountArg, @NonNull VoidResult result) {
+      final String channelName =
+          "dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onMarkerUpdateProgress"
+              + messageChannelSuffix;
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<>(Arrays.asList(appliedCountArg, totalCountArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(
+                    new FlutterError(
+                        (String) listReply.get(0), (String) listReply.get(1), listReply.get(2)));
+              } else {
+                result.success();
+              }
+            } else {
+              result.error(createConnectionError(channelName));
+            }
+          });
+    }
+    /**
+     * Called after a cluster manager's clusters that are shown as cluster markers changed, if the
+     * map tracks cluster changes.
+     *
+     * <p>Clusters are identified by their position, and are only included in [resized] if their
+     * number of markers changed. Cluster summaries don't include the cluster's members.
+     */
+    public void onClustersChanged(
+        @NonNull String clusterManagerIdArg,
+        @NonNull List<PlatformClusterSummary> addedArg,
+        @NonNull List<PlatformClusterSummary> removedArg,
+        @NonNull List<PlatformClusterSummary> resizedArg,
+        @NonNull VoidResult result) {
+      final String channelName =
+          "dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onClustersChanged"
+              + messageChannelSuffix;
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(binaryMessenger, channelName, getCodec());
+      channel.send(
+          new ArrayList<>(Arrays.asList(clusterManagerIdArg, addedArg, removedArg, resizedArg)),
+          channelReply -> {
+            if (channelReply instanceof List) {
+              List<Object> listReply = (List<Object>) channelReply;
+              if (listReply.size() > 1) {
+                result.error(
+                    new FlutterError(
+                        (String) listReply.get(0), (String) listReply.get(1), listReply.get(2)));
+              } else {
+                result.success();
+              }
+            } else {
+              result.error(createConnectionError(channelName));
+            }
+          });
+    }
+    /**
+     * Called to get data for several map tiles of the same zoom level at once.
+     *
+     * <p>The result contains one tile for each entry in [locations], in the same order.
+     */
+    public void getTileOverlayTiles(
         @NonNull String tileOverlayIdArg,
-        @NonNull PlatformPoint locationArg,
+        @NonNull List<PlatformPoint> locationsArg,
         @NonNull Long zoomArg,
-        @NonNull Result<PlatformTile> result) {
+        @NonNull Result<List<PlatformTile>> result) {
       final String channelName =
-          "dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTile"
+          "dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTiles"
               + messageChannelSuffix;
       BasicMessageChannel<Object> channel =
           new BasicMessageChannel<>(binaryMessenger, channelName, getCodec());
       channel.send(
-          new ArrayList<>(Arrays.asList(tileOverlayIdArg, locationArg, zoomArg)),
+          new ArrayList<>(Arrays.asList(tileOverlayIdArg, locationsArg, zoomArg)),
           channelReply -> {
             if (channelReply instanceof List) {
               List<Object> listReply = (List<Object>) channelReply;
@@ -7185,7 +8044,7 @@ public class Messages {
                         ""));
               } else {
                 @SuppressWarnings("ConstantConditions")
-                PlatformTile output = (PlatformTile) listReply.get(0);
+                List<PlatformTile> output = (List<PlatformTile>) listReply.get(0);
                 result.success(output);
               }
             } else {
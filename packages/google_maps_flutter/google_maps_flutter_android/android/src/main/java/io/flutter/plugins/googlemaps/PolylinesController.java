@@ -22,10 +22,15 @@ class PolylinesController {
   private GoogleMap googleMap;
   private final float density;
   private final AssetManager assetManager;
+  private final BitmapDescriptorCache bitmapDescriptorCache;
 
   PolylinesController(
-      @NonNull MapsCallbackApi flutterApi, AssetManager assetManager, float density) {
+      @NonNull MapsCallbackApi flutterApi,
+      AssetManager assetManager,
+      float density,
+      BitmapDescriptorCache bitmapDescriptorCache) {
     this.assetManager = assetManager;
+    this.bitmapDescriptorCache = bitmapDescriptorCache;
     this.polylineIdToController = new HashMap<>();
     this.googleMapsPolylineIdToDartPolylineId = new HashMap<>();
     this.flutterApi = flutterApi;
@@ -74,7 +79,8 @@ class PolylinesController {
   private void addPolyline(@NonNull Messages.PlatformPolyline polyline) {
     PolylineBuilder polylineBuilder = new PolylineBuilder(density);
     String polylineId =
-        Convert.interpretPolylineOptions(polyline, polylineBuilder, assetManager, density);
+        Convert.interpretPolylineOptions(
+            polyline, polylineBuilder, assetManager, density, bitmapDescriptorCache);
     PolylineOptions options = polylineBuilder.build();
     addPolyline(polylineId, options, polylineBuilder.consumeTapEvents());
   }
@@ -91,7 +97,8 @@ class PolylinesController {
     String polylineId = polyline.getPolylineId();
     PolylineController polylineController = polylineIdToController.get(polylineId);
     if (polylineController != null) {
-      Convert.interpretPolylineOptions(polyline, polylineController, assetManager, density);
+      Convert.interpretPolylineOptions(
+          polyline, polylineController, assetManager, density, bitmapDescriptorCache);
     }
   }
 
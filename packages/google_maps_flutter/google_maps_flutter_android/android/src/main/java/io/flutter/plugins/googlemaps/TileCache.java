@@ -0,0 +1,371 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.Tile;
+import io.flutter.plugins.googlemaps.TileProviderController.TileKey;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A least recently used cache of the tiles of one tile overlay, kept in memory and optionally on
+ * disk, so that tiles the map has evicted don't have to be requested from Dart again.
+ *
+ * <p>Tiles are only kept for a limited time, and each cache level is limited to a number of bytes
+ * of tile data. Disk reads and writes happen on the calling thread, which is one of the map's tile
+ * threads, but outside of the cache's lock so that other tile threads aren't blocked on them. The
+ * disk index can therefore briefly list a file that has just been deleted, which is handled as a
+ * miss.
+ */
+class TileCache {
+  private static final String TAG = "TileCache";
+  private static final String FILE_SUFFIX = ".tile";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+  // The creation time, width, height and data length written before the tile data.
+  private static final int FILE_HEADER_BYTES = 8 + 4 + 4 + 4;
+
+  private final long maxMemoryBytes;
+  private final long maxDiskBytes;
+  private final long timeToLiveMillis;
+  private final @Nullable File directory;
+
+  // Guarded by `this`.
+  private final LinkedHashMap<TileKey, CachedTile> memoryCache =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryBytes;
+  // The sizes of the files in `directory`, in access order, or null if they have not been read yet.
+  private @Nullable LinkedHashMap<String, Long> diskIndex;
+  private long diskBytes;
+  private long tempFileCount;
+  private long generation;
+  private long memoryHitCount;
+  private long diskHitCount;
+  private long missCount;
+
+  /**
+   * Creates a cache.
+   *
+   * @param directory the directory to store tiles in, or null to only keep tiles in memory.
+   */
+  TileCache(
+      long maxMemoryBytes, long maxDiskBytes, long timeToLiveMillis, @Nullable File directory) {
+    this.maxMemoryBytes = maxMemoryBytes;
+    this.maxDiskBytes = maxDiskBytes;
+    this.timeToLiveMillis = timeToLiveMillis;
+    this.directory = maxDiskBytes > 0 ? directory : null;
+  }
+
+  /** Returns whether the cache keeps any tiles. */
+  boolean isEnabled() {
+    return timeToLiveMillis > 0 && (maxMemoryBytes > 0 || directory != null);
+  }
+
+  /** Returns the cached tile at the given coordinates, or null if there is none. */
+  @Nullable
+  Tile get(@NonNull TileKey key) {
+    if (!isEnabled()) {
+      return null;
+    }
+    loadDiskIndex();
+    final long now = currentTimeMillis();
+    final String fileName = fileName(key);
+    final long expectedGeneration;
+    synchronized (this) {
+      final CachedTile cachedTile = memoryCache.get(key);
+      if (cachedTile != null) {
+        if (now - cachedTile.createdAtMillis < timeToLiveMillis) {
+          memoryHitCount++;
+          return cachedTile.tile;
+        }
+        removeFromMemory(key);
+      }
+      // Looking the file up also marks it as recently used.
+      if (diskIndex == null || diskIndex.get(fileName) == null) {
+        missCount++;
+        return null;
+      }
+      expectedGeneration = generation;
+    }
+    final CachedTile diskTile = readFromDisk(fileName, now);
+    synchronized (this) {
+      if (expectedGeneration != generation) {
+        // The cache was cleared while the tile was read.
+        missCount++;
+        return null;
+      }
+      if (diskTile != null) {
+        diskHitCount++;
+        putInMemory(key, diskTile);
+        return diskTile.tile;
+      }
+      missCount++;
+      if (!removeFromDiskIndex(fileName)) {
+        return null;
+      }
+    }
+    deleteFile(new File(directory, fileName));
+    return null;
+  }
+
+  /**
+   * Returns a token that identifies the current contents of the cache, to be passed to {@link
+   * #put} once a tile requested after this call is received.
+   */
+  synchronized long getGeneration() {
+    return generation;
+  }
+
+  /**
+   * Adds a tile to the cache, unless the cache has been cleared since {@code generation} was
+   * obtained, in which case the tile may be outdated.
+   */
+  void put(@NonNull TileKey key, @NonNull Tile tile, long generation) {
+    if (tile.data == null || !isEnabled()) {
+      return;
+    }
+    loadDiskIndex();
+    final CachedTile cachedTile = new CachedTile(tile, currentTimeMillis());
+    final String fileName = fileName(key);
+    final File tempFile;
+    synchronized (this) {
+      if (generation != this.generation) {
+        return;
+      }
+      putInMemory(key, cachedTile);
+      if (diskIndex == null || tile.data.length > maxDiskBytes) {
+        return;
+      }
+      // Each write gets its own temporary file, since the same tile can be written concurrently.
+      tempFile = new File(directory, fileName + "." + tempFileCount++ + TEMP_FILE_SUFFIX);
+    }
+    final File file = new File(directory, fileName);
+    if (!writeToDisk(tempFile, file, cachedTile)) {
+      return;
+    }
+    final List<File> evictedFiles = new ArrayList<>();
+    synchronized (this) {
+      if (generation != this.generation || diskIndex == null) {
+        // The cache was cleared while the tile was written.
+        evictedFiles.add(file);
+      } else {
+        removeFromDiskIndex(fileName);
+        final long size = FILE_HEADER_BYTES + tile.data.length;
+        diskIndex.put(fileName, size);
+        diskBytes += size;
+        final Iterator<Map.Entry<String, Long>> iterator = diskIndex.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+          final Map.Entry<String, Long> entry = iterator.next();
+          diskBytes -= entry.getValue();
+          evictedFiles.add(new File(directory, entry.getKey()));
+          iterator.remove();
+        }
+      }
+    }
+    for (File evictedFile : evictedFiles) {
+      deleteFile(evictedFile);
+    }
+  }
+
+  /** Removes all tiles from the cache. */
+  void clear() {
+    synchronized (this) {
+      generation++;
+      memoryCache.clear();
+      memoryBytes = 0;
+      if (directory == null) {
+        return;
+      }
+      if (diskIndex != null) {
+        diskIndex = new LinkedHashMap<>(16, 0.75f, true);
+        diskBytes = 0;
+      }
+    }
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        deleteFile(file);
+      }
+    }
+  }
+
+  synchronized long getMemoryHitCount() {
+    return memoryHitCount;
+  }
+
+  synchronized long getDiskHitCount() {
+    return diskHitCount;
+  }
+
+  synchronized long getMissCount() {
+    return missCount;
+  }
+
+  @VisibleForTesting
+  long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  // Must be called while holding the lock.
+  private void putInMemory(@NonNull TileKey key, @NonNull CachedTile cachedTile) {
+    final int size = cachedTile.tile.data.length;
+    if (size > maxMemoryBytes) {
+      return;
+    }
+    removeFromMemory(key);
+    memoryCache.put(key, cachedTile);
+    memoryBytes += size;
+    final Iterator<CachedTile> iterator = memoryCache.values().iterator();
+    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+      memoryBytes -= iterator.next().tile.data.length;
+      iterator.remove();
+    }
+  }
+
+  // Must be called while holding the lock.
+  private void removeFromMemory(@NonNull TileKey key) {
+    final CachedTile removed = memoryCache.remove(key);
+    if (removed != null) {
+      memoryBytes -= removed.tile.data.length;
+    }
+  }
+
+  /**
+   * Removes a file from the disk index, returning whether it was indexed. The file itself has to be
+   * deleted by the caller once it has released the lock.
+   */
+  // Must be called while holding the lock.
+  private boolean removeFromDiskIndex(@NonNull String fileName) {
+    final Long size = diskIndex == null ? null : diskIndex.remove(fileName);
+    if (size == null) {
+      return false;
+    }
+    diskBytes -= size;
+    return true;
+  }
+
+  /** Reads a tile from disk, returning null if it can't be read or has expired. */
+  private @Nullable CachedTile readFromDisk(@NonNull String fileName, long now) {
+    final File file = new File(directory, fileName);
+    try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+      final long createdAtMillis = input.readLong();
+      if (now - createdAtMillis < timeToLiveMillis) {
+        final int width = input.readInt();
+        final int height = input.readInt();
+        final byte[] data = new byte[input.readInt()];
+        input.readFully(data);
+        return new CachedTile(new Tile(width, height, data), createdAtMillis);
+      }
+    } catch (IOException e) {
+      Log.w(TAG, "Can't read cached tile " + file, e);
+    }
+    return null;
+  }
+
+  /**
+   * Writes a tile to {@code tempFile} and then moves it to {@code file}, so that readers never see
+   * a partially written tile. Returns whether the tile was written.
+   */
+  private static boolean writeToDisk(
+      @NonNull File tempFile, @NonNull File file, @NonNull CachedTile cachedTile) {
+    final byte[] data = cachedTile.tile.data;
+    try (DataOutputStream output = new DataOutputStream(new FileOutputStream(tempFile))) {
+      output.writeLong(cachedTile.createdAtMillis);
+      output.writeInt(cachedTile.tile.width);
+      output.writeInt(cachedTile.tile.height);
+      output.writeInt(data.length);
+      output.write(data);
+    } catch (IOException e) {
+      Log.w(TAG, "Can't write cached tile " + file, e);
+      deleteFile(tempFile);
+      return false;
+    }
+    if (!tempFile.renameTo(file)) {
+      deleteFile(tempFile);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Reads the directory into the index of the tiles on disk, if tiles are cached on disk and it
+   * hasn't been read yet.
+   *
+   * <p>Files are ordered by modification time, so that tiles written in a previous session are
+   * evicted first.
+   */
+  private void loadDiskIndex() {
+    if (directory == null) {
+      return;
+    }
+    synchronized (this) {
+      if (diskIndex != null) {
+        return;
+      }
+    }
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      Log.w(TAG, "Can't create tile cache directory " + directory);
+    }
+    final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+    long indexBytes = 0;
+    final List<File> staleFiles = new ArrayList<>();
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+      for (File file : files) {
+        if (file.getName().endsWith(FILE_SUFFIX)) {
+          index.put(file.getName(), file.length());
+          indexBytes += file.length();
+        } else {
+          staleFiles.add(file);
+        }
+      }
+    }
+    synchronized (this) {
+      if (diskIndex != null) {
+        // Another tile thread read the directory first.
+        return;
+      }
+      diskIndex = index;
+      diskBytes = indexBytes;
+    }
+    for (File file : staleFiles) {
+      deleteFile(file);
+    }
+  }
+
+  private static @NonNull String fileName(@NonNull TileKey key) {
+    return key.zoom + "_" + key.x + "_" + key.y + FILE_SUFFIX;
+  }
+
+  private static void deleteFile(@NonNull File file) {
+    if (file.exists() && !file.delete()) {
+      Log.w(TAG, "Can't delete cached tile " + file);
+    }
+  }
+
+  private static final class CachedTile {
+    final @NonNull Tile tile;
+    final long createdAtMillis;
+
+    CachedTile(@NonNull Tile tile, long createdAtMillis) {
+      this.tile = tile;
+      this.createdAtMillis = createdAtMillis;
+    }
+  }
+}
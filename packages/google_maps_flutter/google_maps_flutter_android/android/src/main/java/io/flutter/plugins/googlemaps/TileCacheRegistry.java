@@ -0,0 +1,224 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Shares one {@link TileCache} per tile overlay ID between the maps of the process, so that the
+ * tiles of a tile overlay on disk have a single index.
+ *
+ * <p>The tiles of each tile overlay ID are stored in their own directory, which is kept when the
+ * maps showing it are disposed, so that later maps and application launches reuse the tiles. The
+ * directory is deleted when the tile overlay is removed from the last map showing it. Directories
+ * whose tiles have all expired, such as those of tile overlays that are no longer shown, are
+ * deleted once per process when the first cache that stores tiles on disk is created.
+ *
+ * <p>Caches are created and released on the platform thread. Directories are deleted on a
+ * background thread, after being renamed so that a new cache for the same tile overlay starts with
+ * an empty directory.
+ */
+class TileCacheRegistry {
+  private static final String TAG = "TileCacheRegistry";
+  // Added to the names of directories that are being deleted. Never part of a directory name.
+  private static final String DELETED_SUFFIX = ".deleted";
+
+  private static final Map<File, TileCacheRegistry> instances = new HashMap<>();
+
+  private final @NonNull File rootDirectory;
+  private final @NonNull Executor fileExecutor;
+
+  // Guarded by `this`.
+  private final Map<String, Entry> entries = new HashMap<>();
+  private boolean isPruneScheduled;
+  private long deletedDirectoryCount;
+
+  /** Returns the registry of the caches stored in {@code rootDirectory}. */
+  static synchronized @NonNull TileCacheRegistry getInstance(@NonNull File rootDirectory) {
+    TileCacheRegistry registry = instances.get(rootDirectory);
+    if (registry == null) {
+      registry = new TileCacheRegistry(rootDirectory, Executors.newSingleThreadExecutor());
+      instances.put(rootDirectory, registry);
+    }
+    return registry;
+  }
+
+  @VisibleForTesting
+  TileCacheRegistry(@NonNull File rootDirectory, @NonNull Executor fileExecutor) {
+    this.rootDirectory = rootDirectory;
+    this.fileExecutor = fileExecutor;
+  }
+
+  /**
+   * Returns the cache of the tile overlay {@code tileOverlayId}, creating it with the given limits
+   * if no map shows the tile overlay yet. Each call must be followed by a call to {@link #release}.
+   */
+  @NonNull
+  TileCache acquire(
+      @NonNull String tileOverlayId, long memoryBytes, long diskBytes, long timeToLiveMillis) {
+    final String name = directoryName(tileOverlayId);
+    final Entry entry;
+    final boolean schedulePrune;
+    synchronized (this) {
+      Entry existingEntry = entries.get(name);
+      if (existingEntry == null) {
+        existingEntry =
+            new Entry(
+                new TileCache(
+                    memoryBytes, diskBytes, timeToLiveMillis, new File(rootDirectory, name)));
+        entries.put(name, existingEntry);
+      }
+      entry = existingEntry;
+      entry.referenceCount++;
+      schedulePrune = !isPruneScheduled && diskBytes > 0 && timeToLiveMillis > 0;
+      if (schedulePrune) {
+        isPruneScheduled = true;
+      }
+    }
+    if (schedulePrune) {
+      fileExecutor.execute(() -> pruneExpiredDirectories(timeToLiveMillis));
+    }
+    return entry.cache;
+  }
+
+  /**
+   * Releases a cache returned by {@link #acquire}, and deletes its tiles if {@code deleteTiles} is
+   * true and no other map shows the tile overlay.
+   */
+  void release(@NonNull String tileOverlayId, boolean deleteTiles) {
+    final String name = directoryName(tileOverlayId);
+    final File deletedDirectory;
+    synchronized (this) {
+      final Entry entry = entries.get(name);
+      if (entry == null || --entry.referenceCount > 0) {
+        return;
+      }
+      entries.remove(name);
+      if (!deleteTiles) {
+        return;
+      }
+      deletedDirectory = moveToDeleted(new File(rootDirectory, name));
+    }
+    if (deletedDirectory != null) {
+      fileExecutor.execute(() -> deleteRecursively(deletedDirectory));
+    }
+  }
+
+  @VisibleForTesting
+  long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  /**
+   * Deletes the directories of the tile overlays that no map shows and whose files were all written
+   * more than {@code timeToLiveMillis} ago, along with the directories left over from earlier
+   * deletions.
+   */
+  private void pruneExpiredDirectories(long timeToLiveMillis) {
+    final File[] directories = rootDirectory.listFiles();
+    if (directories == null) {
+      return;
+    }
+    final long expiredBefore = currentTimeMillis() - timeToLiveMillis;
+    for (File directory : directories) {
+      if (directory.getName().endsWith(DELETED_SUFFIX)) {
+        deleteRecursively(directory);
+        continue;
+      }
+      if (!directory.isDirectory() || lastModified(directory) >= expiredBefore) {
+        continue;
+      }
+      final File deletedDirectory;
+      synchronized (this) {
+        if (entries.containsKey(directory.getName())) {
+          continue;
+        }
+        deletedDirectory = moveToDeleted(directory);
+      }
+      if (deletedDirectory != null) {
+        deleteRecursively(deletedDirectory);
+      }
+    }
+  }
+
+  /**
+   * Renames {@code directory} to a name ending in {@link #DELETED_SUFFIX}, returning the renamed
+   * directory, or null if there is nothing to delete.
+   */
+  // Must be called while holding the lock.
+  private @Nullable File moveToDeleted(@NonNull File directory) {
+    if (!directory.exists()) {
+      return null;
+    }
+    File deletedDirectory;
+    do {
+      deletedDirectory =
+          new File(
+              rootDirectory,
+              directory.getName() + "." + deletedDirectoryCount++ + DELETED_SUFFIX);
+    } while (deletedDirectory.exists());
+    if (!directory.renameTo(deletedDirectory)) {
+      Log.w(TAG, "Can't delete tile cache directory " + directory);
+      return null;
+    }
+    return deletedDirectory;
+  }
+
+  /** Returns when the most recent file in {@code directory} was written. */
+  private static long lastModified(@NonNull File directory) {
+    long lastModified = directory.lastModified();
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        lastModified = Math.max(lastModified, file.lastModified());
+      }
+    }
+    return lastModified;
+  }
+
+  private static void deleteRecursively(@NonNull File file) {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        deleteRecursively(child);
+      }
+    }
+    if (file.exists() && !file.delete()) {
+      Log.w(TAG, "Can't delete " + file);
+    }
+  }
+
+  /** Returns a directory name for the given tile overlay that is unique and valid. */
+  @VisibleForTesting
+  static @NonNull String directoryName(@NonNull String tileOverlayId) {
+    final StringBuilder name = new StringBuilder();
+    for (int i = 0; i < tileOverlayId.length(); i++) {
+      final char c = tileOverlayId.charAt(i);
+      if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_') {
+        name.append(c);
+      } else {
+        name.append(String.format("-%04x", (int) c));
+      }
+    }
+    return name.toString();
+  }
+
+  private static final class Entry {
+    final @NonNull TileCache cache;
+    int referenceCount;
+
+    Entry(@NonNull TileCache cache) {
+      this.cache = cache;
+    }
+  }
+}
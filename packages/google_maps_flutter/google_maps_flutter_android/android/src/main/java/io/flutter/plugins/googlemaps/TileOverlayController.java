@@ -4,15 +4,18 @@
 
 package io.flutter.plugins.googlemaps;
 
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileProvider;
 
 class TileOverlayController implements TileOverlaySink {
 
   private final TileOverlay tileOverlay;
+  private final TileProviderController tileProviderController;
 
-  TileOverlayController(TileOverlay tileOverlay) {
+  TileOverlayController(TileOverlay tileOverlay, TileProviderController tileProviderController) {
     this.tileOverlay = tileOverlay;
+    this.tileProviderController = tileProviderController;
   }
 
   void remove() {
@@ -20,9 +23,15 @@ class TileOverlayController implements TileOverlaySink {
   }
 
   void clearTileCache() {
+    // Clear the native cache first, so that the map does not get stale tiles from it.
+    tileProviderController.clearTileCache();
     tileOverlay.clearTileCache();
   }
 
+  void cancelTilesOutside(LatLngBounds visibleBounds) {
+    tileProviderController.cancelTilesOutside(visibleBounds);
+  }
+
   TileOverlay getTileOverlay() {
     return tileOverlay;
   }
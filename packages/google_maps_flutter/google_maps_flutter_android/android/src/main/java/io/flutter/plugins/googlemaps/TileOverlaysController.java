@@ -4,9 +4,12 @@
 
 package io.flutter.plugins.googlemaps;
 
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.TileOverlay;
 import com.google.android.gms.maps.model.TileOverlayOptions;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
@@ -16,19 +19,45 @@ import java.util.Map;
 
 class TileOverlaysController {
 
+  /**
+   * The minimum time between two cancellations of the tile requests outside of the visible region
+   * while the camera moves.
+   */
+  @VisibleForTesting static final long CAMERA_MOVE_CANCEL_INTERVAL_MILLIS = 250;
+
   private final Map<String, TileOverlayController> tileOverlayIdToController;
   private final MapsCallbackApi flutterApi;
+  private final @Nullable TileCacheRegistry tileCacheRegistry;
   private GoogleMap googleMap;
+  private long tileCacheMemoryBytes;
+  private long tileCacheDiskBytes;
+  private long tileCacheTimeToLiveMillis;
+  private long lastCancelledAtMillis = -CAMERA_MOVE_CANCEL_INTERVAL_MILLIS;
 
-  TileOverlaysController(MapsCallbackApi flutterApi) {
+  /**
+   * Creates a controller.
+   *
+   * @param tileCacheRegistry shares the tile caches of tile overlays with other maps, or null to
+   *     only keep the tiles of this map's tile overlays in memory.
+   */
+  TileOverlaysController(
+      MapsCallbackApi flutterApi, @Nullable TileCacheRegistry tileCacheRegistry) {
     this.tileOverlayIdToController = new HashMap<>();
     this.flutterApi = flutterApi;
+    this.tileCacheRegistry = tileCacheRegistry;
   }
 
   void setGoogleMap(GoogleMap googleMap) {
     this.googleMap = googleMap;
   }
 
+  /** Sets the limits of the tile caches of the tile overlays added after this call. */
+  void setTileCacheOptions(long memoryBytes, long diskBytes, long timeToLiveMillis) {
+    this.tileCacheMemoryBytes = memoryBytes;
+    this.tileCacheDiskBytes = diskBytes;
+    this.tileCacheTimeToLiveMillis = timeToLiveMillis;
+  }
+
   void addTileOverlays(@NonNull List<Messages.PlatformTileOverlay> tileOverlaysToAdd) {
     for (Messages.PlatformTileOverlay tileOverlayToAdd : tileOverlaysToAdd) {
       addTileOverlay(tileOverlayToAdd);
@@ -63,6 +92,52 @@ class TileOverlaysController {
     }
   }
 
+  /**
+   * Cancels the pending tile requests that are outside of the visible region of the map, at most
+   * once per {@link #CAMERA_MOVE_CANCEL_INTERVAL_MILLIS}, so that tile threads are released while
+   * the map is flung past their tiles instead of once it is idle.
+   */
+  void onCameraMove() {
+    if (uptimeMillis() - lastCancelledAtMillis < CAMERA_MOVE_CANCEL_INTERVAL_MILLIS) {
+      return;
+    }
+    cancelTilesOutsideVisibleRegion();
+  }
+
+  /** Cancels the pending tile requests that are outside of the visible region of the map. */
+  void onCameraIdle() {
+    cancelTilesOutsideVisibleRegion();
+  }
+
+  @VisibleForTesting
+  long uptimeMillis() {
+    return SystemClock.uptimeMillis();
+  }
+
+  private void cancelTilesOutsideVisibleRegion() {
+    if (googleMap == null || tileOverlayIdToController.isEmpty()) {
+      return;
+    }
+    lastCancelledAtMillis = uptimeMillis();
+    LatLngBounds visibleBounds = googleMap.getProjection().getVisibleRegion().latLngBounds;
+    for (TileOverlayController tileOverlayController : tileOverlayIdToController.values()) {
+      tileOverlayController.cancelTilesOutside(visibleBounds);
+    }
+  }
+
+  /**
+   * Releases the tile caches of the tile overlays when the map is disposed, keeping their tiles for
+   * later maps.
+   */
+  void dispose() {
+    if (tileCacheRegistry != null) {
+      for (String tileOverlayId : tileOverlayIdToController.keySet()) {
+        tileCacheRegistry.release(tileOverlayId, false);
+      }
+    }
+    tileOverlayIdToController.clear();
+  }
+
   @Nullable
   TileOverlay getTileOverlay(String tileOverlayId) {
     if (tileOverlayId == null) {
@@ -79,12 +154,18 @@ class TileOverlaysController {
     TileOverlayBuilder tileOverlayOptionsBuilder = new TileOverlayBuilder();
     String tileOverlayId =
         Convert.interpretTileOverlayOptions(platformTileOverlay, tileOverlayOptionsBuilder);
+    TileCache tileCache =
+        tileCacheRegistry == null
+            ? new TileCache(tileCacheMemoryBytes, 0, tileCacheTimeToLiveMillis, null)
+            : tileCacheRegistry.acquire(
+                tileOverlayId, tileCacheMemoryBytes, tileCacheDiskBytes, tileCacheTimeToLiveMillis);
     TileProviderController tileProviderController =
-        new TileProviderController(flutterApi, tileOverlayId);
+        new TileProviderController(flutterApi, tileOverlayId, tileCache);
     tileOverlayOptionsBuilder.setTileProvider(tileProviderController);
     TileOverlayOptions options = tileOverlayOptionsBuilder.build();
     TileOverlay tileOverlay = googleMap.addTileOverlay(options);
-    TileOverlayController tileOverlayController = new TileOverlayController(tileOverlay);
+    TileOverlayController tileOverlayController =
+        new TileOverlayController(tileOverlay, tileProviderController);
     tileOverlayIdToController.put(tileOverlayId, tileOverlayController);
   }
 
@@ -101,6 +182,10 @@ class TileOverlaysController {
     if (tileOverlayController != null) {
       tileOverlayController.remove();
       tileOverlayIdToController.remove(tileOverlayId);
+      if (tileCacheRegistry != null) {
+        // The tile overlay is gone, so its tiles won't be needed again.
+        tileCacheRegistry.release(tileOverlayId, true);
+      }
     }
   }
 
@@ -9,98 +9,339 @@ import android.os.Looper;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Tile;
 import com.google.android.gms.maps.model.TileProvider;
 import io.flutter.plugins.googlemaps.Messages.FlutterError;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Provides tiles to the map by asking Dart for them.
+ *
+ * <p>Tiles that are in the overlay's {@link TileCache} are returned without asking Dart.
+ *
+ * <p>The map requests tiles from several background threads. Requests made while the main thread
+ * is busy are sent to Dart together in one message per zoom level, concurrent requests for the same
+ * tile share a single request, and each request is abandoned after a timeout or once the tile is no
+ * longer visible, so that the map can request it again later.
+ */
 class TileProviderController implements TileProvider {
 
   private static final String TAG = "TileProviderController";
 
+  /** How long a tile thread waits for Dart to provide a tile. */
+  @VisibleForTesting static final long TILE_REQUEST_TIMEOUT_MILLIS = 10000;
+
   protected final String tileOverlayId;
   protected final @NonNull MapsCallbackApi flutterApi;
-  protected final Handler handler = new Handler(Looper.getMainLooper());
+  protected final Handler handler;
+  private final @NonNull TileCache tileCache;
+  private final long timeoutMillis;
+
+  // Requests that have not been answered yet, by tile. Guarded by `this`.
+  private final Map<TileKey, PendingTile> pendingTiles = new HashMap<>();
+  // Requests that have not been sent to Dart yet. Guarded by `this`.
+  private final List<PendingTile> queuedTiles = new ArrayList<>();
+  // Whether a task sending the queued requests has been posted. Guarded by `this`.
+  private boolean isSendScheduled;
 
-  TileProviderController(@NonNull MapsCallbackApi flutterApi, String tileOverlayId) {
+  TileProviderController(
+      @NonNull MapsCallbackApi flutterApi, String tileOverlayId, @NonNull TileCache tileCache) {
+    this(
+        flutterApi,
+        tileOverlayId,
+        tileCache,
+        new Handler(Looper.getMainLooper()),
+        TILE_REQUEST_TIMEOUT_MILLIS);
+  }
+
+  @VisibleForTesting
+  TileProviderController(
+      @NonNull MapsCallbackApi flutterApi,
+      String tileOverlayId,
+      @NonNull TileCache tileCache,
+      @NonNull Handler handler,
+      long timeoutMillis) {
     this.tileOverlayId = tileOverlayId;
     this.flutterApi = flutterApi;
+    this.tileCache = tileCache;
+    this.handler = handler;
+    this.timeoutMillis = timeoutMillis;
   }
 
+  /**
+   * Returns the tile at the given coordinates, {@link TileProvider#NO_TILE} if Dart failed to
+   * provide it, or null if the request timed out or was cancelled, in which case the map will
+   * request the tile again later.
+   */
   @Override
-  public Tile getTile(final int x, final int y, final int zoom) {
-    Worker worker = new Worker(x, y, zoom);
-    return worker.getTile();
+  public @Nullable Tile getTile(final int x, final int y, final int zoom) {
+    final TileKey key = new TileKey(x, y, zoom);
+    final Tile cachedTile = tileCache.get(key);
+    if (cachedTile != null) {
+      return cachedTile;
+    }
+    final PendingTile pendingTile = requestTile(key);
+    try {
+      if (!pendingTile.countDownLatch.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        Log.w(
+            TAG,
+            String.format("Timed out waiting for tile: x = %d, y= %d, zoom = %d", x, y, zoom));
+        // Let the next request for this tile ask Dart again instead of waiting on this one.
+        forget(pendingTile);
+        return null;
+      }
+    } catch (InterruptedException e) {
+      Log.e(
+          TAG,
+          String.format("countDownLatch: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
+          e);
+      return TileProvider.NO_TILE;
+    }
+    if (pendingTile.isCancelled) {
+      return null;
+    }
+    final Messages.PlatformTile result = pendingTile.result;
+    try {
+      if (result == null) {
+        Log.e(
+            TAG,
+            String.format(
+                "Did not receive tile data for tile: x = %d, y= %d, zoom = %d", x, y, zoom));
+        return TileProvider.NO_TILE;
+      }
+      final Tile tile = Convert.tileFromPigeon(result);
+      if (pendingTile.isCached.compareAndSet(false, true)) {
+        tileCache.put(key, tile, pendingTile.cacheGeneration);
+      }
+      return tile;
+    } catch (Exception e) {
+      Log.e(TAG, "Can't parse tile data", e);
+      return TileProvider.NO_TILE;
+    }
   }
 
-  private final class Worker implements Messages.Result<Messages.PlatformTile> {
+  /**
+   * Cancels the requests for tiles that do not intersect {@code visibleBounds}, releasing the
+   * threads waiting for them.
+   *
+   * <p>Requests that have already been sent to Dart are not interrupted, but their results are
+   * ignored.
+   */
+  void cancelTilesOutside(@NonNull LatLngBounds visibleBounds) {
+    final List<PendingTile> cancelledTiles = new ArrayList<>();
+    synchronized (this) {
+      final Iterator<PendingTile> iterator = pendingTiles.values().iterator();
+      while (iterator.hasNext()) {
+        final PendingTile pendingTile = iterator.next();
+        if (!isTileVisible(pendingTile.key, visibleBounds)) {
+          iterator.remove();
+          queuedTiles.remove(pendingTile);
+          cancelledTiles.add(pendingTile);
+        }
+      }
+    }
+    for (PendingTile pendingTile : cancelledTiles) {
+      pendingTile.cancel();
+    }
+  }
+
+  /** Removes all tiles from the native tile cache. */
+  void clearTileCache() {
+    tileCache.clear();
+  }
+
+  @NonNull
+  TileCache getTileCache() {
+    return tileCache;
+  }
+
+  @VisibleForTesting
+  synchronized int getPendingTileCount() {
+    return pendingTiles.size();
+  }
+
+  private synchronized @NonNull PendingTile requestTile(@NonNull TileKey key) {
+    PendingTile pendingTile = pendingTiles.get(key);
+    if (pendingTile != null) {
+      return pendingTile;
+    }
+    pendingTile = new PendingTile(key, tileCache.getGeneration());
+    pendingTiles.put(key, pendingTile);
+    queuedTiles.add(pendingTile);
+    if (!isSendScheduled) {
+      isSendScheduled = true;
+      handler.post(this::sendQueuedTiles);
+    }
+    return pendingTile;
+  }
 
-    private final CountDownLatch countDownLatch = new CountDownLatch(1);
-    private final int x;
-    private final int y;
-    private final int zoom;
-    private @Nullable Messages.PlatformTile result;
+  private synchronized void forget(@NonNull PendingTile pendingTile) {
+    if (pendingTiles.get(pendingTile.key) == pendingTile) {
+      pendingTiles.remove(pendingTile.key);
+      queuedTiles.remove(pendingTile);
+    }
+  }
 
-    Worker(int x, int y, int zoom) {
+  /** Sends all queued requests to Dart, one message per zoom level. */
+  private void sendQueuedTiles() {
+    final Map<Integer, List<PendingTile>> batches = new HashMap<>();
+    synchronized (this) {
+      isSendScheduled = false;
+      for (PendingTile pendingTile : queuedTiles) {
+        List<PendingTile> batch = batches.get(pendingTile.key.zoom);
+        if (batch == null) {
+          batch = new ArrayList<>();
+          batches.put(pendingTile.key.zoom, batch);
+        }
+        batch.add(pendingTile);
+      }
+      queuedTiles.clear();
+    }
+    for (Map.Entry<Integer, List<PendingTile>> entry : batches.entrySet()) {
+      final List<PendingTile> batch = entry.getValue();
+      final List<Messages.PlatformPoint> locations = new ArrayList<>(batch.size());
+      for (PendingTile pendingTile : batch) {
+        locations.add(
+            new Messages.PlatformPoint.Builder()
+                .setX((long) pendingTile.key.x)
+                .setY((long) pendingTile.key.y)
+                .build());
+      }
+      flutterApi.getTileOverlayTiles(
+          tileOverlayId, locations, (long) entry.getKey(), new BatchResult(batch));
+    }
+  }
+
+  private void complete(@NonNull PendingTile pendingTile, @Nullable Messages.PlatformTile result) {
+    forget(pendingTile);
+    pendingTile.complete(result);
+  }
+
+  /** Returns whether the tile intersects {@code bounds}, using Web Mercator tile coordinates. */
+  @VisibleForTesting
+  static boolean isTileVisible(@NonNull TileKey key, @NonNull LatLngBounds bounds) {
+    final double tileCount = 1 << key.zoom;
+    final double west = key.x / tileCount * 360.0 - 180.0;
+    final double east = (key.x + 1) / tileCount * 360.0 - 180.0;
+    final double north = tileYToLatitude(key.y, tileCount);
+    final double south = tileYToLatitude(key.y + 1, tileCount);
+    if (south > bounds.northeast.latitude || north < bounds.southwest.latitude) {
+      return false;
+    }
+    final double visibleWest = bounds.southwest.longitude;
+    final double visibleEast = bounds.northeast.longitude;
+    if (visibleWest <= visibleEast) {
+      return west <= visibleEast && east >= visibleWest;
+    }
+    // The visible region crosses the antimeridian.
+    return west <= visibleEast || east >= visibleWest;
+  }
+
+  private static double tileYToLatitude(int y, double tileCount) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / tileCount))));
+  }
+
+  /** The coordinates of a tile. */
+  @VisibleForTesting
+  static final class TileKey {
+    final int x;
+    final int y;
+    final int zoom;
+
+    TileKey(int x, int y, int zoom) {
       this.x = x;
       this.y = y;
       this.zoom = zoom;
     }
 
-    @NonNull
-    Tile getTile() {
-      final Messages.PlatformPoint location =
-          new Messages.PlatformPoint.Builder().setX((long) x).setY((long) y).build();
-      handler.post(() -> flutterApi.getTileOverlayTile(tileOverlayId, location, (long) zoom, this));
-      try {
-        // `flutterApi.getTileOverlayTile` is async, so use a `countDownLatch` to make it synchronized.
-        countDownLatch.await();
-      } catch (InterruptedException e) {
-        Log.e(
-            TAG,
-            String.format("countDownLatch: can't get tile: x = %d, y= %d, zoom = %d", x, y, zoom),
-            e);
-        return TileProvider.NO_TILE;
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
       }
-      try {
-        if (result == null) {
-          Log.e(
-              TAG,
-              String.format(
-                  "Did not receive tile data for tile: x = %d, y= %d, zoom = %d", x, y, zoom));
-          return TileProvider.NO_TILE;
-        }
-        return Convert.tileFromPigeon(result);
-      } catch (Exception e) {
-        Log.e(TAG, "Can't parse tile data", e);
-        return TileProvider.NO_TILE;
+      if (o == null || getClass() != o.getClass()) {
+        return false;
       }
+      TileKey that = (TileKey) o;
+      return x == that.x && y == that.y && zoom == that.zoom;
     }
 
     @Override
-    public void success(@NonNull Messages.PlatformTile result) {
+    public int hashCode() {
+      return Objects.hash(x, y, zoom);
+    }
+  }
+
+  /** A request for a tile, shared by all threads waiting for that tile. */
+  private static final class PendingTile {
+    final @NonNull TileKey key;
+    // The generation of the tile cache when the tile was requested.
+    final long cacheGeneration;
+    final CountDownLatch countDownLatch = new CountDownLatch(1);
+    // Whether one of the threads waiting for the tile has added it to the tile cache.
+    final AtomicBoolean isCached = new AtomicBoolean();
+    volatile @Nullable Messages.PlatformTile result;
+    volatile boolean isCancelled;
+
+    PendingTile(@NonNull TileKey key, long cacheGeneration) {
+      this.key = key;
+      this.cacheGeneration = cacheGeneration;
+    }
+
+    void complete(@Nullable Messages.PlatformTile result) {
       this.result = result;
       countDownLatch.countDown();
     }
 
+    void cancel() {
+      isCancelled = true;
+      countDownLatch.countDown();
+    }
+  }
+
+  private final class BatchResult implements Messages.Result<List<Messages.PlatformTile>> {
+    private final @NonNull List<PendingTile> batch;
+
+    BatchResult(@NonNull List<PendingTile> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public void success(@NonNull List<Messages.PlatformTile> result) {
+      for (int i = 0; i < batch.size(); i++) {
+        complete(batch.get(i), i < result.size() ? result.get(i) : null);
+      }
+    }
+
     @Override
     public void error(@NonNull Throwable error) {
       if (error instanceof FlutterError) {
         FlutterError flutterError = (FlutterError) error;
         Log.e(
             TAG,
-            "Can't get tile: errorCode = "
+            "Can't get tiles: errorCode = "
                 + flutterError.code
                 + ", errorMessage = "
                 + flutterError.getMessage()
                 + ", date = "
                 + flutterError.details);
       } else {
-        Log.e(TAG, "Can't get tile: " + error);
+        Log.e(TAG, "Can't get tiles: " + error);
+      }
+      for (PendingTile pendingTile : batch) {
+        complete(pendingTile, null);
       }
-      result = null;
-      countDownLatch.countDown();
     }
   }
 }
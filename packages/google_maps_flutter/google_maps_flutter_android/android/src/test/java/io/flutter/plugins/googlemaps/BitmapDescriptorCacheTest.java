@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import org.junit.Test;
+
+public class BitmapDescriptorCacheTest {
+  private final BitmapDescriptor descriptor1 = mock(BitmapDescriptor.class);
+  private final BitmapDescriptor descriptor2 = mock(BitmapDescriptor.class);
+  private final BitmapDescriptor descriptor3 = mock(BitmapDescriptor.class);
+
+  @Test
+  public void get_countsHitsAndDecodeTimeSaved() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(100);
+
+    assertNull(cache.get("a"));
+    cache.put("a", descriptor1, 10, 500);
+
+    assertSame(descriptor1, cache.get("a"));
+    assertSame(descriptor1, cache.get("a"));
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1000, cache.getDecodeNanosSaved());
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsedDescriptorsOverLimit() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(25);
+
+    cache.put("a", descriptor1, 10, 0);
+    cache.put("b", descriptor2, 10, 0);
+    cache.get("a");
+    cache.put("c", descriptor3, 10, 0);
+
+    assertSame(descriptor1, cache.get("a"));
+    assertNull(cache.get("b"));
+    assertSame(descriptor3, cache.get("c"));
+  }
+
+  @Test
+  public void put_ignoresDescriptorsLargerThanLimit() {
+    final BitmapDescriptorCache cache = new BitmapDescriptorCache(5);
+
+    cache.put("a", descriptor1, 10, 0);
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void keyFor_dependsOnContentAndScaling() {
+    final Messages.PlatformBitmap bitmap1 = bytesMapBitmap(new byte[] {1, 2, 3}, 1.0);
+    final Messages.PlatformBitmap bitmap2 = bytesMapBitmap(new byte[] {1, 2, 3}, 1.0);
+    final Messages.PlatformBitmap otherContent = bytesMapBitmap(new byte[] {3, 2, 1}, 1.0);
+    final Messages.PlatformBitmap otherRatio = bytesMapBitmap(new byte[] {1, 2, 3}, 2.0);
+
+    assertEquals(
+        BitmapDescriptorCache.keyFor(bitmap1, 1f), BitmapDescriptorCache.keyFor(bitmap2, 1f));
+    assertNotEquals(
+        BitmapDescriptorCache.keyFor(bitmap1, 1f), BitmapDescriptorCache.keyFor(otherContent, 1f));
+    assertNotEquals(
+        BitmapDescriptorCache.keyFor(bitmap1, 1f), BitmapDescriptorCache.keyFor(otherRatio, 1f));
+    assertNotEquals(
+        BitmapDescriptorCache.keyFor(bitmap1, 1f), BitmapDescriptorCache.keyFor(bitmap1, 2f));
+  }
+
+  @Test
+  public void keyFor_hashesBytesAsLowercaseHex() {
+    final Messages.PlatformBitmap bitmap =
+        new Messages.PlatformBitmap.Builder()
+            .setBitmap(
+                new Messages.PlatformBitmapBytes.Builder()
+                    .setByteData(new byte[] {'a', 'b', 'c'})
+                    .build())
+            .build();
+
+    assertEquals(
+        "bytes:ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+        BitmapDescriptorCache.keyFor(bitmap, 1f));
+  }
+
+  @Test
+  public void keyFor_returnsNullForDefaultMarker() {
+    final Messages.PlatformBitmap bitmap =
+        new Messages.PlatformBitmap.Builder()
+            .setBitmap(new Messages.PlatformBitmapDefaultMarker.Builder().build())
+            .build();
+
+    assertNull(BitmapDescriptorCache.keyFor(bitmap, 1f));
+  }
+
+  private static Messages.PlatformBitmap bytesMapBitmap(byte[] data, double imagePixelRatio) {
+    return new Messages.PlatformBitmap.Builder()
+        .setBitmap(
+            new Messages.PlatformBitmapBytesMap.Builder()
+                .setByteData(data)
+                .setImagePixelRatio(imagePixelRatio)
+                .setBitmapScaling(Messages.PlatformMapBitmapScaling.AUTO)
+                .build())
+        .build();
+  }
+}
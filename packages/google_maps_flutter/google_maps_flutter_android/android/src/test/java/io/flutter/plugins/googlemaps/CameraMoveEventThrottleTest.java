@@ -0,0 +1,203 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import android.os.Build;
+import com.google.android.gms.maps.model.CameraPosition;
+import com.google.android.gms.maps.model.LatLng;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(minSdk = Build.VERSION_CODES.LOLLIPOP)
+public class CameraMoveEventThrottleTest {
+  private MapsCallbackApi flutterApi;
+  private FakeClockCameraMoveEventThrottle throttle;
+
+  @Before
+  public void setUp() {
+    flutterApi = mock(MapsCallbackApi.class);
+    throttle = new FakeClockCameraMoveEventThrottle(flutterApi);
+  }
+
+  @Test
+  public void onCameraMove_sendsEveryChangeByDefault() {
+    throttle.setPolicy(policy().build());
+
+    throttle.onCameraMove(position(10));
+    throttle.onCameraMove(position(11));
+    throttle.onCameraMove(position(11));
+
+    assertEquals(2, sentZooms().size());
+    assertEquals(1, throttle.getSuppressedCount());
+  }
+
+  @Test
+  public void onCameraMove_suppressesMovesWithinMinInterval() {
+    throttle.setPolicy(policy().setMinIntervalMilliseconds(100L).build());
+
+    throttle.onCameraMove(position(10));
+    throttle.now = 50;
+    throttle.onCameraMove(position(11));
+    throttle.now = 100;
+    throttle.onCameraMove(position(12));
+
+    assertEquals(Arrays.asList(10.0, 12.0), sentZooms());
+    assertEquals(1, throttle.getSuppressedCount());
+  }
+
+  @Test
+  public void onCameraMove_suppressesChangesBelowMinDelta() {
+    throttle.setPolicy(policy().setMinZoomDelta(1.0).build());
+
+    throttle.onCameraMove(position(10));
+    throttle.onCameraMove(position(10.5));
+    throttle.onCameraMove(position(11));
+
+    assertEquals(Arrays.asList(10.0, 11.0), sentZooms());
+    assertEquals(1, throttle.getSuppressedCount());
+  }
+
+  @Test
+  public void onCameraMove_sendsLatestMoveOnceDartHandledPreviousOne() {
+    throttle.setPolicy(policy().setSkipWhileBusy(true).build());
+
+    throttle.onCameraMove(position(10));
+    throttle.onCameraMove(position(11));
+    throttle.onCameraMove(position(12));
+    final ArgumentCaptor<Messages.VoidResult> resultCaptor =
+        ArgumentCaptor.forClass(Messages.VoidResult.class);
+    verify(flutterApi).onCameraMove(any(), resultCaptor.capture());
+    resultCaptor.getValue().success();
+
+    assertEquals(Arrays.asList(10.0, 12.0), sentZooms());
+    assertEquals(1, throttle.getSuppressedCount());
+  }
+
+  @Test
+  public void onCameraIdle_sendsFinalPosition() {
+    throttle.setPolicy(policy().setMinZoomDelta(1.0).build());
+
+    throttle.onCameraMoveStarted();
+    throttle.onCameraMove(position(10));
+    throttle.onCameraMove(position(10.5));
+    throttle.onCameraIdle(position(10.5));
+
+    assertEquals(Arrays.asList(10.0, 10.5), sentZooms());
+  }
+
+  @Test
+  public void onCameraIdle_doesNotResendLastPosition() {
+    throttle.setPolicy(policy().build());
+
+    throttle.onCameraMoveStarted();
+    throttle.onCameraMove(position(10));
+    throttle.onCameraIdle(position(10));
+
+    assertEquals(Arrays.asList(10.0), sentZooms());
+  }
+
+  @Test
+  public void onCameraIdle_doesNotSendPositionWithoutMoveStarted() {
+    throttle.setPolicy(policy().build());
+
+    throttle.onCameraIdle(position(10));
+
+    assertEquals(Collections.emptyList(), sentZooms());
+  }
+
+  @Test
+  public void onCameraIdle_sendsFinalPositionOnlyOncePerMove() {
+    throttle.setPolicy(policy().setMinZoomDelta(1.0).build());
+
+    throttle.onCameraMoveStarted();
+    throttle.onCameraMove(position(10));
+    throttle.onCameraMove(position(10.5));
+    throttle.onCameraIdle(position(10.5));
+    throttle.onCameraIdle(position(10.7));
+
+    assertEquals(Arrays.asList(10.0, 10.5), sentZooms());
+  }
+
+  @Test
+  public void bearingDelta_takesShortestAngle() {
+    assertEquals(20, CameraMoveEventThrottle.bearingDelta(350, 10), 1e-9);
+    assertEquals(20, CameraMoveEventThrottle.bearingDelta(10, 350), 1e-9);
+    assertEquals(180, CameraMoveEventThrottle.bearingDelta(0, 180), 1e-9);
+  }
+
+  @Test
+  public void targetDelta_returnsLogicalPixelsAtZoom() {
+    // At zoom 0 the world is 256 logical pixels wide.
+    final double oneLogicalPixel = 360.0 / 256;
+
+    assertEquals(
+        1,
+        CameraMoveEventThrottle.targetDelta(new LatLng(0, 0), new LatLng(0, oneLogicalPixel), 0),
+        1e-9);
+    assertEquals(
+        4,
+        CameraMoveEventThrottle.targetDelta(new LatLng(0, 0), new LatLng(0, oneLogicalPixel), 2),
+        1e-9);
+    assertEquals(
+        2,
+        CameraMoveEventThrottle.targetDelta(
+            new LatLng(0, 180 - oneLogicalPixel), new LatLng(0, -180 + oneLogicalPixel), 0),
+        1e-9);
+  }
+
+  private List<Double> sentZooms() {
+    final ArgumentCaptor<Messages.PlatformCameraPosition> positionCaptor =
+        ArgumentCaptor.forClass(Messages.PlatformCameraPosition.class);
+    verify(flutterApi, atLeast(0)).onCameraMove(positionCaptor.capture(), any());
+    final List<Double> zooms = new ArrayList<>();
+    for (Messages.PlatformCameraPosition position : positionCaptor.getAllValues()) {
+      zooms.add(position.getZoom());
+    }
+    return zooms;
+  }
+
+  private static Messages.PlatformCameraMoveEventPolicy.Builder policy() {
+    return new Messages.PlatformCameraMoveEventPolicy.Builder()
+        .setMinIntervalMilliseconds(0L)
+        .setMinZoomDelta(0.0)
+        .setMinBearingDelta(0.0)
+        .setMinTiltDelta(0.0)
+        .setMinTargetDelta(0.0)
+        .setSkipWhileBusy(false);
+  }
+
+  private static CameraPosition position(double zoom) {
+    return CameraPosition.builder().target(new LatLng(0, 0)).zoom((float) zoom).build();
+  }
+
+  private static class FakeClockCameraMoveEventThrottle extends CameraMoveEventThrottle {
+    long now;
+
+    FakeClockCameraMoveEventThrottle(MapsCallbackApi flutterApi) {
+      super(flutterApi);
+    }
+
+    @Override
+    long uptimeMillis() {
+      return now;
+    }
+  }
+}
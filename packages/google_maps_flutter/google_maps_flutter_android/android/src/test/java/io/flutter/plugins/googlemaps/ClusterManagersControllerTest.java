@@ -6,11 +6,13 @@ package io.flutter.plugins.googlemaps;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import android.content.Context;
@@ -21,6 +23,7 @@ import androidx.test.core.app.ApplicationProvider;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.maps.android.clustering.Cluster;
 import com.google.maps.android.clustering.algo.StaticCluster;
 import com.google.maps.android.collections.MarkerManager;
@@ -29,8 +32,10 @@ import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
 import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.After;
 import org.junit.Before;
@@ -109,9 +114,19 @@ public class ClusterManagersControllerTest {
         createPlatformMarker(markerId2, location2, clusterManagerId);
 
     Convert.interpretMarkerOptions(
-        markerData1, markerBuilder1, assetManager, density, bitmapFactory);
+        markerData1,
+        markerBuilder1,
+        assetManager,
+        density,
+        bitmapFactory,
+        new BitmapDescriptorCache(BitmapDescriptorCache.DEFAULT_MAX_BYTES));
     Convert.interpretMarkerOptions(
-        markerData2, markerBuilder2, assetManager, density, bitmapFactory);
+        markerData2,
+        markerBuilder2,
+        assetManager,
+        density,
+        bitmapFactory,
+        new BitmapDescriptorCache(BitmapDescriptorCache.DEFAULT_MAX_BYTES));
 
     controller.addItem(markerBuilder1);
     controller.addItem(markerBuilder2);
@@ -176,6 +191,100 @@ public class ClusterManagersControllerTest {
         () -> controller.getClustersWithClusterManagerId(clusterManagerId));
   }
 
+  @Test
+  public void QueryClustersReturnsPagesOfClustersInBounds() {
+    final String clusterManagerId = "cm_1";
+
+    when(googleMap.getCameraPosition())
+        .thenReturn(CameraPosition.builder().target(new LatLng(0, 0)).zoom(10).build());
+    controller.addClusterManager(clusterManagerId);
+    addItem("m_1", clusterManagerId, new LatLng(20, 20));
+    addItem("m_2", clusterManagerId, new LatLng(10, 10));
+    addItem("m_3", clusterManagerId, new LatLng(30, 30));
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(5, 5), new LatLng(25, 25));
+
+    final Messages.PlatformClusterPage firstPage =
+        controller.queryClusters(clusterManagerId, bounds, 0, 1, false);
+    final Messages.PlatformClusterPage secondPage =
+        controller.queryClusters(clusterManagerId, bounds, 1, 1, true);
+
+    assertEquals(2L, (long) firstPage.getTotalCount());
+    assertEquals(1, firstPage.getClusters().size());
+    final Messages.PlatformClusterSummary first = firstPage.getClusters().get(0);
+    assertEquals(10, first.getPosition().getLatitude(), 1e-9);
+    assertEquals(1L, (long) first.getSize());
+    assertNull(first.getMarkerIds());
+    assertNull(first.getBounds());
+    final Messages.PlatformClusterSummary second = secondPage.getClusters().get(0);
+    assertEquals(20, second.getPosition().getLatitude(), 1e-9);
+    assertEquals(Collections.singletonList("m_2"), second.getMarkerIds());
+    assertNotNull(second.getBounds());
+  }
+
+  @Test
+  public void OnShownClustersChangedSendsChangedClusters() {
+    final String clusterManagerId = "cm_1";
+    final LatLng position1 = new LatLng(1, 1);
+    final LatLng position2 = new LatLng(2, 2);
+    final LatLng position3 = new LatLng(3, 3);
+    controller.setTrackClusterChanges(true);
+    controller.addClusterManager(clusterManagerId);
+
+    final Map<LatLng, Integer> firstSizes = new HashMap<>();
+    firstSizes.put(position1, 5);
+    firstSizes.put(position2, 6);
+    controller.onShownClustersChanged(clusterManagerId, firstSizes);
+    final Map<LatLng, Integer> secondSizes = new HashMap<>();
+    secondSizes.put(position1, 7);
+    secondSizes.put(position3, 8);
+    controller.onShownClustersChanged(clusterManagerId, secondSizes);
+    controller.onShownClustersChanged(clusterManagerId, new HashMap<>(secondSizes));
+
+    Mockito.verify(flutterApi)
+        .onClustersChanged(
+            eq(clusterManagerId),
+            eq(
+                Collections.singletonList(
+                    Convert.clusterSummaryToPigeon(clusterManagerId, position3, 8))),
+            eq(
+                Collections.singletonList(
+                    Convert.clusterSummaryToPigeon(clusterManagerId, position2, 6))),
+            eq(
+                Collections.singletonList(
+                    Convert.clusterSummaryToPigeon(clusterManagerId, position1, 7))),
+            ArgumentMatchers.any());
+    Mockito.verify(flutterApi, times(2))
+        .onClustersChanged(
+            eq(clusterManagerId),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+  }
+
+  @Test
+  public void OnShownClustersChangedDoesNothingWhenNotTracking() {
+    final String clusterManagerId = "cm_1";
+    controller.addClusterManager(clusterManagerId);
+
+    controller.onShownClustersChanged(
+        clusterManagerId, Collections.singletonMap(new LatLng(1, 1), 5));
+
+    Mockito.verify(flutterApi, Mockito.never())
+        .onClustersChanged(
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any(),
+            ArgumentMatchers.any());
+  }
+
+  private void addItem(String markerId, String clusterManagerId, LatLng position) {
+    final MarkerBuilder markerBuilder = new MarkerBuilder(markerId, clusterManagerId);
+    markerBuilder.setPosition(position);
+    controller.addItem(markerBuilder);
+  }
+
   private Messages.PlatformMarker createPlatformMarker(
       String markerId, List<Double> location, String clusterManagerId) {
     Bitmap fakeBitmap = Bitmap.createBitmap(1, 1, Bitmap.Config.ARGB_8888);
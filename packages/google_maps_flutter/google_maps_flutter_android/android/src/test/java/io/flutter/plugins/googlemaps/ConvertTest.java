@@ -43,7 +43,6 @@ import io.flutter.plugins.googlemaps.Convert.FlutterInjectorWrapper;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.junit.After;
@@ -85,17 +84,30 @@ public class ConvertTest {
   }
 
   @Test
-  public void ConvertPointsFromPigeonConvertsThePointsWithFullPrecision() {
+  public void ConvertPointsFromPackedConvertsThePointsWithFullPrecision() {
     double latitude = 43.03725568057;
     double longitude = -87.90466904649;
-    Messages.PlatformLatLng platLng =
-        new Messages.PlatformLatLng.Builder().setLatitude(latitude).setLongitude(longitude).build();
-    List<LatLng> latLngs = Convert.pointsFromPigeon(Collections.singletonList(platLng));
+    List<LatLng> latLngs = Convert.pointsFromPacked(new double[] {latitude, longitude});
     LatLng latLng = latLngs.get(0);
     Assert.assertEquals(latitude, latLng.latitude, 1e-15);
     Assert.assertEquals(longitude, latLng.longitude, 1e-15);
   }
 
+  @Test
+  public void ConvertPointsFromPackedConvertsAllPoints() {
+    List<LatLng> latLngs = Convert.pointsFromPacked(new double[] {1.0, 2.0, 3.0, 4.0, 5.0, 6.0});
+
+    Assert.assertEquals(3, latLngs.size());
+    Assert.assertEquals(new LatLng(1.0, 2.0), latLngs.get(0));
+    Assert.assertEquals(new LatLng(3.0, 4.0), latLngs.get(1));
+    Assert.assertEquals(new LatLng(5.0, 6.0), latLngs.get(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertPointsFromPackedThrowsForOddLength() {
+    Convert.pointsFromPacked(new double[] {1.0, 2.0, 3.0});
+  }
+
   @Test
   public void ConvertClusterToPigeonReturnsCorrectData() {
     String clusterManagerId = "cm_1";
@@ -572,6 +584,25 @@ public class ConvertTest {
     Assert.assertEquals(intensity, result.get(0).getIntensity(), 0);
   }
 
+  @Test()
+  public void ConvertWeightedDataFromPackedReturnsCorrectData() {
+    final double intensity = 3.3;
+    final Point point = sProjection.toPoint(new LatLng(1.1, 2.2));
+
+    final List<WeightedLatLng> result =
+        Convert.weightedDataFromPacked(new double[] {1.1, 2.2, intensity});
+
+    Assert.assertEquals(1, result.size());
+    Assert.assertEquals(point.x, result.get(0).getPoint().x, 0);
+    Assert.assertEquals(point.y, result.get(0).getPoint().y, 0);
+    Assert.assertEquals(intensity, result.get(0).getIntensity(), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ConvertWeightedDataFromPackedThrowsForIncompleteTriple() {
+    Convert.weightedDataFromPacked(new double[] {1.1, 2.2, 3.3, 4.4});
+  }
+
   @Test()
   public void ConvertToGradientReturnsCorrectData() {
     final int color1 = 0;
@@ -665,6 +696,27 @@ public class ConvertTest {
     Assert.assertEquals(idData, id);
   }
 
+  @Test()
+  public void ConvertInterpretHeatmapOptionsUsesPackedWeightedData() {
+    final double intensity = 3.3;
+    final Point point = sProjection.toPoint(new LatLng(1.1, 2.2));
+    final String idData = "heatmap_1";
+    final Messages.PlatformHeatmap heatmap =
+        new Messages.PlatformHeatmap.Builder()
+            .setJson(Map.of(HEATMAP_ID_KEY, idData))
+            .setWeightedData(new double[] {1.1, 2.2, intensity})
+            .build();
+
+    final MockHeatmapBuilder builder = new MockHeatmapBuilder();
+    final String id = Convert.interpretHeatmapOptions(heatmap, builder);
+
+    Assert.assertEquals(1, builder.getWeightedData().size());
+    Assert.assertEquals(point.x, builder.getWeightedData().get(0).getPoint().x, 0);
+    Assert.assertEquals(point.y, builder.getWeightedData().get(0).getPoint().y, 0);
+    Assert.assertEquals(intensity, builder.getWeightedData().get(0).getIntensity(), 0);
+    Assert.assertEquals(idData, id);
+  }
+
   private InputStream buildImageInputStream() {
     Bitmap fakeBitmap = Bitmap.createBitmap(1, 1, Bitmap.Config.ARGB_8888);
     ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
@@ -0,0 +1,155 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.Test;
+
+public class MarkerGridTest {
+  @Test
+  public void query_returnsMarkersInBounds() {
+    final MarkerGrid grid = new MarkerGrid();
+    final MarkerBuilder inside = markerAt("inside", 10.5, 20.5);
+    final MarkerBuilder sameCellOutside = markerAt("sameCellOutside", 10.9, 20.9);
+    final MarkerBuilder farAway = markerAt("farAway", -40, -100);
+    grid.add(inside);
+    grid.add(sameCellOutside);
+    grid.add(farAway);
+
+    final List<MarkerBuilder> result =
+        grid.query(new LatLngBounds(new LatLng(10, 20), new LatLng(10.7, 20.7)));
+
+    assertEquals(Arrays.asList(inside), result);
+  }
+
+  @Test
+  public void query_handlesBoundsCrossingAntimeridian() {
+    final MarkerGrid grid = new MarkerGrid();
+    final MarkerBuilder east = markerAt("east", 0, 179.5);
+    final MarkerBuilder west = markerAt("west", 0, -179.5);
+    final MarkerBuilder outside = markerAt("outside", 0, 0);
+    grid.add(east);
+    grid.add(west);
+    grid.add(outside);
+
+    final List<MarkerBuilder> result =
+        grid.query(new LatLngBounds(new LatLng(-1, 179), new LatLng(1, -179)));
+
+    assertEquals(new HashSet<>(Arrays.asList(east, west)), new HashSet<>(result));
+  }
+
+  @Test
+  public void query_findsMarkersInLargeBounds() {
+    final MarkerGrid grid = new MarkerGrid();
+    final MarkerBuilder marker = markerAt("marker", 45, 90);
+    grid.add(marker);
+
+    final List<MarkerBuilder> result =
+        grid.query(new LatLngBounds(new LatLng(-80, -170), new LatLng(80, 170)));
+
+    assertEquals(Arrays.asList(marker), result);
+  }
+
+  @Test
+  public void move_reindexesMarker() {
+    final MarkerGrid grid = new MarkerGrid();
+    final MarkerBuilder marker = markerAt("marker", 0, 0);
+    grid.add(marker);
+
+    final LatLng previousPosition = marker.getPosition();
+    marker.setPosition(new LatLng(30, 30));
+    grid.move(marker, previousPosition);
+
+    assertTrue(grid.query(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1))).isEmpty());
+    assertEquals(
+        Arrays.asList(marker),
+        grid.query(new LatLngBounds(new LatLng(29, 29), new LatLng(31, 31))));
+  }
+
+  @Test
+  public void remove_removesMarker() {
+    final MarkerGrid grid = new MarkerGrid();
+    final MarkerBuilder marker = markerAt("marker", 0, 0);
+    grid.add(marker);
+
+    grid.remove(marker);
+
+    assertEquals(0, grid.size());
+    assertTrue(grid.query(new LatLngBounds(new LatLng(-1, -1), new LatLng(1, 1))).isEmpty());
+  }
+
+  @Test
+  public void add_shrinksCellsForMarkersWithinCity() {
+    final MarkerGrid grid = new MarkerGrid();
+    final List<MarkerBuilder> markers = addCityMarkers(grid);
+
+    assertTrue(grid.getLevel() > 0);
+    assertEquals(
+        new HashSet<>(markers.subList(0, 2)),
+        new HashSet<>(
+            grid.query(new LatLngBounds(new LatLng(48.85, 2.35), new LatLng(48.8501, 2.3504)))));
+  }
+
+  @Test
+  public void remove_growsCellsAgainWhenMarkersAreRemoved() {
+    final MarkerGrid grid = new MarkerGrid();
+    final List<MarkerBuilder> markers = addCityMarkers(grid);
+    final List<MarkerBuilder> spreadMarkers = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final MarkerBuilder marker = markerAt("spread" + i, i - 50, i * 3 - 150);
+      grid.add(marker);
+      spreadMarkers.add(marker);
+    }
+
+    for (MarkerBuilder marker : markers) {
+      grid.remove(marker);
+    }
+
+    assertEquals(0, grid.getLevel());
+    assertEquals(
+        spreadMarkers.subList(0, 1),
+        grid.query(new LatLngBounds(new LatLng(-51, -151), new LatLng(-49, -149))));
+  }
+
+  @Test
+  public void add_handlesMarkersAtSamePosition() {
+    final MarkerGrid grid = new MarkerGrid();
+    for (int i = 0; i < 100; i++) {
+      grid.add(markerAt("marker" + i, 10, 20));
+    }
+
+    assertTrue(grid.getLevel() <= MarkerGrid.MAX_LEVEL);
+    assertEquals(100, grid.query(new LatLngBounds(new LatLng(9, 19), new LatLng(11, 21))).size());
+  }
+
+  /** Adds a 32 by 32 grid of markers 0.0003 degrees, about 30 meters, apart. */
+  private static List<MarkerBuilder> addCityMarkers(MarkerGrid grid) {
+    final List<MarkerBuilder> markers = new ArrayList<>();
+    for (int row = 0; row < 32; row++) {
+      for (int column = 0; column < 32; column++) {
+        final MarkerBuilder marker =
+            markerAt(
+                "marker_" + row + "_" + column, 48.85 + row * 0.0003, 2.35 + column * 0.0003);
+        grid.add(marker);
+        markers.add(marker);
+      }
+    }
+    return markers;
+  }
+
+  private static MarkerBuilder markerAt(String markerId, double latitude, double longitude) {
+    final MarkerBuilder markerBuilder = new MarkerBuilder(markerId, null);
+    markerBuilder.setPosition(new LatLng(latitude, longitude));
+    return markerBuilder;
+  }
+}
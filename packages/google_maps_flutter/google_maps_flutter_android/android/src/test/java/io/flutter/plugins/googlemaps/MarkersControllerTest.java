@@ -5,9 +5,11 @@
 package io.flutter.plugins.googlemaps;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -16,15 +18,20 @@ import android.content.Context;
 import android.content.res.AssetManager;
 import android.graphics.Bitmap;
 import android.os.Build;
+import android.os.Handler;
 import androidx.test.core.app.ApplicationProvider;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.BitmapDescriptor;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.maps.android.collections.MarkerManager;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.After;
@@ -100,7 +107,8 @@ public class MarkersControllerTest {
             clusterManagersController,
             assetManager,
             density,
-            bitmapDescriptorFactoryWrapper);
+            bitmapDescriptorFactoryWrapper,
+            new BitmapDescriptorCache(BitmapDescriptorCache.DEFAULT_MAX_BYTES));
     googleMap = mock(GoogleMap.class);
     markerManager = new MarkerManager(googleMap);
     markerCollection = markerManager.newCollection();
@@ -269,4 +277,208 @@ public class MarkersControllerTest {
 
     Mockito.verify(spyMarkerCollection, times(1)).remove(marker);
   }
+
+  @Test
+  public void controller_AddMarkersDecodesSharedIconOnce() {
+    final BitmapDescriptor bitmapDescriptor = mock(BitmapDescriptor.class);
+    when(bitmapDescriptorFactoryWrapper.fromBitmap(any())).thenReturn(bitmapDescriptor);
+    final Marker marker1 = mock(Marker.class);
+    final Marker marker2 = mock(Marker.class);
+    when(marker1.getId()).thenReturn("marker1");
+    when(marker2.getId()).thenReturn("marker2");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker1, marker2);
+
+    controller.addMarkers(
+        Arrays.asList(
+            defaultMarkerBuilder().setMarkerId("marker1").build(),
+            defaultMarkerBuilder().setMarkerId("marker2").build()));
+
+    Mockito.verify(bitmapDescriptorFactoryWrapper, times(1)).fromBitmap(any());
+  }
+
+  @Test
+  public void controller_UpdateMarkersAppliesSmallUpdateImmediately() {
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(mock(Marker.class));
+    final Messages.VoidResult result = mock(Messages.VoidResult.class);
+
+    controller.updateMarkers(
+        Collections.singletonList(defaultMarkerBuilder().setMarkerId("marker").build()),
+        Collections.emptyList(),
+        Collections.emptyList(),
+        result);
+
+    Mockito.verify(googleMap, times(1)).addMarker(any(MarkerOptions.class));
+    Mockito.verify(result, times(1)).success();
+  }
+
+  @Test
+  public void controller_UpdateMarkersAppliesLargeUpdateAfterPreparingIt() {
+    final List<Runnable> postedRunnables = new ArrayList<>();
+    final MarkersController bulkController = createBulkController(postedRunnables);
+    when(googleMap.addMarker(any(MarkerOptions.class)))
+        .thenAnswer(invocation -> mock(Marker.class));
+    final List<Messages.PlatformMarker> markers = new ArrayList<>();
+    for (int i = 0; i < MarkersController.BULK_UPDATE_THRESHOLD; i++) {
+      markers.add(defaultMarkerBuilder().setMarkerId("marker" + i).build());
+    }
+    final Messages.VoidResult result = mock(Messages.VoidResult.class);
+
+    bulkController.updateMarkers(markers, Collections.emptyList(), Collections.emptyList(), result);
+
+    Mockito.verify(googleMap, never()).addMarker(any(MarkerOptions.class));
+    Mockito.verify(result, never()).success();
+
+    runPostedRunnables(postedRunnables);
+
+    final long count = markers.size();
+    Mockito.verify(googleMap, times(markers.size())).addMarker(any(MarkerOptions.class));
+    Mockito.verify(flutterApi, times(1)).onMarkerUpdateProgress(eq(count), eq(count), any());
+    Mockito.verify(result, times(1)).success();
+  }
+
+  @Test
+  public void controller_UpdateMarkersWaitsForPendingLargeUpdate() {
+    final List<Runnable> postedRunnables = new ArrayList<>();
+    final MarkersController bulkController = createBulkController(postedRunnables);
+    final Marker marker = mock(Marker.class);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+    final List<String> markerIds = new ArrayList<>();
+    for (int i = 0; i < MarkersController.BULK_UPDATE_THRESHOLD; i++) {
+      markerIds.add("marker" + i);
+    }
+    final Messages.VoidResult bulkResult = mock(Messages.VoidResult.class);
+    final Messages.VoidResult result = mock(Messages.VoidResult.class);
+
+    bulkController.updateMarkers(
+        Collections.emptyList(), Collections.emptyList(), markerIds, bulkResult);
+    bulkController.updateMarkers(
+        Collections.singletonList(defaultMarkerBuilder().setMarkerId("marker0").build()),
+        Collections.emptyList(),
+        Collections.emptyList(),
+        result);
+
+    Mockito.verify(googleMap, never()).addMarker(any(MarkerOptions.class));
+
+    runPostedRunnables(postedRunnables);
+
+    Mockito.verify(bulkResult, times(1)).success();
+    Mockito.verify(result, times(1)).success();
+    Mockito.verify(googleMap, times(1)).addMarker(any(MarkerOptions.class));
+  }
+
+  @Test
+  public void controller_DisposeFailsPendingLargeUpdates() {
+    final List<Runnable> postedRunnables = new ArrayList<>();
+    final MarkersController bulkController = createBulkController(postedRunnables);
+    final List<String> markerIds = new ArrayList<>();
+    for (int i = 0; i < MarkersController.BULK_UPDATE_THRESHOLD; i++) {
+      markerIds.add("marker" + i);
+    }
+    final Messages.VoidResult result = mock(Messages.VoidResult.class);
+
+    bulkController.updateMarkers(Collections.emptyList(), Collections.emptyList(), markerIds, result);
+    bulkController.dispose();
+    runPostedRunnables(postedRunnables);
+
+    final ArgumentCaptor<Throwable> errorCaptor = ArgumentCaptor.forClass(Throwable.class);
+    Mockito.verify(result, times(1)).error(errorCaptor.capture());
+    Mockito.verify(result, never()).success();
+    assertEquals("Map disposed", ((Messages.FlutterError) errorCaptor.getValue()).code);
+  }
+
+  @Test
+  public void controller_CullMarkersAddsOnlyMarkersNearVisibleRegion() {
+    controller.setCullOffscreenMarkers(true);
+    final Marker marker1 = mock(Marker.class);
+    final Marker marker2 = mock(Marker.class);
+    when(marker1.getId()).thenReturn("googleMarker1");
+    when(marker2.getId()).thenReturn("googleMarker2");
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker1, marker2);
+
+    controller.addMarkers(
+        Arrays.asList(
+            markerAt("marker1", 0, 0).build(), markerAt("marker2", 50, 50).build()));
+
+    // Nothing is shown until the visible region is known.
+    Mockito.verify(googleMap, never()).addMarker(any(MarkerOptions.class));
+
+    controller.cullMarkers(new LatLngBounds(new LatLng(-5, -5), new LatLng(5, 5)));
+
+    Mockito.verify(googleMap, times(1)).addMarker(any(MarkerOptions.class));
+    assertFalse(controller.isInfoWindowShown("marker2"));
+
+    controller.cullMarkers(new LatLngBounds(new LatLng(45, 45), new LatLng(55, 55)));
+
+    Mockito.verify(marker1, times(1)).remove();
+    Mockito.verify(googleMap, times(2)).addMarker(any(MarkerOptions.class));
+    assertFalse(controller.onMapsMarkerTap("googleMarker1"));
+  }
+
+  @Test
+  public void controller_ChangeMarkersCullsMarkersMovedOutOfView() {
+    controller.setCullOffscreenMarkers(true);
+    final Marker marker = mock(Marker.class);
+    when(googleMap.addMarker(any(MarkerOptions.class))).thenReturn(marker);
+    controller.cullMarkers(new LatLngBounds(new LatLng(-5, -5), new LatLng(5, 5)));
+
+    controller.addMarkers(Collections.singletonList(markerAt("marker", 0, 0).build()));
+    Mockito.verify(googleMap, times(1)).addMarker(any(MarkerOptions.class));
+
+    controller.changeMarkers(Collections.singletonList(markerAt("marker", 50, 50).build()));
+    Mockito.verify(marker, times(1)).remove();
+
+    controller.changeMarkers(Collections.singletonList(markerAt("marker", 1, 1).build()));
+    Mockito.verify(googleMap, times(2)).addMarker(any(MarkerOptions.class));
+  }
+
+  @Test
+  public void extendBounds_wrapsAroundAntimeridian() {
+    final LatLngBounds bounds =
+        MarkersController.extendBounds(
+            new LatLngBounds(new LatLng(0, 170), new LatLng(10, 178)), 0.5);
+
+    assertEquals(-5, bounds.southwest.latitude, 1e-9);
+    assertEquals(15, bounds.northeast.latitude, 1e-9);
+    assertEquals(166, bounds.southwest.longitude, 1e-9);
+    assertEquals(-178, bounds.northeast.longitude, 1e-9);
+  }
+
+  private static Messages.PlatformMarker.Builder markerAt(
+      String markerId, double latitude, double longitude) {
+    return defaultMarkerBuilder()
+        .setMarkerId(markerId)
+        .setPosition(
+            new Messages.PlatformLatLng.Builder()
+                .setLatitude(latitude)
+                .setLongitude(longitude)
+                .build());
+  }
+
+  private MarkersController createBulkController(List<Runnable> postedRunnables) {
+    final Handler handler = mock(Handler.class);
+    when(handler.post(any(Runnable.class)))
+        .thenAnswer(
+            invocation -> {
+              postedRunnables.add(invocation.getArgument(0));
+              return true;
+            });
+    final MarkersController bulkController =
+        new MarkersController(
+            flutterApi,
+            clusterManagersController,
+            assetManager,
+            density,
+            bitmapDescriptorFactoryWrapper,
+            new BitmapDescriptorCache(BitmapDescriptorCache.DEFAULT_MAX_BYTES),
+            Runnable::run,
+            handler);
+    bulkController.setCollection(markerCollection);
+    return bulkController;
+  }
+
+  private static void runPostedRunnables(List<Runnable> postedRunnables) {
+    while (!postedRunnables.isEmpty()) {
+      postedRunnables.remove(0).run();
+    }
+  }
 }
@@ -0,0 +1,108 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.Tile;
+import io.flutter.plugins.googlemaps.TileProviderController.TileKey;
+import java.io.File;
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TileCacheRegistryTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final TileKey KEY = new TileKey(1, 1, 1);
+  private static final long TIME_TO_LIVE_MILLIS = 60000;
+
+  private File rootDirectory;
+  private TileCacheRegistry registry;
+
+  @Before
+  public void setUp() throws IOException {
+    rootDirectory = temporaryFolder.newFolder();
+    registry = new TileCacheRegistry(rootDirectory, Runnable::run);
+  }
+
+  private TileCache acquire(String tileOverlayId) {
+    return registry.acquire(tileOverlayId, 1000, 1000, TIME_TO_LIVE_MILLIS);
+  }
+
+  @Test
+  public void acquire_sharesCacheOfTileOverlayBetweenMaps() {
+    final TileCache cache = acquire("overlay");
+
+    assertSame(cache, acquire("overlay"));
+    assertNotSame(cache, acquire("other"));
+  }
+
+  @Test
+  public void release_keepsTilesWhenMapIsDisposed() {
+    final TileCache cache = acquire("overlay");
+    cache.put(KEY, new Tile(1, 1, new byte[10]), cache.getGeneration());
+
+    registry.release("overlay", false);
+    final TileCache newCache = acquire("overlay");
+
+    assertNotSame(cache, newCache);
+    assertNotNull(newCache.get(KEY));
+  }
+
+  @Test
+  public void release_deletesTilesOnceTileOverlayIsRemovedFromAllMaps() {
+    final TileCache cache = acquire("overlay");
+    acquire("overlay");
+    cache.put(KEY, new Tile(1, 1, new byte[10]), cache.getGeneration());
+    final File directory = new File(rootDirectory, TileCacheRegistry.directoryName("overlay"));
+
+    registry.release("overlay", true);
+    assertTrue(directory.exists());
+
+    registry.release("overlay", true);
+    assertFalse(directory.exists());
+    assertEquals(0, rootDirectory.listFiles().length);
+  }
+
+  @Test
+  public void acquire_prunesExpiredDirectoriesOfUnusedTileOverlays() throws IOException {
+    final File expired = createDirectoryWithFile("expired", 0);
+    final File recent = createDirectoryWithFile("recent", System.currentTimeMillis());
+    final File inUse = createDirectoryWithFile("in_use", 0);
+    final File leftover = createDirectoryWithFile("deleted.0.deleted", System.currentTimeMillis());
+    registry.acquire("in_use", 1000, 0, TIME_TO_LIVE_MILLIS);
+
+    acquire("overlay");
+
+    assertFalse(expired.exists());
+    assertTrue(recent.exists());
+    assertTrue(inUse.exists());
+    assertFalse(leftover.exists());
+  }
+
+  @Test
+  public void directoryName_escapesInvalidCharacters() {
+    assertEquals("tile_overlay_1", TileCacheRegistry.directoryName("tile_overlay_1"));
+    assertEquals("a-002fb-002e", TileCacheRegistry.directoryName("a/b."));
+  }
+
+  private File createDirectoryWithFile(String name, long lastModified) throws IOException {
+    final File directory = new File(rootDirectory, name);
+    assertTrue(directory.mkdirs());
+    final File file = new File(directory, "1_1_1.tile");
+    assertTrue(file.createNewFile());
+    assertTrue(file.setLastModified(lastModified));
+    assertTrue(directory.setLastModified(lastModified));
+    return directory;
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import com.google.android.gms.maps.model.Tile;
+import io.flutter.plugins.googlemaps.TileProviderController.TileKey;
+import java.io.File;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TileCacheTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final TileKey KEY_1 = new TileKey(1, 1, 1);
+  private static final TileKey KEY_2 = new TileKey(2, 2, 2);
+  private static final TileKey KEY_3 = new TileKey(3, 3, 3);
+
+  @Test
+  public void get_returnsTileFromMemory() {
+    final TileCache cache = new TileCache(100, 0, 1000, null);
+
+    assertNull(cache.get(KEY_1));
+    cache.put(KEY_1, tile(10), cache.getGeneration());
+
+    assertEquals(10, cache.get(KEY_1).data.length);
+    assertEquals(1, cache.getMemoryHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsedTilesOverMemoryLimit() {
+    final TileCache cache = new TileCache(25, 0, 1000, null);
+
+    cache.put(KEY_1, tile(10), cache.getGeneration());
+    cache.put(KEY_2, tile(10), cache.getGeneration());
+    cache.get(KEY_1);
+    cache.put(KEY_3, tile(10), cache.getGeneration());
+
+    assertEquals(10, cache.get(KEY_1).data.length);
+    assertNull(cache.get(KEY_2));
+    assertEquals(10, cache.get(KEY_3).data.length);
+  }
+
+  @Test
+  public void get_ignoresExpiredTiles() {
+    final FakeClockTileCache cache = new FakeClockTileCache(100, 0, 1000, null);
+
+    cache.put(KEY_1, tile(10), cache.getGeneration());
+    cache.now = 1000;
+
+    assertNull(cache.get(KEY_1));
+  }
+
+  @Test
+  public void put_ignoresTilesRequestedBeforeClear() {
+    final TileCache cache = new TileCache(100, 0, 1000, null);
+    final long generation = cache.getGeneration();
+
+    cache.put(KEY_1, tile(10), generation);
+    cache.clear();
+    cache.put(KEY_2, tile(10), generation);
+
+    assertNull(cache.get(KEY_1));
+    assertNull(cache.get(KEY_2));
+  }
+
+  @Test
+  public void get_returnsTileFromDiskInNewCache() throws Exception {
+    final File directory = new File(temporaryFolder.getRoot(), "overlay");
+    final TileCache cache = new TileCache(0, 100, 1000, directory);
+    final Tile tile = new Tile(256, 512, new byte[] {1, 2, 3});
+
+    cache.put(KEY_1, tile, cache.getGeneration());
+    final TileCache newCache = new TileCache(0, 100, 1000, directory);
+    final Tile cachedTile = newCache.get(KEY_1);
+
+    assertEquals(256, cachedTile.width);
+    assertEquals(512, cachedTile.height);
+    assertArrayEquals(new byte[] {1, 2, 3}, cachedTile.data);
+    assertEquals(1, newCache.getDiskHitCount());
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsedTilesOverDiskLimit() {
+    final File directory = new File(temporaryFolder.getRoot(), "overlay");
+    // Each file holds 20 bytes of header and 10 bytes of tile data.
+    final TileCache cache = new TileCache(0, 70, 1000, directory);
+
+    cache.put(KEY_1, tile(10), cache.getGeneration());
+    cache.put(KEY_2, tile(10), cache.getGeneration());
+    cache.get(KEY_1);
+    cache.put(KEY_3, tile(10), cache.getGeneration());
+
+    assertEquals(10, cache.get(KEY_1).data.length);
+    assertNull(cache.get(KEY_2));
+    assertEquals(10, cache.get(KEY_3).data.length);
+    assertEquals(2, directory.listFiles().length);
+  }
+
+  @Test
+  public void clear_deletesTilesOnDisk() {
+    final File directory = new File(temporaryFolder.getRoot(), "overlay");
+    final TileCache cache = new TileCache(100, 100, 1000, directory);
+
+    cache.put(KEY_1, tile(10), cache.getGeneration());
+    cache.clear();
+
+    assertNull(cache.get(KEY_1));
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void get_treatsDeletedFileAsMiss() {
+    final File directory = new File(temporaryFolder.getRoot(), "overlay");
+    final TileCache cache = new TileCache(0, 100, 1000, directory);
+
+    cache.put(KEY_1, tile(10), cache.getGeneration());
+    for (File file : directory.listFiles()) {
+      file.delete();
+    }
+
+    assertNull(cache.get(KEY_1));
+    assertEquals(1, cache.getMissCount());
+    cache.put(KEY_2, tile(10), cache.getGeneration());
+    assertEquals(10, cache.get(KEY_2).data.length);
+  }
+
+  @Test
+  public void isEnabled_returnsFalseWithoutLimits() {
+    assertFalse(new TileCache(0, 0, 1000, null).isEnabled());
+    assertFalse(new TileCache(100, 0, 0, null).isEnabled());
+    assertFalse(new TileCache(0, 100, 1000, null).isEnabled());
+  }
+
+  private static Tile tile(int size) {
+    return new Tile(1, 1, new byte[size]);
+  }
+
+  private static class FakeClockTileCache extends TileCache {
+    long now;
+
+    FakeClockTileCache(long maxMemoryBytes, long maxDiskBytes, long timeToLiveMillis, File dir) {
+      super(maxMemoryBytes, maxDiskBytes, timeToLiveMillis, dir);
+    }
+
+    @Override
+    long currentTimeMillis() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Build;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.Projection;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.TileOverlay;
+import com.google.android.gms.maps.model.TileOverlayOptions;
+import com.google.android.gms.maps.model.VisibleRegion;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(minSdk = Build.VERSION_CODES.LOLLIPOP)
+public class TileOverlaysControllerTest {
+  private GoogleMap googleMap;
+  private Projection projection;
+  private FakeClockTileOverlaysController controller;
+
+  @Before
+  public void setUp() {
+    googleMap = mock(GoogleMap.class);
+    projection = mock(Projection.class);
+    final LatLngBounds bounds = new LatLngBounds(new LatLng(0, 0), new LatLng(1, 1));
+    when(projection.getVisibleRegion())
+        .thenReturn(
+            new VisibleRegion(
+                bounds.southwest, bounds.southwest, bounds.northeast, bounds.northeast, bounds));
+    when(googleMap.getProjection()).thenReturn(projection);
+    when(googleMap.addTileOverlay(any(TileOverlayOptions.class)))
+        .thenReturn(mock(TileOverlay.class));
+    controller = new FakeClockTileOverlaysController(mock(MapsCallbackApi.class));
+    controller.setGoogleMap(googleMap);
+  }
+
+  private void addTileOverlay(String tileOverlayId) {
+    addTileOverlay(controller, tileOverlayId);
+  }
+
+  private static void addTileOverlay(TileOverlaysController controller, String tileOverlayId) {
+    controller.addTileOverlays(
+        Collections.singletonList(
+            new Messages.PlatformTileOverlay.Builder()
+                .setTileOverlayId(tileOverlayId)
+                .setFadeIn(true)
+                .setTransparency(0.0)
+                .setZIndex(0L)
+                .setVisible(true)
+                .setTileSize(256L)
+                .build()));
+  }
+
+  @Test
+  public void onCameraMove_cancelsTilesAtMostOncePerInterval() {
+    addTileOverlay("overlay");
+
+    controller.onCameraMove();
+    controller.now = TileOverlaysController.CAMERA_MOVE_CANCEL_INTERVAL_MILLIS - 1;
+    controller.onCameraMove();
+    verify(googleMap, times(1)).getProjection();
+
+    controller.now = TileOverlaysController.CAMERA_MOVE_CANCEL_INTERVAL_MILLIS;
+    controller.onCameraMove();
+    verify(googleMap, times(2)).getProjection();
+  }
+
+  @Test
+  public void onCameraIdle_alwaysCancelsTiles() {
+    addTileOverlay("overlay");
+
+    controller.onCameraMove();
+    controller.onCameraIdle();
+
+    verify(googleMap, times(2)).getProjection();
+  }
+
+  @Test
+  public void onCameraMove_doesNothingWithoutTileOverlays() {
+    controller.onCameraMove();
+    controller.onCameraIdle();
+
+    verify(googleMap, never()).getProjection();
+  }
+
+  @Test
+  public void removeTileOverlays_deletesCachedTiles() {
+    final TileCacheRegistry registry = mockTileCacheRegistry();
+    final TileOverlaysController controller =
+        new TileOverlaysController(mock(MapsCallbackApi.class), registry);
+    controller.setGoogleMap(googleMap);
+    addTileOverlay(controller, "overlay");
+
+    controller.removeTileOverlays(Collections.singletonList("overlay"));
+
+    verify(registry).release("overlay", true);
+  }
+
+  @Test
+  public void dispose_keepsCachedTiles() {
+    final TileCacheRegistry registry = mockTileCacheRegistry();
+    final TileOverlaysController controller =
+        new TileOverlaysController(mock(MapsCallbackApi.class), registry);
+    controller.setGoogleMap(googleMap);
+    addTileOverlay(controller, "overlay");
+
+    controller.dispose();
+
+    verify(registry).release("overlay", false);
+    verify(registry, never()).release("overlay", true);
+  }
+
+  private static TileCacheRegistry mockTileCacheRegistry() {
+    final TileCacheRegistry registry = mock(TileCacheRegistry.class);
+    when(registry.acquire(anyString(), anyLong(), anyLong(), anyLong()))
+        .thenReturn(new TileCache(0, 0, 0, null));
+    return registry;
+  }
+
+  private static class FakeClockTileOverlaysController extends TileOverlaysController {
+    long now;
+
+    FakeClockTileOverlaysController(MapsCallbackApi flutterApi) {
+      super(flutterApi, null);
+    }
+
+    @Override
+    long uptimeMillis() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,236 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.googlemaps;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
+import com.google.android.gms.maps.model.Tile;
+import com.google.android.gms.maps.model.TileProvider;
+import io.flutter.plugins.googlemaps.Messages.MapsCallbackApi;
+import io.flutter.plugins.googlemaps.TileProviderController.TileKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TileProviderControllerTest {
+  private static final String TILE_OVERLAY_ID = "overlay";
+
+  private MapsCallbackApi mockFlutterApi;
+  private Handler mockHandler;
+  private List<Runnable> postedRunnables;
+
+  @Before
+  public void setUp() {
+    mockFlutterApi = mock(MapsCallbackApi.class);
+    mockHandler = mock(Handler.class);
+    postedRunnables = new ArrayList<>();
+    when(mockHandler.post(any(Runnable.class)))
+        .thenAnswer(
+            invocation -> {
+              postedRunnables.add(invocation.getArgument(0));
+              return true;
+            });
+  }
+
+  @Test
+  public void getTile_coalescesAndBatchesRequests() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(
+            mockFlutterApi, TILE_OVERLAY_ID, disabledTileCache(), mockHandler, 10000);
+    final List<AtomicReference<Tile>> tiles = new ArrayList<>();
+    final List<Thread> threads =
+        Arrays.asList(
+            startGetTile(controller, 1, 2, 3, tiles),
+            startGetTile(controller, 1, 2, 3, tiles),
+            startGetTile(controller, 2, 2, 3, tiles));
+    waitUntilWaiting(threads);
+
+    assertEquals(2, controller.getPendingTileCount());
+    assertEquals(1, postedRunnables.size());
+    postedRunnables.get(0).run();
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Messages.Result<List<Messages.PlatformTile>>> resultCaptor =
+        ArgumentCaptor.forClass(Messages.Result.class);
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<Messages.PlatformPoint>> locationsCaptor =
+        ArgumentCaptor.forClass(List.class);
+    verify(mockFlutterApi, times(1))
+        .getTileOverlayTiles(
+            eq(TILE_OVERLAY_ID), locationsCaptor.capture(), eq(3L), resultCaptor.capture());
+    final List<Messages.PlatformPoint> locations = locationsCaptor.getValue();
+    assertEquals(2, locations.size());
+    assertEquals(1L, (long) locations.get(0).getX());
+    assertEquals(2L, (long) locations.get(1).getX());
+
+    resultCaptor
+        .getValue()
+        .success(Arrays.asList(platformTile(new byte[] {1}), platformTile(new byte[] {2})));
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertArrayEquals(new byte[] {1}, tiles.get(0).get().data);
+    assertArrayEquals(new byte[] {1}, tiles.get(1).get().data);
+    assertArrayEquals(new byte[] {2}, tiles.get(2).get().data);
+    assertEquals(0, controller.getPendingTileCount());
+  }
+
+  @Test
+  public void getTile_returnsNullAfterTimeout() {
+    final TileProviderController controller =
+        new TileProviderController(
+            mockFlutterApi, TILE_OVERLAY_ID, disabledTileCache(), mockHandler, 10);
+
+    assertNull(controller.getTile(1, 2, 3));
+    assertEquals(0, controller.getPendingTileCount());
+  }
+
+  @Test
+  public void getTile_returnsNoTileOnError() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(
+            mockFlutterApi, TILE_OVERLAY_ID, disabledTileCache(), mockHandler, 10000);
+    final List<AtomicReference<Tile>> tiles = new ArrayList<>();
+    final Thread thread = startGetTile(controller, 1, 2, 3, tiles);
+    waitUntilWaiting(Arrays.asList(thread));
+    postedRunnables.get(0).run();
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Messages.Result<List<Messages.PlatformTile>>> resultCaptor =
+        ArgumentCaptor.forClass(Messages.Result.class);
+    verify(mockFlutterApi)
+        .getTileOverlayTiles(eq(TILE_OVERLAY_ID), anyList(), anyLong(), resultCaptor.capture());
+    resultCaptor.getValue().error(new Messages.FlutterError("error", "message", null));
+    thread.join();
+
+    assertSame(TileProvider.NO_TILE, tiles.get(0).get());
+  }
+
+  @Test
+  public void cancelTilesOutside_releasesInvisibleTiles() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(
+            mockFlutterApi, TILE_OVERLAY_ID, disabledTileCache(), mockHandler, 10000);
+    final List<AtomicReference<Tile>> tiles = new ArrayList<>();
+    // At zoom level 1, tile (0, 0) covers the north-west quarter of the world.
+    final List<Thread> threads =
+        Arrays.asList(
+            startGetTile(controller, 0, 0, 1, tiles), startGetTile(controller, 1, 1, 1, tiles));
+    waitUntilWaiting(threads);
+
+    controller.cancelTilesOutside(
+        new LatLngBounds(new LatLng(-20.0, 10.0), new LatLng(-10.0, 20.0)));
+    threads.get(0).join();
+
+    assertNull(tiles.get(0).get());
+    assertEquals(1, controller.getPendingTileCount());
+
+    // Only the visible tile is requested from Dart.
+    postedRunnables.get(0).run();
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<List<Messages.PlatformPoint>> locationsCaptor =
+        ArgumentCaptor.forClass(List.class);
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Messages.Result<List<Messages.PlatformTile>>> resultCaptor =
+        ArgumentCaptor.forClass(Messages.Result.class);
+    verify(mockFlutterApi)
+        .getTileOverlayTiles(
+            eq(TILE_OVERLAY_ID), locationsCaptor.capture(), eq(1L), resultCaptor.capture());
+    assertEquals(1, locationsCaptor.getValue().size());
+    assertEquals(1L, (long) locationsCaptor.getValue().get(0).getX());
+    resultCaptor.getValue().success(Arrays.asList(platformTile(new byte[] {1})));
+    threads.get(1).join();
+  }
+
+  @Test
+  public void getTile_returnsCachedTileWithoutAskingDart() throws Exception {
+    final TileProviderController controller =
+        new TileProviderController(
+            mockFlutterApi,
+            TILE_OVERLAY_ID,
+            new TileCache(1024, 0, 60000, null),
+            mockHandler,
+            10000);
+    final List<AtomicReference<Tile>> tiles = new ArrayList<>();
+    final Thread thread = startGetTile(controller, 1, 2, 3, tiles);
+    waitUntilWaiting(Arrays.asList(thread));
+    postedRunnables.get(0).run();
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Messages.Result<List<Messages.PlatformTile>>> resultCaptor =
+        ArgumentCaptor.forClass(Messages.Result.class);
+    verify(mockFlutterApi)
+        .getTileOverlayTiles(eq(TILE_OVERLAY_ID), anyList(), anyLong(), resultCaptor.capture());
+    resultCaptor.getValue().success(Arrays.asList(platformTile(new byte[] {1})));
+    thread.join();
+
+    final Tile cachedTile = controller.getTile(1, 2, 3);
+
+    assertArrayEquals(new byte[] {1}, cachedTile.data);
+    assertEquals(1, postedRunnables.size());
+    assertEquals(1, controller.getTileCache().getMemoryHitCount());
+    assertEquals(1, controller.getTileCache().getMissCount());
+  }
+
+  @Test
+  public void isTileVisible_handlesBoundsAcrossAntimeridian() {
+    final LatLngBounds bounds =
+        new LatLngBounds(new LatLng(-10.0, 170.0), new LatLng(10.0, -170.0));
+
+    assertTrue(TileProviderController.isTileVisible(new TileKey(0, 1, 1), bounds));
+    assertTrue(TileProviderController.isTileVisible(new TileKey(1, 0, 1), bounds));
+    assertFalse(TileProviderController.isTileVisible(new TileKey(4, 4, 3), bounds));
+    assertFalse(TileProviderController.isTileVisible(new TileKey(0, 0, 3), bounds));
+  }
+
+  private static Thread startGetTile(
+      TileProviderController controller,
+      int x,
+      int y,
+      int zoom,
+      List<AtomicReference<Tile>> tiles) {
+    final AtomicReference<Tile> tile = new AtomicReference<>();
+    tiles.add(tile);
+    final Thread thread = new Thread(() -> tile.set(controller.getTile(x, y, zoom)));
+    thread.start();
+    return thread;
+  }
+
+  private static void waitUntilWaiting(List<Thread> threads) throws InterruptedException {
+    for (Thread thread : threads) {
+      while (thread.getState() != Thread.State.TIMED_WAITING) {
+        Thread.sleep(1);
+      }
+    }
+  }
+
+  private static TileCache disabledTileCache() {
+    return new TileCache(0, 0, 0, null);
+  }
+
+  private static Messages.PlatformTile platformTile(byte[] data) {
+    return new Messages.PlatformTile.Builder().setWidth(1L).setHeight(1L).setData(data).build();
+  }
+}
@@ -1337,6 +1337,69 @@ void googleMapsTests() {
     expect(error, isNull);
   });
 
+  testWidgets('large marker updates', (WidgetTester tester) async {
+    final GoogleMapsFlutterAndroid instance =
+        GoogleMapsFlutterPlatform.instance as GoogleMapsFlutterAndroid;
+    final Completer<int> mapIdCompleter = Completer<int>();
+    await tester.pumpWidget(Directionality(
+      textDirection: TextDirection.ltr,
+      child: ExampleGoogleMap(
+        initialCameraPosition: _kInitialCameraPosition,
+        onMapCreated: (ExampleGoogleMapController controller) {
+          mapIdCompleter.complete(controller.mapId);
+        },
+      ),
+    ));
+    final int mapId = await mapIdCompleter.future;
+
+    // Applies updates large enough to be applied in bulk, checking that they
+    // report their progress and add every marker, and reports how long each
+    // update takes.
+    Set<Marker> previousMarkers = <Marker>{};
+    for (final int count in <int>[1000, 10000, 50000]) {
+      final Set<Marker> markers = <Marker>{
+        for (int i = 0; i < count; i++)
+          Marker(
+            markerId: MarkerId('marker_$i'),
+            position: LatLng(i % 170 - 85.0, i % 360 - 180.0),
+          ),
+      };
+      final List<MarkerUpdateProgressEvent> progressEvents =
+          <MarkerUpdateProgressEvent>[];
+      final StreamSubscription<MarkerUpdateProgressEvent> subscription =
+          instance
+              .onMarkerUpdateProgress(mapId: mapId)
+              .listen(progressEvents.add);
+      final Stopwatch stopwatch = Stopwatch()..start();
+      await instance.updateMarkers(
+          MarkerUpdates.from(previousMarkers, markers),
+          mapId: mapId);
+      stopwatch.stop();
+      await subscription.cancel();
+      debugPrint('Updating to $count markers took '
+          '${stopwatch.elapsedMilliseconds} ms over '
+          '${progressEvents.length} frames');
+
+      // Only the new markers are added; the others are unchanged.
+      final int addedCount = count - previousMarkers.length;
+      expect(progressEvents, isNotEmpty);
+      for (int i = 1; i < progressEvents.length; i++) {
+        expect(progressEvents[i].value,
+            greaterThanOrEqualTo(progressEvents[i - 1].value));
+      }
+      expect(progressEvents.last.value, addedCount);
+      expect(progressEvents.last.totalCount, addedCount);
+      // Querying a marker that is not on the map throws, so getting a result
+      // shows that the last marker was added.
+      expect(
+          await instance.isMarkerInfoWindowShown(
+              MarkerId('marker_${count - 1}'),
+              mapId: mapId),
+          isFalse);
+      previousMarkers = markers;
+    }
+  }, timeout: const Timeout(Duration(minutes: 10)));
+
   testWidgets('markerWithAssetMapBitmap', (WidgetTester tester) async {
     final Set<Marker> markers = <Marker>{
       Marker(
@@ -3,6 +3,7 @@
 // found in the LICENSE file.
 
 import 'dart:async';
+import 'dart:typed_data';
 
 import 'package:flutter/foundation.dart';
 import 'package:flutter/gestures.dart';
@@ -45,6 +46,92 @@ class UnknownMapIDError extends Error {
   }
 }
 
+/// An event reporting the progress of a large marker update, which the map
+/// applies over several frames.
+///
+/// The `value` of this event is the number of changes that have been applied.
+class MarkerUpdateProgressEvent extends MapEvent<int> {
+  /// Build a MarkerUpdateProgressEvent triggered from the map represented by
+  /// `mapId`.
+  MarkerUpdateProgressEvent(super.mapId, super.appliedCount, this.totalCount);
+
+  /// The number of changes in the update.
+  final int totalCount;
+}
+
+/// A cluster of markers returned by [GoogleMapsFlutterAndroid.queryClusters]
+/// or reported by [GoogleMapsFlutterAndroid.onClustersChanged].
+///
+/// Unlike [Cluster], it only includes the markers of the cluster if they were
+/// requested.
+@immutable
+class ClusterSummary {
+  /// Creates a cluster summary.
+  const ClusterSummary(
+    this.clusterManagerId, {
+    required this.position,
+    required this.size,
+    this.bounds,
+    this.markerIds,
+  });
+
+  /// The ID of the cluster manager of the cluster.
+  final ClusterManagerId clusterManagerId;
+
+  /// The position of the cluster marker.
+  final LatLng position;
+
+  /// The number of markers in the cluster.
+  final int size;
+
+  /// The bounds of the markers in the cluster, if they were requested.
+  final LatLngBounds? bounds;
+
+  /// The IDs of the markers in the cluster, if they were requested.
+  final List<MarkerId>? markerIds;
+}
+
+/// A page of the clusters returned by
+/// [GoogleMapsFlutterAndroid.queryClusters].
+@immutable
+class ClusterPage {
+  /// Creates a page of clusters.
+  const ClusterPage(this.clusters, this.totalCount);
+
+  /// The clusters in the page.
+  final List<ClusterSummary> clusters;
+
+  /// The number of clusters matching the query, across all pages.
+  final int totalCount;
+}
+
+/// An event reporting the changes of the clusters that a cluster manager
+/// shows as cluster markers.
+///
+/// The `value` of this event is the ID of the cluster manager. Clusters are
+/// identified by their position, so a cluster that moved is reported as
+/// removed from its previous position and added at its new one.
+class ClustersChangedEvent extends MapEvent<ClusterManagerId> {
+  /// Build a ClustersChangedEvent triggered from the map represented by
+  /// `mapId`.
+  ClustersChangedEvent(
+    super.mapId,
+    super.clusterManagerId, {
+    required this.added,
+    required this.removed,
+    required this.resized,
+  });
+
+  /// The clusters that are newly shown.
+  final List<ClusterSummary> added;
+
+  /// The clusters that are no longer shown, with their previous size.
+  final List<ClusterSummary> removed;
+
+  /// The clusters that are still shown, but whose number of markers changed.
+  final List<ClusterSummary> resized;
+}
+
 /// The possible android map renderer types that can be
 /// requested from the native Google Maps SDK.
 enum AndroidMapRenderer {
@@ -58,6 +145,48 @@ enum AndroidMapRenderer {
   platformDefault,
 }
 
+/// Limits on the camera moves that a map reports through
+/// [GoogleMapsFlutterAndroid.onCameraMove], to reduce the cost of handling
+/// them during gestures and animations.
+///
+/// A camera move is reported if [minInterval] has passed since the last one,
+/// and the zoom, bearing, tilt or target changed by at least its minimum
+/// change, where a minimum of 0 means any change. The final camera position is
+/// always reported before the camera becomes idle.
+@immutable
+class CameraMoveEventPolicy {
+  /// Creates a policy. The defaults report every change of the camera.
+  const CameraMoveEventPolicy({
+    this.minInterval = Duration.zero,
+    this.minZoomDelta = 0,
+    this.minBearingDelta = 0,
+    this.minTiltDelta = 0,
+    this.minTargetDelta = 0,
+    this.skipWhileBusy = false,
+  });
+
+  /// The minimum time between two reported camera moves.
+  final Duration minInterval;
+
+  /// The minimum change of the zoom level.
+  final double minZoomDelta;
+
+  /// The minimum change of the bearing, in degrees.
+  final double minBearingDelta;
+
+  /// The minimum change of the tilt, in degrees.
+  final double minTiltDelta;
+
+  /// The minimum distance the camera target moves on screen, in logical
+  /// pixels.
+  final double minTargetDelta;
+
+  /// Whether camera moves are held back while the previous one is still being
+  /// handled, in which case only the latest of them is reported once it has
+  /// been handled.
+  final bool skipWhileBusy;
+}
+
 /// An implementation of [GoogleMapsFlutterPlatform] for Android.
 class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Creates a new Android maps implementation instance.
@@ -219,6 +348,23 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _events(mapId).whereType<ClusterTapEvent>();
   }
 
+  /// The progress of large marker updates on the map with [mapId].
+  ///
+  /// The future returned by [updateMarkers] completes once all of the update's
+  /// changes have been applied.
+  Stream<MarkerUpdateProgressEvent> onMarkerUpdateProgress(
+      {required int mapId}) {
+    return _events(mapId).whereType<MarkerUpdateProgressEvent>();
+  }
+
+  /// The changes of the clusters shown as cluster markers on the map with
+  /// [mapId].
+  ///
+  /// Only reported if [trackClusterChanges] was set when the map was created.
+  Stream<ClustersChangedEvent> onClustersChanged({required int mapId}) {
+    return _events(mapId).whereType<ClustersChangedEvent>();
+  }
+
   @override
   Future<void> updateMapConfiguration(
     MapConfiguration configuration, {
@@ -449,6 +595,40 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
     return _hostApi(mapId).takeSnapshot();
   }
 
+  /// Returns the number of camera moves of the map that were not reported
+  /// because of [cameraMoveEventPolicy].
+  Future<int> getSuppressedCameraMoveCount({required int mapId}) {
+    return _hostApi(mapId).getSuppressedCameraMoveCount();
+  }
+
+  /// Returns the clusters of the cluster manager with [clusterManagerId] at
+  /// the current zoom level of the map, ordered by position.
+  ///
+  /// Only clusters whose position is inside [bounds] are returned, if it is
+  /// set, starting at [offset] and up to [limit] clusters, so that large
+  /// numbers of clusters can be read page by page. The bounds and marker IDs
+  /// of each cluster are only included if [includeMembers] is true.
+  Future<ClusterPage> queryClusters({
+    required int mapId,
+    required ClusterManagerId clusterManagerId,
+    LatLngBounds? bounds,
+    int offset = 0,
+    int limit = 100,
+    bool includeMembers = false,
+  }) async {
+    assert(offset >= 0, 'offset must not be negative');
+    assert(limit >= 0, 'limit must not be negative');
+    final PlatformClusterPage page = await _hostApi(mapId).queryClusters(
+        clusterManagerId.value,
+        _platformLatLngBoundsFromLatLngBounds(bounds),
+        offset,
+        limit,
+        includeMembers);
+    return ClusterPage(
+        page.clusters.map(_clusterSummaryFromPlatformClusterSummary).toList(),
+        page.totalCount);
+  }
+
   @override
   Future<String?> getStyleError({required int mapId}) async {
     return (await _hostApi(mapId).didLastStyleSucceed())
@@ -465,6 +645,61 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   /// Currently defaults to false, but the default is subject to change.
   bool useAndroidViewSurface = false;
 
+  /// The maximum number of bytes of tiles that each tile overlay keeps in
+  /// memory, so that they don't have to be requested from the [TileProvider]
+  /// again when the map needs them.
+  ///
+  /// Defaults to 0, which disables the memory cache. Tiles are only cached if
+  /// [tileCacheTimeToLive] is also set. Applies to maps created after it is
+  /// set.
+  int tileCacheMemoryBytes = 0;
+
+  /// The maximum number of bytes of tiles that each tile overlay keeps on disk,
+  /// so that they are kept across maps and application launches.
+  ///
+  /// Tiles are cached by tile overlay ID, and shared by all maps showing a tile
+  /// overlay with that ID, using the cache limits of the first of those maps.
+  /// This should therefore only be enabled if a given tile overlay ID always
+  /// provides the same tiles. The tiles of a tile overlay are deleted from disk
+  /// when it is removed from the last map showing it, and tiles that have
+  /// expired are deleted when the app is launched again.
+  ///
+  /// Defaults to 0, which disables the disk cache. Tiles are only cached if
+  /// [tileCacheTimeToLive] is also set. Applies to maps created after it is
+  /// set.
+  int tileCacheDiskBytes = 0;
+
+  /// How long cached tiles are used before they are requested from the
+  /// [TileProvider] again.
+  ///
+  /// Defaults to [Duration.zero], which disables the tile cache. Cached tiles
+  /// are also discarded by [clearTileCache]. Applies to maps created after it
+  /// is set.
+  Duration tileCacheTimeToLive = Duration.zero;
+
+  /// Whether markers that are not clustered are only added to the native map
+  /// while they are near the visible region, which reduces the cost of maps
+  /// with many markers spread over a large area.
+  ///
+  /// Markers are added and removed when the camera stops moving. Markers that
+  /// are out of view don't have native objects, so their info windows are
+  /// hidden. Defaults to false. Applies to maps created after it is set.
+  bool cullOffscreenMarkers = false;
+
+  /// Limits on the camera moves that maps report while they track the camera
+  /// position.
+  ///
+  /// The number of camera moves that were not reported is returned by
+  /// [getSuppressedCameraMoveCount]. Applies to maps created after it is set.
+  CameraMoveEventPolicy cameraMoveEventPolicy = const CameraMoveEventPolicy();
+
+  /// Whether maps report the changes of the clusters they show as cluster
+  /// markers through [onClustersChanged], so that they don't need to be
+  /// queried after each camera move.
+  ///
+  /// Defaults to false. Applies to maps created after it is set.
+  bool trackClusterChanges = false;
+
   /// Requests Google Map Renderer with [AndroidMapRenderer] type.
   ///
   /// See https://pub.dev/packages/google_maps_flutter_android#map-renderer
@@ -527,6 +762,20 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
       initialClusterManagers: mapObjects.clusterManagers
           .map(_platformClusterManagerFromClusterManager)
           .toList(),
+      tileCacheMemoryBytes: tileCacheMemoryBytes,
+      tileCacheDiskBytes: tileCacheDiskBytes,
+      tileCacheTimeToLiveMilliseconds: tileCacheTimeToLive.inMilliseconds,
+      cullOffscreenMarkers: cullOffscreenMarkers,
+      cameraMoveEventPolicy: PlatformCameraMoveEventPolicy(
+        minIntervalMilliseconds:
+            cameraMoveEventPolicy.minInterval.inMilliseconds,
+        minZoomDelta: cameraMoveEventPolicy.minZoomDelta,
+        minBearingDelta: cameraMoveEventPolicy.minBearingDelta,
+        minTiltDelta: cameraMoveEventPolicy.minTiltDelta,
+        minTargetDelta: cameraMoveEventPolicy.minTargetDelta,
+        skipWhileBusy: cameraMoveEventPolicy.skipWhileBusy,
+      ),
+      trackClusterChanges: trackClusterChanges,
     );
 
     const String viewType = 'plugins.flutter.dev/google_maps_android';
@@ -681,6 +930,29 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
         latitude: latLng.latitude, longitude: latLng.longitude);
   }
 
+  /// Packs [points] as consecutive latitude and longitude pairs, which are
+  /// much cheaper to send and decode than a list of [PlatformLatLng]s.
+  static Float64List _packedLatLngsFromLatLngs(List<LatLng> points) {
+    final Float64List packed = Float64List(points.length * 2);
+    for (int i = 0; i < points.length; i++) {
+      packed[i * 2] = points[i].latitude;
+      packed[i * 2 + 1] = points[i].longitude;
+    }
+    return packed;
+  }
+
+  /// Packs [data] as consecutive latitude, longitude and weight triples.
+  static Float64List _packedWeightedLatLngsFromWeightedLatLngs(
+      List<WeightedLatLng> data) {
+    final Float64List packed = Float64List(data.length * 3);
+    for (int i = 0; i < data.length; i++) {
+      packed[i * 3] = data[i].point.latitude;
+      packed[i * 3 + 1] = data[i].point.longitude;
+      packed[i * 3 + 2] = data[i].weight;
+    }
+    return packed;
+  }
+
   static PlatformDoublePair _platformPairFromOffset(Offset offset) {
     return PlatformDoublePair(x: offset.dx, y: offset.dy);
   }
@@ -714,7 +986,10 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   }
 
   static PlatformHeatmap _platformHeatmapFromHeatmap(Heatmap heatmap) {
-    return PlatformHeatmap(json: serializeHeatmap(heatmap));
+    return PlatformHeatmap(
+      json: serializeHeatmap(heatmap),
+      weightedData: _packedWeightedLatLngsFromWeightedLatLngs(heatmap.data),
+    );
   }
 
   static PlatformClusterManager _platformClusterManagerFromClusterManager(
@@ -750,12 +1025,9 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   }
 
   static PlatformPolygon _platformPolygonFromPolygon(Polygon polygon) {
-    final List<PlatformLatLng> points =
-        polygon.points.map(_platformLatLngFromLatLng).toList();
-    final List<List<PlatformLatLng>> holes =
-        polygon.holes.map((List<LatLng> hole) {
-      return hole.map(_platformLatLngFromLatLng).toList();
-    }).toList();
+    final Float64List points = _packedLatLngsFromLatLngs(polygon.points);
+    final List<Float64List> holes =
+        polygon.holes.map(_packedLatLngsFromLatLngs).toList();
     return PlatformPolygon(
       polygonId: polygon.polygonId.value,
       fillColor: polygon.fillColor.value,
@@ -771,8 +1043,7 @@ class GoogleMapsFlutterAndroid extends GoogleMapsFlutterPlatform {
   }
 
   static PlatformPolyline _platformPolylineFromPolyline(Polyline polyline) {
-    final List<PlatformLatLng> points =
-        polyline.points.map(_platformLatLngFromLatLng).toList();
+    final Float64List points = _packedLatLngsFromLatLngs(polyline.points);
     final List<PlatformPatternItem> pattern =
         polyline.patterns.map(platformPatternItemFromPatternItem).toList();
     return PlatformPolyline(
@@ -981,18 +1252,28 @@ class HostMapMessageHandler implements MapsCallbackApi {
   final TileOverlay? Function(TileOverlayId tileOverlayId) tileOverlayProvider;
 
   @override
-  Future<PlatformTile> getTileOverlayTile(
+  Future<List<PlatformTile>> getTileOverlayTiles(
     String tileOverlayId,
-    PlatformPoint location,
+    List<PlatformPoint> locations,
     int zoom,
   ) async {
     final TileOverlay? tileOverlay =
         tileOverlayProvider(TileOverlayId(tileOverlayId));
     final TileProvider? tileProvider = tileOverlay?.tileProvider;
-    final Tile tile = tileProvider == null
-        ? TileProvider.noTile
-        : await tileProvider.getTile(location.x, location.y, zoom);
-    return _platformTileFromTile(tile);
+    if (tileProvider == null) {
+      return List<PlatformTile>.filled(
+          locations.length, _platformTileFromTile(TileProvider.noTile));
+    }
+    // Request all tiles at once, so that providers that fetch tiles over the
+    // network can do so in parallel. A failed tile is reported as missing
+    // rather than failing the rest of the batch.
+    final List<Tile> tiles = await Future.wait(<Future<Tile>>[
+      for (final PlatformPoint location in locations)
+        tileProvider
+            .getTile(location.x, location.y, zoom)
+            .catchError((Object _) => TileProvider.noTile),
+    ]);
+    return tiles.map(_platformTileFromTile).toList();
   }
 
   @override
@@ -1071,6 +1352,27 @@ class HostMapMessageHandler implements MapsCallbackApi {
     streamController.add(MarkerTapEvent(mapId, MarkerId(markerId)));
   }
 
+  @override
+  void onMarkerUpdateProgress(int appliedCount, int totalCount) {
+    streamController
+        .add(MarkerUpdateProgressEvent(mapId, appliedCount, totalCount));
+  }
+
+  @override
+  void onClustersChanged(
+      String clusterManagerId,
+      List<PlatformClusterSummary> added,
+      List<PlatformClusterSummary> removed,
+      List<PlatformClusterSummary> resized) {
+    streamController.add(ClustersChangedEvent(
+      mapId,
+      ClusterManagerId(clusterManagerId),
+      added: added.map(_clusterSummaryFromPlatformClusterSummary).toList(),
+      removed: removed.map(_clusterSummaryFromPlatformClusterSummary).toList(),
+      resized: resized.map(_clusterSummaryFromPlatformClusterSummary).toList(),
+    ));
+  }
+
   @override
   void onPolygonTap(String polygonId) {
     streamController.add(PolygonTapEvent(mapId, PolygonId(polygonId)));
@@ -1099,6 +1401,21 @@ LatLngBounds _latLngBoundsFromPlatformLatLngBounds(
       northeast: _latLngFromPlatformLatLng(bounds.northeast));
 }
 
+ClusterSummary _clusterSummaryFromPlatformClusterSummary(
+    PlatformClusterSummary cluster) {
+  final PlatformLatLngBounds? bounds = cluster.bounds;
+  return ClusterSummary(
+    ClusterManagerId(cluster.clusterManagerId),
+    position: _latLngFromPlatformLatLng(cluster.position),
+    size: cluster.size,
+    bounds:
+        bounds == null ? null : _latLngBoundsFromPlatformLatLngBounds(bounds),
+    markerIds: cluster.markerIds
+        ?.map((String markerId) => MarkerId(markerId))
+        .toList(),
+  );
+}
+
 PlatformTile _platformTileFromTile(Tile tile) {
   return PlatformTile(width: tile.width, height: tile.height, data: tile.data);
 }
@@ -400,6 +400,7 @@ class PlatformCircle {
 class PlatformHeatmap {
   PlatformHeatmap({
     required this.json,
+    this.weightedData,
   });
 
   /// The heatmap data, as JSON. This should only be set from
@@ -407,9 +408,14 @@ class PlatformHeatmap {
   /// internal implementation details of that method.
   Map<String, Object?> json;
 
+  /// The weighted points of the heatmap, as consecutive latitude, longitude
+  /// and weight triples. If null, the points are read from [json].
+  Float64List? weightedData;
+
   Object encode() {
     return <Object?>[
       json,
+      weightedData,
     ];
   }
 
@@ -417,6 +423,7 @@ class PlatformHeatmap {
     result as List<Object?>;
     return PlatformHeatmap(
       json: (result[0] as Map<Object?, Object?>?)!.cast<String, Object?>(),
+      weightedData: result[1] as Float64List?,
     );
   }
 }
@@ -607,9 +614,11 @@ class PlatformPolygon {
 
   bool geodesic;
 
-  List<PlatformLatLng> points;
+  /// The vertices, as consecutive latitude and longitude pairs.
+  Float64List points;
 
-  List<List<PlatformLatLng>> holes;
+  /// The vertices of each hole, as consecutive latitude and longitude pairs.
+  List<Float64List> holes;
 
   bool visible;
 
@@ -641,8 +650,8 @@ class PlatformPolygon {
       consumesTapEvents: result[1]! as bool,
       fillColor: result[2]! as int,
       geodesic: result[3]! as bool,
-      points: (result[4] as List<Object?>?)!.cast<PlatformLatLng>(),
-      holes: (result[5] as List<Object?>?)!.cast<List<PlatformLatLng>>(),
+      points: result[4]! as Float64List,
+      holes: (result[5] as List<Object?>?)!.cast<Float64List>(),
       visible: result[6]! as bool,
       strokeColor: result[7]! as int,
       strokeWidth: result[8]! as int,
@@ -682,7 +691,8 @@ class PlatformPolyline {
   /// The pattern data, as a list of pattern items.
   List<PlatformPatternItem> patterns;
 
-  List<PlatformLatLng> points;
+  /// The vertices, as consecutive latitude and longitude pairs.
+  Float64List points;
 
   /// The cap at the start and end vertex of a polyline.
   /// See https://developers.google.com/maps/documentation/android-sdk/reference/com/google/android/libraries/maps/model/Cap.
@@ -722,7 +732,7 @@ class PlatformPolyline {
       geodesic: result[3]! as bool,
       jointType: result[4]! as PlatformJointType,
       patterns: (result[5] as List<Object?>?)!.cast<PlatformPatternItem>(),
-      points: (result[6] as List<Object?>?)!.cast<PlatformLatLng>(),
+      points: result[6]! as Float64List,
       startCap: result[7]! as PlatformCap,
       endCap: result[8]! as PlatformCap,
       visible: result[9]! as bool,
@@ -1036,6 +1046,12 @@ class PlatformMapViewCreationParams {
     required this.initialHeatmaps,
     required this.initialTileOverlays,
     required this.initialClusterManagers,
+    required this.tileCacheMemoryBytes,
+    required this.tileCacheDiskBytes,
+    required this.tileCacheTimeToLiveMilliseconds,
+    required this.cullOffscreenMarkers,
+    required this.cameraMoveEventPolicy,
+    required this.trackClusterChanges,
   });
 
   PlatformCameraPosition initialCameraPosition;
@@ -1056,6 +1072,18 @@ class PlatformMapViewCreationParams {
 
   List<PlatformClusterManager> initialClusterManagers;
 
+  int tileCacheMemoryBytes;
+
+  int tileCacheDiskBytes;
+
+  int tileCacheTimeToLiveMilliseconds;
+
+  bool cullOffscreenMarkers;
+
+  PlatformCameraMoveEventPolicy cameraMoveEventPolicy;
+
+  bool trackClusterChanges;
+
   Object encode() {
     return <Object?>[
       initialCameraPosition,
@@ -1067,6 +1095,12 @@ class PlatformMapViewCreationParams {
       initialHeatmaps,
       initialTileOverlays,
       initialClusterManagers,
+      tileCacheMemoryBytes,
+      tileCacheDiskBytes,
+      tileCacheTimeToLiveMilliseconds,
+      cullOffscreenMarkers,
+      cameraMoveEventPolicy,
+      trackClusterChanges,
     ];
   }
 
@@ -1084,6 +1118,12 @@ class PlatformMapViewCreationParams {
           (result[7] as List<Object?>?)!.cast<PlatformTileOverlay>(),
       initialClusterManagers:
           (result[8] as List<Object?>?)!.cast<PlatformClusterManager>(),
+      tileCacheMemoryBytes: result[9]! as int,
+      tileCacheDiskBytes: result[10]! as int,
+      tileCacheTimeToLiveMilliseconds: result[11]! as int,
+      cullOffscreenMarkers: result[12]! as bool,
+      cameraMoveEventPolicy: result[13]! as PlatformCameraMoveEventPolicy,
+      trackClusterChanges: result[14]! as bool,
     );
   }
 }
@@ -1525,6 +1565,134 @@ class PlatformBitmapBytesMap {
   }
 }
 
+/// Pigeon equivalent of CameraMoveEventPolicy.
+class PlatformCameraMoveEventPolicy {
+  PlatformCameraMoveEventPolicy({
+    required this.minIntervalMilliseconds,
+    required this.minZoomDelta,
+    required this.minBearingDelta,
+    required this.minTiltDelta,
+    required this.minTargetDelta,
+    required this.skipWhileBusy,
+  });
+
+  /// The minimum time between camera move events, in milliseconds.
+  int minIntervalMilliseconds;
+
+  /// The minimum change in zoom level that is reported.
+  double minZoomDelta;
+
+  /// The minimum change in bearing that is reported, in degrees.
+  double minBearingDelta;
+
+  /// The minimum change in tilt that is reported, in degrees.
+  double minTiltDelta;
+
+  /// The minimum movement of the camera target that is reported, in logical
+  /// pixels at the current zoom level.
+  double minTargetDelta;
+
+  /// Whether to hold back camera moves while Dart has not handled the previous
+  /// one, then send only the latest.
+  bool skipWhileBusy;
+
+  Object encode() {
+    return <Object?>[
+      minIntervalMilliseconds,
+      minZoomDelta,
+      minBearingDelta,
+      minTiltDelta,
+      minTargetDelta,
+      skipWhileBusy,
+    ];
+  }
+
+  static PlatformCameraMoveEventPolicy decode(Object result) {
+    result as List<Object?>;
+    return PlatformCameraMoveEventPolicy(
+      minIntervalMilliseconds: result[0]! as int,
+      minZoomDelta: result[1]! as double,
+      minBearingDelta: result[2]! as double,
+      minTiltDelta: result[3]! as double,
+      minTargetDelta: result[4]! as double,
+      skipWhileBusy: result[5]! as bool,
+    );
+  }
+}
+
+/// A cluster of markers, without its members unless they were requested.
+class PlatformClusterSummary {
+  PlatformClusterSummary({
+    required this.clusterManagerId,
+    required this.position,
+    required this.size,
+    this.bounds,
+    this.markerIds,
+  });
+
+  String clusterManagerId;
+
+  PlatformLatLng position;
+
+  /// The number of markers in the cluster.
+  int size;
+
+  /// The bounds of the markers in the cluster, if members were requested.
+  PlatformLatLngBounds? bounds;
+
+  /// The IDs of the markers in the cluster, if members were requested.
+  List<String>? markerIds;
+
+  Object encode() {
+    return <Object?>[
+      clusterManagerId,
+      position,
+      size,
+      bounds,
+      markerIds,
+    ];
+  }
+
+  static PlatformClusterSummary decode(Object result) {
+    result as List<Object?>;
+    return PlatformClusterSummary(
+      clusterManagerId: result[0]! as String,
+      position: result[1]! as PlatformLatLng,
+      size: result[2]! as int,
+      bounds: result[3] as PlatformLatLngBounds?,
+      markerIds: (result[4] as List<Object?>?)?.cast<String>(),
+    );
+  }
+}
+
+/// A page of the clusters of a cluster manager.
+class PlatformClusterPage {
+  PlatformClusterPage({
+    required this.clusters,
+    required this.totalCount,
+  });
+
+  List<PlatformClusterSummary> clusters;
+
+  /// The number of clusters matching the query, across all pages.
+  int totalCount;
+
+  Object encode() {
+    return <Object?>[
+      clusters,
+      totalCount,
+    ];
+  }
+
+  static PlatformClusterPage decode(Object result) {
+    result as List<Object?>;
+    return PlatformClusterPage(
+      clusters: (result[0] as List<Object?>?)!.cast<PlatformClusterSummary>(),
+      totalCount: result[1]! as int,
+    );
+  }
+}
+
 class _PigeonCodec extends StandardMessageCodec {
   const _PigeonCodec();
   @override
@@ -1667,6 +1835,15 @@ class _PigeonCodec extends StandardMessageCodec {
     } else if (value is PlatformBitmapBytesMap) {
       buffer.putUint8(173);
       writeValue(buffer, value.encode());
+    } else if (value is PlatformCameraMoveEventPolicy) {
+      buffer.putUint8(174);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformClusterSummary) {
+      buffer.putUint8(175);
+      writeValue(buffer, value.encode());
+    } else if (value is PlatformClusterPage) {
+      buffer.putUint8(176);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -1771,6 +1948,12 @@ class _PigeonCodec extends StandardMessageCodec {
         return PlatformBitmapAssetMap.decode(readValue(buffer)!);
       case 173:
         return PlatformBitmapBytesMap.decode(readValue(buffer)!);
+      case 174:
+        return PlatformCameraMoveEventPolicy.decode(readValue(buffer)!);
+      case 175:
+        return PlatformClusterSummary.decode(readValue(buffer)!);
+      case 176:
+        return PlatformClusterPage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -1927,6 +2110,9 @@ class MapsApi {
   }
 
   /// Updates the set of markers on the map.
+  ///
+  /// Large updates are applied over several frames, and this returns once all
+  /// of the changes have been applied.
   Future<void> updateMarkers(List<PlatformMarker> toAdd,
       List<PlatformMarker> toChange, List<String> idsToRemove) async {
     final String pigeonVar_channelName =
@@ -2404,6 +2590,77 @@ class MapsApi {
       return (pigeonVar_replyList[0] as Uint8List?)!;
     }
   }
+  /// Returns the number of camera moves that were not sent to Dart because of
+  /// the map's camera move event policy.
+  Future<int> getSuppressedCameraMoveCount() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.getSuppressedCameraMoveCount$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as int?)!;
+    }
+  }
+
+  /// Returns the clusters of the given cluster manager at the current zoom
+  /// level, ordered by position.
+  ///
+  /// Only clusters inside [bounds] are returned, if it is set, starting at
+  /// [offset] and up to [limit] clusters. The bounds and marker IDs of each
+  /// cluster are only included if [includeMembers] is true.
+  Future<PlatformClusterPage> queryClusters(
+      String clusterManagerId,
+      PlatformLatLngBounds? bounds,
+      int offset,
+      int limit,
+      bool includeMembers) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.google_maps_flutter_android.MapsApi.queryClusters$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel.send(
+            <Object?>[clusterManagerId, bounds, offset, limit, includeMembers])
+        as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as PlatformClusterPage?)!;
+    }
+  }
 }
 
 abstract class MapsCallbackApi {
@@ -2451,9 +2708,29 @@ abstract class MapsCallbackApi {
   /// Called when a polyline is tapped.
   void onPolylineTap(String polylineId);
 
-  /// Called to get data for a map tile.
-  Future<PlatformTile> getTileOverlayTile(
-      String tileOverlayId, PlatformPoint location, int zoom);
+  /// Called after each frame's worth of a large marker update is applied.
+  ///
+  /// [appliedCount] of the update's [totalCount] changes have been applied.
+  void onMarkerUpdateProgress(int appliedCount, int totalCount);
+
+  /// Called after a cluster manager's clusters that are shown as cluster
+  /// markers changed, if the map tracks cluster changes.
+  ///
+  /// Clusters are identified by their position, and are only included in
+  /// [resized] if their number of markers changed. Cluster summaries don't
+  /// include the cluster's members.
+  void onClustersChanged(
+      String clusterManagerId,
+      List<PlatformClusterSummary> added,
+      List<PlatformClusterSummary> removed,
+      List<PlatformClusterSummary> resized);
+
+  /// Called to get data for several map tiles of the same zoom level at once.
+  ///
+  /// The result contains one tile for each entry in [locations], in the same
+  /// order.
+  Future<List<PlatformTile>> getTileOverlayTiles(
+      String tileOverlayId, List<PlatformPoint> locations, int zoom);
 
   static void setUp(
     MapsCallbackApi? api, {
@@ -2870,7 +3147,81 @@ abstract class MapsCallbackApi {
       final BasicMessageChannel<
           Object?> pigeonVar_channel = BasicMessageChannel<
               Object?>(
-          'dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTile$messageChannelSuffix',
+          'dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onMarkerUpdateProgress$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onMarkerUpdateProgress was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_appliedCount = (args[0] as int?);
+          assert(arg_appliedCount != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onMarkerUpdateProgress was null, expected non-null int.');
+          final int? arg_totalCount = (args[1] as int?);
+          assert(arg_totalCount != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onMarkerUpdateProgress was null, expected non-null int.');
+          try {
+            api.onMarkerUpdateProgress(arg_appliedCount!, arg_totalCount!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onClustersChanged$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onClustersChanged was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_clusterManagerId = (args[0] as String?);
+          assert(arg_clusterManagerId != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onClustersChanged was null, expected non-null String.');
+          final List<PlatformClusterSummary>? arg_added =
+              (args[1] as List<Object?>?)?.cast<PlatformClusterSummary>();
+          assert(arg_added != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onClustersChanged was null, expected non-null List<PlatformClusterSummary>.');
+          final List<PlatformClusterSummary>? arg_removed =
+              (args[2] as List<Object?>?)?.cast<PlatformClusterSummary>();
+          assert(arg_removed != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onClustersChanged was null, expected non-null List<PlatformClusterSummary>.');
+          final List<PlatformClusterSummary>? arg_resized =
+              (args[3] as List<Object?>?)?.cast<PlatformClusterSummary>();
+          assert(arg_resized != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.onClustersChanged was null, expected non-null List<PlatformClusterSummary>.');
+          try {
+            api.onClustersChanged(arg_clusterManagerId!, arg_added!,
+                arg_removed!, arg_resized!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTiles$messageChannelSuffix',
           pigeonChannelCodec,
           binaryMessenger: binaryMessenger);
       if (api == null) {
@@ -2878,20 +3229,21 @@ abstract class MapsCallbackApi {
       } else {
         pigeonVar_channel.setMessageHandler((Object? message) async {
           assert(message != null,
-              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTile was null.');
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTiles was null.');
           final List<Object?> args = (message as List<Object?>?)!;
           final String? arg_tileOverlayId = (args[0] as String?);
           assert(arg_tileOverlayId != null,
-              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTile was null, expected non-null String.');
-          final PlatformPoint? arg_location = (args[1] as PlatformPoint?);
-          assert(arg_location != null,
-              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTile was null, expected non-null PlatformPoint.');
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTiles was null, expected non-null String.');
+          final List<PlatformPoint>? arg_locations =
+              (args[1] as List<Object?>?)?.cast<PlatformPoint>();
+          assert(arg_locations != null,
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTiles was null, expected non-null List<PlatformPoint>.');
           final int? arg_zoom = (args[2] as int?);
           assert(arg_zoom != null,
-              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTile was null, expected non-null int.');
+              'Argument for dev.flutter.pigeon.google_maps_flutter_android.MapsCallbackApi.getTileOverlayTiles was null, expected non-null int.');
           try {
-            final PlatformTile output = await api.getTileOverlayTile(
-                arg_tileOverlayId!, arg_location!, arg_zoom!);
+            final List<PlatformTile> output = await api.getTileOverlayTiles(
+                arg_tileOverlayId!, arg_locations!, arg_zoom!);
             return wrapResponse(result: output);
           } on PlatformException catch (e) {
             return wrapResponse(error: e);
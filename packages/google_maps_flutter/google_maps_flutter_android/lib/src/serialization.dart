@@ -7,7 +7,6 @@ import 'package:google_maps_flutter_platform_interface/google_maps_flutter_platf
 
 // These constants must match the corresponding constants in Convert.java
 const String _heatmapIdKey = 'heatmapId';
-const String _heatmapDataKey = 'data';
 const String _heatmapGradientKey = 'gradient';
 const String _heatmapMaxIntensityKey = 'maxIntensity';
 const String _heatmapOpacityKey = 'opacity';
@@ -22,16 +21,12 @@ void _addIfNonNull(Map<String, Object?> map, String fieldName, Object? value) {
   }
 }
 
-/// Serialize [Heatmap]
+/// Serialize [Heatmap], except for its data, which is sent separately as
+/// packed weighted points.
 Map<String, Object?> serializeHeatmap(Heatmap heatmap) {
   final Map<String, Object> json = <String, Object>{};
 
   _addIfNonNull(json, _heatmapIdKey, heatmap.heatmapId.value);
-  _addIfNonNull(
-    json,
-    _heatmapDataKey,
-    heatmap.data.map(serializeWeightedLatLng).toList(),
-  );
 
   final HeatmapGradient? gradient = heatmap.gradient;
   if (gradient != null) {
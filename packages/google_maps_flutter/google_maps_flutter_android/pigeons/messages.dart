@@ -130,7 +130,7 @@ class PlatformCircle {
 
 /// Pigeon equivalent of the Heatmap class.
 class PlatformHeatmap {
-  PlatformHeatmap(this.json);
+  PlatformHeatmap(this.json, this.weightedData);
 
   /// The heatmap data, as JSON. This should only be set from
   /// Heatmap.toJson, and the native code must interpret it according to the
@@ -138,6 +138,10 @@ class PlatformHeatmap {
   // TODO(stuartmorgan): Replace this with structured data. This exists only to
   //  allow incremental migration to Pigeon.
   final Map<String, Object?> json;
+
+  /// The weighted points of the heatmap, as consecutive latitude, longitude
+  /// and weight triples. If null, the points are read from [json].
+  final Float64List? weightedData;
 }
 
 /// Pigeon equivalent of the ClusterManager class.
@@ -221,8 +225,12 @@ class PlatformPolygon {
   final bool consumesTapEvents;
   final int fillColor;
   final bool geodesic;
-  final List<PlatformLatLng> points;
-  final List<List<PlatformLatLng>> holes;
+
+  /// The vertices, as consecutive latitude and longitude pairs.
+  final Float64List points;
+
+  /// The vertices of each hole, as consecutive latitude and longitude pairs.
+  final List<Float64List> holes;
   final bool visible;
   final int strokeColor;
   final int strokeWidth;
@@ -263,7 +271,9 @@ class PlatformPolyline {
 
   /// The pattern data, as a list of pattern items.
   final List<PlatformPatternItem> patterns;
-  final List<PlatformLatLng> points;
+
+  /// The vertices, as consecutive latitude and longitude pairs.
+  final Float64List points;
 
   /// The cap at the start and end vertex of a polyline.
   /// See https://developers.google.com/maps/documentation/android-sdk/reference/com/google/android/libraries/maps/model/Cap.
@@ -407,6 +417,12 @@ class PlatformMapViewCreationParams {
     required this.initialHeatmaps,
     required this.initialTileOverlays,
     required this.initialClusterManagers,
+    required this.tileCacheMemoryBytes,
+    required this.tileCacheDiskBytes,
+    required this.tileCacheTimeToLiveMilliseconds,
+    required this.cullOffscreenMarkers,
+    required this.cameraMoveEventPolicy,
+    required this.trackClusterChanges,
   });
 
   final PlatformCameraPosition initialCameraPosition;
@@ -418,6 +434,12 @@ class PlatformMapViewCreationParams {
   final List<PlatformHeatmap> initialHeatmaps;
   final List<PlatformTileOverlay> initialTileOverlays;
   final List<PlatformClusterManager> initialClusterManagers;
+  final int tileCacheMemoryBytes;
+  final int tileCacheDiskBytes;
+  final int tileCacheTimeToLiveMilliseconds;
+  final bool cullOffscreenMarkers;
+  final PlatformCameraMoveEventPolicy cameraMoveEventPolicy;
+  final bool trackClusterChanges;
 }
 
 /// Pigeon equivalent of MapConfiguration.
@@ -588,6 +610,71 @@ class PlatformBitmapBytesMap {
   final double? height;
 }
 
+/// Pigeon equivalent of CameraMoveEventPolicy.
+class PlatformCameraMoveEventPolicy {
+  PlatformCameraMoveEventPolicy({
+    required this.minIntervalMilliseconds,
+    required this.minZoomDelta,
+    required this.minBearingDelta,
+    required this.minTiltDelta,
+    required this.minTargetDelta,
+    required this.skipWhileBusy,
+  });
+
+  /// The minimum time between camera move events, in milliseconds.
+  final int minIntervalMilliseconds;
+
+  /// The minimum change in zoom level that is reported.
+  final double minZoomDelta;
+
+  /// The minimum change in bearing that is reported, in degrees.
+  final double minBearingDelta;
+
+  /// The minimum change in tilt that is reported, in degrees.
+  final double minTiltDelta;
+
+  /// The minimum movement of the camera target that is reported, in logical
+  /// pixels at the current zoom level.
+  final double minTargetDelta;
+
+  /// Whether to hold back camera moves while Dart has not handled the previous
+  /// one, then send only the latest.
+  final bool skipWhileBusy;
+}
+
+/// A cluster of markers, without its members unless they were requested.
+class PlatformClusterSummary {
+  PlatformClusterSummary({
+    required this.clusterManagerId,
+    required this.position,
+    required this.size,
+    this.bounds,
+    this.markerIds,
+  });
+
+  final String clusterManagerId;
+  final PlatformLatLng position;
+
+  /// The number of markers in the cluster.
+  final int size;
+
+  /// The bounds of the markers in the cluster, if members were requested.
+  final PlatformLatLngBounds? bounds;
+
+  /// The IDs of the markers in the cluster, if members were requested.
+  final List<String>? markerIds;
+}
+
+/// A page of the clusters of a cluster manager.
+class PlatformClusterPage {
+  PlatformClusterPage({required this.clusters, required this.totalCount});
+
+  final List<PlatformClusterSummary> clusters;
+
+  /// The number of clusters matching the query, across all pages.
+  final int totalCount;
+}
+
 /// Interface for non-test interactions with the native SDK.
 ///
 /// For test-only state queries, see [MapsInspectorApi].
@@ -616,6 +703,10 @@ abstract class MapsApi {
       List<PlatformClusterManager> toAdd, List<String> idsToRemove);
 
   /// Updates the set of markers on the map.
+  ///
+  /// Large updates are applied over several frames, and this returns once all
+  /// of the changes have been applied.
+  @async
   void updateMarkers(List<PlatformMarker> toAdd, List<PlatformMarker> toChange,
       List<String> idsToRemove);
 
@@ -680,6 +771,19 @@ abstract class MapsApi {
   /// Takes a snapshot of the map and returns its image data.
   @async
   Uint8List takeSnapshot();
+
+  /// Returns the number of camera moves that were not sent to Dart because of
+  /// the map's camera move event policy.
+  int getSuppressedCameraMoveCount();
+
+  /// Returns the clusters of the given cluster manager at the current zoom
+  /// level, ordered by position.
+  ///
+  /// Only clusters inside [bounds] are returned, if it is set, starting at
+  /// [offset] and up to [limit] clusters. The bounds and marker IDs of each
+  /// cluster are only included if [includeMembers] is true.
+  PlatformClusterPage queryClusters(String clusterManagerId,
+      PlatformLatLngBounds? bounds, int offset, int limit, bool includeMembers);
 }
 
 @FlutterApi()
@@ -726,10 +830,30 @@ abstract class MapsCallbackApi {
   /// Called when a polyline is tapped.
   void onPolylineTap(String polylineId);
 
-  /// Called to get data for a map tile.
+  /// Called after each frame's worth of a large marker update is applied.
+  ///
+  /// [appliedCount] of the update's [totalCount] changes have been applied.
+  void onMarkerUpdateProgress(int appliedCount, int totalCount);
+
+  /// Called after a cluster manager's clusters that are shown as cluster
+  /// markers changed, if the map tracks cluster changes.
+  ///
+  /// Clusters are identified by their position, and are only included in
+  /// [resized] if their number of markers changed. Cluster summaries don't
+  /// include the cluster's members.
+  void onClustersChanged(
+      String clusterManagerId,
+      List<PlatformClusterSummary> added,
+      List<PlatformClusterSummary> removed,
+      List<PlatformClusterSummary> resized);
+
+  /// Called to get data for several map tiles of the same zoom level at once.
+  ///
+  /// The result contains one tile for each entry in [locations], in the same
+  /// order.
   @async
-  PlatformTile getTileOverlayTile(
-      String tileOverlayId, PlatformPoint location, int zoom);
+  List<PlatformTile> getTileOverlayTiles(
+      String tileOverlayId, List<PlatformPoint> locations, int zoom);
 }
 
 /// Interface for global SDK initialization.
@@ -200,6 +200,59 @@ void main() {
     expect(await maps.takeSnapshot(mapId: mapId), fakeSnapshot);
   });
 
+  test('getSuppressedCameraMoveCount calls through', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) =
+        setUpMockMap(mapId: mapId);
+
+    when(api.getSuppressedCameraMoveCount()).thenAnswer((_) async => 42);
+
+    expect(await maps.getSuppressedCameraMoveCount(mapId: mapId), 42);
+  });
+
+  test('queryClusters passes arguments and converts the result', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) =
+        setUpMockMap(mapId: mapId);
+
+    const String clusterManagerId = 'cm';
+    final LatLngBounds bounds = LatLngBounds(
+        southwest: const LatLng(10, 20), northeast: const LatLng(30, 40));
+    when(api.queryClusters(any, any, any, any, any))
+        .thenAnswer((_) async => PlatformClusterPage(
+              clusters: <PlatformClusterSummary>[
+                PlatformClusterSummary(
+                  clusterManagerId: clusterManagerId,
+                  position: PlatformLatLng(latitude: 15, longitude: 25),
+                  size: 7,
+                ),
+              ],
+              totalCount: 12,
+            ));
+
+    final ClusterPage page = await maps.queryClusters(
+        mapId: mapId,
+        clusterManagerId: const ClusterManagerId(clusterManagerId),
+        bounds: bounds,
+        offset: 5,
+        limit: 1);
+
+    final VerificationResult verification =
+        verify(api.queryClusters(clusterManagerId, captureAny, 5, 1, false));
+    final PlatformLatLngBounds? passedBounds =
+        verification.captured[0] as PlatformLatLngBounds?;
+    expect(passedBounds?.southwest.latitude, bounds.southwest.latitude);
+    expect(passedBounds?.northeast.longitude, bounds.northeast.longitude);
+    expect(page.totalCount, 12);
+    expect(page.clusters.length, 1);
+    final ClusterSummary cluster = page.clusters.first;
+    expect(cluster.clusterManagerId.value, clusterManagerId);
+    expect(cluster.position, const LatLng(15, 25));
+    expect(cluster.size, 7);
+    expect(cluster.bounds, isNull);
+    expect(cluster.markerIds, isNull);
+  });
+
   test('clearTileCache calls through', () async {
     const int mapId = 1;
     final (GoogleMapsFlutterAndroid maps, MockMapsApi api) =
@@ -339,6 +392,33 @@ void main() {
     }
   });
 
+  test('updateHeatmaps sends packed weighted data', () async {
+    const int mapId = 1;
+    final (GoogleMapsFlutterAndroid maps, MockMapsApi api) =
+        setUpMockMap(mapId: mapId);
+
+    const Heatmap heatmap = Heatmap(
+      heatmapId: HeatmapId('1'),
+      data: <WeightedLatLng>[
+        WeightedLatLng(LatLng(10, 20)),
+        WeightedLatLng(LatLng(30, 40), weight: 2),
+      ],
+      radius: HeatmapRadius.fromPixels(20),
+    );
+    await maps.updateHeatmaps(
+        HeatmapUpdates.from(const <Heatmap>{}, <Heatmap>{heatmap}),
+        mapId: mapId);
+
+    final VerificationResult verification =
+        verify(api.updateHeatmaps(captureAny, captureAny, captureAny));
+    final List<PlatformHeatmap> toAdd =
+        verification.captured[0] as List<PlatformHeatmap>;
+    expect(toAdd.length, 1);
+    expect(toAdd.first.json['heatmapId'], heatmap.heatmapId.value);
+    expect(toAdd.first.json.containsKey('data'), isFalse);
+    expect(toAdd.first.weightedData, <double>[10, 20, 1, 30, 40, 2]);
+  });
+
   test('updateClusterManagers passes expected arguments', () async {
     const int mapId = 1;
     final (GoogleMapsFlutterAndroid maps, MockMapsApi api) =
@@ -458,7 +538,13 @@ void main() {
     const Polygon object1 = Polygon(polygonId: PolygonId('1'));
     const Polygon object2old = Polygon(polygonId: PolygonId('2'));
     final Polygon object2new = object2old.copyWith(strokeWidthParam: 42);
-    const Polygon object3 = Polygon(polygonId: PolygonId('3'));
+    const Polygon object3 = Polygon(
+      polygonId: PolygonId('3'),
+      points: <LatLng>[LatLng(10, 20), LatLng(30, 40), LatLng(50, 60)],
+      holes: <List<LatLng>>[
+        <LatLng>[LatLng(11, 21), LatLng(12, 22), LatLng(13, 23)],
+      ],
+    );
     await maps.updatePolygons(
         PolygonUpdates.from(
             <Polygon>{object1, object2old}, <Polygon>{object2new, object3}),
@@ -479,17 +565,18 @@ void main() {
       expect(actual.consumesTapEvents, expected.consumeTapEvents);
       expect(actual.fillColor, expected.fillColor.value);
       expect(actual.geodesic, expected.geodesic);
-      expect(actual.points.length, expected.points.length);
-      for (final (int i, PlatformLatLng? point) in actual.points.indexed) {
-        expect(point?.latitude, expected.points[i].latitude);
-        expect(point?.longitude, expected.points[i].longitude);
+      expect(actual.points.length, expected.points.length * 2);
+      for (final (int i, LatLng point) in expected.points.indexed) {
+        expect(actual.points[i * 2], point.latitude);
+        expect(actual.points[i * 2 + 1], point.longitude);
       }
       expect(actual.holes.length, expected.holes.length);
-      for (final (int i, List<PlatformLatLng>? hole) in actual.holes.indexed) {
+      for (final (int i, List<double> hole) in actual.holes.indexed) {
         final List<LatLng> expectedHole = expected.holes[i];
-        for (final (int j, PlatformLatLng? point) in hole!.indexed) {
-          expect(point?.latitude, expectedHole[j].latitude);
-          expect(point?.longitude, expectedHole[j].longitude);
+        expect(hole.length, expectedHole.length * 2);
+        for (final (int j, LatLng point) in expectedHole.indexed) {
+          expect(hole[j * 2], point.latitude);
+          expect(hole[j * 2 + 1], point.longitude);
         }
       }
       expect(actual.visible, expected.visible);
@@ -520,7 +607,8 @@ void main() {
     final Polyline object3 = Polyline(
         polylineId: const PolylineId('3'),
         startCap: customCap,
-        endCap: Cap.roundCap);
+        endCap: Cap.roundCap,
+        points: const <LatLng>[LatLng(10, 20), LatLng(30, 40)]);
     await maps.updatePolylines(
         PolylineUpdates.from(
             <Polyline>{object1, object2old}, <Polyline>{object2new, object3}),
@@ -543,10 +631,10 @@ void main() {
       expect(actual.visible, expected.visible);
       expect(actual.width, expected.width);
       expect(actual.zIndex, expected.zIndex);
-      expect(actual.points.length, expected.points.length);
-      for (final (int i, PlatformLatLng? point) in actual.points.indexed) {
-        expect(point?.latitude, actual.points[i].latitude);
-        expect(point?.longitude, actual.points[i].longitude);
+      expect(actual.points.length, expected.points.length * 2);
+      for (final (int i, LatLng point) in expected.points.indexed) {
+        expect(actual.points[i * 2], point.latitude);
+        expect(actual.points[i * 2 + 1], point.longitude);
       }
       expect(actual.patterns.length, expected.patterns.length);
       for (final (int i, PlatformPatternItem? pattern)
@@ -727,6 +815,59 @@ void main() {
     expect(eventValue.markerIds.first.value, markerIds.first);
   });
 
+  test('marker update progress is sent to correct stream', () async {
+    const int mapId = 1;
+
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final HostMapMessageHandler callbackHandler =
+        maps.ensureHandlerInitialized(mapId);
+
+    final StreamQueue<MarkerUpdateProgressEvent> stream =
+        StreamQueue<MarkerUpdateProgressEvent>(
+            maps.onMarkerUpdateProgress(mapId: mapId));
+
+    // Simulate message from the native side.
+    callbackHandler.onMarkerUpdateProgress(250, 1000);
+
+    final MarkerUpdateProgressEvent event = await stream.next;
+    expect(event.value, 250);
+    expect(event.totalCount, 1000);
+  });
+
+  test('cluster changes are sent to correct stream', () async {
+    const int mapId = 1;
+    const String clusterManagerId = 'cm';
+
+    final GoogleMapsFlutterAndroid maps = GoogleMapsFlutterAndroid();
+    final HostMapMessageHandler callbackHandler =
+        maps.ensureHandlerInitialized(mapId);
+
+    final StreamQueue<ClustersChangedEvent> stream =
+        StreamQueue<ClustersChangedEvent>(maps.onClustersChanged(mapId: mapId));
+
+    PlatformClusterSummary summary(double latitude, int size) {
+      return PlatformClusterSummary(
+        clusterManagerId: clusterManagerId,
+        position: PlatformLatLng(latitude: latitude, longitude: 0),
+        size: size,
+      );
+    }
+
+    // Simulate message from the native side.
+    callbackHandler.onClustersChanged(
+        clusterManagerId,
+        <PlatformClusterSummary>[summary(1, 5)],
+        <PlatformClusterSummary>[summary(2, 6)],
+        <PlatformClusterSummary>[summary(3, 7)]);
+
+    final ClustersChangedEvent event = await stream.next;
+    expect(event.value, const ClusterManagerId(clusterManagerId));
+    expect(event.added.single.position, const LatLng(1, 0));
+    expect(event.added.single.size, 5);
+    expect(event.removed.single.position, const LatLng(2, 0));
+    expect(event.resized.single.size, 7);
+  });
+
   test('polygons send tap events to correct stream', () async {
     const int mapId = 1;
     const String objectId = 'object-id';
@@ -761,6 +902,64 @@ void main() {
     expect((await stream.next).value.value, equals(objectId));
   });
 
+  test('getTileOverlayTiles returns tiles in request order', () async {
+    const TileOverlayId tileOverlayId = TileOverlayId('overlay');
+    final TileOverlay tileOverlay = TileOverlay(
+        tileOverlayId: tileOverlayId, tileProvider: _CoordinateTileProvider());
+    final HostMapMessageHandler callbackHandler = HostMapMessageHandler(
+      1,
+      StreamController<MapEvent<Object?>>.broadcast(),
+      tileOverlayProvider: (TileOverlayId id) =>
+          id == tileOverlayId ? tileOverlay : null,
+    );
+    addTearDown(callbackHandler.dispose);
+
+    final List<PlatformTile> tiles = await callbackHandler.getTileOverlayTiles(
+      tileOverlayId.value,
+      <PlatformPoint>[PlatformPoint(x: 1, y: 2), PlatformPoint(x: 3, y: 4)],
+      5,
+    );
+    final List<PlatformTile> missingTiles =
+        await callbackHandler.getTileOverlayTiles(
+      'missing',
+      <PlatformPoint>[PlatformPoint(x: 1, y: 2)],
+      5,
+    );
+
+    expect(tiles.map((PlatformTile tile) => tile.data), <Uint8List>[
+      Uint8List.fromList(<int>[1, 2, 5]),
+      Uint8List.fromList(<int>[3, 4, 5]),
+    ]);
+    expect(missingTiles, hasLength(1));
+    expect(missingTiles[0].width, TileProvider.noTile.width);
+    expect(missingTiles[0].data, isNull);
+  });
+
+  test('getTileOverlayTiles returns noTile for tiles that fail', () async {
+    const TileOverlayId tileOverlayId = TileOverlayId('overlay');
+    final TileOverlay tileOverlay = TileOverlay(
+        tileOverlayId: tileOverlayId,
+        tileProvider: _FailingTileProvider(failingX: 3));
+    final HostMapMessageHandler callbackHandler = HostMapMessageHandler(
+      1,
+      StreamController<MapEvent<Object?>>.broadcast(),
+      tileOverlayProvider: (TileOverlayId id) =>
+          id == tileOverlayId ? tileOverlay : null,
+    );
+    addTearDown(callbackHandler.dispose);
+
+    final List<PlatformTile> tiles = await callbackHandler.getTileOverlayTiles(
+      tileOverlayId.value,
+      <PlatformPoint>[PlatformPoint(x: 1, y: 2), PlatformPoint(x: 3, y: 4)],
+      5,
+    );
+
+    expect(tiles, hasLength(2));
+    expect(tiles[0].data, Uint8List.fromList(<int>[1, 2, 5]));
+    expect(tiles[1].width, TileProvider.noTile.width);
+    expect(tiles[1].data, isNull);
+  });
+
   test(
     'Does not use PlatformViewLink when using TLHC',
     () async {
@@ -1075,3 +1274,25 @@ void main() {
     );
   });
 }
+
+/// A tile provider whose tile data is the tile's coordinates.
+class _CoordinateTileProvider implements TileProvider {
+  @override
+  Future<Tile> getTile(int x, int y, int? zoom) async {
+    return Tile(1, 1, Uint8List.fromList(<int>[x, y, zoom!]));
+  }
+}
+
+class _FailingTileProvider implements TileProvider {
+  _FailingTileProvider({required this.failingX});
+
+  final int failingX;
+
+  @override
+  Future<Tile> getTile(int x, int y, int? zoom) async {
+    if (x == failingX) {
+      throw Exception('Failed to load tile');
+    }
+    return Tile(1, 1, Uint8List.fromList(<int>[x, y, zoom!]));
+  }
+}
@@ -54,6 +54,17 @@ class _FakePlatformLatLngBounds_2 extends _i1.SmartFake
         );
 }
 
+class _FakePlatformClusterPage_3 extends _i1.SmartFake
+    implements _i2.PlatformClusterPage {
+  _FakePlatformClusterPage_3(
+    Object parent,
+    Invocation parentInvocation,
+  ) : super(
+          parent,
+          parentInvocation,
+        );
+}
+
 /// A class which mocks [MapsApi].
 ///
 /// See the documentation for Mockito's code generation for more information.
@@ -388,4 +399,63 @@ class MockMapsApi extends _i1.Mock implements _i2.MapsApi {
         returnValueForMissingStub:
             _i3.Future<_i4.Uint8List>.value(_i4.Uint8List(0)),
       ) as _i3.Future<_i4.Uint8List>);
+
+  @override
+  _i3.Future<int> getSuppressedCameraMoveCount() => (super.noSuchMethod(
+        Invocation.method(
+          #getSuppressedCameraMoveCount,
+          [],
+        ),
+        returnValue: _i3.Future<int>.value(0),
+        returnValueForMissingStub: _i3.Future<int>.value(0),
+      ) as _i3.Future<int>);
+
+  @override
+  _i3.Future<_i2.PlatformClusterPage> queryClusters(
+    String? clusterManagerId,
+    _i2.PlatformLatLngBounds? bounds,
+    int? offset,
+    int? limit,
+    bool? includeMembers,
+  ) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #queryClusters,
+          [
+            clusterManagerId,
+            bounds,
+            offset,
+            limit,
+            includeMembers,
+          ],
+        ),
+        returnValue: _i3.Future<_i2.PlatformClusterPage>.value(
+            _FakePlatformClusterPage_3(
+          this,
+          Invocation.method(
+            #queryClusters,
+            [
+              clusterManagerId,
+              bounds,
+              offset,
+              limit,
+              includeMembers,
+            ],
+          ),
+        )),
+        returnValueForMissingStub: _i3.Future<_i2.PlatformClusterPage>.value(
+            _FakePlatformClusterPage_3(
+          this,
+          Invocation.method(
+            #queryClusters,
+            [
+              clusterManagerId,
+              bounds,
+              offset,
+              limit,
+              includeMembers,
+            ],
+          ),
+        )),
+      ) as _i3.Future<_i2.PlatformClusterPage>);
 }
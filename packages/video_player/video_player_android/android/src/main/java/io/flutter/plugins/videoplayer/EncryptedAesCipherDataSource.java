@@ -0,0 +1,162 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.OptIn;
+import androidx.media3.common.C;
+import androidx.media3.common.util.UnstableApi;
+import androidx.media3.datasource.DataSource;
+import androidx.media3.datasource.DataSpec;
+import androidx.media3.datasource.TransferListener;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link DataSource} that decrypts AES/CBC encrypted data read from an upstream {@link
+ * DataSource}.
+ *
+ * <p>This is the read side of the {@link VideoCache}: the upstream source returns ciphertext,
+ * either from disk or from the network, and decryption happens here so that keys never reach the
+ * disk.
+ */
+@OptIn(markerClass = UnstableApi.class)
+final class EncryptedAesCipherDataSource implements DataSource {
+
+  /** {@link DataSource.Factory} for {@link EncryptedAesCipherDataSource} instances. */
+  static final class Factory implements DataSource.Factory {
+    @NonNull private final byte[] secretKey;
+    @NonNull private final byte[] iv;
+    @NonNull private final DataSource.Factory upstreamFactory;
+
+    Factory(
+        @NonNull byte[] secretKey,
+        @NonNull byte[] iv,
+        @NonNull DataSource.Factory upstreamFactory) {
+      this.secretKey = secretKey;
+      this.iv = iv;
+      this.upstreamFactory = upstreamFactory;
+    }
+
+    @NonNull
+    @Override
+    public DataSource createDataSource() {
+      return new EncryptedAesCipherDataSource(secretKey, iv, upstreamFactory.createDataSource());
+    }
+  }
+
+  @NonNull private final byte[] secretKey;
+  @NonNull private final byte[] iv;
+  @NonNull private final DataSource upstream;
+  @Nullable private InputStream inputStream;
+  private long bytesRemaining;
+
+  EncryptedAesCipherDataSource(
+      @NonNull byte[] secretKey, @NonNull byte[] iv, @NonNull DataSource upstream) {
+    this.secretKey = secretKey;
+    this.iv = iv;
+    this.upstream = upstream;
+  }
+
+  @Override
+  public void addTransferListener(@NonNull TransferListener transferListener) {
+    upstream.addTransferListener(transferListener);
+  }
+
+  @Override
+  public long open(@NonNull DataSpec dataSpec) throws IOException {
+    EncryptedAesFlushingCipher cipher =
+        new EncryptedAesFlushingCipher(secretKey, iv, dataSpec.position);
+    DataSpec upstreamDataSpec =
+        dataSpec
+            .buildUpon()
+            .setPosition(cipher.getRequestPosition())
+            .setLength(cipher.getRequestLength(dataSpec.length))
+            .build();
+    upstream.open(upstreamDataSpec);
+
+    inputStream =
+        cipher.decrypt(
+            new UpstreamInputStream(upstream),
+            /* fromStart= */ false,
+            /* toEnd= */ upstreamDataSpec.length == C.LENGTH_UNSET);
+    ByteStreams.skipFully(inputStream, cipher.getStartPadding());
+    // The upstream range is rounded up to whole blocks, so stop after the requested length.
+    bytesRemaining = dataSpec.length;
+
+    // When reading to the end, the length of the PKCS7 padding is only known once the final block
+    // has been decrypted, so the upstream length cannot be translated into a plaintext length.
+    return dataSpec.length;
+  }
+
+  @Override
+  public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+    if (inputStream == null) {
+      throw new IllegalStateException("read() called before open()");
+    }
+    if (bytesRemaining == 0) {
+      return C.RESULT_END_OF_INPUT;
+    }
+    if (bytesRemaining != C.LENGTH_UNSET) {
+      length = (int) Math.min(length, bytesRemaining);
+    }
+    int read = inputStream.read(buffer, offset, length);
+    if (read == -1) {
+      return C.RESULT_END_OF_INPUT;
+    }
+    if (bytesRemaining != C.LENGTH_UNSET) {
+      bytesRemaining -= read;
+    }
+    return read;
+  }
+
+  @Nullable
+  @Override
+  public Uri getUri() {
+    return upstream.getUri();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, List<String>> getResponseHeaders() {
+    return upstream.getResponseHeaders();
+  }
+
+  @Override
+  public void close() throws IOException {
+    inputStream = null;
+    upstream.close();
+  }
+
+  /** Exposes an opened {@link DataSource} as an {@link InputStream}. */
+  private static final class UpstreamInputStream extends InputStream {
+    @NonNull private final DataSource dataSource;
+    private final byte[] singleByte = new byte[1];
+
+    UpstreamInputStream(@NonNull DataSource dataSource) {
+      this.dataSource = dataSource;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int read = read(singleByte, 0, 1);
+      return read == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(@NonNull byte[] buffer, int offset, int length) throws IOException {
+      int read = dataSource.read(buffer, offset, length);
+      return read == C.RESULT_END_OF_INPUT ? -1 : read;
+    }
+  }
+}
@@ -1,162 +1,125 @@
 package io.flutter.plugins.videoplayer;
 
-import androidx.annotation.Nullable;
-import androidx.media3.common.util.Assertions;
+import androidx.media3.common.C;
 import androidx.media3.common.util.UnstableApi;
-import androidx.media3.common.util.Util;
 
-import java.nio.ByteBuffer;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 
 import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
 import javax.crypto.NoSuchPaddingException;
-import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 /**
- * A flushing variant of a AES/CTR/NoPadding {@link Cipher}.
+ * Random-access decryption of an AES/CBC encrypted resource.
+ *
+ * <p>In CBC mode every ciphertext block is decrypted with the preceding ciphertext block as its IV,
+ * so a read starting at an arbitrary {@code position} does not have to decrypt the resource from
+ * the start. Instead the ciphertext is requested from one block before the block containing
+ * {@code position}, that block is consumed as the IV, and the first {@link #getStartPadding()}
+ * decrypted bytes are discarded by the caller.
  *
- * <p>Unlike a regular {@link Cipher}, the update methods of this class are guaranteed to process
- * all of the bytes input (and hence output the same number of bytes).
+ * <p>Positions are the same in plaintext and ciphertext, only the trailing PKCS7 padding differs.
  */
 @UnstableApi
 public final class EncryptedAesFlushingCipher {
 
-    private final Cipher cipher;
-    private final int blockSize;
-    private final byte[] zerosBlock;
-    private final byte[] flushedBlock;
-
-    private int pendingXorBytes;
-
-//    public EncryptedAesFlushingCipher(int mode, byte[] secretKey, @Nullable String nonce, long offset) {
-//        this(mode, secretKey, getFNV64Hash(nonce), offset);
-//    }
-
-//    public EncryptedAesFlushingCipher(int mode, byte[] secretKey, long nonce, long offset) {
-//        try {
-//            cipher = Cipher.getInstance("AES/CBC/PKCS7Padding");
-//            blockSize = cipher.getBlockSize();
-//            zerosBlock = new byte[blockSize];
-//            flushedBlock = new byte[blockSize];
-//            long counter = offset / blockSize;
-//            int startPadding = (int) (offset % blockSize);
-//            cipher.init(
-//                    mode,
-////                    new SecretKeySpec(secretKey, Util.splitAtFirst(cipher.getAlgorithm(), "/")[0]),
-//                    new SecretKeySpec(secretKey, "AES"),
-//                    new IvParameterSpec(getInitializationVector(nonce, counter)));
-//            if (startPadding != 0) {
-//                updateInPlace(new byte[startPadding], 0, startPadding);
-//            }
-//        } catch (NoSuchAlgorithmException
-//                 | NoSuchPaddingException
-//                 | InvalidKeyException
-//                 | InvalidAlgorithmParameterException e) {
-//            // Should never happen.
-//            throw new RuntimeException(e);
-//        }
-//    }
+    /** The AES block size, in bytes. */
+    public static final int BLOCK_SIZE = 16;
 
-    public EncryptedAesFlushingCipher(int mode, byte[] secretKey, byte[] iv, long offset) {
-        try {
-            cipher = Cipher.getInstance("AES/CBC/PKCS7Padding");
-            blockSize = cipher.getBlockSize();
-            zerosBlock = new byte[blockSize];
-            flushedBlock = new byte[blockSize];
-            int startPadding = (int) (offset % blockSize);
-            cipher.init(
-                    mode,
-                    new SecretKeySpec(secretKey, "AES"),
-                    new IvParameterSpec(iv)
-            );
-            if (startPadding != 0) {
-                updateInPlace(new byte[startPadding], 0, startPadding);
-            }
-        } catch (NoSuchAlgorithmException
-                 | NoSuchPaddingException
-                 | InvalidKeyException
-                 | InvalidAlgorithmParameterException e) {
-            // Should never happen.
-            throw new RuntimeException(e);
-        }
-    }
+    private final byte[] secretKey;
+    private final byte[] iv;
+    private final long position;
+    private final long blockPosition;
+    private final int startPadding;
 
-    public void updateInPlace(byte[] data, int offset, int length) {
-        update(data, offset, length, data, offset);
+    /**
+     * Creates an instance.
+     *
+     * @param secretKey The AES key.
+     * @param iv        The IV the resource was encrypted with, used for its first block.
+     * @param position  The plaintext position the caller wants to read from.
+     */
+    public EncryptedAesFlushingCipher(byte[] secretKey, byte[] iv, long position) {
+        this.secretKey = secretKey;
+        this.iv = iv;
+        this.position = position;
+        this.blockPosition = (position / BLOCK_SIZE) * BLOCK_SIZE;
+        this.startPadding = (int) (position - blockPosition);
     }
 
-    public void update(byte[] in, int inOffset, int length, byte[] out, int outOffset) {
-        // If we previously flushed the cipher by inputting zeros up to a block boundary, then we need
-        // to manually transform the data that actually ended the block. See the comment below for more
-        // details.
-        while (pendingXorBytes > 0) {
-            out[outOffset] = (byte) (in[inOffset] ^ flushedBlock[blockSize - pendingXorBytes]);
-            outOffset++;
-            inOffset++;
-            pendingXorBytes--;
-            length--;
-            if (length == 0) {
-                return;
-            }
-        }
-
-        // Do the bulk of the update.
-        int written = nonFlushingUpdate(in, inOffset, length, out, outOffset);
-        if (length == written) {
-            return;
-        }
-
-        // We need to finish the block to flush out the remaining bytes. We do so by inputting zeros,
-        // so that the corresponding bytes output by the cipher are those that would have been XORed
-        // against the real end-of-block data to transform it. We store these bytes so that we can
-        // perform the transformation manually in the case of a subsequent call to this method with
-        // the real data.
-        int bytesToFlush = length - written;
-        Assertions.checkState(bytesToFlush < blockSize);
-        outOffset += written;
-        pendingXorBytes = blockSize - bytesToFlush;
-        written = nonFlushingUpdate(zerosBlock, 0, pendingXorBytes, flushedBlock, 0);
-        Assertions.checkState(written == blockSize);
-        // The first part of xorBytes contains the flushed data, which we copy out. The remainder
-        // contains the bytes that will be needed for manual transformation in a subsequent call.
-        for (int i = 0; i < bytesToFlush; i++) {
-            out[outOffset++] = flushedBlock[i];
-        }
+    /** Returns the position the ciphertext has to be requested from. */
+    public long getRequestPosition() {
+        return blockPosition == 0 ? 0 : blockPosition - BLOCK_SIZE;
     }
 
-    private int nonFlushingUpdate(byte[] in, int inOffset, int length, byte[] out, int outOffset) {
-        try {
-            return cipher.update(in, inOffset, length, out, outOffset);
-        } catch (ShortBufferException e) {
-            // Should never happen.
-            throw new RuntimeException(e);
+    /**
+     * Returns the number of ciphertext bytes to request to be able to decrypt {@code length} bytes
+     * from the position passed to the constructor.
+     *
+     * @param length The number of plaintext bytes to read, or {@link C#LENGTH_UNSET}.
+     * @return The number of bytes to request, or {@link C#LENGTH_UNSET} to read to the end.
+     */
+    public long getRequestLength(long length) {
+        if (length == C.LENGTH_UNSET) {
+            return C.LENGTH_UNSET;
         }
+        long end = position + length;
+        long blockEnd = ((end + BLOCK_SIZE - 1) / BLOCK_SIZE) * BLOCK_SIZE;
+        return blockEnd - getRequestPosition();
     }
 
-    private byte[] getInitializationVector(long nonce, long counter) {
-        return ByteBuffer.allocate(16).putLong(nonce).putLong(counter).array();
+    /**
+     * Returns the number of decrypted bytes that precede the requested position when the ciphertext
+     * starts at {@link #getRequestPosition()}.
+     */
+    public int getStartPadding() {
+        return startPadding;
     }
 
     /**
-     * Returns the hash value of the input as a long using the 64 bit FNV-1a hash function. The hash
-     * values produced by this function are less likely to collide than those produced by {@link
-     * #hashCode()}.
+     * Wraps {@code input} in a stream that decrypts it.
+     *
+     * <p>If {@code fromStart} is {@code false}, {@code input} must start at {@link
+     * #getRequestPosition()}; the leading IV block is read from it before returning. Otherwise it
+     * must start at the beginning of the resource, e.g. because the server ignored the range request.
+     *
+     * @param input     The ciphertext stream.
+     * @param fromStart Whether {@code input} starts at the beginning of the resource.
+     * @param toEnd     Whether {@code input} runs to the end of the resource, in which case the PKCS7
+     *                  padding is removed.
+     * @return The plaintext stream.
+     * @throws IOException If the IV block cannot be read.
      */
-    private static long getFNV64Hash(@Nullable String input) {
-        if (input == null) {
-            return 0;
+    public InputStream decrypt(InputStream input, boolean fromStart, boolean toEnd)
+            throws IOException {
+        byte[] blockIv = iv;
+        if (!fromStart && blockPosition != 0) {
+            blockIv = new byte[BLOCK_SIZE];
+            ByteStreams.readFully(input, blockIv);
         }
-
-        long hash = 0;
-        for (int i = 0; i < input.length(); i++) {
-            hash ^= input.charAt(i);
-            // This is equivalent to hash *= 0x100000001b3 (the FNV magic prime number).
-            hash += (hash << 1) + (hash << 4) + (hash << 5) + (hash << 7) + (hash << 8) + (hash << 40);
+        try {
+            // Only the final block carries padding, so ranges that stop short of it must be
+            // decrypted without padding checks.
+            Cipher cipher = Cipher.getInstance(toEnd ? "AES/CBC/PKCS7Padding" : "AES/CBC/NoPadding");
+            cipher.init(
+                    Cipher.DECRYPT_MODE,
+                    new SecretKeySpec(secretKey, "AES"),
+                    new IvParameterSpec(blockIv));
+            return new CipherInputStream(input, cipher);
+        } catch (NoSuchAlgorithmException
+                 | NoSuchPaddingException
+                 | InvalidKeyException
+                 | InvalidAlgorithmParameterException e) {
+            // Should never happen.
+            throw new RuntimeException(e);
         }
-        return hash;
     }
 }
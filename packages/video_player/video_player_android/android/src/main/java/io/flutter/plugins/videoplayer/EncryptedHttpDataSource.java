@@ -43,20 +43,14 @@ import java.net.MalformedURLException;
 import java.net.NoRouteToHostException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.zip.GZIPInputStream;
-import javax.crypto.Cipher;
-import javax.crypto.CipherInputStream;
-import javax.crypto.NoSuchPaddingException;
-import javax.crypto.spec.IvParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 
 /**
  * An {@link HttpDataSource} that uses Android's {@link HttpURLConnection}.
@@ -72,6 +66,32 @@ import javax.crypto.spec.SecretKeySpec;
 @UnstableApi
 public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataSource {
 
+    /**
+     * Opens the {@link HttpURLConnection}s used by {@link EncryptedHttpDataSource}.
+     *
+     * <p>This is the transport of the data source. The default opens connections with {@link
+     * URL#openConnection()}, which on Android pools keep-alive connections per host. A transport that
+     * supports HTTP/2 multiplexing, such as Cronet's {@code CronetEngine#openConnection(URL)}, can be
+     * plugged in with {@link Factory#setConnectionFactory(ConnectionFactory)}.
+     */
+    public interface ConnectionFactory {
+        /**
+         * Returns a new, unconnected connection to {@code url}.
+         *
+         * @param url The url to connect to.
+         * @return The connection.
+         * @throws IOException If the connection cannot be created.
+         */
+        @NonNull
+        HttpURLConnection openConnection(@NonNull URL url) throws IOException;
+    }
+
+    /**
+     * The default {@link ConnectionFactory}, which uses {@link URL#openConnection()}.
+     */
+    public static final ConnectionFactory DEFAULT_CONNECTION_FACTORY =
+            url -> (HttpURLConnection) url.openConnection();
+
     /**
      * {@link DataSource.Factory} for {@link io.flutter.plugins.videoplayer.EncryptedHttpDataSource} instances.
      */
@@ -90,6 +110,7 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
         private boolean allowCrossProtocolRedirects;
         private boolean crossProtocolRedirectsForceOriginal;
         private boolean keepPostFor302Redirects;
+        private ConnectionFactory connectionFactory;
         @Nullable
         byte[] secretKey;
         byte[] iv;
@@ -103,6 +124,7 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
             defaultRequestProperties = new RequestProperties();
             connectTimeoutMs = DEFAULT_CONNECT_TIMEOUT_MILLIS;
             readTimeoutMs = DEFAULT_READ_TIMEOUT_MILLIS;
+            connectionFactory = DEFAULT_CONNECTION_FACTORY;
         }
 
         @UnstableApi
@@ -238,6 +260,20 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
             return this;
         }
 
+        /**
+         * Sets the {@link ConnectionFactory} used to open connections.
+         *
+         * <p>The default is {@link io.flutter.plugins.videoplayer.EncryptedHttpDataSource#DEFAULT_CONNECTION_FACTORY}.
+         *
+         * @param connectionFactory The connection factory that will be used.
+         * @return This factory.
+         */
+        @UnstableApi
+        public Factory setConnectionFactory(ConnectionFactory connectionFactory) {
+            this.connectionFactory = checkNotNull(connectionFactory);
+            return this;
+        }
+
         @UnstableApi
         @Override
         public io.flutter.plugins.videoplayer.EncryptedHttpDataSource createDataSource() {
@@ -252,7 +288,8 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
                             crossProtocolRedirectsForceOriginal,
                             defaultRequestProperties,
                             contentTypePredicate,
-                            keepPostFor302Redirects);
+                            keepPostFor302Redirects,
+                            connectionFactory);
             if (transferListener != null) {
                 dataSource.addTransferListener(transferListener);
             }
@@ -277,6 +314,19 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
     private static final int HTTP_STATUS_TEMPORARY_REDIRECT = 307;
     private static final int HTTP_STATUS_PERMANENT_REDIRECT = 308;
     private static final long MAX_BYTES_TO_DRAIN = 2048;
+    private static final int MAX_CACHED_REDIRECTS = 64;
+
+    // Targets of permanent redirects, shared by all data sources so that later requests for the same
+    // URL (e.g. the manifest after a re-create, or the same segment) skip the redirect round trip.
+    private static final Map<String, URL> permanentRedirects =
+            Collections.synchronizedMap(
+                    new LinkedHashMap<String, URL>(
+                            /* initialCapacity= */ 16, /* loadFactor= */ 0.75f, /* accessOrder= */ true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, URL> eldest) {
+                            return size() > MAX_CACHED_REDIRECTS;
+                        }
+                    });
 
     private final boolean allowCrossProtocolRedirects;
     private final boolean crossProtocolRedirectsForceOriginal;
@@ -290,6 +340,7 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
     @Nullable
     private final Predicate<String> contentTypePredicate;
     private final boolean keepPostFor302Redirects;
+    private final ConnectionFactory connectionFactory;
 
     @Nullable
     private DataSpec dataSpec;
@@ -317,7 +368,8 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
             boolean crossProtocolRedirectsForceOriginal,
             @Nullable RequestProperties defaultRequestProperties,
             @Nullable Predicate<String> contentTypePredicate,
-            boolean keepPostFor302Redirects) {
+            boolean keepPostFor302Redirects,
+            ConnectionFactory connectionFactory) {
         super(/* isNetwork= */ true);
         this.secretKey = secretKey;
         this.iv = iv;
@@ -335,6 +387,7 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
         this.contentTypePredicate = contentTypePredicate;
         this.requestProperties = new RequestProperties();
         this.keepPostFor302Redirects = keepPostFor302Redirects;
+        this.connectionFactory = connectionFactory;
     }
 
     @UnstableApi
@@ -399,10 +452,23 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
         bytesToRead = 0;
         transferInitializing(dataSpec);
 
+        // Encrypted ranges are requested from the block boundary before the position, so that the
+        // preceding ciphertext block can be used as the IV instead of decrypting from the start.
+        DataSpec requestDataSpec = dataSpec;
+        if (secretKey != null) {
+            cipher = new EncryptedAesFlushingCipher(secretKey, iv, dataSpec.position);
+            requestDataSpec =
+                    dataSpec
+                            .buildUpon()
+                            .setPosition(cipher.getRequestPosition())
+                            .setLength(cipher.getRequestLength(dataSpec.length))
+                            .build();
+        }
+
         String responseMessage;
         HttpURLConnection connection;
         try {
-            this.connection = makeConnection(dataSpec);
+            this.connection = makeConnection(requestDataSpec);
             connection = this.connection;
             responseCode = connection.getResponseCode();
             responseMessage = connection.getResponseMessage();
@@ -456,20 +522,31 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
         // If we requested a range starting from a non-zero position and received a 200 rather than a
         // 206, then the server does not support partial requests. We'll need to manually skip to the
         // requested position.
-        long bytesToSkip = responseCode == 200 && dataSpec.position != 0 ? dataSpec.position : 0;
+        boolean rangeIgnored = responseCode == 200 && requestDataSpec.position != 0;
+        long bytesToSkip = rangeIgnored ? dataSpec.position : 0;
+        if (cipher != null && !rangeIgnored) {
+            bytesToSkip = cipher.getStartPadding();
+        }
+        // The number of response bytes that precede the requested position, including any IV block.
+        long responseOffset = dataSpec.position - (rangeIgnored ? 0 : requestDataSpec.position);
 
         // Determine the length of the data to be read, after skipping.
         boolean isCompressed = isCompressed(connection);
         if (!isCompressed) {
             if (dataSpec.length != C.LENGTH_UNSET) {
                 bytesToRead = dataSpec.length;
+            } else if (cipher != null) {
+                // Decryption removes the PKCS7 padding, whose length is only known once the final
+                // block has been decrypted, so the plaintext length can't be derived from the
+                // response length.
+                bytesToRead = C.LENGTH_UNSET;
             } else {
                 long contentLength =
                         HttpUtil.getContentLength(
                                 connection.getHeaderField(HttpHeaders.CONTENT_LENGTH),
                                 connection.getHeaderField(HttpHeaders.CONTENT_RANGE));
                 bytesToRead =
-                        contentLength != C.LENGTH_UNSET ? (contentLength - bytesToSkip) : C.LENGTH_UNSET;
+                        contentLength != C.LENGTH_UNSET ? (contentLength - responseOffset) : C.LENGTH_UNSET;
             }
         } else {
             // Gzip is enabled. If the server opts to use gzip then the content length in the response
@@ -485,15 +562,12 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
             }
 
             // Decrypt the stream before returning
-            if (secretKey != null) {
-                // Initialize the Cipher for decryption
-                Cipher cipher = Cipher.getInstance("AES/CBC/PKCS7Padding");
-                SecretKeySpec keySpec = new SecretKeySpec(secretKey, "AES");
-                IvParameterSpec ivSpec = new IvParameterSpec(iv);
-                cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
-
-                // Wrap the input stream with a cipher input stream for decryption
-                inputStream = new CipherInputStream(inputStream, cipher);
+            if (cipher != null) {
+                inputStream =
+                        cipher.decrypt(
+                                inputStream,
+                                /* fromStart= */ rangeIgnored,
+                                /* toEnd= */ rangeIgnored || requestDataSpec.length == C.LENGTH_UNSET);
             }
         } catch (IOException e) {
             closeConnectionQuietly();
@@ -502,9 +576,6 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
                     dataSpec,
                     PlaybackException.ERROR_CODE_IO_UNSPECIFIED,
                     HttpDataSourceException.TYPE_OPEN);
-        } catch (InvalidAlgorithmParameterException | NoSuchPaddingException |
-                 NoSuchAlgorithmException | InvalidKeyException e) {
-            throw new RuntimeException(e);
         }
 
         opened = true;
@@ -645,6 +716,15 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
         // request method for 302.
         int redirectCount = 0;
         while (redirectCount++ <= MAX_REDIRECTS) {
+            boolean isGetOrHead =
+                    httpMethod == DataSpec.HTTP_METHOD_GET || httpMethod == DataSpec.HTTP_METHOD_HEAD;
+            @Nullable URL cachedRedirect = isGetOrHead ? permanentRedirects.get(url.toString()) : null;
+            if (cachedRedirect != null) {
+                // Validated again, as this data source may be stricter about protocols.
+                url = handleRedirect(url, cachedRedirect.toString(), dataSpec);
+                continue;
+            }
+
             HttpURLConnection connection =
                     makeConnection(
                             url,
@@ -656,9 +736,11 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
                             /* followRedirects= */ false,
                             dataSpec.httpRequestHeaders);
 
+            boolean setsCookie = false;
             if (connection.getHeaderFields() != null && connection.getHeaderFields().containsKey("set-cookie")) {
                 var cookieHeaders = connection.getHeaderFields().get("set-cookie");
                 if (cookieHeaders != null && !cookieHeaders.isEmpty()) {
+                    setsCookie = true;
                     var cookieName = "set-cookie";
                     var cookieValue = cookieHeaders.get(0);
                     EncryptedVideoManager.getInstance().setRequestCookies(url.toString(), cookieName, cookieValue);
@@ -667,7 +749,7 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
 
             int responseCode = connection.getResponseCode();
             String location = connection.getHeaderField("Location");
-            if ((httpMethod == DataSpec.HTTP_METHOD_GET || httpMethod == DataSpec.HTTP_METHOD_HEAD)
+            if (isGetOrHead
                     && (responseCode == HttpURLConnection.HTTP_MULT_CHOICE
                     || responseCode == HttpURLConnection.HTTP_MOVED_PERM
                     || responseCode == HttpURLConnection.HTTP_MOVED_TEMP
@@ -675,7 +757,15 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
                     || responseCode == HTTP_STATUS_TEMPORARY_REDIRECT
                     || responseCode == HTTP_STATUS_PERMANENT_REDIRECT)) {
                 connection.disconnect();
-                url = handleRedirect(url, location, dataSpec);
+                URL redirectUrl = handleRedirect(url, location, dataSpec);
+                // A redirect that sets a cookie has to be requested every time, so that the cookie
+                // is captured again; only the target of side-effect free redirects is cached.
+                if (!setsCookie
+                        && (responseCode == HttpURLConnection.HTTP_MOVED_PERM
+                        || responseCode == HTTP_STATUS_PERMANENT_REDIRECT)) {
+                    permanentRedirects.put(url.toString(), redirectUrl);
+                }
+                url = redirectUrl;
             } else if (httpMethod == DataSpec.HTTP_METHOD_POST
                     && (responseCode == HttpURLConnection.HTTP_MULT_CHOICE
                     || responseCode == HttpURLConnection.HTTP_MOVED_PERM
@@ -783,7 +873,15 @@ public class EncryptedHttpDataSource extends BaseDataSource implements HttpDataS
      */
     @VisibleForTesting
     /* package */ HttpURLConnection openConnection(URL url) throws IOException {
-        return (HttpURLConnection) url.openConnection();
+        return connectionFactory.openConnection(url);
+    }
+
+    /**
+     * Forgets all cached permanent redirects.
+     */
+    @VisibleForTesting
+    /* package */ static void clearRedirectCache() {
+        permanentRedirects.clear();
     }
 
     /**
@@ -5,21 +5,71 @@ import android.util.Log;
 import androidx.annotation.Nullable;
 
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 public class EncryptedVideoManager {
-    private static final Map<String, String> videoSessionCookies = Collections.synchronizedMap(new HashMap<>());
-    private static final Map<String, MediaDecryption> videoDecryptions = Collections.synchronizedMap(new HashMap<>());
-    private static final ReentrantLock syncLock = new ReentrantLock();
+    // Read on every data source open and redirect, from many loader threads at once, so these are
+    // concurrent maps rather than maps behind a shared lock.
+    private static final Map<String, String> videoSessionCookies = new ConcurrentHashMap<>();
+    private static final Map<String, MediaDecryption> videoDecryptions = new ConcurrentHashMap<>();
+    // Keys derived from the entries of videoDecryptions, so that they are derived once per
+    // decryption rather than for every media source created for the video.
+    private static final Map<String, DerivedKeys> derivedKeys = new ConcurrentHashMap<>();
+    private static final int VIDEO_ID_SEGMENT_INDEX = 5;
+
+    // MessageDigest and Cipher are not thread-safe but costly to look up, so each thread keeps its
+    // own. ThreadLocal.withInitial needs API 26.
+    private static final ThreadLocal<MessageDigest> sha256 = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+    private static final ThreadLocal<Cipher> aesCbc = new ThreadLocal<Cipher>() {
+        @Override
+        protected Cipher initialValue() {
+            try {
+                return Cipher.getInstance("AES/CBC/PKCS5Padding");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    /** Keys derived from a {@link MediaDecryption}, valid as long as it is the registered one. */
+    private static final class DerivedKeys {
+        final MediaDecryption source;
+        final String uid;
+        final int iat;
+        final MediaDecryptionKeys keys;
+
+        DerivedKeys(MediaDecryption source, MediaDecryptionKeys keys) {
+            this.source = source;
+            this.uid = source.uid;
+            this.iat = source.iat;
+            this.keys = keys;
+        }
+
+        boolean isDerivedFrom(MediaDecryption decryption) {
+            return source == decryption
+                    && iat == decryption.iat
+                    && Objects.equals(uid, decryption.uid);
+        }
+    }
 
     // Singleton instance
     private static final EncryptedVideoManager INSTANCE = new EncryptedVideoManager();
@@ -37,14 +87,9 @@ public class EncryptedVideoManager {
         Map<String, String> headers = new HashMap<>();
         String videoId = extractVideoId(url);
         if (videoId != null) {
-            syncLock.lock();
-            try {
-                String sessionCookie = videoSessionCookies.get(videoId);
-                if (sessionCookie != null) {
-                    headers.put("set-cookie", sessionCookie);
-                }
-            } finally {
-                syncLock.unlock();
+            String sessionCookie = videoSessionCookies.get(videoId);
+            if (sessionCookie != null) {
+                headers.put("set-cookie", sessionCookie);
             }
         }
         return headers;
@@ -54,11 +99,10 @@ public class EncryptedVideoManager {
         if ("set-cookie".equalsIgnoreCase(cookieName)) {
             String videoId = extractVideoId(url);
             if (videoId != null) {
-                syncLock.lock();
-                try {
+                if (cookieValue != null) {
                     videoSessionCookies.put(videoId, cookieValue);
-                } finally {
-                    syncLock.unlock();
+                } else {
+                    videoSessionCookies.remove(videoId);
                 }
             }
         }
@@ -67,48 +111,54 @@ public class EncryptedVideoManager {
     public void clearRequestCookies(String url) {
         String videoId = extractVideoId(url);
         if (videoId != null) {
-            syncLock.lock();
-            try {
-                videoSessionCookies.remove(videoId);
-            } finally {
-                syncLock.unlock();
-            }
+            videoSessionCookies.remove(videoId);
         }
     }
 
     public void setDecryption(String videoId, MediaDecryption data) {
         if (videoId != null && data != null) {
-            syncLock.lock();
-            try {
-                videoDecryptions.put(videoId, data);
-            } finally {
-                syncLock.unlock();
-            }
+            videoDecryptions.put(videoId, data);
+            derivedKeys.remove(videoId);
         }
     }
 
     @Nullable
     private MediaDecryption getDecryption(String videoId) {
-        if (videoId != null) {
-            syncLock.lock();
-            try {
-                return videoDecryptions.get(videoId);
-            } finally {
-                syncLock.unlock();
-            }
-        }
-        return null;
+        return videoId != null ? videoDecryptions.get(videoId) : null;
     }
 
+    /**
+     * Returns the keys of {@code videoId}, deriving them on first use after each
+     * {@link #setDecryption}.
+     */
     @Nullable
     public MediaDecryptionKeys getDecryptionKeys(String videoId) {
         MediaDecryption encrypted = getDecryption(videoId);
         if (encrypted == null) return null;
 
+        // Cached keys are only valid for the exact decryption, uid and iat they came from.
+        DerivedKeys cached = derivedKeys.get(videoId);
+        if (cached != null && cached.isDerivedFrom(encrypted)) {
+            return cached.keys;
+        }
+        MediaDecryptionKeys keys = deriveDecryptionKeys(videoId, encrypted);
+        if (keys != null) {
+            DerivedKeys derived = new DerivedKeys(encrypted, keys);
+            derivedKeys.put(videoId, derived);
+            // Don't keep keys of a decryption that was replaced or removed while deriving them.
+            if (videoDecryptions.get(videoId) != encrypted) {
+                derivedKeys.remove(videoId, derived);
+            }
+        }
+        return keys;
+    }
+
+    @Nullable
+    private MediaDecryptionKeys deriveDecryptionKeys(String videoId, MediaDecryption encrypted) {
         try {
             // 🔐 Derive session key from uid and iat
             String sessionKeyMaterial = encrypted.uid + "-" + encrypted.iat;
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            MessageDigest digest = sha256.get();
             byte[] fullKey = digest.digest(sessionKeyMaterial.getBytes(StandardCharsets.UTF_8));
             byte[] sessionKey = Arrays.copyOfRange(fullKey, 0, 16); // AES-128
 
@@ -146,17 +196,13 @@ public class EncryptedVideoManager {
 
     public void removeDecryption(String videoId) {
         if (videoId != null) {
-            syncLock.lock();
-            try {
-                videoDecryptions.remove(videoId);
-            } finally {
-                syncLock.unlock();
-            }
+            videoDecryptions.remove(videoId);
+            derivedKeys.remove(videoId);
         }
     }
 
     private byte[] decryptAes128CBC(byte[] encryptedData, byte[] key, byte[] iv) throws Exception {
-        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        Cipher cipher = aesCbc.get();
         SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
         IvParameterSpec ivSpec = new IvParameterSpec(iv);
         cipher.init(Cipher.DECRYPT_MODE, keySpec, ivSpec);
@@ -164,8 +210,7 @@ public class EncryptedVideoManager {
     }
 
     private byte[] unshiftKeyBytes(byte[] shiftedKey, String secretName) throws Exception {
-        MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
-        byte[] hash = sha256.digest(secretName.getBytes(StandardCharsets.UTF_8));
+        byte[] hash = sha256.get().digest(secretName.getBytes(StandardCharsets.UTF_8));
         byte[] result = new byte[shiftedKey.length];
 
         for (int i = 0; i < shiftedKey.length; i++) {
@@ -175,10 +220,32 @@ public class EncryptedVideoManager {
         return result;
     }
 
+    /**
+     * Returns the sixth {@code /}-separated segment of {@code url}, which for video URLs is the
+     * video id, e.g. {@code abc} in {@code https://host/videos/v1/abc/index.m3u8}.
+     *
+     * <p>Equivalent to {@code url.split("/")[5]}, but scans the string instead of allocating every
+     * segment, as this runs for every segment request.
+     */
     @Nullable
     public String extractVideoId(@Nullable String url) {
         if (url == null) return null;
-        String[] segments = url.split("/");
-        return segments.length > 5 ? segments[5] : null;
+        int start = 0;
+        for (int i = 0; i < VIDEO_ID_SEGMENT_INDEX; i++) {
+            int separator = url.indexOf('/', start);
+            if (separator == -1) return null;
+            start = separator + 1;
+        }
+        int end = url.indexOf('/', start);
+        if (end == -1) end = url.length();
+        if (start == end) {
+            // split() drops trailing empty segments, so an empty segment only counts if a non-empty
+            // one follows it.
+            for (int i = end; i < url.length(); i++) {
+                if (url.charAt(i) != '/') return "";
+            }
+            return null;
+        }
+        return url.substring(start, end);
     }
-}
\ No newline at end of file
+}
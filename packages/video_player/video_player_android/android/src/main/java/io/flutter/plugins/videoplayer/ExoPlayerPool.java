@@ -0,0 +1,290 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static androidx.media3.common.Player.REPEAT_MODE_OFF;
+
+import android.content.Context;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.OptIn;
+import androidx.annotation.VisibleForTesting;
+import androidx.media3.common.C;
+import androidx.media3.common.MediaItem;
+import androidx.media3.common.PlaybackParameters;
+import androidx.media3.common.util.Clock;
+import androidx.media3.common.util.HandlerWrapper;
+import androidx.media3.common.util.UnstableApi;
+import androidx.media3.exoplayer.ExoPlayer;
+import androidx.media3.exoplayer.drm.DrmSessionManagerProvider;
+import androidx.media3.exoplayer.source.MediaSource;
+import androidx.media3.exoplayer.upstream.LoadErrorHandlingPolicy;
+import io.flutter.plugins.videoplayer.Messages.PlatformVideoViewType;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A bounded pool of idle {@link ExoPlayer} instances, keyed by the type of view they render to.
+ *
+ * <p>Building an {@link ExoPlayer} starts its playback thread and creates its renderers. Disposed
+ * players are stopped and kept here instead of being released, so that creating players in quick
+ * succession (for example while scrolling a feed) reuses them. The size of the pool and how long
+ * idle players are kept are read from {@link VideoPlayerOptions}. Players that reach the idle
+ * timeout are released by a delayed trim, even if no other player is created or disposed.
+ *
+ * <p>Players are built with a media source factory that forwards to the one of the asset they
+ * currently play, so a reused player never reads data, or keys, of a previous asset.
+ *
+ * <p>Must only be used on the thread the players are created on.
+ */
+@OptIn(markerClass = UnstableApi.class)
+public final class ExoPlayerPool {
+  /** Builds a new player that plays media from {@code mediaSourceFactory}. */
+  @VisibleForTesting
+  interface PlayerBuilder {
+    @NonNull
+    ExoPlayer build(@NonNull Context context, @NonNull MediaSource.Factory mediaSourceFactory);
+  }
+
+  @NonNull private final VideoPlayerOptions options;
+  @NonNull private final PlayerBuilder playerBuilder;
+  @NonNull private final Clock clock;
+  // Idle players of each view type, least recently used first.
+  private final Map<PlatformVideoViewType, ArrayDeque<PooledPlayer>> idlePlayers =
+      new EnumMap<>(PlatformVideoViewType.class);
+  private final Runnable trimRunnable = this::trim;
+  // Created on first use, on the thread the players are created on.
+  @Nullable private HandlerWrapper trimHandler;
+
+  /**
+   * Creates an empty pool.
+   *
+   * @param options options to read the pool size and idle timeout from when players are returned.
+   */
+  public ExoPlayerPool(@NonNull VideoPlayerOptions options) {
+    this(
+        options,
+        (context, mediaSourceFactory) ->
+            new ExoPlayer.Builder(context).setMediaSourceFactory(mediaSourceFactory).build(),
+        Clock.DEFAULT);
+  }
+
+  @VisibleForTesting
+  ExoPlayerPool(
+      @NonNull VideoPlayerOptions options,
+      @NonNull PlayerBuilder playerBuilder,
+      @NonNull Clock clock) {
+    this.options = options;
+    this.playerBuilder = playerBuilder;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns a provider that takes players for {@code asset} from this pool, and returns them to it
+   * when the {@link VideoPlayer} using them is disposed.
+   *
+   * @param context application context.
+   * @param viewType the type of view the players render to.
+   * @param asset the asset to play.
+   * @return the provider.
+   */
+  @NonNull
+  public VideoPlayer.ExoPlayerProvider createProvider(
+      @NonNull Context context,
+      @NonNull PlatformVideoViewType viewType,
+      @NonNull VideoAsset asset) {
+    return new PooledExoPlayerProvider(context, viewType, asset);
+  }
+
+  /**
+   * Releases idle players that exceed the current size limit or idle timeout, and schedules the
+   * next trim for when the oldest remaining player times out.
+   */
+  public void trim() {
+    long now = clock.elapsedRealtime();
+    for (ArrayDeque<PooledPlayer> players : idlePlayers.values()) {
+      while (!players.isEmpty()
+          && (players.size() > options.playerPoolSize
+              || (options.playerPoolIdleTimeoutMs > 0
+                  && now - players.peekFirst().idleSinceMs
+                      >= options.playerPoolIdleTimeoutMs))) {
+        players.pollFirst().exoPlayer.release();
+      }
+    }
+    scheduleTrim(now);
+  }
+
+  /** Releases all idle players. */
+  public void clear() {
+    for (ArrayDeque<PooledPlayer> players : idlePlayers.values()) {
+      for (PooledPlayer player : players) {
+        player.exoPlayer.release();
+      }
+      players.clear();
+    }
+    scheduleTrim(clock.elapsedRealtime());
+  }
+
+  private void scheduleTrim(long now) {
+    if (trimHandler != null) {
+      trimHandler.removeCallbacksAndMessages(null);
+    }
+    if (options.playerPoolIdleTimeoutMs <= 0) {
+      return;
+    }
+    long oldestIdleSinceMs = Long.MAX_VALUE;
+    for (ArrayDeque<PooledPlayer> players : idlePlayers.values()) {
+      if (!players.isEmpty()) {
+        oldestIdleSinceMs = Math.min(oldestIdleSinceMs, players.peekFirst().idleSinceMs);
+      }
+    }
+    if (oldestIdleSinceMs == Long.MAX_VALUE) {
+      return;
+    }
+    if (trimHandler == null) {
+      Looper looper = Looper.myLooper();
+      if (looper == null) {
+        return;
+      }
+      trimHandler = clock.createHandler(looper, /* callback= */ null);
+    }
+    trimHandler.postDelayed(
+        trimRunnable, Math.max(0, oldestIdleSinceMs + options.playerPoolIdleTimeoutMs - now));
+  }
+
+  @VisibleForTesting
+  int getIdlePlayerCount(@NonNull PlatformVideoViewType viewType) {
+    ArrayDeque<PooledPlayer> players = idlePlayers.get(viewType);
+    return players == null ? 0 : players.size();
+  }
+
+  @NonNull
+  private PooledPlayer acquire(
+      @NonNull Context context,
+      @NonNull PlatformVideoViewType viewType,
+      @NonNull MediaSource.Factory mediaSourceFactory) {
+    trim();
+    ArrayDeque<PooledPlayer> players = idlePlayers.get(viewType);
+    PooledPlayer player = players == null ? null : players.pollLast();
+    if (player != null) {
+      // The reused player no longer needs to time out; reschedule for the remaining ones.
+      scheduleTrim(clock.elapsedRealtime());
+    } else {
+      ForwardingMediaSourceFactory forwardingFactory = new ForwardingMediaSourceFactory();
+      player = new PooledPlayer(playerBuilder.build(context, forwardingFactory), forwardingFactory);
+    }
+    player.mediaSourceFactory.delegate = mediaSourceFactory;
+    return player;
+  }
+
+  private void recycle(@NonNull PlatformVideoViewType viewType, @NonNull PooledPlayer player) {
+    ExoPlayer exoPlayer = player.exoPlayer;
+    exoPlayer.stop();
+    exoPlayer.clearMediaItems();
+    exoPlayer.clearVideoSurface();
+    exoPlayer.setPlayWhenReady(false);
+    exoPlayer.setRepeatMode(REPEAT_MODE_OFF);
+    exoPlayer.setVolume(1f);
+    exoPlayer.setPlaybackParameters(PlaybackParameters.DEFAULT);
+    player.mediaSourceFactory.delegate = null;
+    player.idleSinceMs = clock.elapsedRealtime();
+
+    ArrayDeque<PooledPlayer> players = idlePlayers.get(viewType);
+    if (players == null) {
+      players = new ArrayDeque<>();
+      idlePlayers.put(viewType, players);
+    }
+    players.addLast(player);
+    trim();
+  }
+
+  private static final class PooledPlayer {
+    @NonNull final ExoPlayer exoPlayer;
+    @NonNull final ForwardingMediaSourceFactory mediaSourceFactory;
+    long idleSinceMs;
+
+    PooledPlayer(
+        @NonNull ExoPlayer exoPlayer, @NonNull ForwardingMediaSourceFactory mediaSourceFactory) {
+      this.exoPlayer = exoPlayer;
+      this.mediaSourceFactory = mediaSourceFactory;
+    }
+  }
+
+  private final class PooledExoPlayerProvider implements VideoPlayer.ExoPlayerProvider {
+    @NonNull private final Context context;
+    @NonNull private final PlatformVideoViewType viewType;
+    @NonNull private final VideoAsset asset;
+    @Nullable private PooledPlayer current;
+
+    PooledExoPlayerProvider(
+        @NonNull Context context,
+        @NonNull PlatformVideoViewType viewType,
+        @NonNull VideoAsset asset) {
+      this.context = context;
+      this.viewType = viewType;
+      this.asset = asset;
+    }
+
+    @NonNull
+    @Override
+    public ExoPlayer get() {
+      current = acquire(context, viewType, asset.getMediaSourceFactory(context));
+      return current.exoPlayer;
+    }
+
+    @Override
+    public void recycle(@NonNull ExoPlayer exoPlayer) {
+      if (current != null && current.exoPlayer == exoPlayer) {
+        ExoPlayerPool.this.recycle(viewType, current);
+        current = null;
+      } else {
+        exoPlayer.release();
+      }
+    }
+  }
+
+  /** A {@link MediaSource.Factory} that forwards to the factory of the asset being played. */
+  private static final class ForwardingMediaSourceFactory implements MediaSource.Factory {
+    @Nullable MediaSource.Factory delegate;
+
+    @NonNull
+    private MediaSource.Factory getDelegate() {
+      if (delegate == null) {
+        throw new IllegalStateException("Pooled player used while idle");
+      }
+      return delegate;
+    }
+
+    @NonNull
+    @Override
+    public MediaSource.Factory setDrmSessionManagerProvider(
+        @NonNull DrmSessionManagerProvider drmSessionManagerProvider) {
+      getDelegate().setDrmSessionManagerProvider(drmSessionManagerProvider);
+      return this;
+    }
+
+    @NonNull
+    @Override
+    public MediaSource.Factory setLoadErrorHandlingPolicy(
+        @NonNull LoadErrorHandlingPolicy loadErrorHandlingPolicy) {
+      getDelegate().setLoadErrorHandlingPolicy(loadErrorHandlingPolicy);
+      return this;
+    }
+
+    @NonNull
+    @Override
+    public @C.ContentType int[] getSupportedTypes() {
+      return getDelegate().getSupportedTypes();
+    }
+
+    @NonNull
+    @Override
+    public MediaSource createMediaSource(@NonNull MediaItem mediaItem) {
+      return getDelegate().createMediaSource(mediaItem);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.OptIn;
+import androidx.media3.common.util.UnstableApi;
+import androidx.media3.common.util.UriUtil;
+import androidx.media3.datasource.DataSource;
+import androidx.media3.datasource.DataSourceInputStream;
+import androidx.media3.datasource.DataSpec;
+import androidx.media3.datasource.cache.CacheDataSource;
+import androidx.media3.datasource.cache.CacheWriter;
+import androidx.media3.exoplayer.hls.playlist.HlsMediaPlaylist;
+import androidx.media3.exoplayer.hls.playlist.HlsMultivariantPlaylist;
+import androidx.media3.exoplayer.hls.playlist.HlsPlaylist;
+import androidx.media3.exoplayer.hls.playlist.HlsPlaylistParser;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+
+/**
+ * Preloads the start of an HLS stream into the {@link VideoCache}.
+ *
+ * <p>Caches the playlist, the media playlist of its first variant, which is the one the player
+ * starts with, and then the first media segments of that playlist until {@code maxBytes} of segment
+ * data are cached. Segments are cached whole, under the URIs and byte ranges the player requests
+ * them with, so the last one can go over {@code maxBytes}.
+ */
+@OptIn(markerClass = UnstableApi.class)
+final class HlsPreloadWriter implements VideoPreloader.Writer {
+  @NonNull private final CacheDataSource.Factory dataSourceFactory;
+  @NonNull private final Uri uri;
+  private final long maxBytes;
+
+  // Guarded by this.
+  private boolean cancelled;
+  @Nullable private CacheWriter segmentWriter;
+
+  /**
+   * Creates a writer.
+   *
+   * @param dataSourceFactory factory for data sources that download into the cache.
+   * @param uri the URI of the playlist.
+   * @param maxBytes number of bytes of media segments to download.
+   */
+  HlsPreloadWriter(
+      @NonNull CacheDataSource.Factory dataSourceFactory, @NonNull Uri uri, long maxBytes) {
+    this.dataSourceFactory = dataSourceFactory;
+    this.uri = uri;
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public void cache() throws IOException {
+    throwIfCancelled();
+    DataSource playlistDataSource = createPlaylistDataSource();
+    HlsPlaylist playlist = loadPlaylist(playlistDataSource, uri);
+    if (playlist instanceof HlsMultivariantPlaylist) {
+      List<HlsMultivariantPlaylist.Variant> variants =
+          ((HlsMultivariantPlaylist) playlist).variants;
+      if (variants.isEmpty()) {
+        return;
+      }
+      throwIfCancelled();
+      playlist = loadPlaylist(playlistDataSource, variants.get(0).url);
+    }
+    if (!(playlist instanceof HlsMediaPlaylist)) {
+      return;
+    }
+    HlsMediaPlaylist mediaPlaylist = (HlsMediaPlaylist) playlist;
+    long remainingBytes = maxBytes;
+    // Segments that share an initialization segment share the same instance.
+    @Nullable HlsMediaPlaylist.Segment cachedInitializationSegment = null;
+    for (HlsMediaPlaylist.Segment segment : mediaPlaylist.segments) {
+      HlsMediaPlaylist.Segment initializationSegment = segment.initializationSegment;
+      if (initializationSegment != null
+          && initializationSegment != cachedInitializationSegment
+          && remainingBytes > 0) {
+        remainingBytes -= cacheSegment(mediaPlaylist.baseUri, initializationSegment);
+        cachedInitializationSegment = initializationSegment;
+      }
+      if (remainingBytes <= 0) {
+        break;
+      }
+      remainingBytes -= cacheSegment(mediaPlaylist.baseUri, segment);
+    }
+  }
+
+  @Override
+  public void cancel() {
+    CacheWriter writer;
+    synchronized (this) {
+      cancelled = true;
+      writer = segmentWriter;
+    }
+    if (writer != null) {
+      writer.cancel();
+    }
+  }
+
+  /**
+   * Returns a data source for the playlists, which decrypts them if the video is encrypted. The
+   * cache stores them as downloaded, like the segments.
+   */
+  @NonNull
+  private DataSource createPlaylistDataSource() {
+    DataSource dataSource = dataSourceFactory.createDataSourceForDownloading();
+    EncryptedVideoManager encryptedVideoManager = EncryptedVideoManager.getInstance();
+    MediaDecryptionKeys keys =
+        encryptedVideoManager.getDecryptionKeys(
+            encryptedVideoManager.extractVideoId(uri.toString()));
+    if (keys != null && keys.dk != null && keys.iv != null) {
+      dataSource = new EncryptedAesCipherDataSource(keys.dk, keys.iv, dataSource);
+    }
+    return dataSource;
+  }
+
+  @NonNull
+  private static HlsPlaylist loadPlaylist(@NonNull DataSource dataSource, @NonNull Uri uri)
+      throws IOException {
+    DataSourceInputStream inputStream = new DataSourceInputStream(dataSource, new DataSpec(uri));
+    try {
+      return new HlsPlaylistParser().parse(uri, inputStream);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  /**
+   * Caches {@code segment}.
+   *
+   * @return the number of bytes of the segment that are cached.
+   */
+  private long cacheSegment(@NonNull String baseUri, @NonNull HlsMediaPlaylist.Segment segment)
+      throws IOException {
+    // The length is unset for segments without a byte range, like in the player's requests.
+    DataSpec dataSpec =
+        new DataSpec.Builder()
+            .setUri(UriUtil.resolveToUri(baseUri, segment.url))
+            .setPosition(segment.byteRangeOffset)
+            .setLength(segment.byteRangeLength)
+            .build();
+    long[] cachedBytes = new long[1];
+    CacheWriter writer =
+        new CacheWriter(
+            dataSourceFactory.createDataSourceForDownloading(),
+            dataSpec,
+            /* temporaryBuffer= */ null,
+            (requestLength, bytesCached, newBytesCached) -> cachedBytes[0] = bytesCached);
+    synchronized (this) {
+      throwIfCancelled();
+      segmentWriter = writer;
+    }
+    writer.cache();
+    return cachedBytes[0];
+  }
+
+  private synchronized void throwIfCancelled() throws InterruptedIOException {
+    if (cancelled) {
+      throw new InterruptedIOException();
+    }
+  }
+}
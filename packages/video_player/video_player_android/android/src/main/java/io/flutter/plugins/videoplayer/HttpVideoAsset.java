@@ -5,14 +5,18 @@
 package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
+import android.net.Uri;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.OptIn;
 import androidx.annotation.VisibleForTesting;
+import androidx.media3.common.C;
 import androidx.media3.common.MediaItem;
 import androidx.media3.common.MimeTypes;
 import androidx.media3.common.util.UnstableApi;
+import androidx.media3.common.util.Util;
 import androidx.media3.datasource.DataSource;
+import androidx.media3.datasource.DataSpec;
 import androidx.media3.datasource.DefaultDataSource;
 import androidx.media3.exoplayer.source.DefaultMediaSourceFactory;
 import androidx.media3.exoplayer.source.MediaSource;
@@ -26,14 +30,18 @@ final class HttpVideoAsset extends VideoAsset {
     private final StreamingFormat streamingFormat;
     @NonNull
     private final Map<String, String> httpHeaders;
+    @Nullable
+    private final VideoCache videoCache;
 
     HttpVideoAsset(
             @Nullable String assetUrl,
             @NonNull StreamingFormat streamingFormat,
-            @NonNull Map<String, String> httpHeaders) {
+            @NonNull Map<String, String> httpHeaders,
+            @Nullable VideoCache videoCache) {
         super(assetUrl);
         this.streamingFormat = streamingFormat;
         this.httpHeaders = httpHeaders;
+        this.videoCache = videoCache;
     }
 
     @NonNull
@@ -67,7 +75,57 @@ final class HttpVideoAsset extends VideoAsset {
         MediaDecryptionKeys mediaDecryption = encryptedVideoManager.getDecryptionKeys(videoId);
         var dk = mediaDecryption != null ? mediaDecryption.dk : null;
         var iv = mediaDecryption != null ? mediaDecryption.iv : null;
-        return getMediaSourceFactory(context, new EncryptedHttpDataSource.Factory(dk, iv));
+        if (videoCache == null) {
+            return getMediaSourceFactory(context, new EncryptedHttpDataSource.Factory(dk, iv));
+        }
+
+        // The cache stores the response as downloaded, so decryption has to happen after it.
+        EncryptedHttpDataSource.Factory httpFactory = new EncryptedHttpDataSource.Factory(null, null);
+        configureHttpDataSourceFactory(httpFactory);
+        DataSource.Factory upstreamFactory = videoCache.createDataSourceFactory(httpFactory);
+        if (dk != null && iv != null) {
+            upstreamFactory = new EncryptedAesCipherDataSource.Factory(dk, iv, upstreamFactory);
+        }
+        return new DefaultMediaSourceFactory(context)
+                .setDataSourceFactory(new DefaultDataSource.Factory(context, upstreamFactory));
+    }
+
+    /**
+     * Returns a writer that downloads the start of this video into the cache.
+     *
+     * <p>For HLS streams, this is the playlists and the first whole segments of the first variant,
+     * until {@code maxBytes} of segment data are cached. For other videos, it is the first {@code
+     * maxBytes} bytes.
+     * Encrypted videos are cached as downloaded, so the segments are written without decryption.
+     *
+     * @param maxBytes number of bytes to download from the start of the video.
+     * @return the writer, or {@code null} if this asset is not cached.
+     */
+    @OptIn(markerClass = UnstableApi.class)
+    @Nullable
+    VideoPreloader.Writer createPreloadWriter(long maxBytes) {
+        if (videoCache == null) {
+            return null;
+        }
+        EncryptedHttpDataSource.Factory httpFactory = new EncryptedHttpDataSource.Factory(null, null);
+        configureHttpDataSourceFactory(httpFactory);
+        if (isHls()) {
+            return new HlsPreloadWriter(
+                    videoCache.createDownloadingDataSourceFactory(httpFactory),
+                    Uri.parse(assetUrl),
+                    maxBytes);
+        }
+        DataSpec dataSpec = new DataSpec.Builder().setUri(assetUrl).setLength(maxBytes).build();
+        return VideoPreloader.fromCacheWriter(videoCache.createCacheWriter(httpFactory, dataSpec));
+    }
+
+    /** Returns whether this is an HLS stream, inferred from the URI if the format is unknown. */
+    @OptIn(markerClass = UnstableApi.class)
+    private boolean isHls() {
+        if (streamingFormat != StreamingFormat.UNKNOWN) {
+            return streamingFormat == StreamingFormat.HTTP_LIVE;
+        }
+        return assetUrl != null && Util.inferContentType(Uri.parse(assetUrl)) == C.CONTENT_TYPE_HLS;
     }
 
     /**
@@ -83,14 +141,18 @@ final class HttpVideoAsset extends VideoAsset {
     @VisibleForTesting
     MediaSource.Factory getMediaSourceFactory(
             Context context, EncryptedHttpDataSource.Factory initialFactory) {
+        configureHttpDataSourceFactory(initialFactory);
+        DataSource.Factory dataSourceFactory = new DefaultDataSource.Factory(context, initialFactory);
+
+        return new DefaultMediaSourceFactory(context).setDataSourceFactory(dataSourceFactory);
+    }
+
+    private void configureHttpDataSourceFactory(@NonNull EncryptedHttpDataSource.Factory factory) {
         String userAgent = DEFAULT_USER_AGENT;
         if (!httpHeaders.isEmpty() && httpHeaders.containsKey(HEADER_USER_AGENT)) {
             userAgent = httpHeaders.get(HEADER_USER_AGENT);
         }
-        unstableUpdateDataSourceFactory(initialFactory, httpHeaders, userAgent);
-        DataSource.Factory dataSourceFactory = new DefaultDataSource.Factory(context, initialFactory);
-
-        return new DefaultMediaSourceFactory(context).setDataSourceFactory(dataSourceFactory);
+        unstableUpdateDataSourceFactory(factory, httpHeaders, userAgent);
     }
 
     // TODO: Migrate to stable API, see https://github.com/flutter/flutter/issues/147039.
@@ -331,6 +331,187 @@ public class Messages {
     }
   }
 
+  /**
+   * Statistics of the on-disk cache for network videos.
+   *
+   * <p>Generated class from Pigeon that represents data sent in messages.
+   */
+  public static final class CacheStatsMessage {
+    /** Bytes served from the cache instead of the network. */
+    private @NonNull Long cachedBytesRead;
+
+    public @NonNull Long getCachedBytesRead() {
+      return cachedBytesRead;
+    }
+
+    public void setCachedBytesRead(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cachedBytesRead\" is null.");
+      }
+      this.cachedBytesRead = setterArg;
+    }
+
+    /** Bytes downloaded from the network. */
+    private @NonNull Long networkBytesRead;
+
+    public @NonNull Long getNetworkBytesRead() {
+      return networkBytesRead;
+    }
+
+    public void setNetworkBytesRead(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"networkBytesRead\" is null.");
+      }
+      this.networkBytesRead = setterArg;
+    }
+
+    /** Fraction of all bytes read that were served from the cache. */
+    private @NonNull Double hitRatio;
+
+    public @NonNull Double getHitRatio() {
+      return hitRatio;
+    }
+
+    public void setHitRatio(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"hitRatio\" is null.");
+      }
+      this.hitRatio = setterArg;
+    }
+
+    /** Number of cached spans evicted to stay within the size limit. */
+    private @NonNull Long evictionCount;
+
+    public @NonNull Long getEvictionCount() {
+      return evictionCount;
+    }
+
+    public void setEvictionCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"evictionCount\" is null.");
+      }
+      this.evictionCount = setterArg;
+    }
+
+    /** Current size of the cache, in bytes. */
+    private @NonNull Long cacheSizeBytes;
+
+    public @NonNull Long getCacheSizeBytes() {
+      return cacheSizeBytes;
+    }
+
+    public void setCacheSizeBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheSizeBytes\" is null.");
+      }
+      this.cacheSizeBytes = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CacheStatsMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CacheStatsMessage that = (CacheStatsMessage) o;
+      return cachedBytesRead.equals(that.cachedBytesRead)
+          && networkBytesRead.equals(that.networkBytesRead)
+          && hitRatio.equals(that.hitRatio)
+          && evictionCount.equals(that.evictionCount)
+          && cacheSizeBytes.equals(that.cacheSizeBytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(
+          cachedBytesRead, networkBytesRead, hitRatio, evictionCount, cacheSizeBytes);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long cachedBytesRead;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCachedBytesRead(@NonNull Long setterArg) {
+        this.cachedBytesRead = setterArg;
+        return this;
+      }
+
+      private @Nullable Long networkBytesRead;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setNetworkBytesRead(@NonNull Long setterArg) {
+        this.networkBytesRead = setterArg;
+        return this;
+      }
+
+      private @Nullable Double hitRatio;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHitRatio(@NonNull Double setterArg) {
+        this.hitRatio = setterArg;
+        return this;
+      }
+
+      private @Nullable Long evictionCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setEvictionCount(@NonNull Long setterArg) {
+        this.evictionCount = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cacheSizeBytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCacheSizeBytes(@NonNull Long setterArg) {
+        this.cacheSizeBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheStatsMessage build() {
+        CacheStatsMessage pigeonReturn = new CacheStatsMessage();
+        pigeonReturn.setCachedBytesRead(cachedBytesRead);
+        pigeonReturn.setNetworkBytesRead(networkBytesRead);
+        pigeonReturn.setHitRatio(hitRatio);
+        pigeonReturn.setEvictionCount(evictionCount);
+        pigeonReturn.setCacheSizeBytes(cacheSizeBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(cachedBytesRead);
+      toListResult.add(networkBytesRead);
+      toListResult.add(hitRatio);
+      toListResult.add(evictionCount);
+      toListResult.add(cacheSizeBytes);
+      return toListResult;
+    }
+
+    static @NonNull CacheStatsMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      CacheStatsMessage pigeonResult = new CacheStatsMessage();
+      Object cachedBytesRead = pigeonVar_list.get(0);
+      pigeonResult.setCachedBytesRead((Long) cachedBytesRead);
+      Object networkBytesRead = pigeonVar_list.get(1);
+      pigeonResult.setNetworkBytesRead((Long) networkBytesRead);
+      Object hitRatio = pigeonVar_list.get(2);
+      pigeonResult.setHitRatio((Double) hitRatio);
+      Object evictionCount = pigeonVar_list.get(3);
+      pigeonResult.setEvictionCount((Long) evictionCount);
+      Object cacheSizeBytes = pigeonVar_list.get(4);
+      pigeonResult.setCacheSizeBytes((Long) cacheSizeBytes);
+      return pigeonResult;
+    }
+  }
+
   private static class PigeonCodec extends StandardMessageCodec {
     public static final PigeonCodec INSTANCE = new PigeonCodec();
 
@@ -348,6 +529,8 @@ public class Messages {
           return PlatformVideoViewCreationParams.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 131:
           return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 132:
+          return CacheStatsMessage.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
       }
@@ -364,6 +547,9 @@ public class Messages {
       } else if (value instanceof CreateMessage) {
         stream.write(131);
         writeValue(stream, ((CreateMessage) value).toList());
+      } else if (value instanceof CacheStatsMessage) {
+        stream.write(132);
+        writeValue(stream, ((CacheStatsMessage) value).toList());
       } else {
         super.writeValue(stream, value);
       }
@@ -397,6 +583,40 @@ public class Messages {
 
     void setMixWithOthers(@NonNull Boolean mixWithOthers);
 
+    /**
+     * Sets the maximum size of the on-disk cache used by players created afterwards, or disables
+     * caching if [maxSizeBytes] is 0.
+     */
+    void setCacheMaxSize(@NonNull Long maxSizeBytes);
+
+    /** Returns statistics of the on-disk cache. */
+    @NonNull
+    CacheStatsMessage getCacheStats();
+
+    /**
+     * Starts downloading the first [maxBytes] of the network video at [uri] into the on-disk
+     * cache, so that a player created for it later starts from cached data.
+     *
+     * <p>For HLS streams, which are detected from [formatHint] or the URI, the playlists and the
+     * first whole segments of the first variant are downloaded, until [maxBytes] of segment data
+     * are cached.
+     *
+     * <p>Requires the cache to be enabled with [setCacheMaxSize].
+     */
+    void preload(
+        @NonNull String uri,
+        @Nullable String formatHint,
+        @NonNull Map<String, String> httpHeaders,
+        @NonNull Long maxBytes);
+
+    /**
+     * Sets how many disposed players of each view type are kept for reuse by players created
+     * afterwards, and after how many milliseconds an unused one is released. A [maxIdlePlayers] of
+     * 0 disables pooling, and an [idleTimeoutMs] of 0 keeps idle players until the engine is
+     * detached.
+     */
+    void setPlayerPoolOptions(@NonNull Long maxIdlePlayers, @NonNull Long idleTimeoutMs);
+
     /** The codec used by AndroidVideoPlayerApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return PigeonCodec.INSTANCE;
@@ -693,6 +913,108 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setCacheMaxSize"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long maxSizeBytesArg = (Long) args.get(0);
+                try {
+                  api.setCacheMaxSize(maxSizeBytesArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.getCacheStats"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  CacheStatsMessage output = api.getCacheStats();
+                  wrapped.add(0, output);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.preload"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                String uriArg = (String) args.get(0);
+                String formatHintArg = (String) args.get(1);
+                Map<String, String> httpHeadersArg = (Map<String, String>) args.get(2);
+                Long maxBytesArg = (Long) args.get(3);
+                try {
+                  api.preload(uriArg, formatHintArg, httpHeadersArg, maxBytesArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setPlayerPoolOptions"
+                    + messageChannelSuffix,
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long maxIdlePlayersArg = (Long) args.get(0);
+                Long idleTimeoutMsArg = (Long) args.get(1);
+                try {
+                  api.setPlayerPoolOptions(maxIdlePlayersArg, idleTimeoutMsArg);
+                  wrapped.add(0, null);
+                } catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 }
@@ -0,0 +1,259 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.OptIn;
+import androidx.annotation.VisibleForTesting;
+import androidx.media3.common.C;
+import androidx.media3.common.util.UnstableApi;
+import androidx.media3.database.DatabaseProvider;
+import androidx.media3.database.StandaloneDatabaseProvider;
+import androidx.media3.datasource.DataSource;
+import androidx.media3.datasource.DataSpec;
+import androidx.media3.datasource.TransferListener;
+import androidx.media3.datasource.cache.Cache;
+import androidx.media3.datasource.cache.CacheDataSource;
+import androidx.media3.datasource.cache.CacheEvictor;
+import androidx.media3.datasource.cache.CacheSpan;
+import androidx.media3.datasource.cache.CacheWriter;
+import androidx.media3.datasource.cache.SimpleCache;
+import java.io.File;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide, size-bounded LRU disk cache for network video data.
+ *
+ * <p>Data is stored exactly as it arrives from the network, so encrypted videos are cached as
+ * ciphertext and only decrypted when they are read back (see {@link EncryptedAesCipherDataSource}).
+ *
+ * <p>A {@link SimpleCache} locks its directory for the lifetime of the process, so there is a
+ * single instance shared by all engines.
+ */
+@OptIn(markerClass = UnstableApi.class)
+final class VideoCache implements CacheEvictor, CacheDataSource.EventListener, TransferListener {
+  private static final String CACHE_DIRECTORY = "video_player_cache";
+
+  @Nullable private static VideoCache instance;
+
+  @NonNull private final SimpleCache cache;
+  // Spans ordered from least to most recently used. Only accessed with the cache lock held.
+  private final TreeSet<CacheSpan> leastRecentlyUsed =
+      new TreeSet<>(VideoCache::compareLastTouchTimestamps);
+  private long maxSizeBytes;
+  private long currentSizeBytes;
+
+  private final AtomicLong cachedBytesRead = new AtomicLong();
+  private final AtomicLong networkBytesRead = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  /**
+   * Returns the shared cache, creating it in the application's cache directory if needed.
+   *
+   * @param context application context.
+   * @param maxSizeBytes maximum size of the cache, in bytes.
+   * @return the cache.
+   */
+  @NonNull
+  static synchronized VideoCache getInstance(@NonNull Context context, long maxSizeBytes) {
+    if (instance == null) {
+      File directory = new File(context.getCacheDir(), CACHE_DIRECTORY);
+      instance = new VideoCache(directory, new StandaloneDatabaseProvider(context), maxSizeBytes);
+    } else {
+      instance.setMaxSizeBytes(maxSizeBytes);
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the shared cache if it has already been created, without creating it.
+   *
+   * @return the cache, or null if it has not been created in this process.
+   */
+  @Nullable
+  static synchronized VideoCache getExistingInstance() {
+    return instance;
+  }
+
+  @VisibleForTesting
+  VideoCache(
+      @NonNull File directory, @NonNull DatabaseProvider databaseProvider, long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+    this.cache = new SimpleCache(directory, this, databaseProvider);
+  }
+
+  /**
+   * Changes the maximum size of the cache, evicting least recently used data if it is now over.
+   *
+   * @param maxSizeBytes maximum size of the cache, in bytes.
+   */
+  void setMaxSizeBytes(long maxSizeBytes) {
+    synchronized (cache) {
+      this.maxSizeBytes = maxSizeBytes;
+      evictCache(cache, 0);
+    }
+  }
+
+  /**
+   * Returns a factory for data sources that read through this cache.
+   *
+   * @param upstreamFactory factory for the network data source. It must not decrypt, so that only
+   *     ciphertext is written to disk.
+   * @return the caching factory.
+   */
+  @NonNull
+  DataSource.Factory createDataSourceFactory(
+      @NonNull EncryptedHttpDataSource.Factory upstreamFactory) {
+    return createCacheDataSourceFactory(upstreamFactory);
+  }
+
+  /**
+   * Returns a writer that downloads the given range into this cache.
+   *
+   * <p>The writer does nothing until {@link CacheWriter#cache()} is called, which blocks.
+   *
+   * @param upstreamFactory factory for the network data source. It must not decrypt.
+   * @param dataSpec the range to download.
+   * @return the writer.
+   */
+  @NonNull
+  CacheWriter createCacheWriter(
+      @NonNull EncryptedHttpDataSource.Factory upstreamFactory, @NonNull DataSpec dataSpec) {
+    return new CacheWriter(
+        createCacheDataSourceFactory(upstreamFactory).createDataSourceForDownloading(),
+        dataSpec,
+        /* temporaryBuffer= */ null,
+        /* progressListener= */ null);
+  }
+
+  /**
+   * Returns a factory for data sources that download into this cache, for preloads that need to
+   * read the data they cache.
+   *
+   * @param upstreamFactory factory for the network data source. It must not decrypt.
+   * @return the caching factory.
+   */
+  @NonNull
+  CacheDataSource.Factory createDownloadingDataSourceFactory(
+      @NonNull EncryptedHttpDataSource.Factory upstreamFactory) {
+    return createCacheDataSourceFactory(upstreamFactory);
+  }
+
+  @NonNull
+  private CacheDataSource.Factory createCacheDataSourceFactory(
+      @NonNull EncryptedHttpDataSource.Factory upstreamFactory) {
+    upstreamFactory.setTransferListener(this);
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(upstreamFactory)
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(this);
+  }
+
+  /** Returns a snapshot of the cache statistics. */
+  @NonNull
+  Messages.CacheStatsMessage getStats() {
+    long cached = cachedBytesRead.get();
+    long network = networkBytesRead.get();
+    long total = cached + network;
+    long sizeBytes;
+    synchronized (cache) {
+      sizeBytes = currentSizeBytes;
+    }
+    return new Messages.CacheStatsMessage.Builder()
+        .setCachedBytesRead(cached)
+        .setNetworkBytesRead(network)
+        .setHitRatio(total == 0 ? 0.0 : (double) cached / total)
+        .setEvictionCount(evictionCount.get())
+        .setCacheSizeBytes(sizeBytes)
+        .build();
+  }
+
+  // CacheEvictor. These are called by SimpleCache with its lock held.
+
+  @Override
+  public boolean requiresCacheSpanTouches() {
+    return true;
+  }
+
+  @Override
+  public void onCacheInitialized() {}
+
+  @Override
+  public void onStartFile(@NonNull Cache cache, @NonNull String key, long position, long length) {
+    if (length != C.LENGTH_UNSET) {
+      evictCache(cache, length);
+    }
+  }
+
+  @Override
+  public void onSpanAdded(@NonNull Cache cache, @NonNull CacheSpan span) {
+    leastRecentlyUsed.add(span);
+    currentSizeBytes += span.length;
+    evictCache(cache, 0);
+  }
+
+  @Override
+  public void onSpanRemoved(@NonNull Cache cache, @NonNull CacheSpan span) {
+    leastRecentlyUsed.remove(span);
+    currentSizeBytes -= span.length;
+  }
+
+  @Override
+  public void onSpanTouched(
+      @NonNull Cache cache, @NonNull CacheSpan oldSpan, @NonNull CacheSpan newSpan) {
+    onSpanRemoved(cache, oldSpan);
+    onSpanAdded(cache, newSpan);
+  }
+
+  private void evictCache(@NonNull Cache cache, long requiredSpace) {
+    while (currentSizeBytes + requiredSpace > maxSizeBytes && !leastRecentlyUsed.isEmpty()) {
+      cache.removeSpan(leastRecentlyUsed.first());
+      evictionCount.incrementAndGet();
+    }
+  }
+
+  private static int compareLastTouchTimestamps(@NonNull CacheSpan lhs, @NonNull CacheSpan rhs) {
+    long lastTouchTimestampDelta = lhs.lastTouchTimestamp - rhs.lastTouchTimestamp;
+    if (lastTouchTimestampDelta == 0) {
+      // Use the standard compareTo method as a tie-break.
+      return lhs.compareTo(rhs);
+    }
+    return lhs.lastTouchTimestamp < rhs.lastTouchTimestamp ? -1 : 1;
+  }
+
+  // CacheDataSource.EventListener
+
+  @Override
+  public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+    this.cachedBytesRead.addAndGet(cachedBytesRead);
+  }
+
+  @Override
+  public void onCacheIgnored(int reason) {}
+
+  // TransferListener, registered on the network data source only.
+
+  @Override
+  public void onTransferInitializing(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  @Override
+  public void onTransferStart(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  @Override
+  public void onBytesTransferred(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork, int bytes) {
+    networkBytesRead.addAndGet(bytes);
+  }
+
+  @Override
+  public void onTransferEnd(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+}
@@ -8,6 +8,7 @@ import static androidx.media3.common.Player.REPEAT_MODE_ALL;
 import static androidx.media3.common.Player.REPEAT_MODE_OFF;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.media3.common.AudioAttributes;
 import androidx.media3.common.C;
 import androidx.media3.common.MediaItem;
@@ -30,6 +31,8 @@ public abstract class VideoPlayer {
     protected final VideoPlayerCallbacks videoPlayerEvents;
     @NonNull
     protected ExoPlayer exoPlayer;
+    @Nullable
+    private ExoPlayerEventListener exoPlayerEventListener;
 
     /**
      * A closure-compatible signature since {@link java.util.function.Supplier} is API level 24.
@@ -42,6 +45,17 @@ public abstract class VideoPlayer {
          */
         @NonNull
         ExoPlayer get();
+
+        /**
+         * Takes back a player returned by {@link #get()} that is no longer used.
+         *
+         * <p>The default implementation releases it.
+         *
+         * @param exoPlayer the player to recycle.
+         */
+        default void recycle(@NonNull ExoPlayer exoPlayer) {
+            exoPlayer.release();
+        }
     }
 
     public VideoPlayer(
@@ -62,7 +76,8 @@ public abstract class VideoPlayer {
         exoPlayer.setMediaItem(mediaItem);
         exoPlayer.prepare();
 
-        exoPlayer.addListener(createExoPlayerEventListener(exoPlayer));
+        exoPlayerEventListener = createExoPlayerEventListener(exoPlayer);
+        exoPlayer.addListener(exoPlayerEventListener);
         setAudioAttributes(exoPlayer, options.mixWithOthers);
 
         return exoPlayer;
@@ -115,6 +130,16 @@ public abstract class VideoPlayer {
         return exoPlayer.getCurrentPosition();
     }
 
+    /**
+     * Returns whether the current {@link ExoPlayer} is still usable, and so can be recycled instead
+     * of released when this player is disposed.
+     *
+     * @return whether the player can be recycled.
+     */
+    protected boolean canRecycleExoPlayer() {
+        return true;
+    }
+
     @NonNull
     public ExoPlayer getExoPlayer() {
         return exoPlayer;
@@ -129,6 +154,13 @@ public abstract class VideoPlayer {
             encryptedVideoManager.removeDecryption(videoId);
         }
 
-        exoPlayer.release();
+        if (exoPlayerEventListener != null) {
+            exoPlayer.removeListener(exoPlayerEventListener);
+        }
+        if (canRecycleExoPlayer()) {
+            exoPlayerProvider.recycle(exoPlayer);
+        } else {
+            exoPlayer.release();
+        }
     }
 }
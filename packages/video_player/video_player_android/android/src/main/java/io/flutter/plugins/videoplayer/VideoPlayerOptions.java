@@ -6,4 +6,13 @@ package io.flutter.plugins.videoplayer;
 
 public class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  /** Maximum size of the on-disk cache for network videos, or 0 if caching is disabled. */
+  public long maxCacheSizeBytes;
+
+  /** Maximum number of idle players kept for reuse per view type, or 0 if pooling is disabled. */
+  public int playerPoolSize;
+
+  /** Time after which an idle pooled player is released, or 0 to keep it until disposal. */
+  public long playerPoolIdleTimeoutMs;
 }
@@ -7,17 +7,20 @@ package io.flutter.plugins.videoplayer;
 import android.content.Context;
 import android.util.LongSparseArray;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
 import io.flutter.plugins.videoplayer.platformview.PlatformVideoViewFactory;
 import io.flutter.plugins.videoplayer.platformview.PlatformViewVideoPlayer;
 import io.flutter.plugins.videoplayer.texture.TextureVideoPlayer;
 import io.flutter.view.TextureRegistry;
+import java.util.Map;
 
 /** Android platform implementation of the VideoPlayerPlugin. */
 public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
@@ -25,6 +28,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private final VideoPlayerOptions options = new VideoPlayerOptions();
+  private final VideoPreloader preloader = new VideoPreloader();
+  private final ExoPlayerPool playerPool = new ExoPlayerPool(options);
 
   // TODO(stuartmorgan): Decouple identifiers for platform views and texture views.
   /**
@@ -79,6 +84,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     // be replaced with just asserting that videoPlayers.isEmpty().
     // https://github.com/flutter/flutter/issues/20989 tracks this.
     disposeAllPlayers();
+    preloader.cancelAll();
+    playerPool.clear();
   }
 
   @Override
@@ -101,24 +108,20 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     } else if (arg.getUri().startsWith("rtsp://")) {
       videoAsset = VideoAsset.fromRtspUrl(arg.getUri());
     } else {
-      VideoAsset.StreamingFormat streamingFormat = VideoAsset.StreamingFormat.UNKNOWN;
-      String formatHint = arg.getFormatHint();
-      if (formatHint != null) {
-        switch (formatHint) {
-          case "ss":
-            streamingFormat = VideoAsset.StreamingFormat.SMOOTH;
-            break;
-          case "dash":
-            streamingFormat = VideoAsset.StreamingFormat.DYNAMIC_ADAPTIVE;
-            break;
-          case "hls":
-            streamingFormat = VideoAsset.StreamingFormat.HTTP_LIVE;
-            break;
-        }
+      VideoAsset.StreamingFormat streamingFormat = streamingFormatFromHint(arg.getFormatHint());
+      VideoCache videoCache = null;
+      if (options.maxCacheSizeBytes > 0) {
+        videoCache =
+            VideoCache.getInstance(flutterState.applicationContext, options.maxCacheSizeBytes);
+        // The player reads the same data through the cache, so it no longer needs preloading.
+        preloader.cancel(arg.getUri());
       }
-      videoAsset = VideoAsset.fromRemoteUrl(arg.getUri(), streamingFormat, arg.getHttpHeaders());
+      videoAsset =
+          VideoAsset.fromRemoteUrl(
+              arg.getUri(), streamingFormat, arg.getHttpHeaders(), videoCache);
     }
 
+    ExoPlayerPool pool = options.playerPoolSize > 0 ? playerPool : null;
     long id;
     VideoPlayer videoPlayer;
     if (arg.getViewType() == Messages.PlatformVideoViewType.PLATFORM_VIEW) {
@@ -128,7 +131,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               flutterState.applicationContext,
               VideoPlayerEventCallbacks.bindTo(createEventChannel(id)),
               videoAsset,
-              options);
+              options,
+              pool);
     } else {
       TextureRegistry.SurfaceProducer handle = flutterState.textureRegistry.createSurfaceProducer();
       id = handle.id();
@@ -138,7 +142,8 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
               VideoPlayerEventCallbacks.bindTo(createEventChannel(id)),
               handle,
               videoAsset,
-              options);
+              options,
+              pool);
     }
 
     videoPlayers.put(id, videoPlayer);
@@ -223,6 +228,71 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     options.mixWithOthers = mixWithOthers;
   }
 
+  @Override
+  public void setCacheMaxSize(@NonNull Long maxSizeBytes) {
+    options.maxCacheSizeBytes = maxSizeBytes;
+    if (maxSizeBytes > 0) {
+      VideoCache.getInstance(flutterState.applicationContext, maxSizeBytes);
+    }
+  }
+
+  @Override
+  public @NonNull CacheStatsMessage getCacheStats() {
+    // Only report on a cache that already exists; reading stats must not create one.
+    VideoCache videoCache = VideoCache.getExistingInstance();
+    if (videoCache == null) {
+      return new CacheStatsMessage.Builder()
+          .setCachedBytesRead(0L)
+          .setNetworkBytesRead(0L)
+          .setHitRatio(0.0)
+          .setEvictionCount(0L)
+          .setCacheSizeBytes(0L)
+          .build();
+    }
+    return videoCache.getStats();
+  }
+
+  @Override
+  public void setPlayerPoolOptions(@NonNull Long maxIdlePlayers, @NonNull Long idleTimeoutMs) {
+    options.playerPoolSize = maxIdlePlayers.intValue();
+    options.playerPoolIdleTimeoutMs = idleTimeoutMs;
+    playerPool.trim();
+  }
+
+  @NonNull
+  private static VideoAsset.StreamingFormat streamingFormatFromHint(@Nullable String formatHint) {
+    if (formatHint != null) {
+      switch (formatHint) {
+        case "ss":
+          return VideoAsset.StreamingFormat.SMOOTH;
+        case "dash":
+          return VideoAsset.StreamingFormat.DYNAMIC_ADAPTIVE;
+        case "hls":
+          return VideoAsset.StreamingFormat.HTTP_LIVE;
+      }
+    }
+    return VideoAsset.StreamingFormat.UNKNOWN;
+  }
+
+  @Override
+  public void preload(
+      @NonNull String uri,
+      @Nullable String formatHint,
+      @NonNull Map<String, String> httpHeaders,
+      @NonNull Long maxBytes) {
+    if (options.maxCacheSizeBytes <= 0) {
+      throw new IllegalStateException("Preloading requires the cache to be enabled.");
+    }
+    VideoCache videoCache =
+        VideoCache.getInstance(flutterState.applicationContext, options.maxCacheSizeBytes);
+    HttpVideoAsset videoAsset =
+        new HttpVideoAsset(uri, streamingFormatFromHint(formatHint), httpHeaders, videoCache);
+    VideoPreloader.Writer writer = videoAsset.createPreloadWriter(maxBytes);
+    if (writer != null) {
+      preloader.preload(uri, writer);
+    }
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -0,0 +1,147 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.OptIn;
+import androidx.annotation.VisibleForTesting;
+import androidx.media3.common.util.UnstableApi;
+import androidx.media3.datasource.cache.CacheWriter;
+import io.flutter.Log;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches the beginning of upcoming videos into the {@link VideoCache} in the background.
+ *
+ * <p>The decryption keys of the video are derived as part of the preload. Each video is preloaded
+ * at most once at a time, and a pending preload is cancelled as soon as a player is created for
+ * the same URI, since the player then reads through the same cache.
+ */
+@OptIn(markerClass = UnstableApi.class)
+final class VideoPreloader {
+  private static final String TAG = "VideoPreloader";
+  private static final int MAX_CONCURRENT_PRELOADS = 2;
+  private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+  /** Downloads the data to preload into the cache. */
+  interface Writer {
+    /** Downloads the data, blocking until it is cached or the download is cancelled. */
+    void cache() throws IOException;
+
+    /** Cancels the download, from any thread. */
+    void cancel();
+  }
+
+  @NonNull private final Executor executor;
+  // Guarded by this.
+  private final Map<String, Writer> pendingWriters = new HashMap<>();
+
+  VideoPreloader() {
+    this(createExecutor());
+  }
+
+  @VisibleForTesting
+  VideoPreloader(@NonNull Executor executor) {
+    this.executor = executor;
+  }
+
+  @NonNull
+  private static Executor createExecutor() {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            MAX_CONCURRENT_PRELOADS,
+            MAX_CONCURRENT_PRELOADS,
+            IDLE_THREAD_TIMEOUT_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /** Returns a writer that downloads the range of {@code cacheWriter}. */
+  @NonNull
+  static Writer fromCacheWriter(@NonNull CacheWriter cacheWriter) {
+    return new Writer() {
+      @Override
+      public void cache() throws IOException {
+        cacheWriter.cache();
+      }
+
+      @Override
+      public void cancel() {
+        cacheWriter.cancel();
+      }
+    };
+  }
+
+  /**
+   * Starts writing the data described by {@code writer} into the cache.
+   *
+   * @param uri the URI of the video, used to match the preload to later players.
+   * @param writer the writer for the data to preload.
+   * @return whether the preload was started, which is not the case if one is already pending.
+   */
+  boolean preload(@NonNull String uri, @NonNull Writer writer) {
+    synchronized (this) {
+      if (pendingWriters.containsKey(uri)) {
+        return false;
+      }
+      pendingWriters.put(uri, writer);
+    }
+    executor.execute(() -> runPreload(uri, writer));
+    return true;
+  }
+
+  private void runPreload(@NonNull String uri, @NonNull Writer writer) {
+    // Derive the decryption keys now, so that creating the player finds them memoized.
+    EncryptedVideoManager encryptedVideoManager = EncryptedVideoManager.getInstance();
+    encryptedVideoManager.getDecryptionKeys(encryptedVideoManager.extractVideoId(uri));
+    try {
+      writer.cache();
+    } catch (InterruptedIOException e) {
+      // Cancelled.
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to preload " + uri, e);
+    } finally {
+      synchronized (this) {
+        if (pendingWriters.get(uri) == writer) {
+          pendingWriters.remove(uri);
+        }
+      }
+    }
+  }
+
+  /** Cancels the pending preload of {@code uri}, if any. */
+  void cancel(@NonNull String uri) {
+    Writer writer;
+    synchronized (this) {
+      writer = pendingWriters.remove(uri);
+    }
+    if (writer != null) {
+      writer.cancel();
+    }
+  }
+
+  /** Cancels all pending preloads. */
+  void cancelAll() {
+    List<Writer> writers;
+    synchronized (this) {
+      writers = new ArrayList<>(pendingWriters.values());
+      pendingWriters.clear();
+    }
+    for (Writer writer : writers) {
+      writer.cancel();
+    }
+  }
+}
@@ -70,7 +70,9 @@ public final class PlatformVideoView implements PlatformView {
 
               @Override
               public void surfaceDestroyed(@NonNull SurfaceHolder holder) {
-                exoPlayer.setVideoSurface(null);
+                // Only clear the surface if it is still ours, as pooled players can be handed to
+                // another view once disposed.
+                exoPlayer.clearVideoSurface(holder.getSurface());
               }
             });
   }
@@ -6,10 +6,13 @@ package io.flutter.plugins.videoplayer.platformview;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.media3.common.MediaItem;
 import androidx.media3.exoplayer.ExoPlayer;
 import io.flutter.plugins.videoplayer.ExoPlayerEventListener;
+import io.flutter.plugins.videoplayer.ExoPlayerPool;
+import io.flutter.plugins.videoplayer.Messages.PlatformVideoViewType;
 import io.flutter.plugins.videoplayer.VideoAsset;
 import io.flutter.plugins.videoplayer.VideoPlayer;
 import io.flutter.plugins.videoplayer.VideoPlayerCallbacks;
@@ -44,6 +47,34 @@ public class PlatformViewVideoPlayer extends VideoPlayer {
       @NonNull VideoPlayerCallbacks events,
       @NonNull VideoAsset asset,
       @NonNull VideoPlayerOptions options) {
+    return create(context, events, asset, options, null);
+  }
+
+  /**
+   * Creates a platform view video player.
+   *
+   * @param context application context.
+   * @param events event callbacks.
+   * @param asset asset to play.
+   * @param options options for playback.
+   * @param playerPool pool to take the {@link ExoPlayer} from and return it to, or {@code null} to
+   *     always build a new one.
+   * @return a video player instance.
+   */
+  @NonNull
+  public static PlatformViewVideoPlayer create(
+      @NonNull Context context,
+      @NonNull VideoPlayerCallbacks events,
+      @NonNull VideoAsset asset,
+      @NonNull VideoPlayerOptions options,
+      @Nullable ExoPlayerPool playerPool) {
+    if (playerPool != null) {
+      return new PlatformViewVideoPlayer(
+          events,
+          asset.getMediaItem(),
+          options,
+          playerPool.createProvider(context, PlatformVideoViewType.PLATFORM_VIEW, asset));
+    }
     return new PlatformViewVideoPlayer(
         events,
         asset.getMediaItem(),
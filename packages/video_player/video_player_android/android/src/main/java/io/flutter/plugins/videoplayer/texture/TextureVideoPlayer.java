@@ -12,7 +12,9 @@ import androidx.annotation.VisibleForTesting;
 import androidx.media3.common.MediaItem;
 import androidx.media3.exoplayer.ExoPlayer;
 import io.flutter.plugins.videoplayer.ExoPlayerEventListener;
+import io.flutter.plugins.videoplayer.ExoPlayerPool;
 import io.flutter.plugins.videoplayer.ExoPlayerState;
+import io.flutter.plugins.videoplayer.Messages.PlatformVideoViewType;
 import io.flutter.plugins.videoplayer.VideoAsset;
 import io.flutter.plugins.videoplayer.VideoPlayer;
 import io.flutter.plugins.videoplayer.VideoPlayerCallbacks;
@@ -48,6 +50,37 @@ public final class TextureVideoPlayer extends VideoPlayer
       @NonNull TextureRegistry.SurfaceProducer surfaceProducer,
       @NonNull VideoAsset asset,
       @NonNull VideoPlayerOptions options) {
+    return create(context, events, surfaceProducer, asset, options, null);
+  }
+
+  /**
+   * Creates a texture video player.
+   *
+   * @param context application context.
+   * @param events event callbacks.
+   * @param surfaceProducer produces a texture to render to.
+   * @param asset asset to play.
+   * @param options options for playback.
+   * @param playerPool pool to take the {@link ExoPlayer} from and return it to, or {@code null} to
+   *     always build a new one.
+   * @return a video player instance.
+   */
+  @NonNull
+  public static TextureVideoPlayer create(
+      @NonNull Context context,
+      @NonNull VideoPlayerCallbacks events,
+      @NonNull TextureRegistry.SurfaceProducer surfaceProducer,
+      @NonNull VideoAsset asset,
+      @NonNull VideoPlayerOptions options,
+      @Nullable ExoPlayerPool playerPool) {
+    if (playerPool != null) {
+      return new TextureVideoPlayer(
+          events,
+          surfaceProducer,
+          asset.getMediaItem(),
+          options,
+          playerPool.createProvider(context, PlatformVideoViewType.TEXTURE_VIEW, asset));
+    }
     return new TextureVideoPlayer(
         events,
         surfaceProducer,
@@ -108,6 +141,12 @@ public final class TextureVideoPlayer extends VideoPlayer
     return savedStateDuring != null;
   }
 
+  @Override
+  protected boolean canRecycleExoPlayer() {
+    // A suspended player has already been released.
+    return !playerHasBeenSuspended();
+  }
+
   public void dispose() {
     // Super must be called first to ensure the player is released before the surface.
     super.dispose();
@@ -0,0 +1,95 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import android.net.Uri;
+import androidx.media3.common.C;
+import androidx.media3.datasource.ByteArrayDataSource;
+import androidx.media3.datasource.DataSourceUtil;
+import androidx.media3.datasource.DataSpec;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public final class EncryptedAesCipherDataSourceTest {
+  private static final Uri URI = Uri.parse("https://example.com/video.mp4");
+  private static final int PLAINTEXT_LENGTH = 1000;
+
+  private final byte[] secretKey = new byte[16];
+  private final byte[] iv = new byte[16];
+  private byte[] plaintext;
+  private byte[] ciphertext;
+
+  @Before
+  public void setUp() throws Exception {
+    Random random = new Random(0);
+    random.nextBytes(secretKey);
+    random.nextBytes(iv);
+    plaintext = new byte[PLAINTEXT_LENGTH];
+    random.nextBytes(plaintext);
+
+    Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey, "AES"), new IvParameterSpec(iv));
+    ciphertext = cipher.doFinal(plaintext);
+  }
+
+  private byte[] read(long position, long length) throws IOException {
+    EncryptedAesCipherDataSource dataSource =
+        new EncryptedAesCipherDataSource(secretKey, iv, new ByteArrayDataSource(ciphertext));
+    try {
+      DataSpec dataSpec =
+          new DataSpec.Builder().setUri(URI).setPosition(position).setLength(length).build();
+      long openedLength = dataSource.open(dataSpec);
+      assertEquals(length, openedLength);
+      return DataSourceUtil.readToEnd(dataSource);
+    } finally {
+      dataSource.close();
+    }
+  }
+
+  @Test
+  public void readsWholeResource() throws Exception {
+    assertArrayEquals(plaintext, read(0, C.LENGTH_UNSET));
+  }
+
+  @Test
+  public void readsRangeWithinFirstBlock() throws Exception {
+    assertArrayEquals(Arrays.copyOfRange(plaintext, 5, 15), read(5, 10));
+  }
+
+  @Test
+  public void readsRangeFromUnalignedPosition() throws Exception {
+    assertArrayEquals(Arrays.copyOfRange(plaintext, 333, 533), read(333, 200));
+  }
+
+  @Test
+  public void readsToEndFromUnalignedPosition() throws Exception {
+    assertArrayEquals(
+        Arrays.copyOfRange(plaintext, 333, PLAINTEXT_LENGTH), read(333, C.LENGTH_UNSET));
+  }
+
+  @Test
+  public void readsToEndFromBlockAlignedPosition() throws Exception {
+    assertArrayEquals(
+        Arrays.copyOfRange(plaintext, 320, PLAINTEXT_LENGTH), read(320, C.LENGTH_UNSET));
+  }
+
+  @Test
+  public void readsRangeEndingInFinalBlock() throws Exception {
+    assertArrayEquals(
+        Arrays.copyOfRange(plaintext, 990, PLAINTEXT_LENGTH), read(990, PLAINTEXT_LENGTH - 990));
+  }
+}
@@ -0,0 +1,118 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import androidx.media3.common.C;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Unit tests for {@link EncryptedAesFlushingCipher}. */
+public final class EncryptedAesFlushingCipherTest {
+  private static final int PLAINTEXT_LENGTH = 1000;
+
+  private final byte[] secretKey = new byte[16];
+  private final byte[] iv = new byte[16];
+  private byte[] plaintext;
+  private byte[] ciphertext;
+
+  @Before
+  public void setUp() throws Exception {
+    Random random = new Random(0);
+    random.nextBytes(secretKey);
+    random.nextBytes(iv);
+    plaintext = new byte[PLAINTEXT_LENGTH];
+    random.nextBytes(plaintext);
+
+    Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey, "AES"), new IvParameterSpec(iv));
+    ciphertext = cipher.doFinal(plaintext);
+  }
+
+  @Test
+  public void requestsFromStartWithinFirstBlock() {
+    EncryptedAesFlushingCipher cipher = new EncryptedAesFlushingCipher(secretKey, iv, 5);
+
+    assertEquals(0, cipher.getRequestPosition());
+    assertEquals(5, cipher.getStartPadding());
+    assertEquals(16, cipher.getRequestLength(10));
+  }
+
+  @Test
+  public void requestsFromPrecedingBlock() {
+    EncryptedAesFlushingCipher cipher = new EncryptedAesFlushingCipher(secretKey, iv, 100);
+
+    assertEquals(80, cipher.getRequestPosition());
+    assertEquals(4, cipher.getStartPadding());
+    // Bytes [100, 150) live in blocks [96, 160), plus the IV block at 80.
+    assertEquals(80, cipher.getRequestLength(50));
+    assertEquals(C.LENGTH_UNSET, cipher.getRequestLength(C.LENGTH_UNSET));
+  }
+
+  @Test
+  public void decryptsRangeFromArbitraryPosition() throws Exception {
+    int position = 333;
+    int length = 200;
+    EncryptedAesFlushingCipher cipher = new EncryptedAesFlushingCipher(secretKey, iv, position);
+    int requestPosition = (int) cipher.getRequestPosition();
+    int requestLength = (int) cipher.getRequestLength(length);
+
+    InputStream decrypted =
+        cipher.decrypt(
+            new ByteArrayInputStream(ciphertext, requestPosition, requestLength),
+            /* fromStart= */ false,
+            /* toEnd= */ false);
+    ByteStreams.skipFully(decrypted, cipher.getStartPadding());
+    byte[] actual = new byte[length];
+    ByteStreams.readFully(decrypted, actual);
+
+    assertArrayEquals(Arrays.copyOfRange(plaintext, position, position + length), actual);
+  }
+
+  @Test
+  public void decryptsRangeInSecondBlockUsingFirstBlockAsIv() throws Exception {
+    int position = 20;
+    int length = 30;
+    EncryptedAesFlushingCipher cipher = new EncryptedAesFlushingCipher(secretKey, iv, position);
+    assertEquals(0, cipher.getRequestPosition());
+
+    InputStream decrypted =
+        cipher.decrypt(
+            new ByteArrayInputStream(ciphertext, 0, (int) cipher.getRequestLength(length)),
+            /* fromStart= */ false,
+            /* toEnd= */ false);
+    ByteStreams.skipFully(decrypted, cipher.getStartPadding());
+    byte[] actual = new byte[length];
+    ByteStreams.readFully(decrypted, actual);
+
+    assertArrayEquals(Arrays.copyOfRange(plaintext, position, position + length), actual);
+  }
+
+  @Test
+  public void decryptsFromStartWhenRangeIsIgnored() throws Exception {
+    int position = 40;
+    int length = 24;
+    EncryptedAesFlushingCipher cipher = new EncryptedAesFlushingCipher(secretKey, iv, position);
+
+    InputStream decrypted =
+        cipher.decrypt(
+            new ByteArrayInputStream(ciphertext, 0, 64), /* fromStart= */ true, /* toEnd= */ false);
+    ByteStreams.skipFully(decrypted, position);
+    byte[] actual = new byte[length];
+    ByteStreams.readFully(decrypted, actual);
+
+    assertArrayEquals(Arrays.copyOfRange(plaintext, position, position + length), actual);
+  }
+}
@@ -0,0 +1,169 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+import androidx.media3.common.C;
+import androidx.media3.datasource.DataSourceUtil;
+import androidx.media3.datasource.DataSpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public final class EncryptedHttpDataSourceTest {
+  private static final String ORIGINAL_URL = "https://example.com/videos/hls/id/index.m3u8";
+  private static final String REDIRECTED_URL = "https://cdn.example.com/videos/hls/id/index.m3u8";
+  private static final byte[] BODY = "#EXTM3U".getBytes(StandardCharsets.UTF_8);
+
+  private final Map<String, Integer> responseCodes = new HashMap<>();
+  private final Map<String, String> locations = new HashMap<>();
+  private final Map<String, String> setCookies = new HashMap<>();
+  private final List<String> openedUrls = new ArrayList<>();
+
+  @After
+  public void tearDown() {
+    EncryptedHttpDataSource.clearRedirectCache();
+    EncryptedVideoManager.getInstance().clearRequestCookies(ORIGINAL_URL);
+  }
+
+  private HttpURLConnection openConnection(URL url) throws IOException {
+    String key = url.toString();
+    openedUrls.add(key);
+    HttpURLConnection connection = mock(HttpURLConnection.class);
+    Integer responseCode = responseCodes.get(key);
+    when(connection.getURL()).thenReturn(url);
+    when(connection.getResponseCode()).thenReturn(responseCode != null ? responseCode : 200);
+    Map<String, List<String>> headerFields = new HashMap<>();
+    String setCookie = setCookies.get(key);
+    if (setCookie != null) {
+      headerFields.put("set-cookie", Arrays.asList(setCookie));
+    }
+    when(connection.getHeaderFields()).thenReturn(headerFields);
+    when(connection.getHeaderField("Location")).thenReturn(locations.get(key));
+    when(connection.getInputStream()).thenReturn(new ByteArrayInputStream(BODY));
+    return connection;
+  }
+
+  private void redirect(String from, int responseCode, String to) {
+    responseCodes.put(from, responseCode);
+    locations.put(from, to);
+  }
+
+  private byte[] readFully(String url) throws IOException {
+    EncryptedHttpDataSource dataSource =
+        new EncryptedHttpDataSource.Factory(null, null)
+            .setAllowCrossProtocolRedirects(true)
+            .setConnectionFactory(this::openConnection)
+            .createDataSource();
+    try {
+      dataSource.open(new DataSpec(Uri.parse(url)));
+      return DataSourceUtil.readToEnd(dataSource);
+    } finally {
+      dataSource.close();
+    }
+  }
+
+  @Test
+  public void opensConnectionsThroughConnectionFactory() throws Exception {
+    assertArrayEquals(BODY, readFully(ORIGINAL_URL));
+    assertEquals(Arrays.asList(ORIGINAL_URL), openedUrls);
+  }
+
+  @Test
+  public void cachesPermanentRedirects() throws Exception {
+    redirect(ORIGINAL_URL, HttpURLConnection.HTTP_MOVED_PERM, REDIRECTED_URL);
+
+    assertArrayEquals(BODY, readFully(ORIGINAL_URL));
+    assertArrayEquals(BODY, readFully(ORIGINAL_URL));
+
+    assertEquals(Arrays.asList(ORIGINAL_URL, REDIRECTED_URL, REDIRECTED_URL), openedUrls);
+  }
+
+  @Test
+  public void doesNotCachePermanentRedirectsThatSetCookies() throws Exception {
+    redirect(ORIGINAL_URL, HttpURLConnection.HTTP_MOVED_PERM, REDIRECTED_URL);
+    setCookies.put(ORIGINAL_URL, "session=1");
+
+    readFully(ORIGINAL_URL);
+    setCookies.put(ORIGINAL_URL, "session=2");
+    readFully(ORIGINAL_URL);
+
+    assertEquals(
+        Arrays.asList(ORIGINAL_URL, REDIRECTED_URL, ORIGINAL_URL, REDIRECTED_URL), openedUrls);
+    assertEquals(
+        "session=2",
+        EncryptedVideoManager.getInstance().getRequestCookies(ORIGINAL_URL).get("set-cookie"));
+  }
+
+  @Test
+  public void doesNotCacheTemporaryRedirects() throws Exception {
+    redirect(ORIGINAL_URL, HttpURLConnection.HTTP_MOVED_TEMP, REDIRECTED_URL);
+
+    readFully(ORIGINAL_URL);
+    readFully(ORIGINAL_URL);
+
+    assertEquals(
+        Arrays.asList(ORIGINAL_URL, REDIRECTED_URL, ORIGINAL_URL, REDIRECTED_URL), openedUrls);
+  }
+
+  @Test
+  public void doesNotReportPaddedLengthWhenDecryptingToEnd() throws Exception {
+    Random random = new Random(0);
+    byte[] secretKey = new byte[16];
+    byte[] iv = new byte[16];
+    byte[] plaintext = new byte[1000];
+    random.nextBytes(secretKey);
+    random.nextBytes(iv);
+    random.nextBytes(plaintext);
+    Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(secretKey, "AES"), new IvParameterSpec(iv));
+    byte[] ciphertext = cipher.doFinal(plaintext);
+    EncryptedHttpDataSource dataSource =
+        new EncryptedHttpDataSource.Factory(secretKey, iv)
+            .setConnectionFactory(
+                url -> {
+                  HttpURLConnection connection = mock(HttpURLConnection.class);
+                  when(connection.getURL()).thenReturn(url);
+                  when(connection.getResponseCode()).thenReturn(200);
+                  when(connection.getHeaderFields()).thenReturn(new HashMap<>());
+                  when(connection.getHeaderField("Content-Length"))
+                      .thenReturn(String.valueOf(ciphertext.length));
+                  when(connection.getInputStream())
+                      .thenReturn(new ByteArrayInputStream(ciphertext));
+                  return connection;
+                })
+            .createDataSource();
+
+    try {
+      long openedLength = dataSource.open(new DataSpec(Uri.parse(ORIGINAL_URL)));
+
+      assertEquals(C.LENGTH_UNSET, openedLength);
+      assertArrayEquals(plaintext, DataSourceUtil.readToEnd(dataSource));
+    } finally {
+      dataSource.close();
+    }
+  }
+}
@@ -0,0 +1,172 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+
+/** Unit tests for {@link EncryptedVideoManager}. */
+public final class EncryptedVideoManagerTest {
+  private final EncryptedVideoManager manager = EncryptedVideoManager.getInstance();
+
+  @Test
+  public void extractsVideoIdFromSixthSegment() {
+    assertEquals(
+        "video-id",
+        manager.extractVideoId("https://cdn.example.com/videos/hls/video-id/index.m3u8"));
+    assertEquals("video-id", manager.extractVideoId("https://cdn.example.com/a/b/video-id"));
+  }
+
+  @Test
+  public void extractsVideoIdFromDocumentedExample() {
+    // Keep in sync with the example in the extractVideoId doc comment.
+    assertEquals("abc", manager.extractVideoId("https://host/videos/v1/abc/index.m3u8"));
+  }
+
+  @Test
+  public void extractVideoIdReturnsNullForShortUrls() {
+    assertNull(manager.extractVideoId(null));
+    assertNull(manager.extractVideoId("https://cdn.example.com/a/b"));
+    assertNull(manager.extractVideoId("https://cdn.example.com/a/b/"));
+    assertNull(manager.extractVideoId("https://cdn.example.com/a/b//"));
+  }
+
+  @Test
+  public void extractVideoIdMatchesSplitForEmptySegment() {
+    assertEquals("", manager.extractVideoId("https://cdn.example.com/a/b//file"));
+  }
+
+  @Test
+  public void storesCookiesPerVideo() {
+    String url = "https://cdn.example.com/videos/hls/cookie-video/index.m3u8";
+    String segmentUrl = "https://cdn.example.com/videos/hls/cookie-video/segment0.ts";
+
+    manager.setRequestCookies(url, "Set-Cookie", "session=1");
+    assertEquals("session=1", manager.getRequestCookies(segmentUrl).get("set-cookie"));
+
+    manager.clearRequestCookies(url);
+    assertTrue(manager.getRequestCookies(segmentUrl).isEmpty());
+  }
+
+  @Test
+  public void handlesConcurrentPlayers() throws Exception {
+    int players = 8;
+    int iterations = 2000;
+    ExecutorService executor = Executors.newFixedThreadPool(players);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int player = 0; player < players; player++) {
+      String url = "https://cdn.example.com/videos/hls/concurrent-" + player + "/index.m3u8";
+      results.add(
+          executor.submit(
+              () -> {
+                start.await();
+                boolean consistent = true;
+                for (int i = 0; i < iterations; i++) {
+                  String cookie = "session=" + i;
+                  manager.setRequestCookies(url, "set-cookie", cookie);
+                  consistent &= cookie.equals(manager.getRequestCookies(url).get("set-cookie"));
+                }
+                manager.clearRequestCookies(url);
+                return consistent;
+              }));
+    }
+
+    start.countDown();
+    for (Future<Boolean> result : results) {
+      assertTrue(result.get(10, TimeUnit.SECONDS));
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  public void derivesDecryptionKeys() throws Exception {
+    String videoId = "derived-video";
+    byte[] dk = new byte[16];
+    byte[] iv = new byte[16];
+    Arrays.fill(dk, (byte) 1);
+    Arrays.fill(iv, (byte) 2);
+    manager.setDecryption(videoId, encrypt("user", 42, videoId, dk, iv));
+
+    MediaDecryptionKeys keys = manager.getDecryptionKeys(videoId);
+
+    assertArrayEquals(dk, keys.dk);
+    assertArrayEquals(iv, keys.iv);
+    manager.removeDecryption(videoId);
+  }
+
+  @Test
+  public void memoizesDecryptionKeysUntilDecryptionChanges() throws Exception {
+    String videoId = "memoized-video";
+    byte[] dk = new byte[16];
+    byte[] iv = new byte[16];
+    manager.setDecryption(videoId, encrypt("user", 1, videoId, dk, iv));
+
+    MediaDecryptionKeys first = manager.getDecryptionKeys(videoId);
+    assertSame(first, manager.getDecryptionKeys(videoId));
+
+    manager.setDecryption(videoId, encrypt("user", 2, videoId, dk, iv));
+    MediaDecryptionKeys second = manager.getDecryptionKeys(videoId);
+    assertNotSame(first, second);
+    assertArrayEquals(dk, second.dk);
+
+    manager.removeDecryption(videoId);
+    assertNull(manager.getDecryptionKeys(videoId));
+  }
+
+  /** Encrypts keys the way the server does for {@link EncryptedVideoManager#getDecryptionKeys}. */
+  private static MediaDecryption encrypt(
+      String uid, int iat, String videoId, byte[] dk, byte[] iv) throws Exception {
+    byte[] sessionKey = Arrays.copyOfRange(sha256(uid + "-" + iat), 0, 16);
+    byte[] dkAesIv = new byte[16];
+    byte[] ivAesIv = new byte[16];
+    Arrays.fill(ivAesIv, (byte) 3);
+    return new MediaDecryption(
+        uid,
+        iat,
+        encryptAes(shift(dk, "expause-video-key-" + videoId), sessionKey, dkAesIv),
+        dkAesIv,
+        encryptAes(shift(iv, "expause-iv-key-" + videoId), sessionKey, ivAesIv),
+        ivAesIv);
+  }
+
+  private static byte[] sha256(String value) throws Exception {
+    return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static byte[] shift(byte[] key, String secretName) throws Exception {
+    byte[] hash = sha256(secretName);
+    byte[] result = new byte[key.length];
+    for (int i = 0; i < key.length; i++) {
+      result[i] = (byte) (key[i] ^ hash[i % hash.length]);
+    }
+    return result;
+  }
+
+  private static byte[] encryptAes(byte[] data, byte[] key, byte[] iv) throws Exception {
+    Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+    cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
+    return cipher.doFinal(data);
+  }
+}
@@ -0,0 +1,194 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.Context;
+import android.os.Looper;
+import androidx.media3.common.MediaItem;
+import androidx.media3.exoplayer.ExoPlayer;
+import androidx.media3.exoplayer.source.MediaSource;
+import androidx.media3.test.utils.FakeClock;
+import io.flutter.plugins.videoplayer.Messages.PlatformVideoViewType;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public final class ExoPlayerPoolTest {
+  private final Context context = mock(Context.class);
+  private final VideoPlayerOptions options = new VideoPlayerOptions();
+  private final FakeClock clock = new FakeClock(/* initialTimeMs= */ 0);
+  private final List<MediaSource.Factory> builtWithFactories = new ArrayList<>();
+  private ExoPlayerPool pool;
+
+  @Before
+  public void setUp() {
+    options.playerPoolSize = 2;
+    pool =
+        new ExoPlayerPool(
+            options,
+            (context, mediaSourceFactory) -> {
+              builtWithFactories.add(mediaSourceFactory);
+              return mock(ExoPlayer.class);
+            },
+            clock);
+  }
+
+  private VideoPlayer.ExoPlayerProvider createProvider(PlatformVideoViewType viewType) {
+    return pool.createProvider(context, viewType, new FakeVideoAsset("https://example.com"));
+  }
+
+  @Test
+  public void reusesRecycledPlayer() {
+    VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+    ExoPlayer first = provider.get();
+    provider.recycle(first);
+
+    ExoPlayer second = createProvider(PlatformVideoViewType.TEXTURE_VIEW).get();
+
+    assertSame(first, second);
+    assertEquals(1, builtWithFactories.size());
+    verify(first).stop();
+    verify(first).clearMediaItems();
+    verify(first).clearVideoSurface();
+    verify(first, never()).release();
+  }
+
+  @Test
+  public void keysPlayersByViewType() {
+    VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+    ExoPlayer texturePlayer = provider.get();
+    provider.recycle(texturePlayer);
+
+    ExoPlayer platformViewPlayer = createProvider(PlatformVideoViewType.PLATFORM_VIEW).get();
+
+    assertNotSame(texturePlayer, platformViewPlayer);
+    assertEquals(1, pool.getIdlePlayerCount(PlatformVideoViewType.TEXTURE_VIEW));
+  }
+
+  @Test
+  public void releasesPlayersBeyondPoolSize() {
+    List<ExoPlayer> players = new ArrayList<>();
+    List<VideoPlayer.ExoPlayerProvider> providers = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+      providers.add(provider);
+      players.add(provider.get());
+    }
+    for (int i = 0; i < 3; i++) {
+      providers.get(i).recycle(players.get(i));
+    }
+
+    assertEquals(2, pool.getIdlePlayerCount(PlatformVideoViewType.TEXTURE_VIEW));
+    verify(players.get(0)).release();
+    verify(players.get(2), never()).release();
+  }
+
+  @Test
+  public void releasesPlayersIdleLongerThanTimeout() {
+    options.playerPoolIdleTimeoutMs = 1000;
+    VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+    ExoPlayer player = provider.get();
+    provider.recycle(player);
+
+    clock.advanceTime(1000);
+    pool.trim();
+
+    assertEquals(0, pool.getIdlePlayerCount(PlatformVideoViewType.TEXTURE_VIEW));
+    verify(player).release();
+  }
+
+  @Test
+  public void releasesIdlePlayerOnceTimeoutElapsesWithoutFurtherCalls() {
+    options.playerPoolIdleTimeoutMs = 1000;
+    VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+    ExoPlayer player = provider.get();
+    provider.recycle(player);
+
+    clock.advanceTime(999);
+    shadowOf(Looper.getMainLooper()).idle();
+    verify(player, never()).release();
+
+    clock.advanceTime(1);
+    shadowOf(Looper.getMainLooper()).idle();
+
+    assertEquals(0, pool.getIdlePlayerCount(PlatformVideoViewType.TEXTURE_VIEW));
+    verify(player).release();
+  }
+
+  @Test
+  public void reusedPlayerIsNotReleasedByScheduledTrim() {
+    options.playerPoolIdleTimeoutMs = 1000;
+    VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+    ExoPlayer player = provider.get();
+    provider.recycle(player);
+
+    clock.advanceTime(500);
+    createProvider(PlatformVideoViewType.TEXTURE_VIEW).get();
+    clock.advanceTime(1000);
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(player, never()).release();
+  }
+
+  @Test
+  public void releasesPlayerNotTakenFromPool() {
+    VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+    provider.get();
+    ExoPlayer other = mock(ExoPlayer.class);
+
+    provider.recycle(other);
+
+    verify(other).release();
+    assertEquals(0, pool.getIdlePlayerCount(PlatformVideoViewType.TEXTURE_VIEW));
+  }
+
+  @Test
+  public void forwardsToMediaSourceFactoryOfCurrentAsset() {
+    MediaSource.Factory firstFactory = mock(MediaSource.Factory.class);
+    MediaSource.Factory secondFactory = mock(MediaSource.Factory.class);
+    MediaItem mediaItem = MediaItem.fromUri("https://example.com");
+
+    VideoPlayer.ExoPlayerProvider provider =
+        pool.createProvider(
+            context,
+            PlatformVideoViewType.TEXTURE_VIEW,
+            new FakeVideoAsset("https://example.com", firstFactory));
+    provider.recycle(provider.get());
+    pool.createProvider(
+            context,
+            PlatformVideoViewType.TEXTURE_VIEW,
+            new FakeVideoAsset("https://example.com", secondFactory))
+        .get();
+    builtWithFactories.get(0).createMediaSource(mediaItem);
+
+    verify(secondFactory).createMediaSource(mediaItem);
+    verify(firstFactory, never()).createMediaSource(any());
+  }
+
+  @Test
+  public void clearReleasesIdlePlayers() {
+    VideoPlayer.ExoPlayerProvider provider = createProvider(PlatformVideoViewType.TEXTURE_VIEW);
+    ExoPlayer player = provider.get();
+    provider.recycle(player);
+
+    pool.clear();
+
+    verify(player).release();
+    assertEquals(0, pool.getIdlePlayerCount(PlatformVideoViewType.TEXTURE_VIEW));
+  }
+}
@@ -0,0 +1,135 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+import androidx.media3.test.utils.TestUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public final class HlsPreloadWriterTest {
+  private static final String MULTIVARIANT_URL = "https://example.com/video/index.m3u8";
+  private static final String LOW_URL = "https://example.com/video/low/index.m3u8";
+  private static final String HIGH_URL = "https://example.com/video/high/index.m3u8";
+  private static final String SEGMENT_URL_FORMAT = "https://example.com/video/low/segment%d.ts";
+  private static final int SEGMENT_SIZE = 100;
+
+  private static final String MULTIVARIANT_PLAYLIST =
+      "#EXTM3U\n"
+          + "#EXT-X-STREAM-INF:BANDWIDTH=1280000\n"
+          + "low/index.m3u8\n"
+          + "#EXT-X-STREAM-INF:BANDWIDTH=2560000\n"
+          + "high/index.m3u8\n";
+  private static final String MEDIA_PLAYLIST =
+      "#EXTM3U\n"
+          + "#EXT-X-TARGETDURATION:4\n"
+          + "#EXT-X-MEDIA-SEQUENCE:0\n"
+          + "#EXTINF:4.0,\n"
+          + "segment0.ts\n"
+          + "#EXTINF:4.0,\n"
+          + "segment1.ts\n"
+          + "#EXTINF:4.0,\n"
+          + "segment2.ts\n"
+          + "#EXT-X-ENDLIST\n";
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final Map<String, byte[]> bodies = new HashMap<>();
+  private final List<String> requestedUrls = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    bodies.put(MULTIVARIANT_URL, MULTIVARIANT_PLAYLIST.getBytes(StandardCharsets.UTF_8));
+    bodies.put(LOW_URL, MEDIA_PLAYLIST.getBytes(StandardCharsets.UTF_8));
+    bodies.put(HIGH_URL, MEDIA_PLAYLIST.getBytes(StandardCharsets.UTF_8));
+    for (int i = 0; i < 3; i++) {
+      bodies.put(segmentUrl(i), new byte[SEGMENT_SIZE]);
+    }
+  }
+
+  private static String segmentUrl(int index) {
+    return String.format(SEGMENT_URL_FORMAT, index);
+  }
+
+  private HttpURLConnection openConnection(URL url) throws IOException {
+    requestedUrls.add(url.toString());
+    HttpURLConnection connection = mock(HttpURLConnection.class);
+    when(connection.getURL()).thenReturn(url);
+    when(connection.getResponseCode()).thenReturn(200);
+    when(connection.getHeaderFields()).thenReturn(new HashMap<>());
+    when(connection.getInputStream())
+        .thenReturn(new ByteArrayInputStream(bodies.get(url.toString())));
+    return connection;
+  }
+
+  private HlsPreloadWriter createWriter(VideoCache cache, long maxBytes) {
+    return new HlsPreloadWriter(
+        cache.createDownloadingDataSourceFactory(
+            new EncryptedHttpDataSource.Factory(null, null)
+                .setConnectionFactory(this::openConnection)),
+        Uri.parse(MULTIVARIANT_URL),
+        maxBytes);
+  }
+
+  private VideoCache createCache() throws IOException {
+    return new VideoCache(
+        temporaryFolder.newFolder(), TestUtil.getInMemoryDatabaseProvider(), 1024 * 1024);
+  }
+
+  @Test
+  public void cachesPlaylistsAndFirstSegments() throws Exception {
+    VideoCache cache = createCache();
+
+    createWriter(cache, SEGMENT_SIZE + 1).cache();
+
+    assertEquals(
+        Arrays.asList(MULTIVARIANT_URL, LOW_URL, segmentUrl(0), segmentUrl(1)), requestedUrls);
+    assertEquals(
+        MULTIVARIANT_PLAYLIST.length() + MEDIA_PLAYLIST.length() + 2 * SEGMENT_SIZE,
+        (long) cache.getStats().getCacheSizeBytes());
+  }
+
+  @Test
+  public void preloadedDataIsServedFromCache() throws Exception {
+    VideoCache cache = createCache();
+    createWriter(cache, SEGMENT_SIZE).cache();
+    requestedUrls.clear();
+
+    createWriter(cache, SEGMENT_SIZE).cache();
+
+    assertEquals(Collections.emptyList(), requestedUrls);
+  }
+
+  @Test
+  public void cancelledWriterDoesNotDownload() throws Exception {
+    HlsPreloadWriter writer = createWriter(createCache(), SEGMENT_SIZE);
+    writer.cancel();
+
+    assertThrows(InterruptedIOException.class, writer::cache);
+    assertEquals(Collections.emptyList(), requestedUrls);
+  }
+}
@@ -0,0 +1,115 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.net.Uri;
+import androidx.media3.datasource.DataSource;
+import androidx.media3.datasource.DataSourceUtil;
+import androidx.media3.datasource.DataSpec;
+import androidx.media3.test.utils.TestUtil;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public final class VideoCacheTest {
+  private static final String FIRST_URL = "https://example.com/first.mp4";
+  private static final String SECOND_URL = "https://example.com/second.mp4";
+  private static final byte[] BODY = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private int connectionCount;
+
+  @Before
+  public void setUp() {
+    connectionCount = 0;
+  }
+
+  private HttpURLConnection openConnection(URL url) throws IOException {
+    connectionCount++;
+    HttpURLConnection connection = mock(HttpURLConnection.class);
+    when(connection.getURL()).thenReturn(url);
+    when(connection.getResponseCode()).thenReturn(200);
+    when(connection.getHeaderFields()).thenReturn(new HashMap<>());
+    when(connection.getInputStream()).thenReturn(new ByteArrayInputStream(BODY));
+    return connection;
+  }
+
+  private VideoCache createCache(long maxSizeBytes) throws IOException {
+    return new VideoCache(
+        temporaryFolder.newFolder(), TestUtil.getInMemoryDatabaseProvider(), maxSizeBytes);
+  }
+
+  private byte[] readFully(VideoCache cache, String url) throws IOException {
+    DataSource dataSource =
+        cache
+            .createDataSourceFactory(
+                new EncryptedHttpDataSource.Factory(null, null)
+                    .setConnectionFactory(this::openConnection))
+            .createDataSource();
+    try {
+      dataSource.open(new DataSpec(Uri.parse(url)));
+      return DataSourceUtil.readToEnd(dataSource);
+    } finally {
+      dataSource.close();
+    }
+  }
+
+  @Test
+  public void servesRepeatedReadsFromCache() throws Exception {
+    VideoCache cache = createCache(1024);
+
+    assertArrayEquals(BODY, readFully(cache, FIRST_URL));
+    assertArrayEquals(BODY, readFully(cache, FIRST_URL));
+
+    assertEquals(1, connectionCount);
+    Messages.CacheStatsMessage stats = cache.getStats();
+    assertEquals(BODY.length, (long) stats.getNetworkBytesRead());
+    assertEquals(BODY.length, (long) stats.getCachedBytesRead());
+    assertEquals(0.5, stats.getHitRatio(), 1e-9);
+    assertEquals(BODY.length, (long) stats.getCacheSizeBytes());
+    assertEquals(0, (long) stats.getEvictionCount());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedDataWhenFull() throws Exception {
+    VideoCache cache = createCache(BODY.length);
+
+    readFully(cache, FIRST_URL);
+    readFully(cache, SECOND_URL);
+    readFully(cache, SECOND_URL);
+
+    assertEquals(2, connectionCount);
+    assertEquals(1, (long) cache.getStats().getEvictionCount());
+    assertEquals(BODY.length, (long) cache.getStats().getCacheSizeBytes());
+  }
+
+  @Test
+  public void setMaxSizeBytesEvictsImmediately() throws Exception {
+    VideoCache cache = createCache(1024);
+    readFully(cache, FIRST_URL);
+    readFully(cache, SECOND_URL);
+
+    cache.setMaxSizeBytes(0);
+
+    assertEquals(2, (long) cache.getStats().getEvictionCount());
+    assertEquals(0, (long) cache.getStats().getCacheSizeBytes());
+  }
+}
@@ -0,0 +1,93 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Unit tests for {@link VideoPreloader}. */
+public final class VideoPreloaderTest {
+  private static final String URI = "https://example.com/video.mp4";
+
+  private final List<Runnable> pendingTasks = new ArrayList<>();
+  private VideoPreloader preloader;
+
+  @Before
+  public void setUp() {
+    preloader = new VideoPreloader(pendingTasks::add);
+  }
+
+  private void runPendingTasks() {
+    for (Runnable task : pendingTasks) {
+      task.run();
+    }
+    pendingTasks.clear();
+  }
+
+  @Test
+  public void preloadWritesToCache() throws Exception {
+    VideoPreloader.Writer writer = mock(VideoPreloader.Writer.class);
+
+    assertTrue(preloader.preload(URI, writer));
+    runPendingTasks();
+
+    verify(writer).cache();
+  }
+
+  @Test
+  public void ignoresDuplicatePreloadWhilePending() throws Exception {
+    VideoPreloader.Writer first = mock(VideoPreloader.Writer.class);
+    VideoPreloader.Writer second = mock(VideoPreloader.Writer.class);
+
+    assertTrue(preloader.preload(URI, first));
+    assertFalse(preloader.preload(URI, second));
+    runPendingTasks();
+
+    verify(first).cache();
+    verify(second, never()).cache();
+  }
+
+  @Test
+  public void allowsPreloadAgainOnceFinished() throws Exception {
+    VideoPreloader.Writer first = mock(VideoPreloader.Writer.class);
+    VideoPreloader.Writer second = mock(VideoPreloader.Writer.class);
+
+    preloader.preload(URI, first);
+    runPendingTasks();
+
+    assertTrue(preloader.preload(URI, second));
+  }
+
+  @Test
+  public void cancelStopsPendingPreload() {
+    VideoPreloader.Writer writer = mock(VideoPreloader.Writer.class);
+    preloader.preload(URI, writer);
+
+    preloader.cancel(URI);
+
+    verify(writer).cancel();
+  }
+
+  @Test
+  public void cancelAllStopsEveryPendingPreload() {
+    VideoPreloader.Writer first = mock(VideoPreloader.Writer.class);
+    VideoPreloader.Writer second = mock(VideoPreloader.Writer.class);
+    preloader.preload(URI, first);
+    preloader.preload("https://example.com/other.mp4", second);
+
+    preloader.cancelAll();
+
+    verify(first).cancel();
+    verify(second).cancel();
+  }
+}
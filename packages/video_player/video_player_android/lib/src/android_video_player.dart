@@ -198,6 +198,63 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
     return _api.setMixWithOthers(mixWithOthers);
   }
 
+  /// Sets the maximum size of the on-disk cache for network videos.
+  ///
+  /// Only players created after this call use the cache. Passing 0 disables
+  /// caching for new players; already cached data is kept until evicted.
+  /// Encrypted videos are cached as received and decrypted on playback.
+  Future<void> setCacheMaxSize(int maxSizeBytes) {
+    return _api.setCacheMaxSize(maxSizeBytes);
+  }
+
+  /// Starts downloading the first [maxBytes] of the network video at [uri]
+  /// into the on-disk cache.
+  ///
+  /// For HLS streams, the playlists and the first whole segments of the first
+  /// variant are downloaded, until [maxBytes] of segment data are cached.
+  /// Streams are detected as HLS from [formatHint], or from the URI if it is
+  /// null.
+  ///
+  /// A player created later for the same [uri] starts playback from the
+  /// cached data. Preloading requires the cache to be enabled with
+  /// [setCacheMaxSize], and is cancelled once a player for [uri] is created.
+  Future<void> preload(
+    String uri, {
+    VideoFormat? formatHint,
+    Map<String, String> httpHeaders = const <String, String>{},
+    required int maxBytes,
+  }) {
+    return _api.preload(
+        uri, _videoFormatStringMap[formatHint], httpHeaders, maxBytes);
+  }
+
+  /// Configures reuse of native players across [create] and [dispose].
+  ///
+  /// Up to [maxIdlePlayers] disposed players of each view type are kept and
+  /// reused by players created afterwards, which avoids setting up a new
+  /// native player each time. Idle players are released after [idleTimeout],
+  /// or kept until the plugin is detached if it is [Duration.zero]. A
+  /// [maxIdlePlayers] of 0, the default, disables pooling.
+  Future<void> setPlayerPoolOptions({
+    required int maxIdlePlayers,
+    Duration idleTimeout = Duration.zero,
+  }) {
+    return _api.setPlayerPoolOptions(
+        maxIdlePlayers, idleTimeout.inMilliseconds);
+  }
+
+  /// Returns statistics of the on-disk cache for network videos.
+  Future<AndroidVideoCacheStats> getCacheStats() async {
+    final CacheStatsMessage stats = await _api.getCacheStats();
+    return AndroidVideoCacheStats(
+      cachedBytesRead: stats.cachedBytesRead,
+      networkBytesRead: stats.networkBytesRead,
+      hitRatio: stats.hitRatio,
+      evictionCount: stats.evictionCount,
+      cacheSizeBytes: stats.cacheSizeBytes,
+    );
+  }
+
   EventChannel _eventChannelFor(int playerId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$playerId');
   }
@@ -219,6 +276,34 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
   }
 }
 
+/// Statistics of the on-disk cache used by [AndroidVideoPlayer].
+@immutable
+class AndroidVideoCacheStats {
+  /// Creates a new set of cache statistics.
+  const AndroidVideoCacheStats({
+    required this.cachedBytesRead,
+    required this.networkBytesRead,
+    required this.hitRatio,
+    required this.evictionCount,
+    required this.cacheSizeBytes,
+  });
+
+  /// Bytes served from the cache instead of the network.
+  final int cachedBytesRead;
+
+  /// Bytes downloaded from the network.
+  final int networkBytesRead;
+
+  /// Fraction of all bytes read that were served from the cache.
+  final double hitRatio;
+
+  /// Number of cached spans evicted to stay within the size limit.
+  final int evictionCount;
+
+  /// Current size of the cache, in bytes.
+  final int cacheSizeBytes;
+}
+
 PlatformVideoViewType _platformVideoViewTypeFromVideoViewType(
   VideoViewType viewType,
 ) {
@@ -104,6 +104,53 @@ class CreateMessage {
   }
 }
 
+/// Statistics of the on-disk cache for network videos.
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.cachedBytesRead,
+    required this.networkBytesRead,
+    required this.hitRatio,
+    required this.evictionCount,
+    required this.cacheSizeBytes,
+  });
+
+  /// Bytes served from the cache instead of the network.
+  int cachedBytesRead;
+
+  /// Bytes downloaded from the network.
+  int networkBytesRead;
+
+  /// Fraction of all bytes read that were served from the cache.
+  double hitRatio;
+
+  /// Number of cached spans evicted to stay within the size limit.
+  int evictionCount;
+
+  /// Current size of the cache, in bytes.
+  int cacheSizeBytes;
+
+  Object encode() {
+    return <Object?>[
+      cachedBytesRead,
+      networkBytesRead,
+      hitRatio,
+      evictionCount,
+      cacheSizeBytes,
+    ];
+  }
+
+  static CacheStatsMessage decode(Object result) {
+    result as List<Object?>;
+    return CacheStatsMessage(
+      cachedBytesRead: result[0]! as int,
+      networkBytesRead: result[1]! as int,
+      hitRatio: result[2]! as double,
+      evictionCount: result[3]! as int,
+      cacheSizeBytes: result[4]! as int,
+    );
+  }
+}
+
 class _PigeonCodec extends StandardMessageCodec {
   const _PigeonCodec();
   @override
@@ -120,6 +167,9 @@ class _PigeonCodec extends StandardMessageCodec {
     } else if (value is CreateMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
+    } else if (value is CacheStatsMessage) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -135,6 +185,8 @@ class _PigeonCodec extends StandardMessageCodec {
         return PlatformVideoViewCreationParams.decode(readValue(buffer)!);
       case 131:
         return CreateMessage.decode(readValue(buffer)!);
+      case 132:
+        return CacheStatsMessage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -429,4 +481,124 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  /// Sets the maximum size of the on-disk cache used by players created
+  /// afterwards, or disables caching if [maxSizeBytes] is 0.
+  Future<void> setCacheMaxSize(int maxSizeBytes) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setCacheMaxSize$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[maxSizeBytes]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns statistics of the on-disk cache.
+  Future<CacheStatsMessage> getCacheStats() async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.getCacheStats$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as CacheStatsMessage?)!;
+    }
+  }
+
+  /// Starts downloading the first [maxBytes] of the network video at [uri]
+  /// into the on-disk cache, so that a player created for it later starts
+  /// from cached data.
+  ///
+  /// For HLS streams, which are detected from [formatHint] or the URI, the
+  /// playlists and the first whole segments of the first variant are
+  /// downloaded, until [maxBytes] of segment data are cached.
+  ///
+  /// Requires the cache to be enabled with [setCacheMaxSize].
+  Future<void> preload(String uri, String? formatHint,
+      Map<String, String> httpHeaders, int maxBytes) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.preload$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel
+        .send(<Object?>[uri, formatHint, httpHeaders, maxBytes])
+        as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Sets how many disposed players of each view type are kept for reuse by
+  /// players created afterwards, and after how many milliseconds an unused one
+  /// is released. A [maxIdlePlayers] of 0 disables pooling, and an
+  /// [idleTimeoutMs] of 0 keeps idle players until the engine is detached.
+  Future<void> setPlayerPoolOptions(
+      int maxIdlePlayers, int idleTimeoutMs) async {
+    final String pigeonVar_channelName =
+        'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setPlayerPoolOptions$pigeonVar_messageChannelSuffix';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel
+        .send(<Object?>[maxIdlePlayers, idleTimeoutMs]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
 }
@@ -39,6 +39,32 @@ class CreateMessage {
   PlatformVideoViewType? viewType;
 }
 
+/// Statistics of the on-disk cache for network videos.
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.cachedBytesRead,
+    required this.networkBytesRead,
+    required this.hitRatio,
+    required this.evictionCount,
+    required this.cacheSizeBytes,
+  });
+
+  /// Bytes served from the cache instead of the network.
+  int cachedBytesRead;
+
+  /// Bytes downloaded from the network.
+  int networkBytesRead;
+
+  /// Fraction of all bytes read that were served from the cache.
+  double hitRatio;
+
+  /// Number of cached spans evicted to stay within the size limit.
+  int evictionCount;
+
+  /// Current size of the cache, in bytes.
+  int cacheSizeBytes;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -52,4 +78,29 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(int playerId, int position);
   void pause(int playerId);
   void setMixWithOthers(bool mixWithOthers);
+
+  /// Sets the maximum size of the on-disk cache used by players created
+  /// afterwards, or disables caching if [maxSizeBytes] is 0.
+  void setCacheMaxSize(int maxSizeBytes);
+
+  /// Returns statistics of the on-disk cache.
+  CacheStatsMessage getCacheStats();
+
+  /// Starts downloading the first [maxBytes] of the network video at [uri]
+  /// into the on-disk cache, so that a player created for it later starts
+  /// from cached data.
+  ///
+  /// For HLS streams, which are detected from [formatHint] or the URI, the
+  /// playlists and the first whole segments of the first variant are
+  /// downloaded, until [maxBytes] of segment data are cached.
+  ///
+  /// Requires the cache to be enabled with [setCacheMaxSize].
+  void preload(String uri, String? formatHint, Map<String, String> httpHeaders,
+      int maxBytes);
+
+  /// Sets how many disposed players of each view type are kept for reuse by
+  /// players created afterwards, and after how many milliseconds an unused one
+  /// is released. A [maxIdlePlayers] of 0 disables pooling, and an
+  /// [idleTimeoutMs] of 0 keeps idle players until the engine is detached.
+  void setPlayerPoolOptions(int maxIdlePlayers, int idleTimeoutMs);
 }
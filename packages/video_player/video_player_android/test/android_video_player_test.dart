@@ -21,6 +21,13 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   double? passedVolume;
   double? passedPlaybackSpeed;
   bool? passedMixWithOthers;
+  int? passedCacheMaxSize;
+  String? passedPreloadUri;
+  String? passedPreloadFormatHint;
+  Map<String, String>? passedPreloadHttpHeaders;
+  int? passedPreloadMaxBytes;
+  int? passedMaxIdlePlayers;
+  int? passedIdleTimeoutMs;
 
   @override
   int create(CreateMessage arg) {
@@ -58,6 +65,41 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     passedMixWithOthers = mixWithOthers;
   }
 
+  @override
+  void setCacheMaxSize(int maxSizeBytes) {
+    log.add('setCacheMaxSize');
+    passedCacheMaxSize = maxSizeBytes;
+  }
+
+  @override
+  CacheStatsMessage getCacheStats() {
+    log.add('getCacheStats');
+    return CacheStatsMessage(
+      cachedBytesRead: 300,
+      networkBytesRead: 100,
+      hitRatio: 0.75,
+      evictionCount: 2,
+      cacheSizeBytes: 1024,
+    );
+  }
+
+  @override
+  void preload(String uri, String? formatHint, Map<String, String> httpHeaders,
+      int maxBytes) {
+    log.add('preload');
+    passedPreloadUri = uri;
+    passedPreloadFormatHint = formatHint;
+    passedPreloadHttpHeaders = httpHeaders;
+    passedPreloadMaxBytes = maxBytes;
+  }
+
+  @override
+  void setPlayerPoolOptions(int maxIdlePlayers, int idleTimeoutMs) {
+    log.add('setPlayerPoolOptions');
+    passedMaxIdlePlayers = maxIdlePlayers;
+    passedIdleTimeoutMs = idleTimeoutMs;
+  }
+
   @override
   int position(int playerId) {
     log.add('position');
@@ -349,6 +391,56 @@ void main() {
       expect(log.passedMixWithOthers, false);
     });
 
+    test('setCacheMaxSize', () async {
+      await player.setCacheMaxSize(1024 * 1024);
+      expect(log.log.last, 'setCacheMaxSize');
+      expect(log.passedCacheMaxSize, 1024 * 1024);
+    });
+
+    test('preload', () async {
+      await player.preload(
+        'https://example.com/video.mp4',
+        httpHeaders: <String, String>{'Authorization': 'Bearer token'},
+        maxBytes: 512 * 1024,
+      );
+      expect(log.log.last, 'preload');
+      expect(log.passedPreloadUri, 'https://example.com/video.mp4');
+      expect(log.passedPreloadHttpHeaders,
+          <String, String>{'Authorization': 'Bearer token'});
+      expect(log.passedPreloadMaxBytes, 512 * 1024);
+      expect(log.passedPreloadFormatHint, isNull);
+    });
+
+    test('preload with format hint', () async {
+      await player.preload(
+        'https://example.com/video',
+        formatHint: VideoFormat.hls,
+        maxBytes: 512 * 1024,
+      );
+      expect(log.log.last, 'preload');
+      expect(log.passedPreloadFormatHint, 'hls');
+    });
+
+    test('setPlayerPoolOptions', () async {
+      await player.setPlayerPoolOptions(
+        maxIdlePlayers: 2,
+        idleTimeout: const Duration(seconds: 30),
+      );
+      expect(log.log.last, 'setPlayerPoolOptions');
+      expect(log.passedMaxIdlePlayers, 2);
+      expect(log.passedIdleTimeoutMs, 30000);
+    });
+
+    test('getCacheStats', () async {
+      final AndroidVideoCacheStats stats = await player.getCacheStats();
+      expect(log.log.last, 'getCacheStats');
+      expect(stats.cachedBytesRead, 300);
+      expect(stats.networkBytesRead, 100);
+      expect(stats.hitRatio, 0.75);
+      expect(stats.evictionCount, 2);
+      expect(stats.cacheSizeBytes, 1024);
+    });
+
     test('setVolume', () async {
       await player.setVolume(1, 0.7);
       expect(log.log.last, 'setVolume');
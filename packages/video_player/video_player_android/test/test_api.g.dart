@@ -29,6 +29,9 @@ class _PigeonCodec extends StandardMessageCodec {
     } else if (value is CreateMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
+    } else if (value is CacheStatsMessage) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -44,6 +47,8 @@ class _PigeonCodec extends StandardMessageCodec {
         return PlatformVideoViewCreationParams.decode(readValue(buffer)!);
       case 131:
         return CreateMessage.decode(readValue(buffer)!);
+      case 132:
+        return CacheStatsMessage.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -77,6 +82,31 @@ abstract class TestHostVideoPlayerApi {
 
   void setMixWithOthers(bool mixWithOthers);
 
+  /// Sets the maximum size of the on-disk cache used by players created
+  /// afterwards, or disables caching if [maxSizeBytes] is 0.
+  void setCacheMaxSize(int maxSizeBytes);
+
+  /// Returns statistics of the on-disk cache.
+  CacheStatsMessage getCacheStats();
+
+  /// Starts downloading the first [maxBytes] of the network video at [uri]
+  /// into the on-disk cache, so that a player created for it later starts
+  /// from cached data.
+  ///
+  /// For HLS streams, which are detected from [formatHint] or the URI, the
+  /// playlists and the first whole segments of the first variant are
+  /// downloaded, until [maxBytes] of segment data are cached.
+  ///
+  /// Requires the cache to be enabled with [setCacheMaxSize].
+  void preload(String uri, String? formatHint, Map<String, String> httpHeaders,
+      int maxBytes);
+
+  /// Sets how many disposed players of each view type are kept for reuse by
+  /// players created afterwards, and after how many milliseconds an unused one
+  /// is released. A [maxIdlePlayers] of 0 disables pooling, and an
+  /// [idleTimeoutMs] of 0 keeps idle players until the engine is detached.
+  void setPlayerPoolOptions(int maxIdlePlayers, int idleTimeoutMs);
+
   static void setUp(
     TestHostVideoPlayerApi? api, {
     BinaryMessenger? binaryMessenger,
@@ -442,5 +472,139 @@ abstract class TestHostVideoPlayerApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setCacheMaxSize$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setCacheMaxSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxSizeBytes = (args[0] as int?);
+          assert(arg_maxSizeBytes != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setCacheMaxSize was null, expected non-null int.');
+          try {
+            api.setCacheMaxSize(arg_maxSizeBytes!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.getCacheStats$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel,
+                (Object? message) async {
+          try {
+            final CacheStatsMessage output = api.getCacheStats();
+            return <Object?>[output];
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.preload$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.preload was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_uri = (args[0] as String?);
+          assert(arg_uri != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.preload was null, expected non-null String.');
+          final String? arg_formatHint = (args[1] as String?);
+          final Map<String, String>? arg_httpHeaders =
+              (args[2] as Map<Object?, Object?>?)?.cast<String, String>();
+          assert(arg_httpHeaders != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.preload was null, expected non-null Map<String, String>.');
+          final int? arg_maxBytes = (args[3] as int?);
+          assert(arg_maxBytes != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.preload was null, expected non-null int.');
+          try {
+            api.preload(
+                arg_uri!, arg_formatHint, arg_httpHeaders!, arg_maxBytes!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setPlayerPoolOptions$messageChannelSuffix',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(pigeonVar_channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setPlayerPoolOptions was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxIdlePlayers = (args[0] as int?);
+          assert(arg_maxIdlePlayers != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setPlayerPoolOptions was null, expected non-null int.');
+          final int? arg_idleTimeoutMs = (args[1] as int?);
+          assert(arg_idleTimeoutMs != null,
+              'Argument for dev.flutter.pigeon.video_player_android.AndroidVideoPlayerApi.setPlayerPoolOptions was null, expected non-null int.');
+          try {
+            api.setPlayerPoolOptions(arg_maxIdlePlayers!, arg_idleTimeoutMs!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
   }
 }